@@ -0,0 +1,82 @@
+package com.example.myauth.benchmark;
+
+import com.example.myauth.entity.Post;
+import com.example.myauth.entity.PostImage;
+import com.example.myauth.entity.User;
+import com.example.myauth.entity.Visibility;
+import com.example.myauth.security.JwtTokenProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 테스트 데이터
+ */
+final class BenchmarkFixtures {
+
+  static final String EMAIL = "bench@example.com";
+  static final Long USER_ID = 1L;
+
+  private static final String JWT_SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+  private BenchmarkFixtures() {
+  }
+
+  static JwtTokenProvider jwtTokenProvider() {
+    return new JwtTokenProvider(JWT_SECRET, 3_600_000L, 604_800_000L);
+  }
+
+  static User user() {
+    return User.builder()
+        .id(USER_ID)
+        .email(EMAIL)
+        .name("벤치마크")
+        .profileImage("https://cdn.example.com/profile/1.jpg")
+        .role(User.Role.ROLE_USER)
+        .status(User.Status.ACTIVE)
+        .isActive(true)
+        .build();
+  }
+
+  /**
+   * 해시태그/멘션이 섞인 본문 생성
+   */
+  static String content(int length) {
+    String[] words = {"오늘", "#맛집", "탐방", "@홍길동", "님과", "#서울맛집", "#데이트", "함께", "@김철수", "좋았어요"};
+    StringBuilder builder = new StringBuilder(length + 16);
+    for (int i = 0; builder.length() < length; i++) {
+      builder.append(words[i % words.length]).append(' ');
+    }
+    return builder.substring(0, length);
+  }
+
+  /**
+   * 이미지 2장이 달린 게시글 목록 생성
+   */
+  static List<Post> posts(int count) {
+    User author = user();
+    List<Post> posts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Post post = Post.builder()
+          .id((long) i + 1)
+          .user(author)
+          .content(content(300))
+          .visibility(Visibility.PUBLIC)
+          .likeCount(i * 3)
+          .commentCount(i)
+          .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i))
+          .build();
+      for (int j = 0; j < 2; j++) {
+        post.getImages().add(PostImage.builder()
+            .post(post)
+            .imageUrl("https://cdn.example.com/posts/" + i + "/" + j + ".jpg")
+            .thumbnailUrl("https://cdn.example.com/posts/" + i + "/" + j + "_thumb.jpg")
+            .sortOrder(j)
+            .build());
+      }
+      posts.add(post);
+    }
+    return posts;
+  }
+}
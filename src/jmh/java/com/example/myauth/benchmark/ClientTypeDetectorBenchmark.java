@@ -0,0 +1,55 @@
+package com.example.myauth.benchmark;
+
+import com.example.myauth.util.ClientTypeDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/토큰 갱신 시 클라이언트 타입 판별 비용 측정
+ * - 헤더로 바로 판별되는 경우, User-Agent 패턴을 끝까지 확인하는 경우(데스크톱 브라우저), 모바일 앱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClientTypeDetectorBenchmark {
+
+  private MockHttpServletRequest headerRequest;
+  private MockHttpServletRequest browserRequest;
+  private MockHttpServletRequest mobileAppRequest;
+
+  @Setup
+  public void setUp() {
+    headerRequest = new MockHttpServletRequest();
+    headerRequest.addHeader("X-Client-Type", "web");
+
+    browserRequest = new MockHttpServletRequest();
+    browserRequest.addHeader("User-Agent",
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/131.0.0.0 Safari/537.36");
+
+    mobileAppRequest = new MockHttpServletRequest();
+    mobileAppRequest.addHeader("User-Agent", "okhttp/4.12.0");
+  }
+
+  @Benchmark
+  public boolean clientTypeHeader() {
+    return ClientTypeDetector.isWebClient(headerRequest);
+  }
+
+  @Benchmark
+  public boolean desktopBrowser() {
+    return ClientTypeDetector.isWebClient(browserRequest);
+  }
+
+  @Benchmark
+  public boolean mobileApp() {
+    return ClientTypeDetector.isWebClient(mobileAppRequest);
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.myauth.benchmark;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.repository.UserRepository;
+import com.example.myauth.security.AccessTokenRevocationService;
+import com.example.myauth.security.JwtAuthenticationFilter;
+import com.example.myauth.security.JwtTokenProvider;
+import com.example.myauth.security.LocalAccessTokenDenylistStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+
+/**
+ * JWT 인증 필터 1회 통과 비용 측정
+ * 토큰 파싱 + 취소 확인(블룸 필터) + 사용자 조회(Mock, DB 비용 제외) + SecurityContext 설정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+  private JwtAuthenticationFilter filter;
+  private String authorizationHeader;
+
+  @Setup
+  public void setUp() {
+    JwtTokenProvider jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider();
+
+    UserRepository userRepository = Mockito.mock(UserRepository.class);
+    Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(BenchmarkFixtures.user()));
+
+    AccessTokenRevocationService revocationService =
+        new AccessTokenRevocationService(new LocalAccessTokenDenylistStore(), new AppProperties());
+
+    filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, JsonMapper.builder().build(),
+        revocationService, new SimpleMeterRegistry());
+    authorizationHeader = "Bearer " + jwtTokenProvider.generateAccessToken(BenchmarkFixtures.EMAIL, BenchmarkFixtures.USER_ID);
+  }
+
+  @TearDown(Level.Invocation)
+  public void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Benchmark
+  public MockHttpServletResponse authenticatedRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+    request.addHeader("Authorization", authorizationHeader);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  @Benchmark
+  public MockHttpServletResponse anonymousRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+}
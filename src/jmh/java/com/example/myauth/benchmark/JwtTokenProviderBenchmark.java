@@ -0,0 +1,47 @@
+package com.example.myauth.benchmark;
+
+import com.example.myauth.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용 측정
+ * parseClaims는 인증이 필요한 모든 요청에서 실행되는 경로 (JwtAuthenticationFilter)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+  private JwtTokenProvider jwtTokenProvider;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider();
+    accessToken = jwtTokenProvider.generateAccessToken(BenchmarkFixtures.EMAIL, BenchmarkFixtures.USER_ID);
+  }
+
+  @Benchmark
+  public String generateAccessToken() {
+    return jwtTokenProvider.generateAccessToken(BenchmarkFixtures.EMAIL, BenchmarkFixtures.USER_ID);
+  }
+
+  @Benchmark
+  public String generateRefreshToken() {
+    return jwtTokenProvider.generateRefreshToken(BenchmarkFixtures.EMAIL);
+  }
+
+  @Benchmark
+  public Claims parseClaims() {
+    return jwtTokenProvider.parseClaims(accessToken);
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.myauth.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 강도별 해시 비용 측정
+ * app.password.bcrypt-strength 선택 기준 (로그인 1회 = matches 1회, 회원가입 1회 = encode 1회)
+ *
+ * 실행: ./gradlew jmh
+ * 목표: 운영 서버에서 matches 1회가 대략 100ms 이하가 되는 가장 높은 강도
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHashingBenchmark {
+
+  private static final String RAW_PASSWORD = "Benchmark!Passw0rd";
+
+  @Param({"10", "11", "12"})
+  private int strength;
+
+  private BCryptPasswordEncoder encoder;
+  private String encodedPassword;
+
+  @Setup
+  public void setUp() {
+    encoder = new BCryptPasswordEncoder(strength);
+    encodedPassword = encoder.encode(RAW_PASSWORD);
+  }
+
+  @Benchmark
+  public String encode() {
+    return encoder.encode(RAW_PASSWORD);
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return encoder.matches(RAW_PASSWORD, encodedPassword);
+  }
+}
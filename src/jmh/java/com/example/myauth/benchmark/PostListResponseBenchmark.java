@@ -0,0 +1,64 @@
+package com.example.myauth.benchmark;
+
+import com.example.myauth.dto.ApiResponse;
+import com.example.myauth.dto.post.PostListResponse;
+import com.example.myauth.entity.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드 목록 응답 생성 비용 측정
+ * - Entity → PostListResponse 변환 (페이지 크기 20)
+ * - ApiResponse<Page<PostListResponse>> JSON 직렬화 (JacksonConfig와 동일한 ObjectMapper)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostListResponseBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  private ObjectMapper objectMapper;
+  private List<Post> posts;
+  private ApiResponse<Page<PostListResponse>> pageResponse;
+
+  @Setup
+  public void setUp() {
+    objectMapper = JsonMapper.builder().build();
+    posts = BenchmarkFixtures.posts(PAGE_SIZE);
+    pageResponse = ApiResponse.success("조회 성공", toPage(posts));
+  }
+
+  @Benchmark
+  public List<PostListResponse> mapPage() {
+    return posts.stream().map(PostListResponse::from).toList();
+  }
+
+  @Benchmark
+  public String serializePage() {
+    return objectMapper.writeValueAsString(pageResponse);
+  }
+
+  @Benchmark
+  public String mapAndSerializePage() {
+    return objectMapper.writeValueAsString(ApiResponse.success("조회 성공", toPage(posts)));
+  }
+
+  private static Page<PostListResponse> toPage(List<Post> posts) {
+    List<PostListResponse> content = posts.stream().map(PostListResponse::from).toList();
+    return new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 1_000);
+  }
+}
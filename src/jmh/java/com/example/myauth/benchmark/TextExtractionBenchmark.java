@@ -0,0 +1,52 @@
+package com.example.myauth.benchmark;
+
+import com.example.myauth.service.HashtagService;
+import com.example.myauth.service.MentionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글/댓글 본문의 해시태그/멘션 추출 비용 측정 (게시글 작성/수정마다 실행)
+ * 추출 메서드는 저장소를 사용하지 않으므로 의존성 없이 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextExtractionBenchmark {
+
+  /**
+   * 본문 길이 (짧은 댓글 ~ 긴 게시글)
+   */
+  @Param({"80", "2000"})
+  private int contentLength;
+
+  private HashtagService hashtagService;
+  private MentionService mentionService;
+  private String content;
+
+  @Setup
+  public void setUp() {
+    hashtagService = new HashtagService(null, null, null, null);
+    mentionService = new MentionService(null, null, null);
+    content = BenchmarkFixtures.content(contentLength);
+  }
+
+  @Benchmark
+  public List<String> extractHashtags() {
+    return hashtagService.extractHashtags(content);
+  }
+
+  @Benchmark
+  public List<String> extractMentions() {
+    return mentionService.extractMentions(content);
+  }
+}
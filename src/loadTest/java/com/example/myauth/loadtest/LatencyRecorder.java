@@ -0,0 +1,88 @@
+package com.example.myauth.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록
+ * 측정 구간의 모든 표본을 보관하고 보고 시점에 정렬하여 백분위를 계산 (근사 없음)
+ */
+class LatencyRecorder {
+
+  private final Map<String, EndpointSamples> samples = new ConcurrentHashMap<>();
+
+  /**
+   * @param endpoint 엔드포인트 라벨 (예: "GET /api/posts/{id}")
+   * @param nanos    요청 전송부터 응답 본문 수신까지 걸린 시간
+   * @param status   HTTP 상태 코드 (연결 실패/타임아웃이면 -1)
+   */
+  void record(String endpoint, long nanos, int status) {
+    samples.computeIfAbsent(endpoint, key -> new EndpointSamples()).add(nanos, status);
+  }
+
+  /**
+   * @param elapsedSeconds 측정 구간 길이 (처리량 계산용)
+   * @return 엔드포인트별 결과 (요청 수 내림차순)
+   */
+  List<EndpointReport> report(double elapsedSeconds) {
+    List<EndpointReport> reports = new ArrayList<>();
+    samples.forEach((endpoint, endpointSamples) ->
+        reports.add(endpointSamples.report(endpoint, elapsedSeconds)));
+    reports.sort((a, b) -> Long.compare(b.count(), a.count()));
+    return reports;
+  }
+
+  /**
+   * 엔드포인트 결과
+   *
+   * @param clientErrors 4xx 응답 수
+   * @param errors       5xx 응답 + 연결 실패/타임아웃 수
+   */
+  record EndpointReport(String endpoint, long count, long clientErrors, long errors, double throughput,
+                        double meanMs, double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+  }
+
+  private static final class EndpointSamples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long clientErrors;
+    private long errors;
+
+    synchronized void add(long value, int status) {
+      if (size == nanos.length) {
+        nanos = Arrays.copyOf(nanos, size * 2);
+      }
+      nanos[size++] = value;
+      if (status < 0 || status >= 500) {
+        errors++;
+      } else if (status >= 400) {
+        clientErrors++;
+      }
+    }
+
+    synchronized EndpointReport report(String endpoint, double elapsedSeconds) {
+      long[] sorted = Arrays.copyOf(nanos, size);
+      Arrays.sort(sorted);
+      double mean = size == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+      return new EndpointReport(endpoint, size, clientErrors, errors, size / elapsedSeconds,
+          toMillis(mean), toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.90)),
+          toMillis(percentile(sorted, 0.99)), toMillis(size == 0 ? 0 : sorted[size - 1]));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(quantile * sorted.length) - 1;
+      return sorted[Math.max(index, 0)];
+    }
+
+    private static double toMillis(double nanos) {
+      return nanos / 1_000_000.0;
+    }
+  }
+}
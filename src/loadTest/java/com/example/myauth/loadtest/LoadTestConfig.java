@@ -0,0 +1,123 @@
+package com.example.myauth.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ * 시스템 프로퍼티 loadtest.* 로 지정 (Gradle: -Ploadtest.users=5000)
+ *
+ * @param dbUrl              대상 DB URL (비어 있으면 H2 MySQL 호환 모드 메모리 DB)
+ * @param dbUsername         대상 DB 사용자
+ * @param dbPassword         대상 DB 비밀번호
+ * @param users              사용자 수
+ * @param avgFollowing       사용자당 평균 팔로잉 수
+ * @param zipfExponent       팔로우/작성자 분포의 멱법칙 지수 (클수록 소수 계정에 집중)
+ * @param posts              게시글 수
+ * @param hashtags           해시태그 종류 수
+ * @param avgLikesPerPost    게시글당 평균 좋아요 수
+ * @param mentionRatio       멘션을 포함하는 게시글 비율
+ * @param batchSize          JDBC 배치 크기
+ * @param loginUsers         트래픽을 보낼 로그인 사용자 수 (토큰 발급 대상)
+ * @param concurrency        단계별 동시 가상 사용자 수 (단계마다 순서대로 실행)
+ * @param warmupSeconds      단계별 워밍업 시간 (기록하지 않음)
+ * @param durationSeconds    단계별 측정 시간
+ * @param thinkTimeMs        요청 사이 대기 시간 (0이면 닫힌 루프 최대 부하)
+ * @param seed               난수 시드 (같은 시드면 같은 데이터/트래픽)
+ * @param queryCount         요청별 SQL 집계(app.query-count) 사용 여부 - 집계 비용이 처리량/지연에 포함되므로 기본 꺼짐
+ * @param reportDir          결과 파일 디렉토리
+ */
+record LoadTestConfig(
+    String dbUrl,
+    String dbUsername,
+    String dbPassword,
+    int users,
+    int avgFollowing,
+    double zipfExponent,
+    int posts,
+    int hashtags,
+    int avgLikesPerPost,
+    double mentionRatio,
+    int batchSize,
+    int loginUsers,
+    List<Integer> concurrency,
+    int warmupSeconds,
+    int durationSeconds,
+    long thinkTimeMs,
+    long seed,
+    boolean queryCount,
+    String reportDir
+) {
+
+  static final String PASSWORD = "loadtest-password";
+
+  static LoadTestConfig fromSystemProperties() {
+    return new LoadTestConfig(
+        string("db-url", ""),
+        string("db-username", "root"),
+        string("db-password", ""),
+        integer("users", 2_000),
+        integer("avg-following", 30),
+        Double.parseDouble(string("zipf-exponent", "1.1")),
+        integer("posts", 20_000),
+        integer("hashtags", 300),
+        integer("avg-likes-per-post", 8),
+        Double.parseDouble(string("mention-ratio", "0.2")),
+        integer("batch-size", 1_000),
+        integer("login-users", 200),
+        Arrays.stream(string("concurrency", "16,64,256").split(","))
+            .map(String::trim)
+            .map(Integer::parseInt)
+            .toList(),
+        integer("warmup-seconds", 10),
+        integer("duration-seconds", 30),
+        Long.parseLong(string("think-time-ms", "0")),
+        Long.parseLong(string("seed", "42")),
+        Boolean.parseBoolean(string("query-count", "false")),
+        string("report-dir", "build/reports/loadtest"));
+  }
+
+  boolean embeddedDatabase() {
+    return dbUrl.isBlank();
+  }
+
+  /**
+   * 결과 파일에 남길 설정 (DB 접속 정보 제외)
+   */
+  Map<String, Object> toReport() {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("database", embeddedDatabase() ? "h2-mysql-mode" : "external");
+    report.put("users", users);
+    report.put("avgFollowing", avgFollowing);
+    report.put("zipfExponent", zipfExponent);
+    report.put("posts", posts);
+    report.put("hashtags", hashtags);
+    report.put("avgLikesPerPost", avgLikesPerPost);
+    report.put("mentionRatio", mentionRatio);
+    report.put("loginUsers", loginUsers);
+    report.put("warmupSeconds", warmupSeconds);
+    report.put("durationSeconds", durationSeconds);
+    report.put("thinkTimeMs", thinkTimeMs);
+    report.put("seed", seed);
+    report.put("queryCount", queryCount);
+    return report;
+  }
+
+  static String email(int index) {
+    return "user" + index + "@loadtest.example.com";
+  }
+
+  static String name(int index) {
+    return "user" + index;
+  }
+
+  private static String string(String key, String defaultValue) {
+    return System.getProperty("loadtest." + key, defaultValue);
+  }
+
+  private static int integer(String key, int defaultValue) {
+    return Integer.parseInt(string(key, String.valueOf(defaultValue)));
+  }
+}
@@ -0,0 +1,180 @@
+package com.example.myauth.loadtest;
+
+import com.example.myauth.MyauthApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 종단 간 부하 테스트 진입점 (./gradlew loadTest)
+ *
+ * 【순서】
+ * 1. 앱 기동 (기본: H2 MySQL 호환 모드 메모리 DB, 임의 포트, 요청 제한 해제)
+ * 2. 합성 소셜 그래프 시드 (SyntheticDataSeeder, JDBC 배치)
+ * 3. loginUsers명 로그인하여 Access Token 확보
+ * 4. 동시성 단계별로 트래픽 재생 (TrafficReplayer)
+ * 5. 엔드포인트별 처리량, 지연 백분위(p50/p90/p99/max) 출력 및 results.json 저장
+ *
+ * H2는 MySQL과 옵티마이저/잠금이 다르므로 절대 수치보다 단계 간 추세(포화점, 특정 엔드포인트의 급격한 지연 증가)를 본다
+ * 노드 크기 산정용 수치는 -Ploadtest.db-url로 실제 MySQL을 지정하여 측정
+ */
+@Slf4j
+public class LoadTestRunner {
+
+  private static final String EMBEDDED_DB_URL =
+      "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;" +
+          "NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    try (ConfigurableApplicationContext context = startApplication(config)) {
+      new LoadTestRunner().run(config, context);
+    }
+    // 남아 있는 HttpClient/스케줄러 스레드와 무관하게 종료
+    System.exit(0);
+  }
+
+  private void run(LoadTestConfig config, ConfigurableApplicationContext context) throws Exception {
+    String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+    // 모든 사용자가 같은 비밀번호 → 해시는 앱 설정(BCrypt 강도)대로 한 번만 계산
+    String passwordHash = context.getBean(PasswordEncoder.class).encode(LoadTestConfig.PASSWORD);
+    SyntheticDataSeeder.SeededData data =
+        new SyntheticDataSeeder(context.getBean(DataSource.class), config).seed(passwordHash);
+
+    List<String> accessTokens = loginAll(baseUrl, config);
+    log.info("Access Token 확보: {}개", accessTokens.size());
+
+    TrafficReplayer replayer = new TrafficReplayer(baseUrl, config, data, accessTokens);
+    List<Map<String, Object>> stages = new ArrayList<>();
+    for (int concurrency : config.concurrency()) {
+      log.info("단계 시작 - 동시 사용자: {}, 워밍업: {}초, 측정: {}초",
+          concurrency, config.warmupSeconds(), config.durationSeconds());
+      List<LatencyRecorder.EndpointReport> reports =
+          replayer.runStage(concurrency).report(config.durationSeconds());
+      printStage(concurrency, reports);
+      stages.add(stageResult(concurrency, reports));
+    }
+
+    writeResults(config, stages);
+  }
+
+  private static ConfigurableApplicationContext startApplication(LoadTestConfig config) {
+    List<String> args = new ArrayList<>(List.of(
+        "--server.port=0",
+        "--spring.jpa.hibernate.ddl-auto=create",
+        "--app.rate-limit.enabled=false",
+        "--app.token-reaper.enabled=false",
+        "--app.query-count.enabled=" + config.queryCount(),
+        "--logging.file.name=" + Path.of(config.reportDir(), "app.log"),
+        "--logging.level.root=WARN",
+        "--logging.level.com.example.myauth.loadtest=INFO"));
+
+    if (config.embeddedDatabase()) {
+      args.addAll(List.of(
+          "--spring.datasource.url=" + EMBEDDED_DB_URL,
+          "--spring.datasource.driver-class-name=org.h2.Driver",
+          "--spring.datasource.username=sa",
+          "--spring.datasource.password=",
+          "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+    } else {
+      args.addAll(List.of(
+          "--spring.datasource.url=" + config.dbUrl(),
+          "--spring.datasource.username=" + config.dbUsername(),
+          "--spring.datasource.password=" + config.dbPassword()));
+    }
+
+    return SpringApplication.run(MyauthApplication.class, args.toArray(String[]::new));
+  }
+
+  /**
+   * 트래픽을 보낼 사용자 로그인 (BCrypt 검증이 있으므로 가상 스레드로 병렬 실행)
+   */
+  private List<String> loginAll(String baseUrl, LoadTestConfig config) throws Exception {
+    HttpClient httpClient = HttpClient.newHttpClient();
+    int count = Math.min(config.loginUsers(), config.users());
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<String>> futures = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        String body = "{\"email\":\"" + LoadTestConfig.email(i) +
+            "\",\"password\":\"" + LoadTestConfig.PASSWORD + "\"}";
+        futures.add(executor.submit(() -> login(httpClient, baseUrl, body)));
+      }
+
+      List<String> tokens = new ArrayList<>(count);
+      for (Future<String> future : futures) {
+        tokens.add(future.get());
+      }
+      return tokens;
+    }
+  }
+
+  private String login(HttpClient httpClient, String baseUrl, String body) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/login"))
+        .header("Content-Type", "application/json")
+        .header("X-Client-Type", "mobile-app")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("로그인 실패 (" + response.statusCode() + "): " + response.body());
+    }
+    JsonNode root = objectMapper.readTree(response.body());
+    return root.path("data").path("accessToken").asString();
+  }
+
+  private static void printStage(int concurrency, List<LatencyRecorder.EndpointReport> reports) {
+    double total = reports.stream().mapToDouble(LatencyRecorder.EndpointReport::throughput).sum();
+    StringBuilder table = new StringBuilder();
+    table.append(String.format("%n== 동시 사용자 %d, 전체 처리량 %.1f req/s ==%n", concurrency, total));
+    table.append(String.format("%-36s %8s %6s %6s %9s %8s %8s %8s %8s%n",
+        "endpoint", "count", "4xx", "err", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+    for (LatencyRecorder.EndpointReport report : reports) {
+      table.append(String.format("%-36s %8d %6d %6d %9.1f %8.1f %8.1f %8.1f %8.1f%n",
+          report.endpoint(), report.count(), report.clientErrors(), report.errors(), report.throughput(),
+          report.p50Ms(), report.p90Ms(), report.p99Ms(), report.maxMs()));
+    }
+    log.info("{}", table);
+  }
+
+  private static Map<String, Object> stageResult(int concurrency, List<LatencyRecorder.EndpointReport> reports) {
+    Map<String, Object> stage = new LinkedHashMap<>();
+    stage.put("concurrency", concurrency);
+    stage.put("throughput", reports.stream().mapToDouble(LatencyRecorder.EndpointReport::throughput).sum());
+    stage.put("endpoints", reports);
+    return stage;
+  }
+
+  private void writeResults(LoadTestConfig config, List<Map<String, Object>> stages) throws Exception {
+    Map<String, Object> results = new LinkedHashMap<>();
+    results.put("config", config.toReport());
+    results.put("stages", stages);
+
+    Path file = Path.of(config.reportDir(), "results.json");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(results));
+    log.info("결과 저장: {}", file.toAbsolutePath());
+  }
+}
@@ -0,0 +1,253 @@
+package com.example.myauth.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 합성 소셜 그래프 시드
+ * JPA를 거치지 않고 JDBC 배치 INSERT로 적재 (수십만 행을 수 초 안에)
+ *
+ * 【데이터 모양】
+ * - 사용자: 모두 같은 비밀번호 (해시는 앱의 PasswordEncoder로 한 번만 계산)
+ * - 팔로우: 팔로잉 대상을 Zipf 분포로 선택 → 팔로워 수가 멱법칙을 따름 (소수의 인플루언서)
+ * - 게시글: 작성자도 Zipf 분포 (활동적인 소수가 대부분 작성), 0~3개의 해시태그, 일부는 멘션 포함
+ * - 좋아요: 게시글당 파레토 분포 개수 → like_count, hashtags.post_count를 실제 행과 일치시킴
+ *
+ * id는 지정하지 않고 AUTO_INCREMENT에 맡긴 뒤 다시 조회하므로 H2/MySQL 모두에서 동작
+ */
+@Slf4j
+class SyntheticDataSeeder {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LoadTestConfig config;
+  private final Random random;
+
+  SyntheticDataSeeder(DataSource dataSource, LoadTestConfig config) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.config = config;
+    this.random = new Random(config.seed());
+  }
+
+  /**
+   * 전체 데이터 시드
+   *
+   * @param passwordHash 모든 사용자에게 설정할 비밀번호 해시
+   * @return 트래픽 생성에 사용할 사용자/게시글 ID
+   */
+  SeededData seed(String passwordHash) {
+    long startedAt = System.currentTimeMillis();
+    LocalDateTime now = LocalDateTime.now();
+
+    long[] userIds = seedUsers(passwordHash, now);
+    int follows = seedFollows(userIds, now);
+
+    // 게시글 구성을 먼저 정해야 해시태그 post_count와 게시글 like_count를 한 번에 INSERT할 수 있음
+    List<PlannedPost> plannedPosts = planPosts(userIds.length);
+    long[] hashtagIds = seedHashtags(plannedPosts, now);
+    long[] postIds = seedPosts(plannedPosts, userIds, now);
+    int links = seedPostRelations(plannedPosts, postIds, userIds, hashtagIds, now);
+
+    log.info("시드 완료 - 사용자: {}, 팔로우: {}, 게시글: {}, 해시태그: {}, 연관 행: {}, 소요: {}ms",
+        userIds.length, follows, postIds.length, hashtagIds.length, links,
+        System.currentTimeMillis() - startedAt);
+    return new SeededData(userIds, postIds);
+  }
+
+  private long[] seedUsers(String passwordHash, LocalDateTime now) {
+    BatchWriter writer = new BatchWriter(
+        "INSERT INTO users (email, name, password, role, is_active, is_super_user, " +
+            "failed_login_attempts, status, provider, created_at, updated_at) " +
+            "VALUES (?, ?, ?, 'ROLE_USER', true, false, 0, 'ACTIVE', 'LOCAL', ?, ?)");
+    for (int i = 0; i < config.users(); i++) {
+      writer.add(LoadTestConfig.email(i), LoadTestConfig.name(i), passwordHash, now, now);
+    }
+    writer.flush();
+    return queryIds("SELECT id FROM users ORDER BY id");
+  }
+
+  private int seedFollows(long[] userIds, LocalDateTime now) {
+    ZipfSampler popularity = new ZipfSampler(userIds.length, config.zipfExponent());
+    BatchWriter writer = new BatchWriter(
+        "INSERT INTO follows (follower_id, following_id, created_at) VALUES (?, ?, ?)");
+
+    for (int follower = 0; follower < userIds.length; follower++) {
+      // 팔로잉 수는 평균 주변에서 고르게, 팔로잉 대상은 인기도(Zipf) 순으로 집중
+      int target = Math.min(random.nextInt(config.avgFollowing() * 2 + 1), userIds.length - 1);
+      Set<Integer> following = new HashSet<>();
+      for (int attempt = 0; following.size() < target && attempt < target * 4; attempt++) {
+        int followee = popularity.sample(random);
+        if (followee != follower && following.add(followee)) {
+          writer.add(userIds[follower], userIds[followee], now);
+        }
+      }
+    }
+    return writer.flush();
+  }
+
+  private List<PlannedPost> planPosts(int userCount) {
+    ZipfSampler authors = new ZipfSampler(userCount, config.zipfExponent());
+    ZipfSampler tags = new ZipfSampler(Math.max(config.hashtags(), 1), config.zipfExponent());
+
+    List<PlannedPost> posts = new ArrayList<>(config.posts());
+    for (int i = 0; i < config.posts(); i++) {
+      int author = authors.sample(random);
+
+      Set<Integer> hashtags = new HashSet<>();
+      int tagCount = config.hashtags() > 0 ? random.nextInt(4) : 0;
+      for (int t = 0; t < tagCount; t++) {
+        hashtags.add(tags.sample(random));
+      }
+
+      int mentioned = random.nextDouble() < config.mentionRatio() ? random.nextInt(userCount) : -1;
+      int likes = Math.min(paretoCount(config.avgLikesPerPost()), userCount);
+      int minutesAgo = random.nextInt(60 * 24 * 30);
+
+      posts.add(new PlannedPost(author, List.copyOf(hashtags), mentioned, likes, minutesAgo));
+    }
+    return posts;
+  }
+
+  private long[] seedHashtags(List<PlannedPost> posts, LocalDateTime now) {
+    int[] postCounts = new int[config.hashtags()];
+    for (PlannedPost post : posts) {
+      for (int tag : post.hashtags()) {
+        postCounts[tag]++;
+      }
+    }
+
+    BatchWriter writer = new BatchWriter(
+        "INSERT INTO hashtags (name, post_count, created_at) VALUES (?, ?, ?)");
+    for (int tag = 0; tag < postCounts.length; tag++) {
+      writer.add(hashtagName(tag), postCounts[tag], now);
+    }
+    writer.flush();
+    return queryIds("SELECT id FROM hashtags ORDER BY id");
+  }
+
+  private long[] seedPosts(List<PlannedPost> posts, long[] userIds, LocalDateTime now) {
+    BatchWriter writer = new BatchWriter(
+        "INSERT INTO posts (user_id, content, visibility, like_count, comment_count, view_count, " +
+            "is_deleted, created_at, updated_at) VALUES (?, ?, 'PUBLIC', ?, 0, ?, false, ?, ?)");
+    for (PlannedPost post : posts) {
+      LocalDateTime createdAt = now.minusMinutes(post.minutesAgo());
+      writer.add(userIds[post.author()], content(post), post.likes(),
+          post.likes() * 10 + random.nextInt(50), createdAt, createdAt);
+    }
+    writer.flush();
+    return queryIds("SELECT id FROM posts ORDER BY id");
+  }
+
+  private int seedPostRelations(List<PlannedPost> posts, long[] postIds, long[] userIds,
+                                long[] hashtagIds, LocalDateTime now) {
+    BatchWriter postHashtags = new BatchWriter(
+        "INSERT INTO post_hashtags (post_id, hashtag_id, created_at) VALUES (?, ?, ?)");
+    BatchWriter mentions = new BatchWriter(
+        "INSERT INTO mentions (user_id, target_type, target_id, created_at) VALUES (?, 'POST', ?, ?)");
+    BatchWriter likes = new BatchWriter(
+        "INSERT INTO likes (user_id, target_type, target_id, created_at) VALUES (?, 'POST', ?, ?)");
+
+    for (int i = 0; i < posts.size(); i++) {
+      PlannedPost post = posts.get(i);
+      long postId = postIds[i];
+
+      for (int tag : post.hashtags()) {
+        postHashtags.add(postId, hashtagIds[tag], now);
+      }
+      if (post.mentioned() >= 0) {
+        mentions.add(userIds[post.mentioned()], postId, now);
+      }
+
+      Set<Integer> likers = new HashSet<>();
+      while (likers.size() < post.likes()) {
+        int liker = random.nextInt(userIds.length);
+        if (likers.add(liker)) {
+          likes.add(userIds[liker], postId, now);
+        }
+      }
+    }
+    return postHashtags.flush() + mentions.flush() + likes.flush();
+  }
+
+  /**
+   * 평균이 mean에 가까운 파레토(α=2) 분포 정수 (대부분 적고 일부 게시글에 좋아요 집중)
+   */
+  private int paretoCount(int mean) {
+    if (mean <= 0) {
+      return 0;
+    }
+    double scale = mean / 2.0;
+    double value = scale / Math.sqrt(1 - random.nextDouble());
+    return (int) Math.min(value, Integer.MAX_VALUE);
+  }
+
+  private String content(PlannedPost post) {
+    StringBuilder builder = new StringBuilder(160);
+    builder.append("부하 테스트 게시글 ").append(random.nextInt(1_000_000)).append(' ');
+    for (int tag : post.hashtags()) {
+      builder.append('#').append(hashtagName(tag)).append(' ');
+    }
+    if (post.mentioned() >= 0) {
+      builder.append('@').append(LoadTestConfig.name(post.mentioned())).append(' ');
+    }
+    builder.append("오늘도 좋은 하루 보내세요");
+    return builder.toString();
+  }
+
+  private static String hashtagName(int index) {
+    return "tag" + index;
+  }
+
+  private long[] queryIds(String sql) {
+    return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+  }
+
+  /**
+   * 게시글 계획 (인덱스는 사용자/해시태그 배열 기준)
+   */
+  private record PlannedPost(int author, List<Integer> hashtags, int mentioned, int likes, int minutesAgo) {
+  }
+
+  /**
+   * 시드 결과 (트래픽 생성기가 참조)
+   */
+  record SeededData(long[] userIds, long[] postIds) {
+  }
+
+  /**
+   * batchSize 행마다 batchUpdate로 전송하는 INSERT 버퍼
+   */
+  private class BatchWriter {
+
+    private final String sql;
+    private final List<Object[]> rows = new ArrayList<>();
+    private int written;
+
+    BatchWriter(String sql) {
+      this.sql = sql;
+    }
+
+    void add(Object... row) {
+      rows.add(row);
+      if (rows.size() >= config.batchSize()) {
+        flush();
+      }
+    }
+
+    int flush() {
+      if (!rows.isEmpty()) {
+        jdbcTemplate.batchUpdate(sql, rows);
+        written += rows.size();
+        rows.clear();
+      }
+      return written;
+    }
+  }
+}
@@ -0,0 +1,233 @@
+package com.example.myauth.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 실사용 비율을 흉내 낸 API 트래픽 재생
+ *
+ * 【닫힌 루프】
+ * 가상 사용자(가상 스레드) N개가 각자 응답을 받은 뒤 다음 요청을 보냄
+ * → 동시성 단계를 올려가며 처리량이 더 이상 늘지 않고 지연만 늘어나는 지점(포화점)을 찾는다
+ *
+ * 【요청 비율】 (가중치, 합계 100)
+ * 홈 피드 28, 탐색/인기/조회수/추천 피드 22, 게시글 상세 14, 게시글 목록 8,
+ * 좋아요 토글 10, 댓글 조회/작성 10, 게시글 작성 5, 로그인 3
+ * 조회 대상 게시글은 Zipf 분포로 선택하여 인기 게시글에 요청이 몰리도록 한다
+ */
+class TrafficReplayer {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final HttpClient httpClient;
+  private final String baseUrl;
+  private final LoadTestConfig config;
+  private final SyntheticDataSeeder.SeededData data;
+  private final List<String> accessTokens;
+  private final ZipfSampler postPopularity;
+  private final List<Operation> operations;
+  private final int totalWeight;
+
+  TrafficReplayer(String baseUrl, LoadTestConfig config, SyntheticDataSeeder.SeededData data,
+                  List<String> accessTokens) {
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    this.baseUrl = baseUrl;
+    this.config = config;
+    this.data = data;
+    this.accessTokens = accessTokens;
+    this.postPopularity = new ZipfSampler(data.postIds().length, config.zipfExponent());
+    this.operations = List.of(
+        new Operation(28, (token, random, recorder) ->
+            get(recorder, token, "GET /api/feed", "/api/feed?page=" + page(random))),
+        new Operation(10, (token, random, recorder) ->
+            get(recorder, token, "GET /api/feed/explore", "/api/feed/explore?page=" + page(random))),
+        new Operation(5, (token, random, recorder) ->
+            get(recorder, token, "GET /api/feed/popular", "/api/feed/popular?page=" + page(random))),
+        new Operation(3, (token, random, recorder) ->
+            get(recorder, token, "GET /api/feed/views", "/api/feed/views?page=" + page(random))),
+        new Operation(4, (token, random, recorder) ->
+            get(recorder, token, "GET /api/feed/recommended", "/api/feed/recommended?page=" + page(random))),
+        new Operation(14, (token, random, recorder) ->
+            get(recorder, token, "GET /api/posts/{id}", "/api/posts/" + popularPost(random))),
+        new Operation(4, (token, random, recorder) ->
+            get(recorder, token, "GET /api/posts", "/api/posts?page=" + page(random))),
+        new Operation(4, (token, random, recorder) ->
+            get(recorder, token, "GET /api/posts/user/{userId}", "/api/posts/user/" + randomUser(random))),
+        new Operation(10, this::toggleLike),
+        new Operation(6, (token, random, recorder) ->
+            get(recorder, token, "GET /api/posts/{id}/comments", "/api/posts/" + popularPost(random) + "/comments")),
+        new Operation(4, this::createComment),
+        new Operation(5, this::createPost),
+        new Operation(3, this::login));
+    this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+  }
+
+  /**
+   * 한 동시성 단계 실행 (워밍업 구간은 기록하지 않음)
+   *
+   * @param concurrency 가상 사용자 수
+   * @return 측정 구간의 기록
+   */
+  LatencyRecorder runStage(int concurrency) throws InterruptedException {
+    LatencyRecorder warmup = new LatencyRecorder();
+    LatencyRecorder measured = new LatencyRecorder();
+    AtomicReference<LatencyRecorder> target = new AtomicReference<>(warmup);
+
+    long measureFrom = System.nanoTime() + Duration.ofSeconds(config.warmupSeconds()).toNanos();
+    long stopAt = measureFrom + Duration.ofSeconds(config.durationSeconds()).toNanos();
+
+    Thread[] workers = new Thread[concurrency];
+    for (int i = 0; i < concurrency; i++) {
+      String token = accessTokens.get(i % accessTokens.size());
+      long workerSeed = config.seed() * 31 + i;
+      workers[i] = Thread.ofVirtual().name("loadtest-", i).start(() -> {
+        Random random = new Random(workerSeed);
+        while (System.nanoTime() < stopAt) {
+          pick(random).call().execute(token, random, target.get());
+          thinkTime();
+        }
+      });
+    }
+
+    Thread.sleep(Duration.ofSeconds(config.warmupSeconds()));
+    target.set(measured);
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    return measured;
+  }
+
+  // ===== 요청 종류 =====
+
+  /**
+   * 좋아요 후 이미 좋아요한 게시글(409)이면 취소 → 좋아요 수가 한쪽으로 쌓이지 않음
+   */
+  private void toggleLike(String token, Random random, LatencyRecorder recorder) {
+    String path = "/api/posts/" + popularPost(random) + "/like";
+    int status = send(recorder, "POST /api/posts/{id}/like",
+        authorized(token, path).POST(HttpRequest.BodyPublishers.noBody()));
+    if (status == 409) {
+      send(recorder, "DELETE /api/posts/{id}/like", authorized(token, path).DELETE());
+    }
+  }
+
+  private void createComment(String token, Random random, LatencyRecorder recorder) {
+    String body = "{\"content\":\"부하 테스트 댓글 @" + LoadTestConfig.name(randomUserIndex(random)) + "\"}";
+    post(recorder, token, "POST /api/posts/{id}/comments", "/api/posts/" + popularPost(random) + "/comments", body);
+  }
+
+  private void createPost(String token, Random random, LatencyRecorder recorder) {
+    String body = "{\"content\":\"부하 테스트 새 게시글 #tag" + random.nextInt(Math.max(config.hashtags(), 1)) +
+        " @" + LoadTestConfig.name(randomUserIndex(random)) + "\",\"visibility\":\"PUBLIC\"}";
+    post(recorder, token, "POST /api/posts", "/api/posts", body);
+  }
+
+  private void login(String token, Random random, LatencyRecorder recorder) {
+    String body = "{\"email\":\"" + LoadTestConfig.email(random.nextInt(accessTokens.size())) +
+        "\",\"password\":\"" + LoadTestConfig.PASSWORD + "\"}";
+    send(recorder, "POST /api/login", request("/api/login")
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body)));
+  }
+
+  private void get(LatencyRecorder recorder, String token, String label, String path) {
+    send(recorder, label, authorized(token, path).GET());
+  }
+
+  private void post(LatencyRecorder recorder, String token, String label, String path, String json) {
+    send(recorder, label, authorized(token, path)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json)));
+  }
+
+  // ===== 공통 =====
+
+  private int send(LatencyRecorder recorder, String label, HttpRequest.Builder builder) {
+    long startedAt = System.nanoTime();
+    int status;
+    try {
+      status = httpClient.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    } catch (IOException e) {
+      status = -1;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      status = -1;
+    }
+    recorder.record(label, System.nanoTime() - startedAt, status);
+    return status;
+  }
+
+  private HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("X-Client-Type", "mobile-app");
+  }
+
+  private HttpRequest.Builder authorized(String token, String path) {
+    return request(path).header("Authorization", "Bearer " + token);
+  }
+
+  private Operation pick(Random random) {
+    int roll = random.nextInt(totalWeight);
+    for (Operation operation : operations) {
+      roll -= operation.weight();
+      if (roll < 0) {
+        return operation;
+      }
+    }
+    return operations.getLast();
+  }
+
+  /**
+   * 대부분 첫 페이지, 일부만 깊은 페이지를 조회 (무한 스크롤 이탈 흉내)
+   */
+  private static int page(Random random) {
+    double roll = random.nextDouble();
+    return roll < 0.7 ? 0 : roll < 0.9 ? 1 : 2 + random.nextInt(8);
+  }
+
+  private long popularPost(Random random) {
+    return data.postIds()[postPopularity.sample(random)];
+  }
+
+  private long randomUser(Random random) {
+    return data.userIds()[randomUserIndex(random)];
+  }
+
+  private int randomUserIndex(Random random) {
+    return random.nextInt(data.userIds().length);
+  }
+
+  private void thinkTime() {
+    if (config.thinkTimeMs() <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(config.thinkTimeMs() * 2 + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 요청 1건 (좋아요 토글처럼 연속된 요청일 수 있음)
+   */
+  @FunctionalInterface
+  private interface Call {
+    void execute(String token, Random random, LatencyRecorder recorder);
+  }
+
+  private record Operation(int weight, Call call) {
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.myauth.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 멱법칙(Zipf) 분포 표본 추출기
+ * 순위 k(0부터)가 뽑힐 확률이 1 / (k + 1)^exponent 에 비례
+ * → 소수의 인기 계정/게시글에 팔로우와 조회가 집중되는 소셜 그래프 재현
+ */
+final class ZipfSampler {
+
+  private final double[] cumulative;
+
+  ZipfSampler(int size, double exponent) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be positive: " + size);
+    }
+    cumulative = new double[size];
+    double sum = 0;
+    for (int rank = 0; rank < size; rank++) {
+      sum += 1.0 / Math.pow(rank + 1, exponent);
+      cumulative[rank] = sum;
+    }
+    for (int rank = 0; rank < size; rank++) {
+      cumulative[rank] /= sum;
+    }
+  }
+
+  /**
+   * @return 0 이상 size 미만의 순위
+   */
+  int sample(Random random) {
+    int index = Arrays.binarySearch(cumulative, random.nextDouble());
+    int rank = index >= 0 ? index : -index - 1;
+    return Math.min(rank, cumulative.length - 1);
+  }
+}
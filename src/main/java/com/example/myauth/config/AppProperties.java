@@ -32,6 +32,71 @@ public class AppProperties {
    */
   private OAuth oauth = new OAuth();
 
+  /**
+   * 아웃박스 이벤트 디스패처 설정
+   */
+  private Outbox outbox = new Outbox();
+
+  /**
+   * 가상 스레드 진단 설정
+   */
+  private VirtualThreads virtualThreads = new VirtualThreads();
+
+  /**
+   * 만료/취소 Refresh Token 정리 작업 설정
+   */
+  private TokenReaper tokenReaper = new TokenReaper();
+
+  /**
+   * 로그인 세션 정책 설정
+   */
+  private Session session = new Session();
+
+  /**
+   * Access Token 취소(denylist) 설정
+   */
+  private TokenRevocation tokenRevocation = new TokenRevocation();
+
+  /**
+   * 비밀번호 해시 설정
+   */
+  private Password password = new Password();
+
+  /**
+   * 인증 엔드포인트 요청 제한 및 계정 잠금 설정
+   */
+  private RateLimit rateLimit = new RateLimit();
+
+  /**
+   * 요청당 SQL 실행 수 집계 설정
+   */
+  private QueryCount queryCount = new QueryCount();
+
+  /**
+   * 요청 추적(span) 설정
+   */
+  private Tracing tracing = new Tracing();
+
+  /**
+   * 커넥션 풀 모니터(크기 권장, 누수 감지) 설정
+   */
+  private ConnectionPool connectionPool = new ConnectionPool();
+
+  /**
+   * 읽기 전용 복제본(replica) 라우팅 설정
+   */
+  private Replica replica = new Replica();
+
+  /**
+   * 피드 응답 조립용 캐시(작성자/게시글 이미지/해시태그 ID) 설정
+   */
+  private HydrationCache hydrationCache = new HydrationCache();
+
+  /**
+   * 탐색 피드 응답 캐시 설정
+   */
+  private ExploreCache exploreCache = new ExploreCache();
+
   @Getter
   @Setter
   public static class Cookie {
@@ -71,4 +136,407 @@ public class AppProperties {
      */
     private String kakaoRedirectUrl = "http://localhost:5173/oauth/callback";
   }
+
+  @Getter
+  @Setter
+  public static class Outbox {
+    /**
+     * 디스패처 활성화 여부
+     * 여러 노드에서 켜도 리스를 가진 한 노드만 처리함
+     * false로 설정하면 이 노드는 리스 경쟁에 참여하지 않음
+     */
+    private boolean enabled = true;
+
+    /**
+     * 디스패처 리스 유지 시간 (밀리초)
+     * 리스를 가진 노드가 이 시간 동안 폴링하지 못하면 다른 노드가 넘겨받음
+     */
+    private long leaseMs = 30000;
+
+    /**
+     * FAILED 카운터 이벤트 재계산 주기 (밀리초)
+     */
+    private long reconcileIntervalMs = 600000;
+
+    /**
+     * 한 번의 폴링에서 처리할 최대 이벤트 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 최대 처리 시도 횟수 (초과 시 FAILED로 전환)
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * 처리 완료 이벤트 보관 기간 (시간)
+     */
+    private int retentionHours = 24;
+  }
+
+  @Getter
+  @Setter
+  public static class VirtualThreads {
+    /**
+     * 캐리어 스레드 피닝 모니터 활성화 여부
+     * spring.threads.virtual.enabled=true 와 함께 사용
+     */
+    private boolean pinningMonitorEnabled = false;
+
+    /**
+     * 보고할 피닝 최소 지속 시간 (밀리초)
+     */
+    private long pinningThresholdMs = 20;
+  }
+
+  @Getter
+  @Setter
+  public static class TokenReaper {
+    /**
+     * 정리 작업 활성화 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 한 번의 DELETE로 삭제할 최대 행 수 (청크 크기)
+     * 너무 크면 행 잠금 시간과 undo log가 커짐
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 청크 사이 대기 시간 (밀리초)
+     * 복제 지연 및 다른 트랜잭션의 잠금 대기를 완화
+     */
+    private long pauseMs = 100;
+
+    /**
+     * 1회 실행에서 단계(만료/취소)별로 처리할 최대 청크 수 (남은 행은 다음 실행에서 처리)
+     */
+    private int maxChunksPerRun = 200;
+  }
+
+  @Getter
+  @Setter
+  public static class Session {
+    /**
+     * 사용자당 최대 동시 로그인 세션 수
+     * 초과 시 새 로그인에서 가장 오래된 세션을 제거
+     */
+    private int maxPerUser = 5;
+  }
+
+  @Getter
+  @Setter
+  public static class TokenRevocation {
+    /**
+     * 취소 토큰 저장소 구현 (local: 메모리, 단일 노드)
+     * 구현이 없는 값은 바인딩 단계에서 거부되어 기동 시 어떤 설정이 잘못됐는지 바로 드러난다
+     */
+    private DenylistBackend backend = DenylistBackend.LOCAL;
+
+    /**
+     * 블룸 필터 예상 원소 수 (Access Token 유효 시간 동안의 최대 로그아웃 수)
+     */
+    private int expectedInsertions = 100_000;
+
+    /**
+     * 블룸 필터 목표 오탐률 (오탐 시에만 저장소 조회)
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * 취소 토큰 저장소 종류
+     * 공유 저장소 구현을 추가할 때 값도 함께 추가한다
+     */
+    public enum DenylistBackend {
+      LOCAL
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class Password {
+    /**
+     * BCrypt 강도 (work factor, 4~31, 1 증가할 때마다 계산 시간 2배)
+     * 변경 시 기존 사용자는 다음 로그인에서 새 강도로 재해시됨
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * 해시 계산 전용 스레드 수 (0이면 CPU 코어 수)
+     */
+    private int hashingThreads = 0;
+
+    /**
+     * 해시 대기열 최대 길이 (초과 시 503으로 즉시 거부)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 요청당 최대 대기 시간 (밀리초, 대기열 + 계산)
+     */
+    private long maxWaitMs = 3000;
+  }
+
+  @Getter
+  @Setter
+  public static class RateLimit {
+    /**
+     * 요청 제한 활성화 여부 (계정 잠금은 항상 동작)
+     */
+    private boolean enabled = true;
+
+    /**
+     * IP별 로그인 제한 (/api/login, /api/old_login)
+     */
+    private Limit loginPerIp = new Limit(5, 5);
+
+    /**
+     * 계정(이메일)별 로그인 제한
+     */
+    private Limit loginPerAccount = new Limit(3, 3);
+
+    /**
+     * IP별 회원가입 제한 (/api/signup)
+     */
+    private Limit signupPerIp = new Limit(5, 2);
+
+    /**
+     * IP별 토큰 갱신 제한 (/api/refresh)
+     */
+    private Limit refreshPerIp = new Limit(10, 10);
+
+    /**
+     * 제한기별 추적할 최대 키(IP/계정) 수 (초과 시 가장 오래 사용되지 않은 키 제거)
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * 키 맵 분할 수 (동시성 수준)
+     */
+    private int stripes = 16;
+
+    /**
+     * 계정 잠금까지 허용하는 연속 비밀번호 실패 횟수
+     */
+    private int lockoutThreshold = 5;
+
+    /**
+     * 계정 잠금 시간 (분)
+     */
+    private int lockoutMinutes = 15;
+  }
+
+  @Getter
+  @Setter
+  public static class QueryCount {
+    /**
+     * 요청당 SQL 집계 활성화 여부
+     * SQL마다 형태 정규화 비용이 들므로 기본값 false (dev 프로필, 부하 테스트에서만 활성화)
+     */
+    private boolean enabled = false;
+
+    /**
+     * X-Query-Count, X-Query-Duplicates 응답 헤더 추가 여부 (응답을 버퍼링하므로 개발 환경에서만)
+     */
+    private boolean debugHeader = false;
+
+    /**
+     * 요청 1건의 SQL 수가 이 값을 넘으면 WARN 로그
+     */
+    private int warnThreshold = 30;
+
+    /**
+     * 엔드포인트별로 추적할 반복 SQL 형태 최대 수
+     */
+    private int maxShapesPerEndpoint = 20;
+  }
+
+  @Getter
+  @Setter
+  public static class Tracing {
+    /**
+     * 요청 추적 활성화 여부 (false면 서비스/리포지토리 프록시도 만들지 않음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 추적할 요청 비율 (0.0 ~ 1.0)
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * 이 시간(ms) 이상 걸린 추적만 느린 요청 버퍼에 보관
+     */
+    private long slowThresholdMs = 500;
+
+    /**
+     * 느린 요청 버퍼 크기 (가득 차면 가장 오래된 추적부터 덮어씀)
+     */
+    private int bufferSize = 100;
+
+    /**
+     * 추적 1건에 기록할 최대 span 수 (초과분은 버리고 개수만 기록)
+     */
+    private int maxSpansPerTrace = 256;
+  }
+
+  @Getter
+  @Setter
+  public static class ConnectionPool {
+    /**
+     * 커넥션 사용 모니터 활성화 여부 (false면 DataSource를 감싸지 않음)
+     */
+    private boolean monitorEnabled = true;
+
+    /**
+     * 풀 상태(사용 중/대기 스레드) 표본 주기 및 누수 검사 주기 (밀리초)
+     */
+    private long sampleIntervalMs = 1000;
+
+    /**
+     * 크기 권장값을 계산하는 구간 길이 (초)
+     */
+    private int windowSeconds = 300;
+
+    /**
+     * 커넥션 획득 대기가 이 시간(ms)을 넘으면 느린 획득으로 집계
+     */
+    private long slowAcquireMs = 10;
+
+    /**
+     * 커넥션을 이 시간(ms) 넘게 반환하지 않으면 누수 의심으로 보고
+     */
+    private long leakThresholdMs = 10000;
+
+    /**
+     * 권장 풀 크기 상한 (DB 서버 max_connections / 인스턴스 수 이하로)
+     */
+    private int maxRecommendedSize = 50;
+  }
+
+  @Getter
+  @Setter
+  public static class Replica {
+    /**
+     * 복제본 JDBC URL (설정하지 않으면 라우팅 없이 모든 요청이 primary로)
+     */
+    private String url;
+
+    /**
+     * 복제본 계정 (비우면 spring.datasource.username)
+     */
+    private String username;
+
+    /**
+     * 복제본 비밀번호 (비우면 spring.datasource.password)
+     */
+    private String password;
+
+    /**
+     * 복제본 풀 최대 크기 (비우면 primary와 같은 spring.datasource.hikari 설정)
+     */
+    private Integer maximumPoolSize;
+
+    /**
+     * 사용자가 쓰기 트랜잭션을 커밋한 뒤 그 사용자의 읽기를 primary로 고정하는 시간 (밀리초)
+     * 복제 지연보다 길게 설정 → 방금 쓴 글/좋아요가 안 보이는 문제 방지
+     */
+    private long readYourWritesMs = 2000;
+
+    /**
+     * 읽기 고정 상태를 기억할 최대 사용자 수
+     */
+    private int maxPinnedUsers = 100000;
+
+    /**
+     * 복제본 연결 실패가 이 횟수만큼 연속되면 일정 시간 primary로만 읽음
+     */
+    private int failureThreshold = 3;
+
+    /**
+     * 복제본 연결 실패 후 primary로만 읽는 시간 (밀리초)
+     */
+    private long openDurationMs = 10000;
+  }
+
+  @Getter
+  @Setter
+  public static class HydrationCache {
+    /**
+     * 캐시 사용 여부 (false면 매번 지연 로딩으로 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 항목 유지 시간 (초) - 다른 인스턴스에서 수정된 프로필이 반영되기까지의 최대 시간
+     */
+    private long ttlSeconds = 300;
+
+    /**
+     * 캐시할 최대 작성자 수
+     */
+    private int maxAuthors = 10000;
+
+    /**
+     * 이미지 목록을 캐시할 최대 게시글 수
+     */
+    private int maxPostImages = 20000;
+
+    /**
+     * 캐시할 최대 해시태그 수
+     */
+    private int maxHashtags = 10000;
+  }
+
+  @Getter
+  @Setter
+  public static class ExploreCache {
+    /**
+     * 캐시 사용 여부 (false면 매번 DB 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 정렬별로 캐시할 앞쪽 페이지 수 (page < maxPages만 캐시)
+     */
+    private int maxPages = 5;
+
+    /**
+     * 항목 유지 시간 (밀리초) - 새 게시글/좋아요/조회수가 반영되기까지의 최대 시간
+     */
+    private long ttlMs = 15000;
+
+    /**
+     * 이 시간보다 오래된 항목이 조회되면 백그라운드에서 미리 다시 조회 (밀리초, ttlMs보다 작게)
+     */
+    private long refreshAheadMs = 10000;
+
+    /**
+     * 다른 요청의 조회 결과를 기다리는 최대 시간 (밀리초) - 초과 시 503
+     */
+    private long loadTimeoutMs = 5000;
+  }
+
+  @Getter
+  @Setter
+  public static class Limit {
+    /**
+     * 연속 허용 횟수 (버킷 최대 토큰 수)
+     */
+    private int capacity;
+
+    /**
+     * 분당 충전 토큰 수 (평균 허용 횟수)
+     */
+    private int refillPerMinute;
+
+    public Limit() {
+    }
+
+    public Limit(int capacity, int refillPerMinute) {
+      this.capacity = capacity;
+      this.refillPerMinute = refillPerMinute;
+    }
+  }
 }
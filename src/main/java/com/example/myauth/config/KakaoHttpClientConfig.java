@@ -0,0 +1,82 @@
+package com.example.myauth.config;
+
+import com.example.myauth.monitoring.TracingClientHttpRequestInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 카카오 API 호출용 HTTP 클라이언트 설정
+ *
+ * 【구성】
+ * - JDK HttpClient 하나를 애플리케이션 전체에서 재사용 → keep-alive 연결 풀 공유
+ *   (유휴 연결 유지 시간은 JVM 옵션 -Djdk.httpclient.keepalive.timeout, 기본 30초)
+ * - 연결/응답 타임아웃 필수 적용 (기본값 없음 → 카카오 지연 시 요청 스레드가 무한 대기)
+ * - KakaoHttpClientInterceptor: 벌크헤드 + 서킷 브레이커 + 선택적 응답 로깅
+ * - TracingClientHttpRequestInterceptor: 요청 추적 span (가장 바깥)
+ *
+ * 설정: oauth.kakao.http.*
+ */
+@Slf4j
+@Configuration
+public class KakaoHttpClientConfig {
+
+  /**
+   * 카카오 API 호출 보호 인터셉터 (지표 조회를 위해 빈으로 등록)
+   */
+  @Bean
+  public KakaoHttpClientInterceptor kakaoHttpClientInterceptor(KakaoOAuthProperties kakaoProperties,
+                                                               MeterRegistry meterRegistry) {
+    return new KakaoHttpClientInterceptor(kakaoProperties.getHttp(), meterRegistry);
+  }
+
+  /**
+   * 카카오 API 전용 RestClient
+   */
+  @Bean
+  public RestClient kakaoRestClient(KakaoOAuthProperties kakaoProperties,
+                                    KakaoHttpClientInterceptor kakaoHttpClientInterceptor,
+                                    TracingClientHttpRequestInterceptor tracingInterceptor) {
+    KakaoOAuthProperties.Http config = kakaoProperties.getHttp();
+    log.info("카카오 HTTP 클라이언트 생성 - connectTimeout: {}ms, readTimeout: {}ms, maxConcurrentCalls: {}",
+        config.getConnectTimeoutMs(), config.getReadTimeoutMs(), config.getMaxConcurrentCalls());
+    return createRestClient(config, kakaoHttpClientInterceptor).mutate()
+        .requestInterceptors(interceptors -> interceptors.add(0, tracingInterceptor))
+        .build();
+  }
+
+  /**
+   * 설정값으로 RestClient 생성 (스텁 서버 테스트에서도 사용)
+   *
+   * @param config HTTP 클라이언트 설정
+   * @param interceptor 벌크헤드/서킷 브레이커 인터셉터
+   * @return 카카오 API 호출용 RestClient
+   */
+  static RestClient createRestClient(KakaoOAuthProperties.Http config, KakaoHttpClientInterceptor interceptor) {
+    HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+        .version(HttpClient.Version.HTTP_1_1)
+        .build();
+
+    JdkClientHttpRequestFactory jdkFactory = new JdkClientHttpRequestFactory(httpClient);
+    jdkFactory.setReadTimeout(Duration.ofMillis(config.getReadTimeoutMs()));
+
+    // 응답 로깅 시 본문을 두 번 읽어야 하므로 버퍼링 (로깅을 끄면 스트리밍 그대로 사용)
+    ClientHttpRequestFactory requestFactory = config.isLogResponses()
+        ? new BufferingClientHttpRequestFactory(jdkFactory)
+        : jdkFactory;
+
+    return RestClient.builder()
+        .requestFactory(requestFactory)
+        .requestInterceptor(interceptor)
+        .build();
+  }
+}
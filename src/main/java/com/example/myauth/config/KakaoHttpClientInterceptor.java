@@ -0,0 +1,198 @@
+package com.example.myauth.config;
+
+import com.example.myauth.exception.ServiceBusyException;
+import com.example.myauth.util.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카카오 API 호출 보호 인터셉터
+ *
+ * 【벌크헤드】
+ * 동시 호출 수를 maxConcurrentCalls로 제한 → 카카오가 느려져도 요청 스레드 전체가 묶이지 않음
+ * 슬롯을 bulkheadWaitMs 안에 얻지 못하면 즉시 거부
+ * 슬롯은 응답 본문까지 읽고 응답을 닫을 때 반환 (느린 본문 전송도 동시 호출로 집계)
+ *
+ * 【서킷 브레이커】
+ * 연결 실패/타임아웃(IOException)과 5xx 응답을 실패로 집계
+ * 연속 실패 시 openDurationMs 동안 호출하지 않고 즉시 거부
+ * 4xx(잘못된 인가 코드 등)는 카카오 장애가 아니므로 성공으로 집계
+ *
+ * 【응답 로깅】
+ * logResponses=true일 때만 상태 코드와 본문을 로깅 (BufferingClientHttpRequestFactory와 함께 사용)
+ *
+ * 【지표】
+ * myauth.kakao.calls{endpoint, outcome}: 호출 소요 시간
+ * outcome = success, client_error(4xx), server_error(5xx), io_error(연결 실패/타임아웃), rejected(벌크헤드/서킷)
+ */
+@Slf4j
+public class KakaoHttpClientInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final String BUSY_MESSAGE = "카카오 로그인이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요.";
+
+  private final Semaphore bulkhead;
+  private final long bulkheadWaitMs;
+  private final CircuitBreaker circuitBreaker;
+  private final boolean logResponses;
+  private final MeterRegistry meterRegistry;
+
+  public KakaoHttpClientInterceptor(KakaoOAuthProperties.Http config, MeterRegistry meterRegistry) {
+    this.bulkhead = new Semaphore(config.getMaxConcurrentCalls());
+    this.bulkheadWaitMs = config.getBulkheadWaitMs();
+    this.circuitBreaker = new CircuitBreaker(config.getFailureThreshold(), config.getOpenDurationMs());
+    this.logResponses = config.isLogResponses();
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+      throws IOException {
+
+    long startedAt = System.nanoTime();
+    String endpoint = request.getURI().getPath();
+
+    if (!acquireSlot()) {
+      log.warn("카카오 API 동시 호출 한도 초과 - 호출 거부: {}", request.getURI());
+      recordCall(endpoint, "rejected", startedAt);
+      throw new ServiceBusyException(BUSY_MESSAGE);
+    }
+
+    boolean handedOff = false;
+    try {
+      if (!circuitBreaker.tryAcquirePermission()) {
+        log.warn("카카오 API 서킷 OPEN - 호출 생략: {}", request.getURI());
+        recordCall(endpoint, "rejected", startedAt);
+        throw new ServiceBusyException(BUSY_MESSAGE);
+      }
+
+      ClientHttpResponse response;
+      try {
+        response = execution.execute(request, body);
+      } catch (IOException | RuntimeException e) {
+        circuitBreaker.onFailure();
+        recordCall(endpoint, "io_error", startedAt);
+        log.warn("카카오 API 호출 실패 - {} {}: {}", request.getMethod(), request.getURI(), e.getMessage());
+        throw e;
+      }
+
+      if (response.getStatusCode().is5xxServerError()) {
+        circuitBreaker.onFailure();
+        recordCall(endpoint, "server_error", startedAt);
+      } else {
+        circuitBreaker.onSuccess();
+        recordCall(endpoint, response.getStatusCode().is4xxClientError() ? "client_error" : "success", startedAt);
+      }
+
+      if (logResponses) {
+        log.info("카카오 API 응답 - {} {} → {}: {}", request.getMethod(), request.getURI(),
+            response.getStatusCode().value(),
+            StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+      }
+
+      // 본문은 호출자가 읽으므로 슬롯은 응답을 닫을 때 반환
+      ClientHttpResponse guarded = new SlotReleasingResponse(response, bulkhead);
+      handedOff = true;
+      return guarded;
+
+    } finally {
+      if (!handedOff) {
+        bulkhead.release();
+      }
+    }
+  }
+
+  private void recordCall(String endpoint, String outcome, long startedAt) {
+    Timer.builder("myauth.kakao.calls")
+        .description("카카오 API 호출 소요 시간")
+        .tag("endpoint", endpoint)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+  }
+
+  private boolean acquireSlot() {
+    try {
+      return bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * 응답을 닫을 때 벌크헤드 슬롯을 반환하는 응답 래퍼
+   * 헤더 수신 후에도 본문을 읽는 동안은 연결을 사용 중이므로 그때까지 슬롯을 유지한다
+   * (RestClient는 본문 변환/오류 처리 후 응답을 닫음)
+   */
+  private static final class SlotReleasingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final Semaphore bulkhead;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private SlotReleasingResponse(ClientHttpResponse delegate, Semaphore bulkhead) {
+      this.delegate = delegate;
+      this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        if (released.compareAndSet(false, true)) {
+          bulkhead.release();
+        }
+      }
+    }
+  }
+
+  /**
+   * 카카오 API 호출 보호 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new LinkedHashMap<>(circuitBreaker.getMetrics());
+    metrics.put("availableSlots", (long) bulkhead.availablePermits());
+    return metrics;
+  }
+}
@@ -32,4 +32,35 @@ public class KakaoOAuthProperties {
 
   /** 카카오 사용자 정보 조회 URI */
   private String userInfoUri;
+
+  /** 카카오 API 호출용 HTTP 클라이언트 설정 */
+  private Http http = new Http();
+
+  @Getter
+  @Setter
+  public static class Http {
+    /** 연결 타임아웃 (밀리초) */
+    private long connectTimeoutMs = 2000;
+
+    /** 응답 대기 타임아웃 (밀리초) */
+    private long readTimeoutMs = 3000;
+
+    /** 동시 호출 최대 수 (벌크헤드, 초과 요청은 bulkheadWaitMs까지 대기 후 거부) */
+    private int maxConcurrentCalls = 20;
+
+    /** 동시 호출 슬롯 대기 시간 (밀리초) */
+    private long bulkheadWaitMs = 100;
+
+    /** 서킷 브레이커 OPEN 전환 연속 실패 횟수 (타임아웃, 연결 실패, 5xx) */
+    private int failureThreshold = 5;
+
+    /** 서킷 브레이커 OPEN 유지 시간 (밀리초) */
+    private long openDurationMs = 30000;
+
+    /** 로그인 1건의 카카오 호출 전체(토큰 교환 + 사용자 정보) 제한 시간 (밀리초) */
+    private long loginTimeoutMs = 5000;
+
+    /** 응답 본문 로깅 여부 (토큰이 포함되므로 개발 환경에서만 사용) */
+    private boolean logResponses = false;
+  }
 }
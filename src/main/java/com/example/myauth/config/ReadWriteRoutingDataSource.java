@@ -0,0 +1,135 @@
+package com.example.myauth.config;
+
+import com.example.myauth.util.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ *
+ * 【라우팅 규칙】
+ * - @Transactional(readOnly = true) 트랜잭션 → replica
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖) → primary
+ * - 최근 쓰기를 커밋한 사용자(ReadYourWritesTracker) → primary
+ * - replica 연결 실패 → primary로 대체, 연속 실패 시 서킷을 열어 openDurationMs 동안 primary로만 읽음
+ *
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션 시작 후에 정해지므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+ * (첫 SQL 실행 시점에 실제 커넥션을 가져옴)
+ * 라우팅은 커넥션을 가져올 때 한 번만 결정되므로, 커넥션을 트랜잭션보다 오래 붙잡는 세션에서는
+ * 트랜잭션마다 커넥션을 반환해야 함 (ReplicaDataSourceConfig 【커넥션 반환】 참고)
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+  private final DataSource primary;
+  private final DataSource replica;
+  private final ReadYourWritesTracker readYourWritesTracker;
+  private final CircuitBreaker replicaCircuitBreaker;
+
+  private final LongAdder primaryConnections = new LongAdder();
+  private final LongAdder replicaConnections = new LongAdder();
+  private final LongAdder pinnedReads = new LongAdder();
+  private final LongAdder replicaFallbacks = new LongAdder();
+
+  public ReadWriteRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    CircuitBreaker replicaCircuitBreaker) {
+    this.primary = primary;
+    this.replica = replica;
+    this.readYourWritesTracker = readYourWritesTracker;
+    this.replicaCircuitBreaker = replicaCircuitBreaker;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (routeToReplica()) {
+      Connection connection = tryReplicaConnection();
+      if (connection != null) {
+        return connection;
+      }
+    }
+    primaryConnections.increment();
+    return primary.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    primaryConnections.increment();
+    return primary.getConnection(username, password);
+  }
+
+  private boolean routeToReplica() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()
+        || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return false;
+    }
+    if (readYourWritesTracker.isCurrentUserPinned()) {
+      pinnedReads.increment();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return replica 커넥션 (서킷이 열려 있거나 연결에 실패하면 null → primary 사용)
+   */
+  private Connection tryReplicaConnection() {
+    if (!replicaCircuitBreaker.tryAcquirePermission()) {
+      replicaFallbacks.increment();
+      return null;
+    }
+    try {
+      Connection connection = replica.getConnection();
+      replicaCircuitBreaker.onSuccess();
+      replicaConnections.increment();
+      return connection;
+    } catch (SQLException | RuntimeException e) {
+      replicaCircuitBreaker.onFailure();
+      replicaFallbacks.increment();
+      log.warn("replica 연결 실패 - primary로 대체: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * primary/replica 풀 종료 (빈 소멸 시 호출)
+   */
+  public void close() {
+    closeQuietly(primary);
+    closeQuietly(replica);
+  }
+
+  private static void closeQuietly(DataSource dataSource) {
+    try {
+      if (dataSource.isWrapperFor(AutoCloseable.class)) {
+        dataSource.unwrap(AutoCloseable.class).close();
+      }
+    } catch (Exception e) {
+      log.warn("DataSource 종료 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 라우팅 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("primaryConnections", primaryConnections.sum());
+    metrics.put("replicaConnections", replicaConnections.sum());
+    metrics.put("pinnedReads", pinnedReads.sum());
+    metrics.put("replicaFallbacks", replicaFallbacks.sum());
+    metrics.put("replicaCircuitOpen", replicaCircuitBreaker.getState() == CircuitBreaker.State.CLOSED ? 0L : 1L);
+    return metrics;
+  }
+}
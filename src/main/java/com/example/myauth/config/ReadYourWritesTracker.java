@@ -0,0 +1,92 @@
+package com.example.myauth.config;
+
+import com.example.myauth.entity.User;
+import com.example.myauth.security.CustomUserDetails;
+import com.example.myauth.util.LruCache;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+
+/**
+ * 자기 쓰기 읽기(read-your-writes) 보장
+ * 로그인 사용자가 쓰기 트랜잭션을 커밋하면 readYourWritesMs 동안 그 사용자의 읽기 전용 트랜잭션을 primary로 보낸다
+ * → 복제 지연 때문에 방금 작성한 게시글/좋아요가 피드에서 사라져 보이는 문제 방지
+ *
+ * 인스턴스 메모리에 기록하므로, 여러 인스턴스로 분산할 때는 같은 사용자가 같은 인스턴스로 가야(sticky) 완전하다
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+  private final long windowMs;
+
+  /** 사용자 ID → primary 고정 만료 시각 (epoch ms) */
+  private final LruCache<Long, Long> pinnedUntil;
+
+  /**
+   * @param windowMs      쓰기 후 primary 고정 시간 (밀리초)
+   * @param maxPinnedUsers 기억할 최대 사용자 수
+   */
+  public ReadYourWritesTracker(long windowMs, int maxPinnedUsers) {
+    this.windowMs = windowMs;
+    this.pinnedUntil = new LruCache<>(maxPinnedUsers);
+  }
+
+  /**
+   * 읽기 전용이 아닌 트랜잭션이 커밋되면 현재 사용자를 primary에 고정
+   */
+  @Override
+  public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+    if (commitFailure != null || transaction.isReadOnly() || windowMs <= 0) {
+      return;
+    }
+    Long userId = currentUserId();
+    if (userId != null) {
+      pinnedUntil.put(userId, System.currentTimeMillis() + windowMs);
+    }
+  }
+
+  /**
+   * @return 현재 사용자가 최근 쓰기로 primary에 고정되어 있는지
+   */
+  public boolean isCurrentUserPinned() {
+    Long userId = currentUserId();
+    if (userId == null) {
+      return false;
+    }
+    Long until = pinnedUntil.get(userId);
+    if (until == null) {
+      return false;
+    }
+    if (until <= System.currentTimeMillis()) {
+      pinnedUntil.remove(userId);
+      return false;
+    }
+    return true;
+  }
+
+  private static Long currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null) {
+      return null;
+    }
+    Object principal = authentication.getPrincipal();
+    if (principal instanceof User user) {
+      return user.getId();
+    }
+    if (principal instanceof CustomUserDetails userDetails) {
+      return userDetails.getUser().getId();
+    }
+    return null;
+  }
+
+  /**
+   * 고정 캐시 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    return pinnedUntil.getMetrics();
+  }
+}
@@ -0,0 +1,129 @@
+package com.example.myauth.config;
+
+import com.example.myauth.monitoring.ConnectionPoolAdvisor;
+import com.example.myauth.monitoring.MonitoredDataSource;
+import com.example.myauth.util.CircuitBreaker;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * primary + 읽기 전용 replica DataSource 구성 (app.replica.url 설정 시에만 활성화)
+ *
+ * 【구성】
+ * - primary: spring.datasource.url/username/password + spring.datasource.hikari.*
+ * - replica: app.replica.url/username/password + 같은 spring.datasource.hikari.* (풀 크기만 별도 지정 가능)
+ * - ReadWriteRoutingDataSource: 읽기 전용 트랜잭션 → replica, 나머지 → primary
+ * - LazyConnectionDataSourceProxy: 첫 SQL 시점까지 커넥션 획득을 미뤄 읽기 전용 여부로 라우팅 가능하게 함
+ *
+ * 이 설정이 DataSource 빈을 정의하므로 Spring Boot의 기본 Hikari DataSource는 만들어지지 않는다
+ * 두 풀 모두 hikaricp.* 지표(pool 태그)로 노출, 커넥션 풀 모니터(ConnectionPoolAdvisor)는 primary 풀 기준
+ *
+ * 【커넥션 반환】
+ * Spring은 Hibernate 세션이 첫 커넥션을 세션 종료까지 붙잡게 한다 (DELAYED_ACQUISITION_AND_HOLD)
+ * 세션이 트랜잭션보다 오래 살면(spring.jpa.open-in-view=true 등) 읽기 전용 트랜잭션이 가져온 replica 커넥션으로
+ * 뒤이은 쓰기 트랜잭션이 실행되므로, 라우팅 중에는 트랜잭션마다 커넥션을 반환해 다음 트랜잭션이 다시 라우팅되게 한다
+ * (open-in-view는 application.yaml에서 끔)
+ *
+ * LazyConnectionDataSourceProxy#setReadOnlyDataSource 대신 ReadWriteRoutingDataSource를 쓰는 이유:
+ * read-your-writes 고정(사용자별)과 replica 장애 시 primary 대체를 커넥션 획득 시점에 결정해야 함
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+  private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+  /** 라우팅 중 Hibernate 커넥션 처리 방식 - 트랜잭션이 끝나면 커넥션 반환 */
+  static final PhysicalConnectionHandlingMode CONNECTION_HANDLING_MODE =
+      PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION;
+
+  @Bean
+  public ReadYourWritesTracker readYourWritesTracker(AppProperties appProperties) {
+    AppProperties.Replica config = appProperties.getReplica();
+    return new ReadYourWritesTracker(config.getReadYourWritesMs(), config.getMaxPinnedUsers());
+  }
+
+  @Bean
+  public ReadWriteRoutingDataSource readWriteRoutingDataSource(Environment environment,
+                                                               AppProperties appProperties,
+                                                               ReadYourWritesTracker readYourWritesTracker,
+                                                               ConnectionPoolAdvisor connectionPoolAdvisor,
+                                                               MeterRegistry meterRegistry) {
+    AppProperties.Replica config = appProperties.getReplica();
+    String username = environment.getProperty("spring.datasource.username");
+    String password = environment.getProperty("spring.datasource.password");
+
+    HikariDataSource primaryPool = createPool(environment, meterRegistry, "myauth-primary",
+        environment.getRequiredProperty("spring.datasource.url"), username, password);
+    HikariDataSource replicaPool = createPool(environment, meterRegistry, "myauth-replica",
+        config.getUrl(),
+        StringUtils.hasText(config.getUsername()) ? config.getUsername() : username,
+        StringUtils.hasText(config.getPassword()) ? config.getPassword() : password);
+    if (config.getMaximumPoolSize() != null) {
+      replicaPool.setMaximumPoolSize(config.getMaximumPoolSize());
+      replicaPool.setMinimumIdle(Math.min(replicaPool.getMinimumIdle(), config.getMaximumPoolSize()));
+    }
+
+    DataSource primary = primaryPool;
+    if (appProperties.getConnectionPool().isMonitorEnabled()) {
+      connectionPoolAdvisor.attach(primaryPool);
+      primary = new MonitoredDataSource(primaryPool, connectionPoolAdvisor);
+    }
+
+    log.info("읽기/쓰기 DataSource 라우팅 활성화 - replica 풀 크기: {}, read-your-writes: {}ms",
+        replicaPool.getMaximumPoolSize(), config.getReadYourWritesMs());
+    return new ReadWriteRoutingDataSource(primary, replicaPool, readYourWritesTracker,
+        new CircuitBreaker(config.getFailureThreshold(), config.getOpenDurationMs()));
+  }
+
+  /**
+   * JPA/JDBC가 사용하는 DataSource
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+  }
+
+  /**
+   * 트랜잭션이 끝날 때마다 커넥션을 반환해 세션이 다음 트랜잭션에서 다시 라우팅되게 함
+   * (Spring 기본값 DELAYED_ACQUISITION_AND_HOLD를 덮어씀)
+   */
+  @Bean
+  public HibernatePropertiesCustomizer routingConnectionHandlingCustomizer() {
+    return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING, CONNECTION_HANDLING_MODE);
+  }
+
+  private static HikariDataSource createPool(Environment environment, MeterRegistry meterRegistry,
+                                             String poolName, String url, String username, String password) {
+    HikariDataSource pool = new HikariDataSource();
+    Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+    pool.setPoolName(poolName);
+    pool.setJdbcUrl(url);
+    pool.setUsername(username);
+    pool.setPassword(password);
+    String driverClassName = environment.getProperty("spring.datasource.driver-class-name");
+    if (StringUtils.hasText(driverClassName)) {
+      pool.setDriverClassName(driverClassName);
+    }
+    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return pool;
+  }
+}
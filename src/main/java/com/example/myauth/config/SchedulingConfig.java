@@ -0,0 +1,16 @@
+package com.example.myauth.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * @Scheduled 메서드(아웃박스 디스패처 등)를 활성화
+ *
+ * 실행 스레드 수는 spring.task.scheduling.pool.size (application.yaml)
+ * RefreshTokenReaper처럼 청크 사이에 대기하는 작업이 있으므로 기본값 1개로 두지 않는다
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
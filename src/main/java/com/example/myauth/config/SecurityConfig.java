@@ -1,10 +1,15 @@
 package com.example.myauth.config;
 
+import com.example.myauth.entity.User;
+import com.example.myauth.security.BoundedPasswordEncoder;
 import com.example.myauth.security.CustomLogoutHandler;
 import com.example.myauth.security.CustomLogoutSuccessHandler;
 import com.example.myauth.security.JwtAuthenticationFilter;
+import com.example.myauth.security.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -15,9 +20,15 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
 
 /**
  * Spring Security 설정
@@ -32,13 +43,33 @@ public class SecurityConfig {
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
   private final CustomLogoutHandler customLogoutHandler;
   private final CustomLogoutSuccessHandler customLogoutSuccessHandler;
+  private final AppProperties appProperties;
+  private final RateLimitFilter rateLimitFilter;
 
   /**
    * 비밀번호 암호화에 사용할 PasswordEncoder
+   *
+   * 【구성】
+   * - DelegatingPasswordEncoder: 새 해시는 "{bcrypt}$2a$..." 형식으로 저장
+   *   접두사 없는 기존 해시도 BCrypt로 검증 (setDefaultPasswordEncoderForMatches)
+   * - BCrypt 강도는 app.password.bcrypt-strength로 설정
+   *   강도가 바뀌거나 접두사가 없으면 upgradeEncoding()이 true → 로그인 성공 시 재해시
+   * - BoundedPasswordEncoder: 해시 계산을 전용 스레드 풀로 격리 (대기열 포화 시 즉시 거부)
    */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+    AppProperties.Password config = appProperties.getPassword();
+    BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(config.getBcryptStrength());
+
+    DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+    delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+    int threads = config.getHashingThreads() > 0
+        ? config.getHashingThreads()
+        : Runtime.getRuntime().availableProcessors();
+
+    return new BoundedPasswordEncoder(delegating, threads, config.getQueueCapacity(), config.getMaxWaitMs(),
+        meterRegistry);
   }
 
   /**
@@ -55,9 +86,16 @@ public class SecurityConfig {
 
   /**
    * Spring Security 필터 체인 설정
+   *
+   * @param serverPort 애플리케이션 포트 (server.port)
+   * @param managementPort 관리 포트 (management.server.port, 없으면 -1)
    */
   @Bean
-  public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+  public SecurityFilterChain securityFilterChain(
+      HttpSecurity http,
+      @Value("${server.port:8080}") int serverPort,
+      @Value("${management.server.port:-1}") int managementPort
+  ) throws Exception {
     http
         // 1️⃣ CSRF 비활성화 (JWT 사용 시 불필요)
         .csrf(AbstractHttpConfigurer::disable)
@@ -90,6 +128,12 @@ public class SecurityConfig {
                 .requestMatchers("/auth/kakao/**", "/api/auth/kakao/**").permitAll()
                 // 업로드된 이미지 파일 접근 (인증 불필요 - 공개 리소스)
                 .requestMatchers("/uploads/**").permitAll()
+                // 헬스 체크는 공개
+                .requestMatchers("/actuator/health").permitAll()
+                // 지표/진단 엔드포인트: 관리 포트로 루프백에서 들어온 요청만 인증 없이 허용
+                .requestMatchers(localManagementRequest(serverPort, managementPort)).permitAll()
+                // 그 외(관리 주소를 외부에 바인딩했거나 관리 포트를 분리하지 않은 경우)는 관리자만
+                .requestMatchers("/actuator/**").hasAuthority(User.Role.ROLE_ADMIN.name())
                 // 그 외 모든 요청은 인증 필요
                 .anyRequest().authenticated()
         )
@@ -109,9 +153,37 @@ public class SecurityConfig {
         )
 
         // JWT 인증 필터 추가 (UsernamePasswordAuthenticationFilter 이전에 실행)
-        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+        // 인증 엔드포인트 요청 제한 필터 (JWT 인증 필터보다 먼저 실행)
+        .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
     return http.build();
   }
+
+  /**
+   * 관리 포트로 루프백 주소에서 들어온 액추에이터 요청
+   * 관리 포트가 없거나(-1) 애플리케이션 포트와 같으면 어떤 요청도 일치하지 않는다
+   * (요청의 도착 포트와 클라이언트 주소를 직접 확인하므로 MANAGEMENT_ADDRESS를 0.0.0.0으로 바꿔도
+   *  외부 요청은 인증 대상이 됨)
+   */
+  private static RequestMatcher localManagementRequest(int serverPort, int managementPort) {
+    boolean separatePort = managementPort > 0 && managementPort != serverPort;
+    return request -> separatePort
+        && request.getLocalPort() == managementPort
+        && request.getServletPath().startsWith("/actuator/")
+        && isLoopback(request.getRemoteAddr());
+  }
+
+  /**
+   * getRemoteAddr()는 IP 리터럴이므로 getByName은 DNS 조회 없이 파싱만 한다
+   */
+  private static boolean isLoopback(String address) {
+    try {
+      return address != null && InetAddress.getByName(address).isLoopbackAddress();
+    } catch (UnknownHostException e) {
+      return false;
+    }
+  }
 }
 
@@ -60,11 +60,14 @@ public class AuthController {
    * 실패 시 예외 발생 (GlobalExceptionHandler에서 처리)
    */
   @PostMapping("/old_login")
-  public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+  public ResponseEntity<ApiResponse<LoginResponse>> login(
+      @Valid @RequestBody LoginRequest loginRequest,
+      HttpServletRequest request
+  ) {
     log.info("로그인 요청: {}", loginRequest.getEmail());
 
     // 로그인 처리 (실패 시 예외 던짐)
-    LoginResponse loginResponse = authService.login(loginRequest);
+    LoginResponse loginResponse = authService.login(loginRequest, request.getRemoteAddr());
 
     return ResponseEntity.ok(ApiResponse.success("로그인 성공", loginResponse));
   }
@@ -98,25 +101,14 @@ public class AuthController {
     ClientTypeDetector.logUserAgent(request);
 
     // 2️⃣ 로그인 처리 (실패 시 예외 던짐)
-    LoginResponse loginResponse = authService.loginEx(loginRequest);
+    LoginResponse loginResponse = authService.loginEx(loginRequest, request.getRemoteAddr());
 
     // 3️⃣ 웹 클라이언트면 Refresh Token을 쿠키로 설정
     if (isWebClient) {
       log.info("웹 클라이언트 감지 → Refresh Token을 HTTP-only 쿠키로 설정");
 
       // Refresh Token을 HTTP-only 쿠키로 설정
-      // ResponseCookie를 사용하여 SameSite와 Domain 속성 명시
-      // - SameSite=Lax: CSRF 방어 + 일반적인 웹 사용 가능
-      // - Domain=localhost: 포트 무관하게 모든 localhost에서 쿠키 공유 (localhost:5173과 localhost:9080 모두 접근 가능)
-      ResponseCookie refreshTokenCookie = ResponseCookie
-          .from("refreshToken", loginResponse.getRefreshToken())
-          .httpOnly(true)   // JavaScript 접근 불가 (XSS 방어)
-          .secure(appProperties.getCookie().isSecure())  // 환경별 동적 설정 (개발: false, 프로덕션: true)
-          .path("/")        // 모든 경로에서 쿠키 전송
-          .maxAge(7 * 24 * 60 * 60)  // 7일 (초 단위)
-          .sameSite("Lax")  // CSRF 방어 + 일반 네비게이션에서 쿠키 전송 허용
-          .domain("localhost")  // 포트 무관하게 localhost 전체에서 쿠키 공유
-          .build();
+      ResponseCookie refreshTokenCookie = buildRefreshTokenCookie(loginResponse.getRefreshToken());
 
       log.info("쿠키 설정: HttpOnly=true, Secure={}, Path=/, MaxAge=7일, SameSite=Lax, Domain=localhost",
           appProperties.getCookie().isSecure());
@@ -146,11 +138,13 @@ public class AuthController {
    * - 모바일 앱: 요청 바디에서 Refresh Token 읽기
    *
    * 성공 시 200 OK와 함께 새 Access Token 반환
+   * Refresh Token도 교체되어 전달된다 (Rotation): 웹은 쿠키, 모바일은 응답 바디
    * 실패 시 예외 발생 (GlobalExceptionHandler에서 처리)
    */
   @PostMapping("/refresh")
   public ResponseEntity<ApiResponse<TokenRefreshResponse>> refresh(
       HttpServletRequest request,
+      HttpServletResponse response,
       @RequestBody(required = false) @Valid TokenRefreshRequest body
   ) {
     log.info("Access Token 갱신 요청");
@@ -193,14 +187,42 @@ public class AuthController {
       }
     }
 
-    // 3️⃣ Refresh Token으로 새 Access Token 발급 (실패 시 예외 던짐)
+    // 3️⃣ Refresh Token으로 새 Access Token + 새 Refresh Token 발급 (실패 시 예외 던짐)
     TokenRefreshResponse refreshResponse = authService.refreshAccessToken(refreshToken);
 
-    // 4️⃣ 응답 반환
+    // 4️⃣ 웹 클라이언트면 교체된 Refresh Token을 쿠키로 설정하고 바디에서 제거
+    if (isWebClient) {
+      response.addHeader(HttpHeaders.SET_COOKIE,
+          buildRefreshTokenCookie(refreshResponse.getRefreshToken()).toString());
+      refreshResponse.setRefreshToken(null);
+    }
+
+    // 5️⃣ 응답 반환
     log.info("Access Token 갱신 성공");
     return ResponseEntity.ok(ApiResponse.success("Access Token이 갱신되었습니다", refreshResponse));
   }
 
+  /**
+   * Refresh Token HTTP-only 쿠키를 생성한다 (로그인, 토큰 갱신 공통)
+   * ResponseCookie를 사용하여 SameSite와 Domain 속성 명시
+   * - SameSite=Lax: CSRF 방어 + 일반적인 웹 사용 가능
+   * - Domain=localhost: 포트 무관하게 모든 localhost에서 쿠키 공유 (localhost:5173과 localhost:9080 모두 접근 가능)
+   *
+   * @param refreshToken Refresh Token
+   * @return Refresh Token 쿠키
+   */
+  private ResponseCookie buildRefreshTokenCookie(String refreshToken) {
+    return ResponseCookie
+        .from("refreshToken", refreshToken)
+        .httpOnly(true)   // JavaScript 접근 불가 (XSS 방어)
+        .secure(appProperties.getCookie().isSecure())  // 환경별 동적 설정 (개발: false, 프로덕션: true)
+        .path("/")        // 모든 경로에서 쿠키 전송
+        .maxAge(7 * 24 * 60 * 60)  // 7일 (초 단위)
+        .sameSite("Lax")  // CSRF 방어 + 일반 네비게이션에서 쿠키 전송 허용
+        .domain("localhost")  // 포트 무관하게 localhost 전체에서 쿠키 공유
+        .build();
+  }
+
   /**
    * HTTP 쿠키에서 Refresh Token을 추출한다
    *
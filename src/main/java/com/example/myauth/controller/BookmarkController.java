@@ -1,13 +1,13 @@
 package com.example.myauth.controller;
 
 import com.example.myauth.dto.ApiResponse;
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.bookmark.BookmarkResponse;
 import com.example.myauth.dto.bookmark.BookmarkedPostResponse;
 import com.example.myauth.entity.User;
 import com.example.myauth.service.BookmarkService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -53,7 +53,7 @@ public class BookmarkController {
       @AuthenticationPrincipal User user,
       @PathVariable Long postId
   ) {
-    log.info("북마크 추가 요청 - userId: {}, postId: {}", user.getId(), postId);
+    log.debug("북마크 추가 요청 - userId: {}, postId: {}", user.getId(), postId);
 
     BookmarkResponse response = bookmarkService.bookmark(user.getId(), postId);
 
@@ -70,7 +70,7 @@ public class BookmarkController {
       @AuthenticationPrincipal User user,
       @PathVariable Long postId
   ) {
-    log.info("북마크 삭제 요청 - userId: {}, postId: {}", user.getId(), postId);
+    log.debug("북마크 삭제 요청 - userId: {}, postId: {}", user.getId(), postId);
 
     BookmarkResponse response = bookmarkService.unbookmark(user.getId(), postId);
 
@@ -87,20 +87,23 @@ public class BookmarkController {
    * 【쿼리 파라미터】
    * - page: 페이지 번호 (0부터 시작, 기본값 0)
    * - size: 페이지 크기 (기본값 10, 최대 50)
+   * - exactTotal: true면 전체 북마크 수(totalElements) 포함 (기본값 false, COUNT 쿼리 추가)
    */
   @GetMapping("/api/me/bookmarks")
-  public ResponseEntity<ApiResponse<Page<BookmarkedPostResponse>>> getMyBookmarks(
+  public ResponseEntity<ApiResponse<PageResponse<BookmarkedPostResponse>>> getMyBookmarks(
       @AuthenticationPrincipal User user,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "10") int size
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "false") boolean exactTotal
   ) {
-    log.info("내 북마크 목록 조회 - userId: {}", user.getId());
+    log.debug("내 북마크 목록 조회 - userId: {}", user.getId());
 
     // 페이지 크기 제한
     if (size > 50) size = 50;
 
     Pageable pageable = PageRequest.of(page, size);
-    Page<BookmarkedPostResponse> bookmarks = bookmarkService.getBookmarkedPosts(user.getId(), pageable);
+    PageResponse<BookmarkedPostResponse> bookmarks =
+        bookmarkService.getBookmarkedPosts(user.getId(), pageable, exactTotal);
 
     return ResponseEntity.ok(ApiResponse.success("북마크 목록 조회 성공", bookmarks));
   }
@@ -122,7 +125,7 @@ public class BookmarkController {
       @AuthenticationPrincipal User user,
       @PathVariable Long postId
   ) {
-    log.info("북마크 여부 확인 - userId: {}, postId: {}", user.getId(), postId);
+    log.debug("북마크 여부 확인 - userId: {}, postId: {}", user.getId(), postId);
 
     boolean isBookmarked = bookmarkService.isBookmarked(user.getId(), postId);
 
@@ -1,6 +1,8 @@
 package com.example.myauth.controller;
 
 import com.example.myauth.dto.ApiResponse;
+import com.example.myauth.dto.CursorResponse;
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.comment.CommentCreateRequest;
 import com.example.myauth.dto.comment.CommentResponse;
 import com.example.myauth.dto.comment.CommentUpdateRequest;
@@ -17,8 +19,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * 댓글 컨트롤러
  * 댓글/대댓글 CRUD API 엔드포인트 제공
@@ -29,7 +29,8 @@ import java.util.List;
  * - PUT    /api/comments/{id}                 : 댓글 수정
  * - DELETE /api/comments/{id}                 : 댓글 삭제
  * - GET    /api/posts/{postId}/comments       : 게시글의 댓글 목록
- * - GET    /api/comments/{id}/replies         : 댓글의 대댓글 목록
+ * - GET    /api/posts/{postId}/comments/threads : 댓글 + 대댓글 미리보기
+ * - GET    /api/comments/{id}/replies         : 댓글의 대댓글 목록 (커서 기반)
  * - GET    /api/comments/{id}                 : 댓글 상세 조회
  */
 @Slf4j
@@ -58,7 +59,7 @@ public class CommentController {
       @PathVariable Long postId,
       @Valid @RequestBody CommentCreateRequest request
   ) {
-    log.info("댓글 작성 요청 - userId: {}, postId: {}", user.getId(), postId);
+    log.debug("댓글 작성 요청 - userId: {}, postId: {}", user.getId(), postId);
 
     CommentResponse response = commentService.createComment(user.getId(), postId, request);
 
@@ -84,7 +85,7 @@ public class CommentController {
       @PathVariable Long commentId,
       @Valid @RequestBody CommentCreateRequest request
   ) {
-    log.info("대댓글 작성 요청 - userId: {}, parentCommentId: {}", user.getId(), commentId);
+    log.debug("대댓글 작성 요청 - userId: {}, parentCommentId: {}", user.getId(), commentId);
 
     CommentResponse response = commentService.createReply(user.getId(), commentId, request);
 
@@ -109,7 +110,7 @@ public class CommentController {
       @PathVariable Long id,
       @Valid @RequestBody CommentUpdateRequest request
   ) {
-    log.info("댓글 수정 요청 - userId: {}, commentId: {}", user.getId(), id);
+    log.debug("댓글 수정 요청 - userId: {}, commentId: {}", user.getId(), id);
 
     CommentResponse response = commentService.updateComment(user.getId(), id, request);
 
@@ -134,7 +135,7 @@ public class CommentController {
       @AuthenticationPrincipal User user,
       @PathVariable Long id
   ) {
-    log.info("댓글 삭제 요청 - userId: {}, commentId: {}", user.getId(), id);
+    log.debug("댓글 삭제 요청 - userId: {}, commentId: {}", user.getId(), id);
 
     commentService.deleteComment(user.getId(), id);
 
@@ -163,7 +164,7 @@ public class CommentController {
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "20") int size
   ) {
-    log.info("댓글 목록 조회 요청 - postId: {}, page: {}", postId, page);
+    log.debug("댓글 목록 조회 요청 - postId: {}, page: {}", postId, page);
 
     // 페이지 크기 제한
     if (size > 50) size = 50;
@@ -177,23 +178,73 @@ public class CommentController {
   }
 
   /**
-   * 댓글의 대댓글 목록 조회
+   * 게시글의 댓글 스레드 조회 (최상위 댓글 + 댓글별 첫 N개 대댓글)
    *
-   * GET /api/comments/{commentId}/replies
+   * GET /api/posts/{postId}/comments/threads?page=0&size=20&replies=3
+   *
+   * 【쿼리 파라미터】
+   * - page: 페이지 번호 (0부터 시작, 기본값 0)
+   * - size: 페이지 크기 (기본값 20, 최대 50)
+   * - replies: 댓글별 대댓글 미리보기 개수 (기본값 3, 최대 10)
    *
    * 【응답】
-   * - 특정 댓글의 모든 대댓글 반환
+   * - 각 댓글의 replies에 첫 N개 대댓글 포함
+   * - replyCount > replies 개수이면 마지막 대댓글 ID를 cursor로
+   *   /api/comments/{commentId}/replies를 호출하여 이어서 조회
+   */
+  @GetMapping("/api/posts/{postId}/comments/threads")
+  public ResponseEntity<ApiResponse<PageResponse<CommentResponse>>> getCommentThreads(
+      @AuthenticationPrincipal User user,
+      @PathVariable Long postId,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "3") int replies
+  ) {
+    if (log.isDebugEnabled()) {
+      log.debug("댓글 스레드 조회 요청 - postId: {}, page: {}, replies: {}", postId, page, replies);
+    }
+
+    // 페이지 크기 / 미리보기 개수 제한 (size 1~50, replies 0~10)
+    size = Math.max(1, Math.min(size, 50));
+    replies = Math.max(0, Math.min(replies, 10));
+
+    Pageable pageable = PageRequest.of(page, size);
+    Long userId = user != null ? user.getId() : null;
+
+    PageResponse<CommentResponse> threads =
+        commentService.getCommentThreads(userId, postId, pageable, replies);
+
+    return ResponseEntity.ok(ApiResponse.success("댓글 스레드 조회 성공", threads));
+  }
+
+  /**
+   * 댓글의 대댓글 목록 조회 (커서 기반 페이징)
+   *
+   * GET /api/comments/{commentId}/replies?cursor=123&size=20
+   *
+   * 【쿼리 파라미터】
+   * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+   * - size: 페이지 크기 (기본값 20, 1~50으로 보정)
+   *
+   * 【응답】
+   * - CursorResponse { content, nextCursor, hasNext }
+   * - 작성 순으로 대댓글 반환
    * - 대댓글의 대댓글은 지원하지 않음 (2단계까지만)
    */
   @GetMapping("/api/comments/{commentId}/replies")
-  public ResponseEntity<ApiResponse<List<CommentResponse>>> getReplies(
+  public ResponseEntity<ApiResponse<CursorResponse<CommentResponse>>> getReplies(
       @AuthenticationPrincipal User user,
-      @PathVariable Long commentId
+      @PathVariable Long commentId,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "20") int size
   ) {
-    log.info("대댓글 목록 조회 요청 - parentCommentId: {}", commentId);
+    log.debug("대댓글 목록 조회 요청 - parentCommentId: {}, cursor: {}", commentId, cursor);
+
+    // 페이지 크기 제한 (1~50)
+    size = Math.max(1, Math.min(size, 50));
 
     Long userId = user != null ? user.getId() : null;
-    List<CommentResponse> replies = commentService.getReplies(userId, commentId);
+    CursorResponse<CommentResponse> replies = commentService.getReplies(userId, commentId, cursor, size);
 
     return ResponseEntity.ok(ApiResponse.success("대댓글 목록 조회 성공", replies));
   }
@@ -208,7 +259,7 @@ public class CommentController {
       @AuthenticationPrincipal User user,
       @PathVariable Long id
   ) {
-    log.info("댓글 상세 조회 요청 - commentId: {}", id);
+    log.debug("댓글 상세 조회 요청 - commentId: {}", id);
 
     Long userId = user != null ? user.getId() : null;
     CommentResponse response = commentService.getComment(userId, id);
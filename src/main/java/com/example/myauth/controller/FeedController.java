@@ -66,7 +66,7 @@ public class FeedController {
       @RequestParam(defaultValue = "10") int size,
       @RequestParam(defaultValue = "false") boolean includeMyPosts
   ) {
-    log.info("홈 피드 조회 요청 - userId: {}", user.getId());
+    log.debug("홈 피드 조회 요청 - userId: {}", user.getId());
 
     if (size > 50) size = 50;
 
@@ -98,7 +98,7 @@ public class FeedController {
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "10") int size
   ) {
-    log.info("탐색 피드 조회 요청");
+    log.debug("탐색 피드 조회 요청");
 
     if (size > 50) size = 50;
 
@@ -123,7 +123,7 @@ public class FeedController {
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "10") int size
   ) {
-    log.info("인기 피드 조회 요청");
+    log.debug("인기 피드 조회 요청");
 
     if (size > 50) size = 50;
 
@@ -143,7 +143,7 @@ public class FeedController {
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "10") int size
   ) {
-    log.info("조회수 피드 조회 요청");
+    log.debug("조회수 피드 조회 요청");
 
     if (size > 50) size = 50;
 
@@ -170,7 +170,7 @@ public class FeedController {
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "10") int size
   ) {
-    log.info("추천 피드 조회 요청 - userId: {}", user.getId());
+    log.debug("추천 피드 조회 요청 - userId: {}", user.getId());
 
     if (size > 50) size = 50;
 
@@ -1,6 +1,7 @@
 package com.example.myauth.controller;
 
 import com.example.myauth.dto.ApiResponse;
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.follow.FollowCountResponse;
 import com.example.myauth.dto.follow.FollowResponse;
 import com.example.myauth.dto.follow.FollowUserResponse;
@@ -8,7 +9,6 @@ import com.example.myauth.entity.User;
 import com.example.myauth.service.FollowService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -59,7 +59,7 @@ public class FollowController {
       @AuthenticationPrincipal User user,
       @PathVariable Long userId
   ) {
-    log.info("팔로우 요청 - followerId: {}, followingId: {}", user.getId(), userId);
+    log.debug("팔로우 요청 - followerId: {}, followingId: {}", user.getId(), userId);
 
     FollowResponse response = followService.follow(user.getId(), userId);
 
@@ -76,7 +76,7 @@ public class FollowController {
       @AuthenticationPrincipal User user,
       @PathVariable Long userId
   ) {
-    log.info("언팔로우 요청 - followerId: {}, followingId: {}", user.getId(), userId);
+    log.debug("언팔로우 요청 - followerId: {}, followingId: {}", user.getId(), userId);
 
     FollowResponse response = followService.unfollow(user.getId(), userId);
 
@@ -93,15 +93,17 @@ public class FollowController {
    * 【쿼리 파라미터】
    * - page: 페이지 번호 (0부터 시작, 기본값 0)
    * - size: 페이지 크기 (기본값 20, 최대 50)
+   * - exactTotal: true면 전체 팔로워 수(totalElements) 포함 (기본값 false, COUNT 쿼리 추가)
    */
   @GetMapping("/{userId}/followers")
-  public ResponseEntity<ApiResponse<Page<FollowUserResponse>>> getFollowers(
+  public ResponseEntity<ApiResponse<PageResponse<FollowUserResponse>>> getFollowers(
       @AuthenticationPrincipal User user,
       @PathVariable Long userId,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "20") int size
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "false") boolean exactTotal
   ) {
-    log.info("팔로워 목록 조회 - userId: {}", userId);
+    log.debug("팔로워 목록 조회 - userId: {}", userId);
 
     // 페이지 크기 제한
     if (size > 50) size = 50;
@@ -109,7 +111,8 @@ public class FollowController {
     Pageable pageable = PageRequest.of(page, size);
     Long currentUserId = user != null ? user.getId() : null;
 
-    Page<FollowUserResponse> followers = followService.getFollowers(currentUserId, userId, pageable);
+    PageResponse<FollowUserResponse> followers =
+        followService.getFollowers(currentUserId, userId, pageable, exactTotal);
 
     return ResponseEntity.ok(ApiResponse.success("팔로워 목록 조회 성공", followers));
   }
@@ -117,16 +120,17 @@ public class FollowController {
   /**
    * 팔로잉 목록 조회 (특정 사용자가 팔로우하는 사람들)
    *
-   * GET /api/users/{userId}/followings?page=0&size=20
+   * GET /api/users/{userId}/followings?page=0&size=20&exactTotal=false
    */
   @GetMapping("/{userId}/followings")
-  public ResponseEntity<ApiResponse<Page<FollowUserResponse>>> getFollowings(
+  public ResponseEntity<ApiResponse<PageResponse<FollowUserResponse>>> getFollowings(
       @AuthenticationPrincipal User user,
       @PathVariable Long userId,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "20") int size
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "false") boolean exactTotal
   ) {
-    log.info("팔로잉 목록 조회 - userId: {}", userId);
+    log.debug("팔로잉 목록 조회 - userId: {}", userId);
 
     // 페이지 크기 제한
     if (size > 50) size = 50;
@@ -134,7 +138,8 @@ public class FollowController {
     Pageable pageable = PageRequest.of(page, size);
     Long currentUserId = user != null ? user.getId() : null;
 
-    Page<FollowUserResponse> followings = followService.getFollowings(currentUserId, userId, pageable);
+    PageResponse<FollowUserResponse> followings =
+        followService.getFollowings(currentUserId, userId, pageable, exactTotal);
 
     return ResponseEntity.ok(ApiResponse.success("팔로잉 목록 조회 성공", followings));
   }
@@ -157,7 +162,7 @@ public class FollowController {
   public ResponseEntity<ApiResponse<FollowCountResponse>> getFollowCounts(
       @PathVariable Long userId
   ) {
-    log.info("팔로우 카운트 조회 - userId: {}", userId);
+    log.debug("팔로우 카운트 조회 - userId: {}", userId);
 
     FollowCountResponse response = followService.getFollowCounts(userId);
 
@@ -181,7 +186,7 @@ public class FollowController {
       @AuthenticationPrincipal User user,
       @PathVariable Long userId
   ) {
-    log.info("팔로우 여부 확인 - followerId: {}, followingId: {}", user.getId(), userId);
+    log.debug("팔로우 여부 확인 - followerId: {}, followingId: {}", user.getId(), userId);
 
     boolean isFollowing = followService.isFollowing(user.getId(), userId);
 
@@ -1,6 +1,7 @@
 package com.example.myauth.controller;
 
 import com.example.myauth.dto.ApiResponse;
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.hashtag.HashtagResponse;
 import com.example.myauth.dto.hashtag.TrendingHashtagResponse;
 import com.example.myauth.dto.post.PostListResponse;
@@ -60,7 +61,7 @@ public class HashtagController {
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "10") int size
   ) {
-    log.info("인기 해시태그 조회 요청");
+    log.debug("인기 해시태그 조회 요청");
 
     if (size > 50) size = 50;
 
@@ -79,7 +80,7 @@ public class HashtagController {
   public ResponseEntity<ApiResponse<List<TrendingHashtagResponse>>> getTopTrendingHashtags(
       @RequestParam(defaultValue = "10") int limit
   ) {
-    log.info("상위 {} 개 인기 해시태그 조회 요청", limit);
+    log.debug("상위 {} 개 인기 해시태그 조회 요청", limit);
 
     if (limit > 50) limit = 50;
 
@@ -106,7 +107,7 @@ public class HashtagController {
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "10") int size
   ) {
-    log.info("해시태그 검색 요청: {}", keyword);
+    log.debug("해시태그 검색 요청: {}", keyword);
 
     if (size > 50) size = 50;
 
@@ -130,7 +131,7 @@ public class HashtagController {
   public ResponseEntity<ApiResponse<HashtagResponse>> getHashtag(
       @PathVariable String name
   ) {
-    log.info("해시태그 정보 조회: #{}", name);
+    log.debug("해시태그 정보 조회: #{}", name);
 
     HashtagResponse hashtag = hashtagService.getHashtag(name);
 
@@ -150,19 +151,21 @@ public class HashtagController {
    * 【쿼리 파라미터】
    * - page: 페이지 번호
    * - size: 페이지 크기
+   * - exactTotal: true면 COUNT 쿼리로 정확한 전체 수 반환 (기본값 false, 해시태그 카운터 근사값)
    */
   @GetMapping("/{name}/posts")
-  public ResponseEntity<ApiResponse<Page<PostListResponse>>> getPostsByHashtag(
+  public ResponseEntity<ApiResponse<PageResponse<PostListResponse>>> getPostsByHashtag(
       @PathVariable String name,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "10") int size
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "false") boolean exactTotal
   ) {
-    log.info("해시태그로 게시글 검색: #{}", name);
+    log.debug("해시태그로 게시글 검색: #{}", name);
 
     if (size > 50) size = 50;
 
     Pageable pageable = PageRequest.of(page, size);
-    Page<PostListResponse> posts = hashtagService.getPostsByHashtag(name, pageable);
+    PageResponse<PostListResponse> posts = hashtagService.getPostsByHashtag(name, pageable, exactTotal);
 
     return ResponseEntity.ok(ApiResponse.success("해시태그 게시글 조회 성공", posts));
   }
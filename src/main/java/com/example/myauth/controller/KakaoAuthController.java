@@ -183,12 +183,8 @@ public class KakaoAuthController {
       String clientType = ClientTypeDetector.getClientTypeString(request);
       log.info("감지된 클라이언트 타입: {}", clientType);
 
-      // 2️⃣ Authorization Code로 카카오 Access Token 요청
-      KakaoOAuthDto.TokenResponse tokenResponse = kakaoOAuthService.getAccessToken(code);
-      log.info("카카오 Access Token 발급 완료");
-
-      // 3️⃣ 카카오 Access Token으로 사용자 정보 조회
-      KakaoOAuthDto.UserInfoResponse kakaoUserInfo = kakaoOAuthService.getUserInfo(tokenResponse.getAccessToken());
+      // 2️⃣~3️⃣ Authorization Code로 토큰 교환 후 사용자 정보 조회 (가상 스레드 파이프라인, 전체 제한 시간 적용)
+      KakaoOAuthDto.UserInfoResponse kakaoUserInfo = kakaoOAuthService.fetchUserInfo(code);
       log.info("카카오 사용자 정보 조회 완료 - 카카오 ID: {}", kakaoUserInfo.getId());
 
       // 4️⃣ 카카오 사용자 정보로 로그인 처리 (자동 회원가입 포함)
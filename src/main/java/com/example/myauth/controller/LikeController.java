@@ -1,13 +1,13 @@
 package com.example.myauth.controller;
 
 import com.example.myauth.dto.ApiResponse;
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.like.LikeResponse;
 import com.example.myauth.dto.like.LikeUserResponse;
 import com.example.myauth.entity.User;
 import com.example.myauth.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -57,7 +57,7 @@ public class LikeController {
       @AuthenticationPrincipal User user,
       @PathVariable Long postId
   ) {
-    log.info("게시글 좋아요 요청 - userId: {}, postId: {}", user.getId(), postId);
+    log.debug("게시글 좋아요 요청 - userId: {}, postId: {}", user.getId(), postId);
 
     LikeResponse response = likeService.likePost(user.getId(), postId);
 
@@ -74,7 +74,7 @@ public class LikeController {
       @AuthenticationPrincipal User user,
       @PathVariable Long postId
   ) {
-    log.info("게시글 좋아요 취소 요청 - userId: {}, postId: {}", user.getId(), postId);
+    log.debug("게시글 좋아요 취소 요청 - userId: {}, postId: {}", user.getId(), postId);
 
     LikeResponse response = likeService.unlikePost(user.getId(), postId);
 
@@ -89,20 +89,22 @@ public class LikeController {
    * 【쿼리 파라미터】
    * - page: 페이지 번호 (0부터 시작, 기본값 0)
    * - size: 페이지 크기 (기본값 20, 최대 50)
+   * - exactTotal: true면 COUNT 쿼리로 정확한 전체 수 반환 (기본값 false, 좋아요 카운터 근사값)
    */
   @GetMapping("/api/posts/{postId}/likes")
-  public ResponseEntity<ApiResponse<Page<LikeUserResponse>>> getPostLikeUsers(
+  public ResponseEntity<ApiResponse<PageResponse<LikeUserResponse>>> getPostLikeUsers(
       @PathVariable Long postId,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "20") int size
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "false") boolean exactTotal
   ) {
-    log.info("게시글 좋아요 사용자 목록 조회 - postId: {}", postId);
+    log.debug("게시글 좋아요 사용자 목록 조회 - postId: {}", postId);
 
     // 페이지 크기 제한
     if (size > 50) size = 50;
 
     Pageable pageable = PageRequest.of(page, size);
-    Page<LikeUserResponse> users = likeService.getPostLikeUsers(postId, pageable);
+    PageResponse<LikeUserResponse> users = likeService.getPostLikeUsers(postId, pageable, exactTotal);
 
     return ResponseEntity.ok(ApiResponse.success("좋아요 사용자 목록 조회 성공", users));
   }
@@ -119,7 +121,7 @@ public class LikeController {
       @AuthenticationPrincipal User user,
       @PathVariable Long commentId
   ) {
-    log.info("댓글 좋아요 요청 - userId: {}, commentId: {}", user.getId(), commentId);
+    log.debug("댓글 좋아요 요청 - userId: {}, commentId: {}", user.getId(), commentId);
 
     LikeResponse response = likeService.likeComment(user.getId(), commentId);
 
@@ -136,7 +138,7 @@ public class LikeController {
       @AuthenticationPrincipal User user,
       @PathVariable Long commentId
   ) {
-    log.info("댓글 좋아요 취소 요청 - userId: {}, commentId: {}", user.getId(), commentId);
+    log.debug("댓글 좋아요 취소 요청 - userId: {}, commentId: {}", user.getId(), commentId);
 
     LikeResponse response = likeService.unlikeComment(user.getId(), commentId);
 
@@ -146,21 +148,22 @@ public class LikeController {
   /**
    * 댓글 좋아요 누른 사용자 목록 조회
    *
-   * GET /api/comments/{commentId}/likes?page=0&size=20
+   * GET /api/comments/{commentId}/likes?page=0&size=20&exactTotal=false
    */
   @GetMapping("/api/comments/{commentId}/likes")
-  public ResponseEntity<ApiResponse<Page<LikeUserResponse>>> getCommentLikeUsers(
+  public ResponseEntity<ApiResponse<PageResponse<LikeUserResponse>>> getCommentLikeUsers(
       @PathVariable Long commentId,
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "20") int size
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "false") boolean exactTotal
   ) {
-    log.info("댓글 좋아요 사용자 목록 조회 - commentId: {}", commentId);
+    log.debug("댓글 좋아요 사용자 목록 조회 - commentId: {}", commentId);
 
     // 페이지 크기 제한
     if (size > 50) size = 50;
 
     Pageable pageable = PageRequest.of(page, size);
-    Page<LikeUserResponse> users = likeService.getCommentLikeUsers(commentId, pageable);
+    PageResponse<LikeUserResponse> users = likeService.getCommentLikeUsers(commentId, pageable, exactTotal);
 
     return ResponseEntity.ok(ApiResponse.success("좋아요 사용자 목록 조회 성공", users));
   }
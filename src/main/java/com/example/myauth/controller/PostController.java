@@ -60,7 +60,7 @@ public class PostController {
       @AuthenticationPrincipal User user,
       @Valid @RequestBody PostCreateRequest request
   ) {
-    log.info("게시글 작성 요청 - userId: {}", user.getId());
+    log.debug("게시글 작성 요청 - userId: {}", user.getId());
 
     PostResponse response = postService.createPost(user.getId(), request);
 
@@ -85,7 +85,7 @@ public class PostController {
       @Valid @RequestPart("post") PostCreateRequest request,
       @RequestPart(value = "images", required = false) List<MultipartFile> images
   ) {
-    log.info("게시글 작성 요청 (이미지 포함) - userId: {}, 이미지 개수: {}",
+    log.debug("게시글 작성 요청 (이미지 포함) - userId: {}, 이미지 개수: {}",
         user.getId(), images != null ? images.size() : 0);
 
     PostResponse response = postService.createPost(user.getId(), request, images);
@@ -111,7 +111,7 @@ public class PostController {
       @PathVariable Long id,
       @Valid @RequestBody PostUpdateRequest request
   ) {
-    log.info("게시글 수정 요청 - userId: {}, postId: {}", user.getId(), id);
+    log.debug("게시글 수정 요청 - userId: {}, postId: {}", user.getId(), id);
 
     PostResponse response = postService.updatePost(user.getId(), id, request);
 
@@ -133,7 +133,7 @@ public class PostController {
       @AuthenticationPrincipal User user,
       @PathVariable Long id
   ) {
-    log.info("게시글 삭제 요청 - userId: {}, postId: {}", user.getId(), id);
+    log.debug("게시글 삭제 요청 - userId: {}, postId: {}", user.getId(), id);
 
     postService.deletePost(user.getId(), id);
 
@@ -157,7 +157,7 @@ public class PostController {
       @AuthenticationPrincipal User user,
       @PathVariable Long id
   ) {
-    log.info("게시글 상세 조회 요청 - userId: {}, postId: {}", user.getId(), id);
+    log.debug("게시글 상세 조회 요청 - userId: {}, postId: {}", user.getId(), id);
 
     PostResponse response = postService.getPost(user.getId(), id);
 
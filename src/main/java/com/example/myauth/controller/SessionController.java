@@ -0,0 +1,66 @@
+package com.example.myauth.controller;
+
+import com.example.myauth.dto.ApiResponse;
+import com.example.myauth.dto.session.SessionResponse;
+import com.example.myauth.entity.User;
+import com.example.myauth.service.SessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 로그인 세션 컨트롤러
+ * 로그인된 기기(세션) 조회 및 종료 API 엔드포인트 제공
+ *
+ * 【API 목록】
+ * - GET    /api/me/sessions              : 내 세션 목록
+ * - DELETE /api/me/sessions/{sessionId}  : 세션 종료 (해당 기기 로그아웃)
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class SessionController {
+
+  private final SessionService sessionService;
+
+  /**
+   * 내 세션 목록 조회
+   *
+   * GET /api/me/sessions
+   */
+  @GetMapping("/api/me/sessions")
+  public ResponseEntity<ApiResponse<List<SessionResponse>>> getMySessions(
+      @AuthenticationPrincipal User user
+  ) {
+    log.info("세션 목록 조회 요청 - userId: {}", user.getId());
+
+    List<SessionResponse> sessions = sessionService.getMySessions(user.getId());
+
+    return ResponseEntity.ok(ApiResponse.success("세션 목록 조회 성공", sessions));
+  }
+
+  /**
+   * 세션 종료
+   *
+   * DELETE /api/me/sessions/{sessionId}
+   *
+   * 【참고】
+   * - 해당 세션의 Refresh Token이 취소되어 더 이상 갱신할 수 없음
+   * - 이미 발급된 Access Token은 만료 시까지 유효
+   */
+  @DeleteMapping("/api/me/sessions/{sessionId}")
+  public ResponseEntity<ApiResponse<Void>> revokeSession(
+      @AuthenticationPrincipal User user,
+      @PathVariable String sessionId
+  ) {
+    log.info("세션 종료 요청 - userId: {}, sessionId: {}", user.getId(), sessionId);
+
+    sessionService.revokeSession(user.getId(), sessionId);
+
+    return ResponseEntity.ok(ApiResponse.success("세션이 종료되었습니다.", null));
+  }
+}
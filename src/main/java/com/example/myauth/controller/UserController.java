@@ -36,7 +36,7 @@ public class UserController {
   public ResponseEntity<ApiResponse<Map<String, Object>>> me(
       @AuthenticationPrincipal User user
   ) {
-    log.info("현재 사용자 정보 조회 요청: {}", user.getEmail());
+    log.debug("현재 사용자 정보 조회 요청: {}", user.getEmail());
 
     // 사용자 정보를 Map으로 구성 (카카오 OAuth 정보 포함)
     Map<String, Object> userInfo = new HashMap<>();
@@ -68,12 +68,12 @@ public class UserController {
   public ResponseEntity<ApiResponse<UserProfileUpdateResponse>> getProfile(
       @AuthenticationPrincipal User user
   ) {
-    log.info("사용자 프로필 조회 요청: userId={}, email={}", user.getId(), user.getEmail());
+    log.debug("사용자 프로필 조회 요청: userId={}, email={}", user.getId(), user.getEmail());
 
     // UserService를 통해 프로필 조회
     UserProfileUpdateResponse response = userService.getUserProfile(user.getId());
 
-    log.info("사용자 프로필 조회 완료: userId={}", user.getId());
+    log.debug("사용자 프로필 조회 완료: userId={}", user.getId());
 
     // 응답 생성
     ApiResponse<UserProfileUpdateResponse> apiResponse =
@@ -95,12 +95,12 @@ public class UserController {
       @AuthenticationPrincipal User user,
       @RequestBody UserProfileUpdateRequest request
   ) {
-    log.info("사용자 프로필 수정 요청: userId={}, email={}", user.getId(), user.getEmail());
+    log.debug("사용자 프로필 수정 요청: userId={}, email={}", user.getId(), user.getEmail());
 
     // UserService를 통해 프로필 수정
     UserProfileUpdateResponse response = userService.updateUserProfile(user.getId(), request);
 
-    log.info("사용자 프로필 수정 완료: userId={}", user.getId());
+    log.debug("사용자 프로필 수정 완료: userId={}", user.getId());
 
     // 응답 생성
     ApiResponse<UserProfileUpdateResponse> apiResponse =
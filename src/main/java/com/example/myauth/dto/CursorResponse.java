@@ -0,0 +1,62 @@
+package com.example.myauth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 목록 조회 응답 DTO
+ * OFFSET 대신 마지막 항목의 ID를 커서로 사용하여
+ * 목록이 길어져도 다음 페이지 조회 비용이 일정하다
+ *
+ * 【사용 방법】
+ * - 첫 요청: cursor 없이 호출
+ * - 다음 요청: 응답의 nextCursor를 cursor 파라미터로 전달
+ * - hasNext가 false이면 마지막 페이지
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+  /**
+   * 현재 페이지 항목
+   */
+  private List<T> content;
+
+  /**
+   * 다음 페이지 조회용 커서 (마지막 항목 ID, 다음 페이지가 없으면 null)
+   */
+  private Long nextCursor;
+
+  /**
+   * 다음 페이지 존재 여부
+   */
+  private boolean hasNext;
+
+  /**
+   * size + 1개 조회 결과로 응답 생성
+   * 초과 조회된 1개는 다음 페이지 존재 여부 판단에만 사용하고 버린다
+   *
+   * @param rows size + 1개까지 조회된 결과
+   * @param size 페이지 크기 (1 미만이면 1로 취급)
+   * @param idExtractor 항목에서 커서(ID)를 추출하는 함수
+   */
+  public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Long> idExtractor) {
+    int pageSize = Math.max(1, size);
+    boolean hasNext = rows.size() > pageSize;
+    List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+    Long nextCursor = hasNext ? idExtractor.apply(content.get(content.size() - 1)) : null;
+
+    return CursorResponse.<T>builder()
+        .content(content)
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+}
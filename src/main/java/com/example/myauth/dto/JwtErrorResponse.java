@@ -64,6 +64,18 @@ public class JwtErrorResponse {
         .build();
   }
 
+  /**
+   * 취소된(로그아웃된) 토큰 오류 응답 생성
+   */
+  public static JwtErrorResponse tokenRevoked(String path) {
+    return JwtErrorResponse.builder()
+        .errorCode("TOKEN_REVOKED")
+        .message("로그아웃된 토큰입니다. 다시 로그인해주세요.")
+        .action("LOGIN_REQUIRED")
+        .path(path)
+        .build();
+  }
+
   /**
    * 토큰 없음 오류 응답 생성
    */
@@ -0,0 +1,33 @@
+package com.example.myauth.dto;
+
+import com.example.myauth.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 검증에 필요한 사용자 컬럼만 담은 조회 전용 DTO
+ * UserRepository.findLoginViewByEmail()에서 생성자 표현식으로 조회
+ * (엔티티가 아니므로 영속성 컨텍스트에 올라가지 않음)
+ *
+ * @param id 사용자 ID
+ * @param email 이메일
+ * @param password 비밀번호 해시
+ * @param name 이름 (로그인 응답용)
+ * @param profileImage 프로필 이미지 URL (로그인 응답용)
+ * @param role 권한
+ * @param status 계정 상태
+ * @param isActive 활성화 여부
+ * @param accountLockedUntil 로그인 실패 누적 잠금 해제 시각
+ */
+public record LoginUserView(
+    Long id,
+    String email,
+    String password,
+    String name,
+    String profileImage,
+    User.Role role,
+    User.Status status,
+    Boolean isActive,
+    LocalDateTime accountLockedUntil
+) {
+}
@@ -0,0 +1,80 @@
+package com.example.myauth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 목록 조회 응답 DTO (COUNT 쿼리 없는 페이징)
+ * Page 대신 Slice(limit + 1 조회)로 다음 페이지 존재 여부만 판단하고,
+ * 전체 개수는 선택적으로 제공한다
+ *
+ * 【전체 개수(totalElements)】
+ * - 기본: 비정규화 카운터(like_count, post_count 등)의 근사값, 카운터가 없으면 null
+ * - exactTotal=true 요청 시: COUNT 쿼리로 계산한 정확한 값 (totalExact = true)
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PageResponse<T> {
+
+  /**
+   * 현재 페이지 항목
+   */
+  private List<T> content;
+
+  /**
+   * 현재 페이지 번호 (0부터 시작)
+   */
+  private int page;
+
+  /**
+   * 페이지 크기
+   */
+  private int size;
+
+  /**
+   * 다음 페이지 존재 여부
+   */
+  private boolean hasNext;
+
+  /**
+   * 전체 개수 (근사값 또는 정확한 값, 알 수 없으면 null)
+   */
+  private Long totalElements;
+
+  /**
+   * totalElements가 COUNT 쿼리로 계산된 정확한 값인지 여부
+   */
+  private boolean totalExact;
+
+  /**
+   * 전체 개수 없이 생성
+   */
+  public static <T> PageResponse<T> of(Slice<T> slice) {
+    return of(slice, null, false);
+  }
+
+  /**
+   * 전체 개수 포함 생성
+   *
+   * @param slice 조회 결과
+   * @param totalElements 전체 개수 (null 가능)
+   * @param totalExact 정확한 값 여부
+   */
+  public static <T> PageResponse<T> of(Slice<T> slice, Long totalElements, boolean totalExact) {
+    return PageResponse.<T>builder()
+        .content(slice.getContent())
+        .page(slice.getNumber())
+        .size(slice.getSize())
+        .hasNext(slice.hasNext())
+        .totalElements(totalElements)
+        .totalExact(totalExact)
+        .build();
+  }
+}
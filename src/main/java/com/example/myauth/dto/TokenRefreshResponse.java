@@ -21,9 +21,9 @@ public class TokenRefreshResponse {
   private String accessToken;
 
   /**
-   * 새로 발급된 Refresh Token (선택적)
-   * Refresh Token Rotation을 사용하는 경우에만 포함됨
-   * 현재는 사용하지 않으므로 null
+   * 새로 발급된 Refresh Token (Rotation)
+   * 기존 Refresh Token은 취소되므로 클라이언트는 이 값으로 교체해야 함
+   * 웹 클라이언트는 HTTP-only 쿠키로 전달되고 이 필드는 null
    */
   private String refreshToken;
 }
@@ -124,6 +124,25 @@ public class CommentResponse {
         .build();
   }
 
+  /**
+   * Entity → DTO 변환 (대댓글 미리보기 포함)
+   * 스레드 조회용: 최상위 댓글 + 첫 N개 대댓글
+   * replyCount는 전체 대댓글 수이므로 replies.size()보다 크면 추가 조회 필요
+   *
+   * @param comment 최상위 댓글 엔티티
+   * @param isLiked 좋아요 여부
+   * @param replies 미리 조회한 대댓글 응답 목록
+   */
+  public static CommentResponse fromThread(
+      Comment comment,
+      boolean isLiked,
+      List<CommentResponse> replies
+  ) {
+    CommentResponse response = from(comment, isLiked, comment.getReplyCount());
+    response.setReplies(replies);
+    return response;
+  }
+
   /**
    * Entity → DTO 변환 (대댓글 포함)
    * 계층적 구조로 댓글 목록 반환
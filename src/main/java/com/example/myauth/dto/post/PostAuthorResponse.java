@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
  * 게시글 목록/상세에서 작성자 정보 표시용
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostAuthorResponse {
@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 게시글 목록 응답 DTO
@@ -31,7 +32,7 @@ import java.time.LocalDateTime;
  * }
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostListResponse {
@@ -85,6 +86,15 @@ public class PostListResponse {
    * Entity → DTO 변환
    */
   public static PostListResponse from(Post post) {
+    return from(post,
+        PostAuthorResponse.from(post.getUser()),
+        post.getImages().stream().map(PostImageResponse::from).toList());
+  }
+
+  /**
+   * Entity → DTO 변환 (작성자/이미지는 이미 변환된 값 사용 - PostHydrationCache)
+   */
+  public static PostListResponse from(Post post, PostAuthorResponse author, List<PostImageResponse> images) {
     // 본문 미리보기 (최대 100자)
     String contentPreview = post.getContent();
     if (contentPreview != null && contentPreview.length() > 100) {
@@ -93,11 +103,11 @@ public class PostListResponse {
 
     // 첫 번째 이미지의 썸네일 URL
     String thumbnailUrl = null;
-    if (!post.getImages().isEmpty()) {
-      thumbnailUrl = post.getImages().get(0).getThumbnailUrl();
+    if (!images.isEmpty()) {
+      thumbnailUrl = images.get(0).getThumbnailUrl();
       // 썸네일이 없으면 원본 이미지 URL 사용
       if (thumbnailUrl == null) {
-        thumbnailUrl = post.getImages().get(0).getImageUrl();
+        thumbnailUrl = images.get(0).getImageUrl();
       }
     }
 
@@ -106,10 +116,10 @@ public class PostListResponse {
         .content(contentPreview)
         .visibility(post.getVisibility())
         .thumbnailUrl(thumbnailUrl)
-        .imageCount(post.getImages().size())
+        .imageCount(images.size())
         .likeCount(post.getLikeCount())
         .commentCount(post.getCommentCount())
-        .author(PostAuthorResponse.from(post.getUser()))
+        .author(author)
         .createdAt(post.getCreatedAt())
         .build();
   }
@@ -117,6 +117,19 @@ public class PostResponse {
    * Entity → DTO 변환 (좋아요/북마크 여부 포함)
    */
   public static PostResponse from(Post post, boolean isLiked, boolean isBookmarked) {
+    return from(post,
+        PostAuthorResponse.from(post.getUser()),
+        post.getImages().stream()
+            .map(PostImageResponse::from)
+            .collect(Collectors.toList()),
+        isLiked, isBookmarked);
+  }
+
+  /**
+   * Entity → DTO 변환 (작성자/이미지는 이미 변환된 값 사용 - PostHydrationCache)
+   */
+  public static PostResponse from(Post post, PostAuthorResponse author, List<PostImageResponse> images,
+                                  boolean isLiked, boolean isBookmarked) {
     return PostResponse.builder()
         .id(post.getId())
         .content(post.getContent())
@@ -124,10 +137,8 @@ public class PostResponse {
         .likeCount(post.getLikeCount())
         .commentCount(post.getCommentCount())
         .viewCount(post.getViewCount())
-        .author(PostAuthorResponse.from(post.getUser()))
-        .images(post.getImages().stream()
-            .map(PostImageResponse::from)
-            .collect(Collectors.toList()))
+        .author(author)
+        .images(images)
         .isLiked(isLiked)
         .isBookmarked(isBookmarked)
         .createdAt(post.getCreatedAt())
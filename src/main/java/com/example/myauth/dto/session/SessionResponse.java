@@ -0,0 +1,60 @@
+package com.example.myauth.dto.session;
+
+import com.example.myauth.entity.RefreshToken;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 세션 응답 DTO
+ * 세션 = 하나의 로그인에서 시작된 Refresh Token 패밀리 (현재 활성 토큰 기준)
+ *
+ * 【응답 예시】
+ * {
+ *   "sessionId": "3f2b6c1e-...",
+ *   "lastRefreshedAt": "2025-01-24T10:30:00",
+ *   "lastUsedAt": null,
+ *   "expiresAt": "2025-01-31T10:30:00"
+ * }
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionResponse {
+
+  /**
+   * 세션 ID (토큰 패밀리 ID, Rotation 후에도 유지됨)
+   */
+  private String sessionId;
+
+  /**
+   * 현재 토큰 발급 시각 (로그인 또는 마지막 갱신 시각)
+   */
+  private LocalDateTime lastRefreshedAt;
+
+  /**
+   * 현재 토큰 마지막 사용 시각
+   */
+  private LocalDateTime lastUsedAt;
+
+  /**
+   * 세션 만료 시각
+   */
+  private LocalDateTime expiresAt;
+
+  /**
+   * Entity → DTO 변환
+   */
+  public static SessionResponse from(RefreshToken token) {
+    return SessionResponse.builder()
+        .sessionId(token.getFamilyId())
+        .lastRefreshedAt(token.getCreatedAt())
+        .lastUsedAt(token.getLastUsedAt())
+        .expiresAt(token.getExpiresAt())
+        .build();
+  }
+}
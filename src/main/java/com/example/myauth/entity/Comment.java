@@ -19,7 +19,7 @@ import java.util.List;
  *
  * 【테이블 정보】
  * - 테이블명: comments
- * - 주요 기능: 댓글/대댓글 계층 구조, 좋아요 수 캐싱
+ * - 주요 기능: 댓글/대댓글 계층 구조, 좋아요 수/대댓글 수 캐싱
  *
  * 【연관 관계】
  * - Post: N:1 (여러 댓글이 한 게시글에 속함)
@@ -99,6 +99,16 @@ public class Comment {
   @Builder.Default
   private Integer likeCount = 0;
 
+  /**
+   * 대댓글 수 (캐싱용, 삭제되지 않은 대댓글만)
+   * 댓글 목록 조회 시 댓글마다 COUNT 쿼리를 실행하지 않고 이 필드를 조회
+   * 대댓글 작성/삭제 시 CommentRepository의 UPDATE 쿼리로 갱신
+   */
+  @Column(name = "reply_count")
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer replyCount = 0;
+
   /**
    * 삭제 여부 (Soft Delete)
    * - false(0): 활성 상태
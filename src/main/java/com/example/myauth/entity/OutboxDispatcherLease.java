@@ -0,0 +1,47 @@
+package com.example.myauth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 디스패처 리스(lease) 엔티티
+ * 여러 노드 중 리스를 가진 한 노드만 이벤트를 전달하도록 한다
+ *
+ * 【테이블 정보】
+ * - 테이블명: outbox_dispatcher_lease
+ * - 디스패처 이름당 한 행, 소유 노드와 만료 시각 기록
+ *
+ * 【획득 규칙】
+ * - 소유자가 자신이거나 만료 시각이 지났을 때만 조건부 UPDATE로 획득/연장
+ * - 리스를 가진 노드가 죽으면 만료 후 다른 노드가 넘겨받음
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_dispatcher_lease")
+public class OutboxDispatcherLease {
+
+  /**
+   * 디스패처 이름 (예: outbox)
+   */
+  @Id
+  @Column(length = 50)
+  private String name;
+
+  /**
+   * 현재 소유 노드 ID
+   */
+  @Column(nullable = false, length = 100)
+  private String owner;
+
+  /**
+   * 리스 만료 시각
+   */
+  @Column(name = "lease_until", nullable = false)
+  private LocalDateTime leaseUntil;
+}
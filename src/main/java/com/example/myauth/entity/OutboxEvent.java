@@ -0,0 +1,131 @@
+package com.example.myauth.entity;
+
+import com.example.myauth.event.DomainEventType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicInsert;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 엔티티
+ * 도메인 이벤트를 요청 트랜잭션과 같은 트랜잭션에서 기록하고
+ * 별도의 디스패처가 배치로 꺼내어 구독자(카운터, 알림 등)에게 전달한다
+ *
+ * 【테이블 정보】
+ * - 테이블명: outbox_events
+ * - 주요 기능: 파생 작업(카운터 갱신, 알림)을 요청 경로에서 분리
+ *
+ * 【전달 보장】
+ * - at-least-once: 처리 완료 표시 전 장애 시 재전달됨
+ * - 집계(aggregate_type + aggregate_id) 단위로 id 순서 보장
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@DynamicInsert
+@Table(name = "outbox_events", indexes = {
+    // 디스패처의 미처리 이벤트 조회용 인덱스 (status = PENDING, id 순)
+    @Index(name = "idx_status_id", columnList = "status, id"),
+    // 처리 완료 이벤트 정리용 인덱스
+    @Index(name = "idx_processed_at", columnList = "processed_at")
+})
+public class OutboxEvent {
+
+  /**
+   * 이벤트 고유 식별자 (자동 증가, 발행 순서)
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /**
+   * 이벤트 유형 (POST_LIKED, COMMENT_CREATED 등)
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "event_type", nullable = false, length = 40)
+  private DomainEventType eventType;
+
+  /**
+   * 집계 유형 (POST, COMMENT, HASHTAG, USER)
+   * aggregate_id와 함께 순서 보장 단위가 됨
+   */
+  @Column(name = "aggregate_type", nullable = false, length = 20)
+  private String aggregateType;
+
+  /**
+   * 집계 ID (예: 좋아요 이벤트면 게시글 ID)
+   */
+  @Column(name = "aggregate_id", nullable = false)
+  private Long aggregateId;
+
+  /**
+   * 이벤트를 발생시킨 사용자 ID
+   */
+  @Column(name = "actor_id")
+  private Long actorId;
+
+  /**
+   * 부가 대상 ID (예: 댓글 작성 이벤트면 댓글 ID)
+   */
+  @Column(name = "target_id")
+  private Long targetId;
+
+  /**
+   * 처리 상태
+   * - PENDING → PROCESSED (처리 완료)
+   * - PENDING → FAILED (최대 시도 초과) → RECONCILED (카운터를 원본 테이블 기준으로 재계산)
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  @ColumnDefault("'PENDING'")
+  @Builder.Default
+  private Status status = Status.PENDING;
+
+  /**
+   * 처리 시도 횟수
+   */
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer attempts = 0;
+
+  /**
+   * 마지막 처리 실패 사유
+   */
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+  /**
+   * 발행 일시 (자동 설정)
+   */
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  /**
+   * 처리 완료 일시
+   */
+  @Column(name = "processed_at")
+  private LocalDateTime processedAt;
+
+  /**
+   * 순서 보장 키 (aggregate_type:aggregate_id)
+   */
+  public String getAggregateKey() {
+    return aggregateType + ":" + aggregateId;
+  }
+
+  // ----- ENUMS -----
+  public enum Status {
+    PENDING,
+    PROCESSED,
+    FAILED,
+    RECONCILED
+  }
+}
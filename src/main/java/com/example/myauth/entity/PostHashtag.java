@@ -80,16 +80,12 @@ public class PostHashtag {
    * 게시글-해시태그 연결 생성
    * 주의: 양방향 관계 설정은 명시적 저장 후 별도로 처리
    * (영속성 컨텍스트 충돌 방지)
+   * 해시태그 사용 카운트는 HASHTAG_LINKED 아웃박스 이벤트로 갱신됨
    */
   public static PostHashtag create(Post post, Hashtag hashtag) {
-    PostHashtag postHashtag = PostHashtag.builder()
+    return PostHashtag.builder()
         .post(post)
         .hashtag(hashtag)
         .build();
-
-    // 해시태그 사용 카운트 증가
-    hashtag.incrementPostCount();
-
-    return postHashtag;
   }
 }
\ No newline at end of file
@@ -5,10 +5,20 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Refresh Token 엔티티
  * JWT의 Refresh Token을 DB에 저장하여 관리한다
+ *
+ * 【저장 방식】
+ * 원문 토큰은 저장하지 않고 SHA-256 해시(token_hash)만 저장한다
+ * - 조회: TokenHashUtil.sha256(원문) → uk_token_hash 유니크 인덱스 조회
+ *
+ * 【Rotation / 토큰 패밀리】
+ * - 로그인마다 새 패밀리(family_id) 생성
+ * - 갱신 시 기존 토큰은 취소하고 같은 패밀리의 새 토큰 발급 (parent_id = 기존 토큰 ID)
+ * - 이미 취소된 토큰이 다시 사용되면 탈취로 간주하여 패밀리 전체 취소
  */
 @Getter
 @Setter
@@ -16,7 +26,18 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+    name = "refresh_tokens",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_token_hash", columnNames = {"token_hash"})
+    },
+    indexes = {
+        @Index(name = "idx_expires_at", columnList = "expires_at"),      // 만료 토큰 청크 삭제용
+        @Index(name = "idx_is_revoked", columnList = "is_revoked"),      // 취소 토큰 청크 삭제용
+        @Index(name = "idx_family_id", columnList = "family_id"),        // 재사용 감지 시 패밀리 전체 취소용
+        @Index(name = "idx_user_created_at", columnList = "user_id, created_at")  // 세션 수 제한/목록 조회용
+    }
+)
 public class RefreshToken {
 
   @Id
@@ -24,10 +45,26 @@ public class RefreshToken {
   private Long id;
 
   /**
-   * Refresh Token 문자열 (최대 500자)
+   * Refresh Token의 SHA-256 해시 (64자 hex)
+   * 원문 토큰은 클라이언트에만 전달되고 DB에는 저장되지 않음
    */
-  @Column(nullable = false, length = 500)
-  private String token;
+  @Column(name = "token_hash", nullable = false, length = 64)
+  private String tokenHash;
+
+  /**
+   * 토큰 패밀리 ID (UUID)
+   * 한 번의 로그인에서 Rotation으로 이어진 토큰들이 같은 값을 가진다
+   * 기본값: 새 패밀리 (로그인), Rotation 시에는 기존 토큰의 값을 지정
+   */
+  @Column(name = "family_id", nullable = false, length = 36)
+  @Builder.Default
+  private String familyId = UUID.randomUUID().toString();
+
+  /**
+   * 이 토큰을 발급하게 한 이전 토큰 ID (Rotation 연결, 로그인으로 발급된 토큰은 null)
+   */
+  @Column(name = "parent_id")
+  private Long parentId;
 
   /**
    * 토큰 생성 시간
@@ -19,7 +19,9 @@ import java.time.LocalDateTime;
 @Entity
 @DynamicInsert
 @DynamicUpdate
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_provider_provider_id", columnNames = {"provider", "provider_id"})
+})
 public class User {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,99 @@
+package com.example.myauth.event;
+
+import com.example.myauth.entity.OutboxEvent;
+import com.example.myauth.repository.CommentRepository;
+import com.example.myauth.repository.HashtagRepository;
+import com.example.myauth.repository.LikeRepository;
+import com.example.myauth.repository.PostHashtagRepository;
+import com.example.myauth.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 카운터 구독자
+ * 좋아요/댓글/해시태그 이벤트를 받아 비정규화된 카운터 컬럼을 갱신한다
+ * (posts.like_count, posts.comment_count, comments.like_count, hashtags.post_count)
+ *
+ * 요청 트랜잭션에서 카운터 행 UPDATE를 제거하여
+ * 인기 게시글/해시태그 행에 대한 락 경합을 요청 경로에서 분리
+ *
+ * FAILED로 끝난 이벤트는 reconcile에서 likes/comments/post_hashtags 행 수로 카운터를 다시 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterEventHandler implements OutboxEventHandler {
+
+  private static final Set<DomainEventType> SUPPORTED = EnumSet.of(
+      DomainEventType.POST_LIKED,
+      DomainEventType.POST_UNLIKED,
+      DomainEventType.COMMENT_LIKED,
+      DomainEventType.COMMENT_UNLIKED,
+      DomainEventType.COMMENT_CREATED,
+      DomainEventType.COMMENT_DELETED,
+      DomainEventType.HASHTAG_LINKED,
+      DomainEventType.HASHTAG_UNLINKED
+  );
+
+  private final PostRepository postRepository;
+  private final CommentRepository commentRepository;
+  private final HashtagRepository hashtagRepository;
+  private final LikeRepository likeRepository;
+  private final PostHashtagRepository postHashtagRepository;
+
+  @Override
+  public boolean supports(DomainEventType type) {
+    return SUPPORTED.contains(type);
+  }
+
+  @Override
+  public void handle(OutboxEvent event) {
+    Long aggregateId = event.getAggregateId();
+
+    switch (event.getEventType()) {
+      case POST_LIKED -> postRepository.incrementLikeCount(aggregateId);
+      case POST_UNLIKED -> postRepository.decrementLikeCount(aggregateId);
+      case COMMENT_LIKED -> commentRepository.incrementLikeCount(aggregateId);
+      case COMMENT_UNLIKED -> commentRepository.decrementLikeCount(aggregateId);
+      case COMMENT_CREATED -> postRepository.incrementCommentCount(aggregateId);
+      case COMMENT_DELETED -> postRepository.decrementCommentCount(aggregateId);
+      case HASHTAG_LINKED -> hashtagRepository.incrementPostCount(aggregateId);
+      case HASHTAG_UNLINKED -> hashtagRepository.decrementPostCount(aggregateId);
+      default -> {
+        return;
+      }
+    }
+
+    log.debug("카운터 갱신 - type: {}, aggregateId: {}", event.getEventType(), aggregateId);
+  }
+
+  @Override
+  public boolean canReconcile(DomainEventType type) {
+    return SUPPORTED.contains(type);
+  }
+
+  @Override
+  public void reconcile(OutboxEvent event) {
+    Long aggregateId = event.getAggregateId();
+
+    switch (event.getEventType()) {
+      case POST_LIKED, POST_UNLIKED ->
+          postRepository.updateLikeCount(aggregateId, (int) likeRepository.countPostLikes(aggregateId));
+      case COMMENT_LIKED, COMMENT_UNLIKED ->
+          commentRepository.updateLikeCount(aggregateId, (int) likeRepository.countCommentLikes(aggregateId));
+      case COMMENT_CREATED, COMMENT_DELETED ->
+          postRepository.updateCommentCount(aggregateId, (int) commentRepository.countByPostId(aggregateId));
+      case HASHTAG_LINKED, HASHTAG_UNLINKED ->
+          hashtagRepository.updatePostCount(aggregateId, (int) postHashtagRepository.countByHashtagId(aggregateId));
+      default -> {
+        return;
+      }
+    }
+
+    log.info("카운터 재계산 - type: {}, aggregateId: {}", event.getEventType(), aggregateId);
+  }
+}
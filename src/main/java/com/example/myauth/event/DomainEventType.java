@@ -0,0 +1,43 @@
+package com.example.myauth.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트 유형 Enum
+ * 각 이벤트는 순서 보장 단위가 되는 집계 유형(aggregateType)을 가진다
+ *
+ * 【aggregateId / targetId 규칙】
+ * - POST_*: aggregateId = 게시글 ID
+ * - COMMENT_LIKED/UNLIKED: aggregateId = 댓글 ID
+ * - COMMENT_CREATED/DELETED: aggregateId = 게시글 ID, targetId = 댓글 ID
+ * - HASHTAG_*: aggregateId = 해시태그 ID, targetId = 게시글 ID
+ * - USER_FOLLOWED/UNFOLLOWED: aggregateId = 팔로우 받는 사용자 ID
+ * - USER_MENTIONED: aggregateId = 멘션된 사용자 ID, targetId = 멘션 ID
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DomainEventType {
+
+  POST_LIKED("POST"),
+  POST_UNLIKED("POST"),
+
+  COMMENT_LIKED("COMMENT"),
+  COMMENT_UNLIKED("COMMENT"),
+
+  COMMENT_CREATED("POST"),
+  COMMENT_DELETED("POST"),
+
+  HASHTAG_LINKED("HASHTAG"),
+  HASHTAG_UNLINKED("HASHTAG"),
+
+  USER_FOLLOWED("USER"),
+  USER_UNFOLLOWED("USER"),
+
+  USER_MENTIONED("USER");
+
+  /**
+   * 집계 유형 (순서 보장 단위)
+   */
+  private final String aggregateType;
+}
@@ -0,0 +1,38 @@
+package com.example.myauth.event;
+
+import com.example.myauth.entity.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 알림 구독자
+ * 팔로우/멘션/좋아요/댓글 이벤트를 받아 대상 사용자에게 알림을 전달하는 진입점
+ *
+ * 현재는 알림 저장소가 없으므로 기록만 남긴다
+ * 알림 테이블/푸시 연동 시 이 클래스에서 구현 (at-least-once이므로 멱등하게 작성)
+ */
+@Slf4j
+@Component
+public class NotificationEventHandler implements OutboxEventHandler {
+
+  private static final Set<DomainEventType> SUPPORTED = EnumSet.of(
+      DomainEventType.POST_LIKED,
+      DomainEventType.COMMENT_CREATED,
+      DomainEventType.USER_FOLLOWED,
+      DomainEventType.USER_MENTIONED
+  );
+
+  @Override
+  public boolean supports(DomainEventType type) {
+    return SUPPORTED.contains(type);
+  }
+
+  @Override
+  public void handle(OutboxEvent event) {
+    log.debug("알림 이벤트 수신 - type: {}, aggregateId: {}, actorId: {}, targetId: {}",
+        event.getEventType(), event.getAggregateId(), event.getActorId(), event.getTargetId());
+  }
+}
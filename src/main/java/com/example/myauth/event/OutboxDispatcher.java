@@ -0,0 +1,322 @@
+package com.example.myauth.event;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.entity.OutboxDispatcherLease;
+import com.example.myauth.entity.OutboxEvent;
+import com.example.myauth.repository.OutboxDispatcherLeaseRepository;
+import com.example.myauth.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 아웃박스 이벤트 디스패처
+ * outbox_events 테이블의 미처리 이벤트를 배치로 꺼내 구독자에게 전달한다
+ *
+ * 【처리 흐름】
+ * 0. 디스패처 리스 획득/연장 (실패하면 다른 노드가 처리 중 → 이번 폴링 건너뜀)
+ * 1. PENDING 이벤트를 id 순으로 batchSize만큼 조회
+ * 2. 이벤트마다 별도 트랜잭션에서 구독자 호출 + 처리 완료 표시 (함께 커밋)
+ *    처리 완료 표시는 PENDING일 때만 성공, 이미 처리된 이벤트면 롤백하여 카운터 이중 반영 방지
+ * 3. 실패 시 시도 횟수 증가, 같은 집계의 이후 이벤트는 이번 배치에서 건너뜀 (순서 보장)
+ * 4. maxAttempts 초과 시 FAILED로 전환하여 해당 집계의 처리를 막지 않음
+ * 5. reconcileIntervalMs마다 FAILED 카운터 이벤트를 원본 행 수로 재계산하고 RECONCILED로 전환
+ *
+ * 【여러 노드】
+ * 모든 노드에서 enabled=true여도 outbox_dispatcher_lease 행을 가진 한 노드만 전달 → 집계 단위 순서 유지
+ * 리스 소유 노드가 leaseMs 동안 폴링하지 않으면 다른 노드가 넘겨받음
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+  static final String LEASE_NAME = "outbox";
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxDispatcherLeaseRepository leaseRepository;
+  private final List<OutboxEventHandler> handlers;
+  private final AppProperties appProperties;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * 재계산용 트랜잭션 (REPEATABLE READ)
+   * PENDING 이벤트 확인과 원본 행 수 집계를 같은 스냅샷에서 읽어,
+   * 스냅샷 이후에 커밋된 이벤트는 집계에 빠지고 디스패처가 따로 반영하도록 함
+   */
+  private final TransactionTemplate reconcileTransaction;
+
+  /** 재계산 가능한 이벤트 유형 (구독자가 지원하는 유형) */
+  private final Set<DomainEventType> reconcilableTypes = EnumSet.noneOf(DomainEventType.class);
+
+  /** 리스 소유자로 기록할 이 노드의 ID */
+  private final String nodeId = nodeId();
+
+  private volatile boolean leader;
+  private volatile long lastReconcileAt;
+
+  public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                          OutboxDispatcherLeaseRepository leaseRepository,
+                          List<OutboxEventHandler> handlers,
+                          AppProperties appProperties,
+                          PlatformTransactionManager transactionManager) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.leaseRepository = leaseRepository;
+    this.handlers = handlers;
+    this.appProperties = appProperties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.reconcileTransaction = new TransactionTemplate(transactionManager);
+    this.reconcileTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    for (DomainEventType type : DomainEventType.values()) {
+      if (handlers.stream().anyMatch(handler -> handler.canReconcile(type))) {
+        reconcilableTypes.add(type);
+      }
+    }
+  }
+
+  /**
+   * 미처리 이벤트 배치 전달
+   * 이전 실행이 끝난 뒤 poll-interval-ms 후에 다시 실행됨 (fixedDelay)
+   */
+  @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+  public void dispatchPendingEvents() {
+    AppProperties.Outbox config = appProperties.getOutbox();
+    if (!config.isEnabled() || !acquireLease(config)) {
+      return;
+    }
+
+    dispatchBatch(config);
+    reconcileIfDue(config);
+  }
+
+  private void dispatchBatch(AppProperties.Outbox config) {
+    List<OutboxEvent> batch = outboxEventRepository.findBatchByStatus(
+        OutboxEvent.Status.PENDING, PageRequest.of(0, config.getBatchSize()));
+
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    // 이번 배치에서 실패한 집계 키 (이후 이벤트는 다음 폴링으로 미룸)
+    Set<String> blockedAggregates = new HashSet<>();
+    int advanced = 0;
+
+    for (OutboxEvent event : batch) {
+      if (blockedAggregates.contains(event.getAggregateKey())) {
+        continue;
+      }
+
+      if (dispatch(event, config.getMaxAttempts())) {
+        advanced++;
+      } else {
+        blockedAggregates.add(event.getAggregateKey());
+      }
+    }
+
+    log.debug("아웃박스 배치 처리 - 조회: {}, 진행: {}, 보류 집계: {}",
+        batch.size(), advanced, blockedAggregates.size());
+  }
+
+  // ===== 리스 =====
+
+  /**
+   * 디스패처 리스 획득 또는 연장
+   *
+   * @return 이 노드가 리스를 가지고 있으면 true
+   */
+  private boolean acquireLease(AppProperties.Outbox config) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime leaseUntil = now.plus(Duration.ofMillis(config.getLeaseMs()));
+
+    boolean acquired;
+    try {
+      Integer updated = transactionTemplate.execute(status ->
+          leaseRepository.tryAcquire(LEASE_NAME, nodeId, now, leaseUntil));
+      acquired = (updated != null && updated > 0) || createLease(leaseUntil);
+    } catch (DataAccessException e) {
+      log.warn("아웃박스 디스패처 리스 획득 실패: {}", e.getMessage());
+      acquired = false;
+    }
+
+    if (acquired != leader) {
+      leader = acquired;
+      log.info("아웃박스 디스패처 리스 {} - node: {}", acquired ? "획득" : "상실", nodeId);
+    }
+    return acquired;
+  }
+
+  /**
+   * 리스 행이 없으면 생성 (동시에 여러 노드가 만들면 한 노드만 성공)
+   */
+  private boolean createLease(LocalDateTime leaseUntil) {
+    if (leaseRepository.existsById(LEASE_NAME)) {
+      return false;
+    }
+    try {
+      transactionTemplate.executeWithoutResult(status -> leaseRepository.saveAndFlush(
+          OutboxDispatcherLease.builder()
+              .name(LEASE_NAME)
+              .owner(nodeId)
+              .leaseUntil(leaseUntil)
+              .build()));
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+  }
+
+  private static String nodeId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      host = "unknown";
+    }
+    return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  // ===== 전달 =====
+
+  /**
+   * 단일 이벤트 전달
+   *
+   * @param event 아웃박스 이벤트
+   * @param maxAttempts 최대 시도 횟수
+   * @return 같은 집계의 후속 이벤트를 이어서 처리해도 되면 true (성공, 이미 처리됨 또는 FAILED 전환)
+   */
+  private boolean dispatch(OutboxEvent event, int maxAttempts) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        for (OutboxEventHandler handler : handlers) {
+          if (handler.supports(event.getEventType())) {
+            handler.handle(event);
+          }
+        }
+        int updated = outboxEventRepository.markProcessed(
+            event.getId(), OutboxEvent.Status.PENDING, OutboxEvent.Status.PROCESSED, LocalDateTime.now());
+        if (updated == 0) {
+          // 리스 만료 직후 등 다른 노드가 먼저 처리한 경우 → 구독자의 DB 작업까지 롤백
+          throw new AlreadyProcessedException(event.getId());
+        }
+      });
+      return true;
+
+    } catch (AlreadyProcessedException e) {
+      log.info("이미 처리된 아웃박스 이벤트 - id: {}, type: {}", event.getId(), event.getEventType());
+      return true;
+
+    } catch (Exception e) {
+      int attempts = event.getAttempts() + 1;
+      OutboxEvent.Status nextStatus = attempts >= maxAttempts
+          ? OutboxEvent.Status.FAILED
+          : OutboxEvent.Status.PENDING;
+
+      log.warn("아웃박스 이벤트 처리 실패 - id: {}, type: {}, attempts: {}, error: {}",
+          event.getId(), event.getEventType(), attempts, e.getMessage());
+
+      String error = e.getMessage() != null && e.getMessage().length() > 500
+          ? e.getMessage().substring(0, 500)
+          : e.getMessage();
+
+      transactionTemplate.executeWithoutResult(status ->
+          outboxEventRepository.markFailedAttempt(event.getId(), nextStatus, error));
+
+      // FAILED로 전환된 이벤트는 더 이상 같은 집계의 후속 이벤트를 막지 않음
+      return nextStatus == OutboxEvent.Status.FAILED;
+    }
+  }
+
+  // ===== FAILED 이벤트 재계산 =====
+
+  private void reconcileIfDue(AppProperties.Outbox config) {
+    long now = System.currentTimeMillis();
+    if (reconcilableTypes.isEmpty() || now - lastReconcileAt < config.getReconcileIntervalMs()) {
+      return;
+    }
+    lastReconcileAt = now;
+
+    List<OutboxEvent> failed = outboxEventRepository.findBatchByStatusAndEventTypeIn(
+        OutboxEvent.Status.FAILED, reconcilableTypes, PageRequest.of(0, config.getBatchSize()));
+    if (failed.isEmpty()) {
+      return;
+    }
+
+    int reconciled = 0;
+    for (OutboxEvent event : failed) {
+      if (reconcile(event)) {
+        reconciled++;
+      }
+    }
+    log.info("FAILED 아웃박스 이벤트 재계산 - 대상: {}, 완료: {}", failed.size(), reconciled);
+  }
+
+  /**
+   * FAILED 이벤트의 집계를 원본 데이터 기준으로 재계산
+   *
+   * @return RECONCILED로 전환했으면 true (같은 집계에 PENDING 이벤트가 남아 있으면 다음 주기로 미룸)
+   */
+  private boolean reconcile(OutboxEvent event) {
+    try {
+      Boolean reconciled = reconcileTransaction.execute(status -> {
+        if (outboxEventRepository.existsByAggregateTypeAndAggregateIdAndStatus(
+            event.getAggregateType(), event.getAggregateId(), OutboxEvent.Status.PENDING)) {
+          return false;
+        }
+        for (OutboxEventHandler handler : handlers) {
+          if (handler.canReconcile(event.getEventType())) {
+            handler.reconcile(event);
+          }
+        }
+        return outboxEventRepository.markProcessed(
+            event.getId(), OutboxEvent.Status.FAILED, OutboxEvent.Status.RECONCILED, LocalDateTime.now()) > 0;
+      });
+      return Boolean.TRUE.equals(reconciled);
+    } catch (Exception e) {
+      log.warn("아웃박스 이벤트 재계산 실패 - id: {}, type: {}, error: {}",
+          event.getId(), event.getEventType(), e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * 보관 기간이 지난 처리 완료 이벤트 정리 (매시 정각)
+   */
+  @Scheduled(cron = "${app.outbox.purge-cron:0 0 * * * *}")
+  public void purgeProcessedEvents() {
+    AppProperties.Outbox config = appProperties.getOutbox();
+    if (!config.isEnabled()) {
+      return;
+    }
+
+    LocalDateTime before = LocalDateTime.now().minusHours(config.getRetentionHours());
+    Integer deleted = transactionTemplate.execute(status ->
+        outboxEventRepository.deleteByStatusAndProcessedAtBefore(OutboxEvent.Status.PROCESSED, before)
+            + outboxEventRepository.deleteByStatusAndProcessedAtBefore(OutboxEvent.Status.RECONCILED, before));
+
+    log.info("처리 완료 아웃박스 이벤트 정리 - 삭제: {}", deleted);
+  }
+
+  /**
+   * 처리 완료 표시 시점에 이벤트가 이미 PENDING이 아님 (다른 노드가 처리)
+   */
+  private static final class AlreadyProcessedException extends RuntimeException {
+    private AlreadyProcessedException(Long eventId) {
+      super("이미 처리된 아웃박스 이벤트: " + eventId);
+    }
+  }
+}
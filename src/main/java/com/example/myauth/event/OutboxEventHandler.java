@@ -0,0 +1,51 @@
+package com.example.myauth.event;
+
+import com.example.myauth.entity.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트 구독자 인터페이스
+ * 구현체를 Spring Bean으로 등록하면 OutboxDispatcher가 자동으로 전달한다
+ *
+ * 【구현 시 주의사항】
+ * - at-least-once 전달이므로 외부 부수효과(알림 발송 등)는 멱등하게 작성
+ * - DB 작업은 디스패처가 연 트랜잭션 안에서 실행되며,
+ *   처리 완료 표시와 함께 커밋됨 (예외 발생 시 함께 롤백 후 재시도)
+ * - 이미 다른 곳에서 처리 완료된 이벤트면 처리 완료 표시가 실패하여 DB 작업도 롤백됨
+ *   → 카운터 증감처럼 멱등하지 않은 DB 작업도 한 번만 반영
+ */
+public interface OutboxEventHandler {
+
+  /**
+   * 이 구독자가 처리하는 이벤트 유형인지 확인
+   *
+   * @param type 이벤트 유형
+   * @return 처리 대상이면 true
+   */
+  boolean supports(DomainEventType type);
+
+  /**
+   * 이벤트 처리
+   *
+   * @param event 아웃박스 이벤트
+   */
+  void handle(OutboxEvent event);
+
+  /**
+   * FAILED로 끝난 이 유형의 이벤트를 원본 데이터로 재계산할 수 있는지
+   *
+   * @param type 이벤트 유형
+   * @return 재계산 가능하면 true (기본: 불가)
+   */
+  default boolean canReconcile(DomainEventType type) {
+    return false;
+  }
+
+  /**
+   * FAILED 이벤트가 반영하지 못한 결과를 원본 데이터 기준으로 다시 맞춤
+   * 이벤트 증감을 다시 적용하지 않고 현재 상태를 재계산해야 함 (여러 번 실행해도 같은 결과)
+   *
+   * @param event FAILED 상태의 아웃박스 이벤트
+   */
+  default void reconcile(OutboxEvent event) {
+  }
+}
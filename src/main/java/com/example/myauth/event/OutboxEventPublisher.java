@@ -0,0 +1,62 @@
+package com.example.myauth.event;
+
+import com.example.myauth.entity.OutboxEvent;
+import com.example.myauth.monitoring.DomainMetrics;
+import com.example.myauth.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 이벤트 발행기
+ * 서비스 계층에서 도메인 이벤트를 outbox_events 테이블에 기록한다
+ *
+ * 반드시 호출하는 쪽의 트랜잭션 안에서 실행된다 (MANDATORY)
+ * → 비즈니스 데이터와 이벤트가 함께 커밋되거나 함께 롤백됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final DomainMetrics domainMetrics;
+
+  /**
+   * 도메인 이벤트 발행
+   *
+   * @param type 이벤트 유형
+   * @param aggregateId 집계 ID (순서 보장 단위)
+   * @param actorId 이벤트를 발생시킨 사용자 ID
+   * @param targetId 부가 대상 ID (없으면 null)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(DomainEventType type, Long aggregateId, Long actorId, Long targetId) {
+    OutboxEvent event = OutboxEvent.builder()
+        .eventType(type)
+        .aggregateType(type.getAggregateType())
+        .aggregateId(aggregateId)
+        .actorId(actorId)
+        .targetId(targetId)
+        .build();
+
+    outboxEventRepository.save(event);
+    domainMetrics.increment(type);
+
+    log.debug("아웃박스 이벤트 발행 - type: {}, aggregateId: {}, targetId: {}", type, aggregateId, targetId);
+  }
+
+  /**
+   * 도메인 이벤트 발행 (부가 대상 없음)
+   *
+   * @param type 이벤트 유형
+   * @param aggregateId 집계 ID
+   * @param actorId 이벤트를 발생시킨 사용자 ID
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(DomainEventType type, Long aggregateId, Long actorId) {
+    publish(type, aggregateId, actorId, null);
+  }
+}
@@ -3,6 +3,7 @@ package com.example.myauth.exception;
 import com.example.myauth.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -308,6 +309,52 @@ public class GlobalExceptionHandler {
         .body(ApiResponse.error(ex.getMessage()));
   }
 
+  /**
+   * 세션 없음 예외 처리
+   */
+  @ExceptionHandler(SessionNotFoundException.class)
+  @SuppressWarnings("NullableProblems")
+  public ResponseEntity<ApiResponse<Void>> handleSessionNotFoundException(
+      SessionNotFoundException ex) {
+    log.warn("세션 없음: {}", ex.getMessage());
+
+    return ResponseEntity
+        .status(HttpStatus.NOT_FOUND)
+        .body(ApiResponse.error(ex.getMessage()));
+  }
+
+  /**
+   * 요청 횟수 제한 초과 예외 처리
+   * Retry-After 헤더로 재시도 가능 시점 안내
+   */
+  @ExceptionHandler(TooManyRequestsException.class)
+  @SuppressWarnings("NullableProblems")
+  public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(
+      TooManyRequestsException ex) {
+    log.warn("요청 횟수 제한 초과: {}", ex.getMessage());
+
+    return ResponseEntity
+        .status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(ApiResponse.error(ex.getMessage()));
+  }
+
+  /**
+   * 서버 과부하 예외 처리 (비밀번호 해시 대기열 포화 등)
+   * Retry-After 헤더로 재시도 시점 안내
+   */
+  @ExceptionHandler(ServiceBusyException.class)
+  @SuppressWarnings("NullableProblems")
+  public ResponseEntity<ApiResponse<Void>> handleServiceBusyException(
+      ServiceBusyException ex) {
+    log.warn("서버 과부하로 요청 거부: {}", ex.getMessage());
+
+    return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ApiResponse.error(ex.getMessage()));
+  }
+
   /**
    * Bean Validation 검증 실패 시 처리
    * Controller에서 @Valid 어노테이션으로 검증 실패한 경우 발생하는 예외를 처리한다
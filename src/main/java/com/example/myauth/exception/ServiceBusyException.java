@@ -0,0 +1,13 @@
+package com.example.myauth.exception;
+
+/**
+ * 서버가 일시적으로 요청을 처리할 수 없을 때 발생하는 예외
+ * - 비밀번호 해시 전용 스레드 풀의 대기열이 가득 찬 경우 (로그인/회원가입 폭주)
+ * - 탐색 피드 캐시에서 다른 요청의 조회 결과를 제한 시간 안에 받지 못한 경우
+ */
+public class ServiceBusyException extends RuntimeException {
+
+  public ServiceBusyException(String message) {
+    super(message);
+  }
+}
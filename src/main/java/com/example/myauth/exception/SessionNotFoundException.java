@@ -0,0 +1,16 @@
+package com.example.myauth.exception;
+
+/**
+ * 로그인 세션을 찾을 수 없을 때 발생하는 예외
+ * - 이미 로그아웃/만료된 세션이나 다른 사용자의 세션을 종료하려는 경우
+ */
+public class SessionNotFoundException extends RuntimeException {
+
+  public SessionNotFoundException(String message) {
+    super(message);
+  }
+
+  public SessionNotFoundException() {
+    super("세션을 찾을 수 없습니다.");
+  }
+}
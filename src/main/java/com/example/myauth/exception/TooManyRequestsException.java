@@ -0,0 +1,21 @@
+package com.example.myauth.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 횟수 제한 초과 예외
+ * 같은 계정으로 짧은 시간에 로그인을 너무 많이 시도할 때 발생
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+  /**
+   * 다시 시도할 수 있을 때까지 남은 시간 (초)
+   */
+  private final long retryAfterSeconds;
+
+  public TooManyRequestsException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
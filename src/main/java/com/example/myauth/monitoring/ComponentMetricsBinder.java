@@ -0,0 +1,96 @@
+package com.example.myauth.monitoring;
+
+import com.example.myauth.config.KakaoHttpClientInterceptor;
+import com.example.myauth.config.ReadWriteRoutingDataSource;
+import com.example.myauth.security.BoundedPasswordEncoder;
+import com.example.myauth.security.RateLimitFilter;
+import com.example.myauth.service.ExploreFeedCache;
+import com.example.myauth.service.LoginAttemptService;
+import com.example.myauth.service.PostHydrationCache;
+import com.example.myauth.service.RefreshTokenReaper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 컴포넌트별 getMetrics() 스냅샷을 Micrometer 게이지로 노출
+ *
+ * 【이름 규칙】
+ * myauth.{컴포넌트}.{지표} (지표 이름의 camelCase → snake_case)
+ * 예: RateLimitFilter의 login 제한기 rejected → myauth.rate_limit.rejected{limiter="login"}
+ *
+ * 지표 이름(맵 키)은 바인딩 시점의 스냅샷 기준으로 등록하고,
+ * 값은 스크레이프할 때마다 getMetrics()를 다시 호출해 읽는다
+ * 게이지 상태 객체(snapshot 람다)는 게이지 외에 참조하는 곳이 없으므로 강한 참조로 등록
+ * (기본 약한 참조면 첫 GC 후 값이 NaN이 됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class ComponentMetricsBinder implements MeterBinder {
+
+  private final RateLimitFilter rateLimitFilter;
+  private final LoginAttemptService loginAttemptService;
+  private final PasswordEncoder passwordEncoder;
+  private final KakaoHttpClientInterceptor kakaoHttpClientInterceptor;
+  private final RefreshTokenReaper refreshTokenReaper;
+  private final TracingFilter tracingFilter;
+  private final ConnectionPoolAdvisor connectionPoolAdvisor;
+  private final PostHydrationCache postHydrationCache;
+  private final ExploreFeedCache exploreFeedCache;
+  private final ObjectProvider<ReadWriteRoutingDataSource> readWriteRoutingDataSource;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    rateLimitFilter.getMetrics().keySet().forEach(limiter ->
+        bind(registry, "rate_limit", Tags.of("limiter", limiter),
+            () -> rateLimitFilter.getMetrics().get(limiter)));
+
+    bind(registry, "login_attempt", Tags.empty(), loginAttemptService::getMetrics);
+
+    if (passwordEncoder instanceof BoundedPasswordEncoder boundedPasswordEncoder) {
+      bind(registry, "password_encoder", Tags.empty(), boundedPasswordEncoder::getMetrics);
+    }
+
+    bind(registry, "kakao_client", Tags.empty(), kakaoHttpClientInterceptor::getMetrics);
+    bind(registry, "refresh_token_reaper", Tags.empty(), refreshTokenReaper::getMetrics);
+    bind(registry, "tracing", Tags.empty(), tracingFilter::getMetrics);
+    bind(registry, "connection_pool", Tags.empty(), connectionPoolAdvisor::getMetrics);
+    postHydrationCache.getMetrics().keySet().forEach(cache ->
+        bind(registry, "hydration_cache", Tags.of("cache", cache),
+            () -> postHydrationCache.getMetrics().get(cache)));
+    bind(registry, "explore_feed_cache", Tags.empty(), exploreFeedCache::getMetrics);
+    readWriteRoutingDataSource.ifAvailable(routing ->
+        bind(registry, "datasource_routing", Tags.empty(), routing::getMetrics));
+  }
+
+  private static void bind(MeterRegistry registry, String component, Tags tags,
+                           Supplier<Map<String, Long>> snapshot) {
+    for (String metric : snapshot.get().keySet()) {
+      Gauge.builder("myauth." + component + "." + snakeCase(metric), snapshot, s -> valueOf(s.get(), metric))
+          .tags(tags)
+          .strongReference(true)
+          .register(registry);
+    }
+  }
+
+  private static double valueOf(Map<String, Long> metrics, String metric) {
+    if (metrics == null) {
+      return Double.NaN;
+    }
+    Long value = metrics.get(metric);
+    return value != null ? value : Double.NaN;
+  }
+
+  private static String snakeCase(String camelCase) {
+    return camelCase.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+  }
+}
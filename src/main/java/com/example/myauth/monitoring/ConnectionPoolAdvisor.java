@@ -0,0 +1,382 @@
+package com.example.myauth.monitoring;
+
+import com.example.myauth.config.AppProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 풀 크기 권장 + 커넥션 누수 감지
+ *
+ * 【표본】
+ * - MonitoredDataSource: 커넥션 획득 대기 시간, 점유 시간(획득 → 반환)
+ * - 트랜잭션 리스너: 트랜잭션 시간 (시작 → 커밋/롤백)
+ *   감시 중인 풀(primary)에서 커넥션을 받은 트랜잭션만 집계 → replica로 라우팅된 읽기 전용 트랜잭션,
+ *   DB를 사용하지 않은 트랜잭션은 제외되어 점유 시간과 같은 모집단을 비교한다
+ * - sample-interval-ms마다 Hikari 풀의 사용 중 커넥션 수, 대기 스레드 수
+ *
+ * 【권장 크기】 window-seconds 구간마다 계산
+ * - 평균 동시 점유 수 = 총 점유 시간 / 구간 길이 (리틀의 법칙)
+ * - 필요 크기 = max(표본 최대 사용 중 + 최대 대기, 평균 동시 점유 × 2)
+ * - 느린 획득이 있었고 필요 크기가 현재보다 크면 INCREASE,
+ *   느린 획득 없이 필요 크기가 현재의 절반 미만이면 DECREASE
+ * 풀을 키우기 전에 점유 시간이 트랜잭션 시간보다 훨씬 긴지(open-in-view 등) 먼저 확인할 것
+ *
+ * 【누수 감지】
+ * leak-threshold-ms 넘게 반환되지 않은 커넥션을 획득한 엔드포인트/스레드/requestId와 함께 WARN (커넥션당 1회)
+ */
+@Slf4j
+@Component
+public class ConnectionPoolAdvisor implements TransactionExecutionListener {
+
+  private static final int MIN_POOL_SIZE = 2;
+  private static final int MAX_LEAK_ENDPOINTS = 100;
+
+  private final AppProperties.ConnectionPool config;
+
+  private volatile HikariDataSource pool;
+
+  private final Set<Lease> inUse = ConcurrentHashMap.newKeySet();
+  /** 진행 중인 트랜잭션 (중첩 시 안쪽이 맨 앞) */
+  private final ThreadLocal<Deque<TransactionSample>> openTransactions = new ThreadLocal<>();
+
+  // 구간 집계 (구간이 끝나면 초기화)
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+  private final LongAdder slowAcquisitions = new LongAdder();
+  private final LongAdder releases = new LongAdder();
+  private final LongAdder holdNanos = new LongAdder();
+  private final AtomicLong maxHoldNanos = new AtomicLong();
+  private final LongAdder transactions = new LongAdder();
+  private final LongAdder transactionNanos = new LongAdder();
+  private final AtomicLong maxTransactionNanos = new AtomicLong();
+  private long samples;
+  private long activeSum;
+  private int peakActive;
+  private int peakPending;
+  private long saturatedSamples;
+  private long windowStartNanos = System.nanoTime();
+  private Instant windowStart = Instant.now();
+
+  // 누적 집계
+  private final LongAdder totalAcquisitions = new LongAdder();
+  private final LongAdder totalSlowAcquisitions = new LongAdder();
+  private final LongAdder leaksSuspected = new LongAdder();
+  private final Map<String, LongAdder> leaksByEndpoint = new ConcurrentHashMap<>();
+
+  private volatile PoolSizingReport lastReport;
+
+  public ConnectionPoolAdvisor(AppProperties appProperties) {
+    this.config = appProperties.getConnectionPool();
+  }
+
+  /**
+   * 표본을 읽을 Hikari 풀 연결 (MonitoredDataSource로 감쌀 때 호출)
+   */
+  public void attach(HikariDataSource hikariDataSource) {
+    this.pool = hikariDataSource;
+  }
+
+  // ===== 커넥션 획득/반환 (MonitoredDataSource) =====
+
+  Lease onAcquire(long waitedNanos) {
+    acquisitions.increment();
+    totalAcquisitions.increment();
+    waitNanos.add(waitedNanos);
+    maxWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+    if (TimeUnit.NANOSECONDS.toMillis(waitedNanos) >= config.getSlowAcquireMs()) {
+      slowAcquisitions.increment();
+      totalSlowAcquisitions.increment();
+    }
+
+    Deque<TransactionSample> transactions = openTransactions.get();
+    if (transactions != null && !transactions.isEmpty()) {
+      transactions.peek().usedMonitoredPool = true;
+    }
+
+    Lease lease = new Lease(Endpoints.current(), MDC.get(RequestIdFilter.MDC_KEY), Thread.currentThread().getName());
+    inUse.add(lease);
+    return lease;
+  }
+
+  void onRelease(Lease lease) {
+    inUse.remove(lease);
+    long held = System.nanoTime() - lease.acquiredAtNanos;
+    releases.increment();
+    holdNanos.add(held);
+    maxHoldNanos.accumulateAndGet(held, Math::max);
+    if (lease.reported) {
+      log.info("누수 의심 커넥션 반환 - 점유 {}ms, 엔드포인트: {}", TimeUnit.NANOSECONDS.toMillis(held), lease.endpoint);
+    }
+  }
+
+  // ===== 트랜잭션 시간 (트랜잭션 매니저 리스너) =====
+
+  /**
+   * 트랜잭션 매니저는 시작 단계(doBegin)에서 커넥션을 받으므로 시작 전에 표본을 연다
+   */
+  @Override
+  public void beforeBegin(TransactionExecution transaction) {
+    Deque<TransactionSample> transactions = openTransactions.get();
+    if (transactions == null) {
+      transactions = new ArrayDeque<>();
+      openTransactions.set(transactions);
+    }
+    transactions.push(new TransactionSample());
+  }
+
+  @Override
+  public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+    if (beginFailure != null) {
+      closeTransaction();
+    }
+  }
+
+  @Override
+  public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+    recordTransactionEnd();
+  }
+
+  @Override
+  public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+    recordTransactionEnd();
+  }
+
+  private void recordTransactionEnd() {
+    TransactionSample sample = closeTransaction();
+    if (sample == null || !sample.usedMonitoredPool) {
+      return;
+    }
+    long elapsed = System.nanoTime() - sample.startedAtNanos;
+    transactions.increment();
+    transactionNanos.add(elapsed);
+    maxTransactionNanos.accumulateAndGet(elapsed, Math::max);
+  }
+
+  private TransactionSample closeTransaction() {
+    Deque<TransactionSample> transactions = openTransactions.get();
+    if (transactions == null) {
+      return null;
+    }
+    TransactionSample sample = transactions.poll();
+    if (transactions.isEmpty()) {
+      openTransactions.remove();
+    }
+    return sample;
+  }
+
+  // ===== 풀 상태 표본 + 누수 검사 =====
+
+  @Scheduled(
+      initialDelayString = "${app.connection-pool.sample-interval-ms:1000}",
+      fixedDelayString = "${app.connection-pool.sample-interval-ms:1000}")
+  public synchronized void sample() {
+    HikariDataSource hikari = pool;
+    HikariPoolMXBean poolBean = hikari != null ? hikari.getHikariPoolMXBean() : null;
+    if (poolBean == null) {
+      return;
+    }
+
+    int active = poolBean.getActiveConnections();
+    int pending = poolBean.getThreadsAwaitingConnection();
+    samples++;
+    activeSum += active;
+    peakActive = Math.max(peakActive, active);
+    peakPending = Math.max(peakPending, pending);
+    if (pending > 0) {
+      saturatedSamples++;
+    }
+
+    detectLeaks();
+
+    if (System.nanoTime() - windowStartNanos >= TimeUnit.SECONDS.toNanos(config.getWindowSeconds())) {
+      finishWindow(hikari.getMaximumPoolSize());
+    }
+  }
+
+  private void detectLeaks() {
+    long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.getLeakThresholdMs());
+    long now = System.nanoTime();
+    for (Lease lease : inUse) {
+      long held = now - lease.acquiredAtNanos;
+      if (!lease.reported && held >= thresholdNanos) {
+        lease.reported = true;
+        leaksSuspected.increment();
+        LongAdder count = leaksByEndpoint.get(lease.endpoint);
+        if (count == null && leaksByEndpoint.size() < MAX_LEAK_ENDPOINTS) {
+          count = leaksByEndpoint.computeIfAbsent(lease.endpoint, key -> new LongAdder());
+        }
+        if (count != null) {
+          count.increment();
+        }
+        log.warn("커넥션 누수 의심 - {}ms 동안 반환되지 않음, 엔드포인트: {}, 스레드: {}, requestId: {}",
+            TimeUnit.NANOSECONDS.toMillis(held), lease.endpoint, lease.threadName, lease.requestId);
+      }
+    }
+  }
+
+  /**
+   * 구간 집계로 권장 크기를 계산하고 다음 구간 시작
+   */
+  private void finishWindow(int currentPoolSize) {
+    long windowNanos = System.nanoTime() - windowStartNanos;
+    long acquired = acquisitions.sumThenReset();
+    long waited = waitNanos.sumThenReset();
+    long maxWait = maxWaitNanos.getAndSet(0);
+    long slow = slowAcquisitions.sumThenReset();
+    long released = releases.sumThenReset();
+    long held = holdNanos.sumThenReset();
+    long maxHold = maxHoldNanos.getAndSet(0);
+    long txCount = transactions.sumThenReset();
+    long txNanos = transactionNanos.sumThenReset();
+    long maxTx = maxTransactionNanos.getAndSet(0);
+
+    if (acquired > 0) {
+      double avgHold = released > 0 ? (double) held / released : 0;
+      double avgTx = txCount > 0 ? (double) txNanos / txCount : 0;
+      double demand = (double) held / windowNanos;
+      int needed = (int) Math.ceil(Math.max(peakActive + peakPending, demand * 2));
+      double saturatedRatio = samples > 0 ? (double) saturatedSamples / samples : 0;
+
+      List<String> notes = new ArrayList<>();
+      PoolSizingReport.Verdict verdict = PoolSizingReport.Verdict.KEEP;
+      int recommended = currentPoolSize;
+      if (slow > 0 && needed > currentPoolSize) {
+        verdict = PoolSizingReport.Verdict.INCREASE;
+        recommended = Math.min(needed, config.getMaxRecommendedSize());
+        if (needed > config.getMaxRecommendedSize()) {
+          notes.add("필요 크기 " + needed + "가 상한(max-recommended-size)을 넘음 → 느린 쿼리/긴 트랜잭션부터 줄일 것");
+        }
+      } else if (slow == 0 && needed < currentPoolSize / 2) {
+        verdict = PoolSizingReport.Verdict.DECREASE;
+        recommended = Math.max(MIN_POOL_SIZE, needed);
+      }
+      if (avgTx > 0 && avgHold > avgTx * 3) {
+        notes.add(String.format("커넥션 점유 시간이 트랜잭션 시간의 %.1f배 → 트랜잭션 밖에서 커넥션을 붙잡고 있음"
+            + " (spring.jpa.open-in-view, 트랜잭션 없는 리포지토리 호출 확인)", avgHold / avgTx));
+      }
+
+      PoolSizingReport report = new PoolSizingReport(
+          windowStart,
+          TimeUnit.NANOSECONDS.toSeconds(windowNanos),
+          currentPoolSize,
+          acquired,
+          toMillis((double) waited / acquired),
+          toMillis(maxWait),
+          slow,
+          toMillis(avgHold),
+          toMillis(maxHold),
+          txCount,
+          toMillis(avgTx),
+          toMillis(maxTx),
+          samples > 0 ? Math.round((double) activeSum / samples * 100) / 100.0 : 0,
+          peakActive,
+          peakPending,
+          Math.round(saturatedRatio * 1000) / 1000.0,
+          Math.round(demand * 100) / 100.0,
+          recommended,
+          verdict,
+          notes
+      );
+      lastReport = report;
+
+      if (verdict != PoolSizingReport.Verdict.KEEP) {
+        log.warn("커넥션 풀 크기 권장 - {}: {} → {} (느린 획득 {}건, 최대 대기 {}ms, 최대 사용 {} + 대기 {}, 평균 동시 점유 {})",
+            verdict, currentPoolSize, recommended, slow, report.maxWaitMs(), peakActive, peakPending,
+            report.concurrentDemand());
+      }
+      notes.forEach(note -> log.warn("커넥션 풀 참고 - {}", note));
+    }
+
+    samples = 0;
+    activeSum = 0;
+    peakActive = 0;
+    peakPending = 0;
+    saturatedSamples = 0;
+    windowStartNanos = System.nanoTime();
+    windowStart = Instant.now();
+  }
+
+  private static double toMillis(double nanos) {
+    return Math.round(nanos / 10_000.0) / 100.0;
+  }
+
+  /**
+   * @return 마지막 구간의 권장 결과 (아직 없으면 null)
+   */
+  public PoolSizingReport getLastReport() {
+    return lastReport;
+  }
+
+  /**
+   * @return 엔드포인트별 누수 의심 횟수 (많은 순)
+   */
+  public Map<String, Long> getLeaksByEndpoint() {
+    Map<String, Long> leaks = new LinkedHashMap<>();
+    leaksByEndpoint.entrySet().stream()
+        .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+        .forEach(e -> leaks.put(e.getKey(), e.getValue().sum()));
+    return leaks;
+  }
+
+  /**
+   * 커넥션 풀 모니터 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    PoolSizingReport report = lastReport;
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("acquisitions", totalAcquisitions.sum());
+    metrics.put("slowAcquisitions", totalSlowAcquisitions.sum());
+    metrics.put("inUse", (long) inUse.size());
+    metrics.put("leaksSuspected", leaksSuspected.sum());
+    metrics.put("recommendedPoolSize", report != null ? (long) report.recommendedPoolSize() : -1L);
+    return metrics;
+  }
+
+  /**
+   * 진행 중인 트랜잭션 1건
+   */
+  private static final class TransactionSample {
+    private final long startedAtNanos = System.nanoTime();
+    private boolean usedMonitoredPool;
+  }
+
+  /**
+   * 빌려간 커넥션 1건
+   */
+  static final class Lease {
+    private final long acquiredAtNanos = System.nanoTime();
+    private final String endpoint;
+    private final String requestId;
+    private final String threadName;
+    private volatile boolean reported;
+
+    private Lease(String endpoint, String requestId, String threadName) {
+      this.endpoint = endpoint;
+      this.requestId = requestId;
+      this.threadName = threadName;
+    }
+  }
+}
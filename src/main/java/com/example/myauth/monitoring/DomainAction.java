@@ -0,0 +1,23 @@
+package com.example.myauth.monitoring;
+
+/**
+ * 아웃박스 이벤트(DomainEventType)로 기록되지 않는 도메인 동작
+ * 아웃박스 이벤트는 OutboxEventPublisher가 이벤트 유형 이름으로 직접 집계한다
+ */
+public enum DomainAction {
+  USER_SIGNED_UP,
+  LOGIN_SUCCEEDED,
+  LOGIN_FAILED,
+  KAKAO_LOGIN_SUCCEEDED,
+  TOKEN_REFRESHED,
+  LOGGED_OUT,
+  SESSION_REVOKED,
+  PROFILE_UPDATED,
+  POST_CREATED,
+  POST_UPDATED,
+  POST_DELETED,
+  COMMENT_UPDATED,
+  BOOKMARK_ADDED,
+  BOOKMARK_REMOVED,
+  IMAGE_UPLOADED
+}
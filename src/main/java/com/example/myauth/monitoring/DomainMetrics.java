@@ -0,0 +1,56 @@
+package com.example.myauth.monitoring;
+
+import com.example.myauth.event.DomainEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 도메인 동작 카운터 (myauth.domain.actions{action=...})
+ *
+ * 트랜잭션 안에서 호출되면 커밋 후에만 증가 → 롤백된 좋아요/게시글 작성은 집계되지 않음
+ * 트랜잭션 밖이면 즉시 증가
+ */
+@Component
+public class DomainMetrics {
+
+  private static final String ACTIONS_METRIC = "myauth.domain.actions";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  public DomainMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public void increment(DomainAction action) {
+    incrementAfterCommit(action.name());
+  }
+
+  public void increment(DomainEventType eventType) {
+    incrementAfterCommit(eventType.name());
+  }
+
+  private void incrementAfterCommit(String name) {
+    Counter counter = counters.computeIfAbsent(name, key -> Counter.builder(ACTIONS_METRIC)
+        .tag("action", key.toLowerCase(Locale.ROOT))
+        .register(meterRegistry));
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          counter.increment();
+        }
+      });
+    } else {
+      counter.increment();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.myauth.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 지표/로그용 엔드포인트 이름
+ * "메서드 + 매핑 패턴" (예: GET /api/feed/{id}) → 경로 변수 값이 달라도 같은 엔드포인트로 묶인다
+ */
+final class Endpoints {
+
+  static final String UNMATCHED = "UNMATCHED";
+
+  private Endpoints() {
+  }
+
+  /**
+   * 핸들러 매핑이 끝난 요청의 엔드포인트 (매핑되지 않은 요청은 UNMATCHED로 묶음)
+   */
+  static String of(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return request.getMethod() + " " + (pattern != null ? pattern : UNMATCHED);
+  }
+
+  /**
+   * 현재 스레드가 처리 중인 요청의 엔드포인트
+   * 핸들러 매핑 전(보안 필터 등)이면 실제 요청 경로, 요청 스레드가 아니면 "thread:스레드 이름"
+   */
+  static String current() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes instanceof ServletRequestAttributes servletAttributes) {
+      HttpServletRequest request = servletAttributes.getRequest();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+    return "thread:" + Thread.currentThread().getName();
+  }
+}
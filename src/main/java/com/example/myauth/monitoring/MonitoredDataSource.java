@@ -0,0 +1,85 @@
+package com.example.myauth.monitoring;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션 획득 대기 시간과 점유 시간을 ConnectionPoolAdvisor에 알리는 DataSource 래퍼
+ * 반환되는 커넥션은 close() 시점을 알기 위한 프록시 (나머지 호출은 그대로 위임)
+ */
+public class MonitoredDataSource extends DelegatingDataSource {
+
+  private final ConnectionPoolAdvisor advisor;
+
+  public MonitoredDataSource(DataSource targetDataSource, ConnectionPoolAdvisor advisor) {
+    super(targetDataSource);
+    this.advisor = advisor;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long startedAt = System.nanoTime();
+    Connection connection = super.getConnection();
+    return track(connection, System.nanoTime() - startedAt);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    long startedAt = System.nanoTime();
+    Connection connection = super.getConnection(username, password);
+    return track(connection, System.nanoTime() - startedAt);
+  }
+
+  private Connection track(Connection connection, long waitNanos) {
+    ConnectionPoolAdvisor.Lease lease = advisor.onAcquire(waitNanos);
+    return (Connection) Proxy.newProxyInstance(
+        ConnectionProxy.class.getClassLoader(),
+        new Class<?>[]{ConnectionProxy.class},
+        new LeaseInvocationHandler(connection, lease));
+  }
+
+  private final class LeaseInvocationHandler implements InvocationHandler {
+
+    private final Connection target;
+    private final ConnectionPoolAdvisor.Lease lease;
+    private boolean closed;
+
+    private LeaseInvocationHandler(Connection target, ConnectionPoolAdvisor.Lease lease) {
+      this.target = target;
+      this.lease = lease;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "getTargetConnection":
+          return target;
+        case "close":
+          if (!closed) {
+            closed = true;
+            advisor.onRelease(lease);
+          }
+          break;
+        default:
+          break;
+      }
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    }
+  }
+}
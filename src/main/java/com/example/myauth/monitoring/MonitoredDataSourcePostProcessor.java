@@ -0,0 +1,37 @@
+package com.example.myauth.monitoring;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hikari DataSource 빈을 MonitoredDataSource로 감싼다 (app.connection-pool.monitor-enabled=true)
+ * Hikari 설정 바인딩(spring.datasource.hikari.*)이 끝난 뒤 감싸므로 설정은 그대로 적용됨
+ * 감싼 DataSource는 DelegatingDataSource라 Actuator/Micrometer의 Hikari 지표도 그대로 동작
+ */
+@Component
+public class MonitoredDataSourcePostProcessor implements BeanPostProcessor {
+
+  private final boolean enabled;
+  private final ObjectProvider<ConnectionPoolAdvisor> advisorProvider;
+
+  public MonitoredDataSourcePostProcessor(
+      @Value("${app.connection-pool.monitor-enabled:true}") boolean enabled,
+      ObjectProvider<ConnectionPoolAdvisor> advisorProvider
+  ) {
+    this.enabled = enabled;
+    this.advisorProvider = advisorProvider;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!enabled || !(bean instanceof HikariDataSource hikariDataSource)) {
+      return bean;
+    }
+    ConnectionPoolAdvisor advisor = advisorProvider.getObject();
+    advisor.attach(hikariDataSource);
+    return new MonitoredDataSource(hikariDataSource, advisor);
+  }
+}
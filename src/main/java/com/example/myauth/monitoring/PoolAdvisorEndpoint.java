@@ -0,0 +1,31 @@
+package com.example.myauth.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커넥션 풀 크기 권장/누수 현황 조회 (GET /actuator/pooladvisor, 관리 포트에서만 노출)
+ */
+@Component
+@Endpoint(id = "pooladvisor")
+@RequiredArgsConstructor
+public class PoolAdvisorEndpoint {
+
+  private final ConnectionPoolAdvisor connectionPoolAdvisor;
+
+  /**
+   * @return 마지막 구간의 권장 결과, 엔드포인트별 누수 의심 횟수
+   */
+  @ReadOperation
+  public Map<String, Object> poolAdvisor() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("lastReport", connectionPoolAdvisor.getLastReport());
+    result.put("leaksByEndpoint", connectionPoolAdvisor.getLeaksByEndpoint());
+    return result;
+  }
+}
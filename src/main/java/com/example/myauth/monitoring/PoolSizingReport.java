@@ -0,0 +1,61 @@
+package com.example.myauth.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 커넥션 풀 크기 권장 결과 (구간 하나의 표본 기준)
+ *
+ * @param windowStart            구간 시작 시각
+ * @param windowSeconds          구간 길이
+ * @param currentPoolSize        현재 최대 풀 크기
+ * @param acquisitions           커넥션 획득 수
+ * @param avgWaitMs              평균 획득 대기 시간
+ * @param maxWaitMs              최대 획득 대기 시간
+ * @param slowAcquisitions       slow-acquire-ms를 넘긴 획득 수
+ * @param avgHoldMs              평균 커넥션 점유 시간 (획득 → 반환)
+ * @param maxHoldMs              최대 커넥션 점유 시간
+ * @param transactions           완료된 트랜잭션 수
+ * @param avgTransactionMs       평균 트랜잭션 시간 (시작 → 커밋/롤백)
+ * @param maxTransactionMs       최대 트랜잭션 시간
+ * @param avgActive              표본 기준 평균 사용 중 커넥션 수
+ * @param peakActive             표본 기준 최대 사용 중 커넥션 수
+ * @param peakPending            표본 기준 최대 대기 스레드 수
+ * @param saturatedSampleRatio   대기 스레드가 있었던 표본 비율
+ * @param concurrentDemand       리틀의 법칙으로 구한 평균 동시 점유 수 (총 점유 시간 / 구간 길이)
+ * @param recommendedPoolSize    권장 최대 풀 크기
+ * @param verdict                권장 방향
+ * @param notes                  참고 사항
+ */
+public record PoolSizingReport(
+    Instant windowStart,
+    long windowSeconds,
+    int currentPoolSize,
+    long acquisitions,
+    double avgWaitMs,
+    double maxWaitMs,
+    long slowAcquisitions,
+    double avgHoldMs,
+    double maxHoldMs,
+    long transactions,
+    double avgTransactionMs,
+    double maxTransactionMs,
+    double avgActive,
+    int peakActive,
+    int peakPending,
+    double saturatedSampleRatio,
+    double concurrentDemand,
+    int recommendedPoolSize,
+    Verdict verdict,
+    List<String> notes
+) {
+
+  public enum Verdict {
+    /** 대기가 발생했고 더 큰 풀이 필요 */
+    INCREASE,
+    /** 현재 크기 유지 */
+    KEEP,
+    /** 풀이 절반 이상 놀고 있음 */
+    DECREASE
+  }
+}
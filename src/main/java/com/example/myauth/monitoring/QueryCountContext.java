@@ -0,0 +1,113 @@
+package com.example.myauth.monitoring;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드(요청)에서 실행된 SQL 문 집계
+ * QueryCountInspector가 Hibernate가 실행하는 모든 SQL을 여기에 기록하고,
+ * QueryCountFilter(요청 단위)와 QueryCounter(테스트)가 구간을 열고 닫는다
+ *
+ * 【SQL 형태(shape)】
+ * 바인딩 값과 IN 목록 길이를 지운 SQL
+ * → 같은 형태가 한 요청에서 여러 번 실행되면 N+1 지연 로딩일 가능성이 높다
+ */
+public final class QueryCountContext {
+
+  private static final ThreadLocal<QueryCountContext> CURRENT = new ThreadLocal<>();
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\((\\s*\\?\\s*,)*\\s*\\?\\s*\\)");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final int MAX_SHAPE_LENGTH = 300;
+
+  private final QueryCountContext previous;
+  private final Map<String, Integer> shapeCounts = new HashMap<>();
+  private int statementCount;
+
+  private QueryCountContext(QueryCountContext previous) {
+    this.previous = previous;
+  }
+
+  /**
+   * 현재 스레드에서 집계 시작 (이미 열린 구간이 있으면 종료 시 복원)
+   *
+   * @return 새 집계 구간
+   */
+  public static QueryCountContext begin() {
+    QueryCountContext context = new QueryCountContext(CURRENT.get());
+    CURRENT.set(context);
+    return context;
+  }
+
+  /**
+   * 집계 종료 (이전 구간으로 복원)
+   */
+  public void end() {
+    if (previous != null) {
+      CURRENT.set(previous);
+    } else {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * 실행된 SQL 기록 (열린 구간이 없으면 무시)
+   * 중첩 구간이면 바깥 구간에도 함께 기록
+   */
+  static void record(String sql) {
+    QueryCountContext context = CURRENT.get();
+    if (context == null) {
+      return;
+    }
+    String shape = shapeOf(sql);
+    for (QueryCountContext c = context; c != null; c = c.previous) {
+      c.statementCount++;
+      c.shapeCounts.merge(shape, 1, Integer::sum);
+    }
+  }
+
+  /**
+   * @return 구간에서 실행된 SQL 문 수
+   */
+  public int getStatementCount() {
+    return statementCount;
+  }
+
+  /**
+   * @return 2회 이상 실행된 SQL 형태 → 실행 횟수 (많은 순)
+   */
+  public Map<String, Integer> getDuplicateShapes() {
+    if (shapeCounts.size() == statementCount) {
+      return Collections.emptyMap();
+    }
+    Map<String, Integer> duplicates = new LinkedHashMap<>();
+    shapeCounts.entrySet().stream()
+        .filter(entry -> entry.getValue() > 1)
+        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+        .forEach(entry -> duplicates.put(entry.getKey(), entry.getValue()));
+    return duplicates;
+  }
+
+  /**
+   * @return 같은 형태의 반복 실행 수 (형태별 실행 횟수 - 1 의 합)
+   */
+  public int getDuplicateStatementCount() {
+    return statementCount - shapeCounts.size();
+  }
+
+  /**
+   * SQL을 형태로 정규화 (공백 정리, 리터럴/IN 목록 제거, 길이 제한)
+   */
+  static String shapeOf(String sql) {
+    String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+    shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    shape = IN_LIST.matcher(shape).replaceAll("in (...)");
+    return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+  }
+}
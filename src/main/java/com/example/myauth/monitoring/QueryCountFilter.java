@@ -0,0 +1,176 @@
+package com.example.myauth.monitoring;
+
+import com.example.myauth.config.AppProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청당 SQL 실행 수 집계 필터
+ * RequestIdFilter 다음, 보안 필터(JwtAuthenticationFilter의 사용자 조회 포함)보다 먼저 실행되어 요청 전체의 SQL을 센다
+ *
+ * 【엔드포인트별 지표】
+ * - 요청 수, 총/최대 SQL 수, 같은 형태의 SQL이 반복된 요청 수
+ * - 반복된 SQL 형태별 누적 초과 실행 수 (N+1 후보)
+ * 엔드포인트 키는 "메서드 + 매핑 패턴" (예: GET /api/feed/{id}), 매핑되지 않은 요청은 하나로 묶는다
+ * 요청당 SQL 수 분포는 myauth.db.statements.per.request{endpoint}로도 노출
+ *
+ * 【활성화】
+ * app.query-count.enabled=true 일 때만 집계 (기본값 false, dev 프로필에서 활성화, 부하 테스트는 -Ploadtest.query-count=true)
+ * 비활성화 상태에서는 구간을 열지 않으므로 QueryCountInspector는 ThreadLocal 확인만 하고 반환한다
+ *
+ * 【디버그 헤더】
+ * app.query-count.debug-header=true 이면 X-Query-Count, X-Query-Duplicates 응답 헤더 추가
+ * 헤더는 본문보다 먼저 써야 하므로 응답을 버퍼링함 → 개발 환경에서만 사용
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+  public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+  public static final String QUERY_DUPLICATES_HEADER = "X-Query-Duplicates";
+
+  private final AppProperties.QueryCount config;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, EndpointStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+  public QueryCountFilter(AppProperties appProperties, MeterRegistry meterRegistry) {
+    this.config = appProperties.getQueryCount();
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !config.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    ContentCachingResponseWrapper bufferedResponse =
+        config.isDebugHeader() ? new ContentCachingResponseWrapper(response) : null;
+    QueryCountContext context = QueryCountContext.begin();
+    try {
+      filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+    } finally {
+      context.end();
+      String endpoint = Endpoints.of(request);
+      record(endpoint, context);
+
+      if (bufferedResponse != null) {
+        bufferedResponse.setHeader(QUERY_COUNT_HEADER, String.valueOf(context.getStatementCount()));
+        bufferedResponse.setHeader(QUERY_DUPLICATES_HEADER, String.valueOf(context.getDuplicateStatementCount()));
+        bufferedResponse.copyBodyToResponse();
+      }
+    }
+  }
+
+  /**
+   * 요청 1건의 집계를 엔드포인트 지표에 반영
+   */
+  private void record(String endpoint, QueryCountContext context) {
+    int statements = context.getStatementCount();
+    Map<String, Integer> duplicates = context.getDuplicateShapes();
+
+    EndpointStats stats = statsByEndpoint.computeIfAbsent(endpoint, this::newEndpointStats);
+    stats.statementsPerRequest.record(statements);
+    stats.requests.increment();
+    stats.statements.add(statements);
+    stats.maxStatements.accumulateAndGet(statements, Math::max);
+
+    if (!duplicates.isEmpty()) {
+      stats.requestsWithDuplicates.increment();
+      duplicates.forEach((shape, count) -> {
+        LongAdder excess = stats.duplicateShapes.get(shape);
+        if (excess == null && stats.duplicateShapes.size() < config.getMaxShapesPerEndpoint()) {
+          excess = stats.duplicateShapes.computeIfAbsent(shape, key -> new LongAdder());
+        }
+        if (excess != null) {
+          excess.add(count - 1);
+        }
+      });
+    }
+
+    if (statements > config.getWarnThreshold()) {
+      log.warn("요청당 SQL 과다 - {}: {}건 (반복 형태: {})", endpoint, statements, duplicates.keySet());
+    }
+  }
+
+  private EndpointStats newEndpointStats(String endpoint) {
+    DistributionSummary statementsPerRequest = DistributionSummary.builder("myauth.db.statements.per.request")
+        .description("요청당 SQL 실행 수")
+        .tag("endpoint", endpoint)
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry);
+    return new EndpointStats(statementsPerRequest);
+  }
+
+  /**
+   * 엔드포인트별 SQL 실행 지표 스냅샷
+   *
+   * @return 엔드포인트 → 지표 이름 → 값
+   */
+  public Map<String, Map<String, Long>> getMetrics() {
+    Map<String, Map<String, Long>> metrics = new LinkedHashMap<>();
+    statsByEndpoint.forEach((endpoint, stats) -> {
+      Map<String, Long> values = new LinkedHashMap<>();
+      values.put("requests", stats.requests.sum());
+      values.put("statements", stats.statements.sum());
+      values.put("maxStatements", stats.maxStatements.get());
+      values.put("requestsWithDuplicates", stats.requestsWithDuplicates.sum());
+      metrics.put(endpoint, values);
+    });
+    return metrics;
+  }
+
+  /**
+   * 엔드포인트별 반복 실행된 SQL 형태 (N+1 후보)
+   *
+   * @return 엔드포인트 → SQL 형태 → 누적 초과 실행 수
+   */
+  public Map<String, Map<String, Long>> getDuplicateShapes() {
+    Map<String, Map<String, Long>> shapes = new LinkedHashMap<>();
+    statsByEndpoint.forEach((endpoint, stats) -> {
+      if (!stats.duplicateShapes.isEmpty()) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        stats.duplicateShapes.forEach((shape, excess) -> values.put(shape, excess.sum()));
+        shapes.put(endpoint, values);
+      }
+    });
+    return shapes;
+  }
+
+  private static final class EndpointStats {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final AtomicLong maxStatements = new AtomicLong();
+    private final LongAdder requestsWithDuplicates = new LongAdder();
+    private final Map<String, LongAdder> duplicateShapes = new ConcurrentHashMap<>();
+    private final DistributionSummary statementsPerRequest;
+
+    private EndpointStats(DistributionSummary statementsPerRequest) {
+      this.statementsPerRequest = statementsPerRequest;
+    }
+  }
+}
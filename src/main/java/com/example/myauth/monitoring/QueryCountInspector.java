@@ -0,0 +1,19 @@
+package com.example.myauth.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 모든 SQL을 QueryCountContext에 기록
+ * SQL은 변경하지 않고 그대로 반환한다
+ *
+ * Hibernate가 클래스 이름으로 직접 생성하므로 Spring 빈이 아님
+ * (spring.jpa.properties.hibernate.session_factory.statement_inspector)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    QueryCountContext.record(sql);
+    return sql;
+  }
+}
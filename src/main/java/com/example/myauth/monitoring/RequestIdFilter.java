@@ -0,0 +1,56 @@
+package com.example.myauth.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 ID 필터
+ * 가장 먼저 실행되어 요청 ID를 MDC(requestId)에 넣는다 → 이 요청에서 남긴 모든 로그에 같은 ID가 붙음
+ *
+ * 【요청 ID】
+ * - 프록시(Nginx 등)가 보낸 X-Request-Id 헤더가 형식에 맞으면 그대로 사용
+ * - 없거나 형식이 맞지 않으면 새로 생성
+ * 응답 헤더 X-Request-Id로 돌려주어 클라이언트 오류 보고와 서버 로그를 연결할 수 있다
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+  public static final String REQUEST_ID_HEADER = "X-Request-Id";
+  public static final String MDC_KEY = "requestId";
+
+  /** 로그 주입을 막기 위해 허용하는 형식 (영문, 숫자, '-', '_' 최대 64자) */
+  private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    String requestId = request.getHeader(REQUEST_ID_HEADER);
+    if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+      requestId = UUID.randomUUID().toString();
+    }
+
+    MDC.put(MDC_KEY, requestId);
+    response.setHeader(REQUEST_ID_HEADER, requestId);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      MDC.remove(MDC_KEY);
+    }
+  }
+}
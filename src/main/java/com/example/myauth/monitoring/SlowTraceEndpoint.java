@@ -0,0 +1,27 @@
+package com.example.myauth.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 느린 요청 추적 조회 (GET /actuator/slowtraces, 관리 포트에서만 노출)
+ */
+@Component
+@Endpoint(id = "slowtraces")
+@RequiredArgsConstructor
+public class SlowTraceEndpoint {
+
+  private final TracingFilter tracingFilter;
+
+  /**
+   * @return 보관 중인 느린 요청 추적 (최신 순)
+   */
+  @ReadOperation
+  public List<TraceSnapshot> slowTraces() {
+    return tracingFilter.getSlowTraces();
+  }
+}
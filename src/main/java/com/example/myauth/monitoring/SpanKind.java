@@ -0,0 +1,19 @@
+package com.example.myauth.monitoring;
+
+/**
+ * 추적 span 종류
+ */
+public enum SpanKind {
+  /** 요청 전체 (필터 체인 + 응답 직렬화 포함) */
+  REQUEST,
+  /** 인증 필터 */
+  SECURITY,
+  /** 컨트롤러 메서드 (응답 직렬화 제외) */
+  CONTROLLER,
+  /** @Service 메서드 (트랜잭션 커밋 포함) */
+  SERVICE,
+  /** Spring Data 리포지토리 메서드 */
+  REPOSITORY,
+  /** RestClient 외부 호출 */
+  HTTP_CLIENT
+}
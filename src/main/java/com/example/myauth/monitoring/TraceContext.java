@@ -0,0 +1,142 @@
+package com.example.myauth.monitoring;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 현재 스레드(요청)의 추적
+ * TracingFilter가 표본으로 뽑힌 요청에서만 열고, 서비스/리포지토리 프록시와
+ * RestClient 인터셉터가 startSpan()으로 span을 기록한다
+ *
+ * 추적 중이 아니면 startSpan()은 ThreadLocal 조회 한 번으로 끝난다
+ * 호출 스레드에서 실행된 작업만 기록 (@Async, 별도 실행기 작업은 제외)
+ */
+public final class TraceContext {
+
+  private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+  private final String traceId = UUID.randomUUID().toString();
+  private final Instant startedAt = Instant.now();
+  private final long startNanos = System.nanoTime();
+  private final int maxSpans;
+  private final List<SpanRecord> spans = new ArrayList<>();
+  private int currentSpan = -1;
+  private int droppedSpans;
+
+  private TraceContext(int maxSpans) {
+    this.maxSpans = maxSpans;
+  }
+
+  /**
+   * 현재 스레드에서 추적 시작
+   */
+  static TraceContext begin(int maxSpans) {
+    TraceContext trace = new TraceContext(maxSpans);
+    CURRENT.set(trace);
+    return trace;
+  }
+
+  /**
+   * 현재 추적에 span 열기 (추적 중이 아니면 NOOP)
+   *
+   * @param kind span 종류
+   * @param name span 이름
+   * @return 닫아야 하는 span
+   */
+  public static TraceSpan startSpan(SpanKind kind, String name) {
+    TraceContext trace = CURRENT.get();
+    return trace != null ? trace.openSpan(kind, name) : TraceSpan.NOOP;
+  }
+
+  /**
+   * @return 추적 ID
+   */
+  public String getTraceId() {
+    return traceId;
+  }
+
+  /**
+   * @return 현재 스레드가 추적 중인지
+   */
+  public static boolean isActive() {
+    return CURRENT.get() != null;
+  }
+
+  private TraceSpan openSpan(SpanKind kind, String name) {
+    if (spans.size() >= maxSpans) {
+      droppedSpans++;
+      return TraceSpan.NOOP;
+    }
+    int depth = currentSpan < 0 ? 0 : spans.get(currentSpan).depth + 1;
+    spans.add(new SpanRecord(kind, name, currentSpan, depth, System.nanoTime()));
+    currentSpan = spans.size() - 1;
+    return new TraceSpan(this, currentSpan);
+  }
+
+  void closeSpan(int index) {
+    SpanRecord span = spans.get(index);
+    span.endNanos = System.nanoTime();
+    currentSpan = span.parent;
+  }
+
+  /**
+   * 추적 종료 (현재 스레드에서 분리)
+   *
+   * @param endpoint 메서드 + 매핑 패턴
+   * @param status   응답 상태 코드
+   * @return 완료된 추적
+   */
+  TraceSnapshot end(String endpoint, int status) {
+    CURRENT.remove();
+    long endNanos = System.nanoTime();
+
+    long[] childNanos = new long[spans.size()];
+    for (SpanRecord span : spans) {
+      if (span.endNanos == 0) {
+        span.endNanos = endNanos;
+      }
+      if (span.parent >= 0) {
+        childNanos[span.parent] += span.endNanos - span.startNanos;
+      }
+    }
+
+    List<TraceSnapshot.Span> snapshots = new ArrayList<>(spans.size());
+    for (int i = 0; i < spans.size(); i++) {
+      SpanRecord span = spans.get(i);
+      long duration = span.endNanos - span.startNanos;
+      snapshots.add(new TraceSnapshot.Span(
+          span.depth,
+          span.kind,
+          span.name,
+          toMillis(span.startNanos - startNanos),
+          toMillis(duration),
+          toMillis(duration - childNanos[i])
+      ));
+    }
+    return new TraceSnapshot(traceId, endpoint, status, startedAt, toMillis(endNanos - startNanos),
+        droppedSpans, snapshots);
+  }
+
+  private static double toMillis(long nanos) {
+    return Math.round(nanos / 10_000.0) / 100.0;
+  }
+
+  private static final class SpanRecord {
+    private final SpanKind kind;
+    private final String name;
+    private final int parent;
+    private final int depth;
+    private final long startNanos;
+    private long endNanos;
+
+    private SpanRecord(SpanKind kind, String name, int parent, int depth, long startNanos) {
+      this.kind = kind;
+      this.name = name;
+      this.parent = parent;
+      this.depth = depth;
+      this.startNanos = startNanos;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.example.myauth.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 완료된 추적 1건 (/actuator/slowtraces 응답 항목)
+ *
+ * @param traceId      추적 ID
+ * @param endpoint     메서드 + 매핑 패턴 (예: GET /api/feed)
+ * @param status       응답 상태 코드
+ * @param startedAt    요청 시작 시각
+ * @param durationMs   요청 전체 소요 시간
+ * @param droppedSpans 최대 span 수를 넘어 버려진 span 수
+ * @param spans        시작 순서대로 나열한 span (depth로 중첩 표현)
+ */
+public record TraceSnapshot(
+    String traceId,
+    String endpoint,
+    int status,
+    Instant startedAt,
+    double durationMs,
+    int droppedSpans,
+    List<Span> spans
+) {
+
+  /**
+   * @param depth      중첩 깊이 (요청 span = 0)
+   * @param kind       span 종류
+   * @param name       span 이름 (빈 이름.메서드, 외부 호출 URL 등)
+   * @param startMs    요청 시작 기준 시작 시각
+   * @param durationMs 소요 시간
+   * @param selfMs     하위 span을 뺀 자체 소요 시간
+   *                   (REQUEST span의 selfMs = 다른 필터 + 응답 직렬화 등 span으로 잡히지 않은 시간)
+   */
+  public record Span(
+      int depth,
+      SpanKind kind,
+      String name,
+      double startMs,
+      double durationMs,
+      double selfMs
+  ) {
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.myauth.monitoring;
+
+/**
+ * 열린 span (try-with-resources로 닫는다)
+ *
+ * <pre>
+ * try (TraceSpan span = TraceContext.startSpan(SpanKind.SERVICE, "feedService.getHomeFeed")) {
+ *   ...
+ * }
+ * </pre>
+ *
+ * 추적 중이 아닌 요청에서는 공유 NOOP 인스턴스를 돌려주므로 할당이 없다
+ */
+public final class TraceSpan implements AutoCloseable {
+
+  static final TraceSpan NOOP = new TraceSpan(null, -1);
+
+  private final TraceContext trace;
+  private final int index;
+
+  TraceSpan(TraceContext trace, int index) {
+    this.trace = trace;
+    this.index = index;
+  }
+
+  @Override
+  public void close() {
+    if (trace != null) {
+      trace.closeSpan(index);
+    }
+  }
+}
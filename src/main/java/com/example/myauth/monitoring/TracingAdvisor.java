@@ -0,0 +1,108 @@
+package com.example.myauth.monitoring;
+
+import org.aopalliance.aop.Advice;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컨트롤러, @Service, Spring Data 리포지토리 메서드를 추적 span으로 감싸는 Advisor
+ *
+ * 【프록시】
+ * 직접 프록시를 만들지 않고 자동 프록시 생성기(@Transactional 처리와 같은 생성기)에 Advisor로 등록
+ * → 트랜잭션 인터셉터와 같은 프록시 하나에 합쳐지고, 대상이 아닌 빈은 프록시되지 않음
+ * → 가장 높은 우선순위라 트랜잭션 인터셉터 바깥에서 실행 (서비스 span에 트랜잭션 시작/커밋 시간 포함)
+ * 스프링 부트 기본 생성기는 인프라 역할의 Advisor만 적용하므로 ROLE_INFRASTRUCTURE로 등록
+ *
+ * span 이름은 "빈 이름 형태.메서드 이름" (예: feedService.getHomeFeed, postRepository.findById)
+ */
+@Component
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+@ConditionalOnProperty(name = "app.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingAdvisor extends AbstractPointcutAdvisor {
+
+  private final Pointcut pointcut = new ComposablePointcut(new AnnotationClassFilter(Service.class, true))
+      .union(new AnnotationClassFilter(Controller.class, true))
+      .union((ClassFilter) Repository.class::isAssignableFrom);
+
+  private final SpanInterceptor interceptor = new SpanInterceptor();
+
+  public TracingAdvisor() {
+    setOrder(Ordered.HIGHEST_PRECEDENCE);
+  }
+
+  @Override
+  public Pointcut getPointcut() {
+    return pointcut;
+  }
+
+  @Override
+  public Advice getAdvice() {
+    return interceptor;
+  }
+
+  /**
+   * 메서드 호출을 span으로 감싸는 인터셉터 (추적 중이 아니면 바로 호출)
+   */
+  private static final class SpanInterceptor implements MethodInterceptor {
+
+    /** 대상 클래스 → span 종류/이름 접두사 */
+    private final Map<Class<?>, Target> targets = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+      if (!TraceContext.isActive() || invocation.getThis() == null) {
+        return invocation.proceed();
+      }
+      Target target = targets.computeIfAbsent(invocation.getThis().getClass(), SpanInterceptor::targetOf);
+      String name = target.namePrefix() + invocation.getMethod().getName();
+      try (TraceSpan span = TraceContext.startSpan(target.kind(), name)) {
+        return invocation.proceed();
+      }
+    }
+
+    /**
+     * 리포지토리는 Spring Data 프록시가 구현한 리포지토리 인터페이스 이름,
+     * 그 외는 대상 클래스 이름을 빈 이름 형태(첫 글자 소문자)로 사용
+     */
+    private static Target targetOf(Class<?> invokedClass) {
+      if (Repository.class.isAssignableFrom(invokedClass)) {
+        for (Class<?> candidate : invokedClass.getInterfaces()) {
+          if (Repository.class.isAssignableFrom(candidate)) {
+            return new Target(SpanKind.REPOSITORY, prefixOf(candidate));
+          }
+        }
+      }
+      Class<?> userClass = ClassUtils.getUserClass(invokedClass);
+      SpanKind kind = AnnotatedElementUtils.hasAnnotation(userClass, Controller.class)
+          ? SpanKind.CONTROLLER
+          : SpanKind.SERVICE;
+      return new Target(kind, prefixOf(userClass));
+    }
+
+    private static String prefixOf(Class<?> type) {
+      return StringUtils.uncapitalize(type.getSimpleName()) + ".";
+    }
+  }
+
+  private record Target(SpanKind kind, String namePrefix) {
+  }
+}
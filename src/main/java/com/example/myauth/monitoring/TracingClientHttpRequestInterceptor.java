@@ -0,0 +1,30 @@
+package com.example.myauth.monitoring;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * RestClient 외부 호출을 HTTP_CLIENT span으로 기록
+ * 다른 인터셉터보다 앞에 두어 벌크헤드 대기 시간까지 포함한다
+ * span 이름은 "메서드 호스트+경로" (쿼리 문자열 제외)
+ */
+@Component
+public class TracingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+      throws IOException {
+    if (!TraceContext.isActive()) {
+      return execution.execute(request, body);
+    }
+    String name = request.getMethod() + " " + request.getURI().getHost() + request.getURI().getPath();
+    try (TraceSpan span = TraceContext.startSpan(SpanKind.HTTP_CLIENT, name)) {
+      return execution.execute(request, body);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.example.myauth.monitoring;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.util.RingBuffer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 추적 필터
+ * QueryCountFilter 바로 안쪽에서 실행되어 보안 필터부터 응답 직렬화까지 요청 전체를 REQUEST span으로 감싼다
+ *
+ * 【표본 추출】
+ * app.tracing.sample-rate 비율의 요청만 추적 (기본 1%)
+ * 표본이 아닌 요청은 소요 시간만 재고, 하위 span 기록 지점은 ThreadLocal 조회 한 번으로 끝난다
+ *
+ * 【느린 요청 버퍼】
+ * 표본 요청 중 slow-threshold-ms 이상 걸린 추적만 링 버퍼에 보관 → /actuator/slowtraces
+ * 표본이 아니어서 놓친 느린 요청 수는 지표(slowUnsampled)로 남긴다
+ *
+ * 추적 중인 요청은 MDC에 traceId를 넣어 로그와 추적을 연결한다
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class TracingFilter extends OncePerRequestFilter {
+
+  private static final String MDC_KEY = "traceId";
+
+  private final AppProperties.Tracing config;
+  private final RingBuffer<TraceSnapshot> slowTraces;
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder sampled = new LongAdder();
+  private final LongAdder slowUnsampled = new LongAdder();
+
+  public TracingFilter(AppProperties appProperties) {
+    this.config = appProperties.getTracing();
+    this.slowTraces = new RingBuffer<>(config.getBufferSize());
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !config.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    requests.increment();
+    if (ThreadLocalRandom.current().nextDouble() >= config.getSampleRate()) {
+      long startedAt = System.nanoTime();
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) >= config.getSlowThresholdMs()) {
+          slowUnsampled.increment();
+        }
+      }
+      return;
+    }
+
+    sampled.increment();
+    TraceContext trace = TraceContext.begin(config.getMaxSpansPerTrace());
+    MDC.put(MDC_KEY, trace.getTraceId());
+    try (TraceSpan span = TraceContext.startSpan(SpanKind.REQUEST, request.getMethod() + " " + request.getRequestURI())) {
+      filterChain.doFilter(request, response);
+    } finally {
+      MDC.remove(MDC_KEY);
+      TraceSnapshot snapshot = trace.end(Endpoints.of(request), response.getStatus());
+      if (snapshot.durationMs() >= config.getSlowThresholdMs()) {
+        slowTraces.add(snapshot);
+        log.info("느린 요청 추적 보관 - {} {}ms (traceId: {})",
+            snapshot.endpoint(), snapshot.durationMs(), snapshot.traceId());
+      }
+    }
+  }
+
+  /**
+   * @return 보관 중인 느린 요청 추적 (최신 순)
+   */
+  public List<TraceSnapshot> getSlowTraces() {
+    return slowTraces.snapshot();
+  }
+
+  /**
+   * 추적 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("requests", requests.sum());
+    metrics.put("sampled", sampled.sum());
+    metrics.put("slowCaptured", slowTraces.getAddedCount());
+    metrics.put("slowUnsampled", slowUnsampled.sum());
+    return metrics;
+  }
+}
@@ -0,0 +1,137 @@
+package com.example.myauth.monitoring;
+
+import com.example.myauth.config.AppProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 캐리어 피닝(pinning) 모니터
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 구독하여
+ * 가상 스레드가 캐리어 스레드를 붙잡고 블로킹한 위치를 보고한다
+ *
+ * 【피닝이란?】
+ * synchronized 블록 안이나 네이티브 호출 중에 블로킹 I/O가 발생하면
+ * 가상 스레드가 캐리어(플랫폼) 스레드에서 분리되지 못해 캐리어를 점유함
+ * → 캐리어 수(CPU 코어 수)만큼만 동시 처리되어 가상 스레드의 이점이 사라짐
+ *
+ * 【활성화】
+ * app.virtual-threads.pinning-monitor-enabled=true
+ * 위치별로 최초 1회 WARN 로그 + 이후 누적 횟수 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.virtual-threads.pinning-monitor-enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private final AppProperties appProperties;
+
+  /**
+   * 피닝 발생 위치(애플리케이션/드라이버 최상위 프레임)별 누적 횟수
+   */
+  private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+
+  private RecordingStream recordingStream;
+
+  @PostConstruct
+  public void start() {
+    long thresholdMs = appProperties.getVirtualThreads().getPinningThresholdMs();
+
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT)
+        .withThreshold(Duration.ofMillis(thresholdMs))
+        .withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    recordingStream.startAsync();
+
+    log.info("가상 스레드 피닝 모니터 시작 - threshold: {}ms", thresholdMs);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+    }
+  }
+
+  /**
+   * 피닝 이벤트 처리
+   * 같은 위치는 최초 1회만 스택과 함께 로그를 남기고 이후에는 횟수만 증가
+   */
+  private void onPinned(RecordedEvent event) {
+    String site = resolveSite(event.getStackTrace());
+    LongAdder counter = pinnedSites.computeIfAbsent(site, key -> new LongAdder());
+    counter.increment();
+
+    if (counter.sum() == 1) {
+      log.warn("가상 스레드 피닝 감지 - site: {}, duration: {}ms\n{}",
+          site, event.getDuration().toMillis(), formatStack(event.getStackTrace()));
+    }
+  }
+
+  /**
+   * JDK 내부 프레임을 건너뛰고 최초의 애플리케이션/라이브러리 프레임을 피닝 위치로 사용
+   */
+  private String resolveSite(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "unknown";
+    }
+
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      if (!frame.isJavaFrame()) {
+        continue;
+      }
+      String typeName = frame.getMethod().getType().getName();
+      if (typeName.startsWith("java.") || typeName.startsWith("jdk.") || typeName.startsWith("sun.")) {
+        continue;
+      }
+      return typeName + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+    return "jdk-internal";
+  }
+
+  private String formatStack(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "";
+    }
+
+    StringBuilder sb = new StringBuilder();
+    stackTrace.getFrames().stream()
+        .limit(20)
+        .forEach(frame -> sb.append("\tat ")
+            .append(frame.getMethod().getType().getName())
+            .append('.')
+            .append(frame.getMethod().getName())
+            .append(':')
+            .append(frame.getLineNumber())
+            .append('\n'));
+    return sb.toString();
+  }
+
+  /**
+   * 피닝 위치별 누적 횟수 스냅샷
+   *
+   * @return 위치 → 횟수 (이름순)
+   */
+  public Map<String, Long> getPinnedSites() {
+    Map<String, Long> snapshot = new TreeMap<>();
+    pinnedSites.forEach((site, counter) -> snapshot.put(site, counter.sum()));
+    return snapshot;
+  }
+}
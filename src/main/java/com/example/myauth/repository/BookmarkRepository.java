@@ -4,6 +4,7 @@ import com.example.myauth.entity.Bookmark;
 import com.example.myauth.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -73,10 +74,11 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
   /**
    * 사용자가 북마크한 게시글 목록 조회 (북마크 정보 포함)
+   * Slice 반환: COUNT 쿼리 없이 limit + 1 조회로 다음 페이지 여부만 판단
    *
    * @param userId 사용자 ID
    * @param pageable 페이지 정보
-   * @return 북마크 페이지
+   * @return 북마크 슬라이스
    */
   @Query("SELECT b FROM Bookmark b " +
       "JOIN FETCH b.post p " +
@@ -84,7 +86,7 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
       "WHERE b.user.id = :userId " +
       "AND p.isDeleted = false " +
       "ORDER BY b.createdAt DESC")
-  Page<Bookmark> findByUserIdWithPost(@Param("userId") Long userId, Pageable pageable);
+  Slice<Bookmark> findByUserIdWithPost(@Param("userId") Long userId, Pageable pageable);
 
   // ===== 카운트 =====
 
@@ -96,6 +98,15 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
    */
   long countByUserId(Long userId);
 
+  /**
+   * 사용자의 북마크 수 조회 (삭제되지 않은 게시글만, 목록 조회 조건과 동일)
+   *
+   * @param userId 사용자 ID
+   * @return 북마크 수
+   */
+  @Query("SELECT COUNT(b) FROM Bookmark b WHERE b.user.id = :userId AND b.post.isDeleted = false")
+  long countActiveByUserId(@Param("userId") Long userId);
+
   /**
    * 게시글의 북마크 수 조회
    *
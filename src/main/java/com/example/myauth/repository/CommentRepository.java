@@ -3,6 +3,7 @@ package com.example.myauth.repository;
 import com.example.myauth.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -18,7 +19,7 @@ import java.util.Optional;
  *
  * 【주요 기능】
  * - 게시글별 댓글 목록 조회 (최상위 댓글만)
- * - 특정 댓글의 대댓글 목록 조회
+ * - 특정 댓글의 대댓글 목록 조회 (커서 기반) 및 스레드 미리보기
  * - 댓글 좋아요 수 증가/감소
  * - 게시글의 댓글 수 카운팅
  */
@@ -65,6 +66,22 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
       "ORDER BY c.createdAt ASC")
   Page<Comment> findRootCommentsByPostId(@Param("postId") Long postId, Pageable pageable);
 
+  /**
+   * 게시글의 최상위 댓글 목록 조회 (COUNT 쿼리 없는 Slice 버전)
+   * 스레드 조회에서 사용 (limit + 1 조회로 다음 페이지 여부만 판단)
+   *
+   * @param postId 게시글 ID
+   * @param pageable 페이지 정보
+   * @return 최상위 댓글 Slice
+   */
+  @Query("SELECT c FROM Comment c " +
+      "JOIN FETCH c.user " +
+      "WHERE c.post.id = :postId " +
+      "AND c.parent IS NULL " +
+      "AND c.isDeleted = false " +
+      "ORDER BY c.createdAt ASC")
+  Slice<Comment> findRootCommentSliceByPostId(@Param("postId") Long postId, Pageable pageable);
+
   /**
    * 게시글의 모든 댓글 목록 조회 (대댓글 포함, 평면적 구조)
    * 프론트엔드에서 parentId로 그룹핑하여 계층 구조 표현
@@ -96,17 +113,54 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
   // ===== 대댓글 조회 =====
 
   /**
-   * 특정 댓글의 대댓글 목록 조회
+   * 특정 댓글의 대댓글 목록 조회 (커서 기반)
+   * idx_parent_id(parent_id, id) 범위 스캔으로 OFFSET 없이 다음 페이지 조회
    *
    * @param parentId 부모 댓글 ID
-   * @return 대댓글 리스트
+   * @param cursor 이전 페이지 마지막 대댓글 ID (첫 페이지는 0)
+   * @param pageable 조회 개수 (size + 1로 전달하여 다음 페이지 여부 판단)
+   * @return 대댓글 리스트 (ID 오름차순 = 작성 순)
    */
   @Query("SELECT c FROM Comment c " +
       "JOIN FETCH c.user " +
       "WHERE c.parent.id = :parentId " +
       "AND c.isDeleted = false " +
-      "ORDER BY c.createdAt ASC")
-  List<Comment> findRepliesByParentId(@Param("parentId") Long parentId);
+      "AND c.id > :cursor " +
+      "ORDER BY c.id ASC")
+  List<Comment> findRepliesByParentIdAfter(
+      @Param("parentId") Long parentId,
+      @Param("cursor") Long cursor,
+      Pageable pageable);
+
+  /**
+   * 여러 부모 댓글의 첫 N개 대댓글 ID 조회 (부모별 ROW_NUMBER 윈도우)
+   * 댓글 페이지 전체의 대댓글 미리보기를 한 번의 쿼리로 조회
+   *
+   * @param parentIds 부모 댓글 ID 목록
+   * @param limit 부모별 최대 대댓글 수
+   * @return 대댓글 ID 목록
+   */
+  @Query(value = "SELECT r.id FROM (" +
+      "SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.id ASC) AS rn " +
+      "FROM comments c " +
+      "WHERE c.parent_id IN (:parentIds) AND c.is_deleted = false" +
+      ") r WHERE r.rn <= :limit",
+      nativeQuery = true)
+  List<Long> findFirstReplyIdsByParentIds(
+      @Param("parentIds") List<Long> parentIds,
+      @Param("limit") int limit);
+
+  /**
+   * ID 목록으로 댓글 조회 (작성자 정보 포함, N+1 방지)
+   *
+   * @param ids 댓글 ID 목록
+   * @return 댓글 리스트 (ID 오름차순)
+   */
+  @Query("SELECT c FROM Comment c " +
+      "JOIN FETCH c.user " +
+      "WHERE c.id IN :ids " +
+      "ORDER BY c.id ASC")
+  List<Comment> findAllWithUserByIdIn(@Param("ids") List<Long> ids);
 
   /**
    * 특정 댓글의 대댓글 개수 조회
@@ -118,6 +172,27 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
       "WHERE c.parent.id = :parentId AND c.isDeleted = false")
   long countRepliesByParentId(@Param("parentId") Long parentId);
 
+  // ===== 대댓글 수 업데이트 =====
+
+  /**
+   * 대댓글 수 증가 (대댓글 작성 시)
+   *
+   * @param commentId 부모 댓글 ID
+   */
+  @Modifying
+  @Query("UPDATE Comment c SET c.replyCount = c.replyCount + 1 WHERE c.id = :commentId")
+  void incrementReplyCount(@Param("commentId") Long commentId);
+
+  /**
+   * 대댓글 수 감소 (대댓글 삭제 시)
+   *
+   * @param commentId 부모 댓글 ID
+   */
+  @Modifying
+  @Query("UPDATE Comment c SET c.replyCount = c.replyCount - 1 " +
+      "WHERE c.id = :commentId AND c.replyCount > 0")
+  void decrementReplyCount(@Param("commentId") Long commentId);
+
   // ===== 사용자별 조회 =====
 
   /**
@@ -166,4 +241,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
   @Query("UPDATE Comment c SET c.likeCount = c.likeCount - 1 " +
       "WHERE c.id = :commentId AND c.likeCount > 0")
   void decrementLikeCount(@Param("commentId") Long commentId);
+
+  /**
+   * 댓글 좋아요 수 재설정 (FAILED 카운터 이벤트 재계산용)
+   *
+   * @param commentId 댓글 ID
+   * @param likeCount 원본 테이블 기준 좋아요 수
+   */
+  @Modifying
+  @Query("UPDATE Comment c SET c.likeCount = :likeCount WHERE c.id = :commentId")
+  void updateLikeCount(@Param("commentId") Long commentId, @Param("likeCount") int likeCount);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.example.myauth.entity.Follow;
 import com.example.myauth.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -80,16 +81,17 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
   /**
    * 팔로워 목록 조회 (Follow 엔티티 반환, 팔로우 일시 포함)
+   * Slice 반환: COUNT 쿼리 없이 limit + 1 조회로 다음 페이지 여부만 판단
    *
    * @param userId 대상 사용자 ID
    * @param pageable 페이지 정보
-   * @return 팔로우 관계 페이지
+   * @return 팔로우 관계 슬라이스
    */
   @Query("SELECT f FROM Follow f " +
       "JOIN FETCH f.follower " +
       "WHERE f.following.id = :userId " +
       "ORDER BY f.createdAt DESC")
-  Page<Follow> findFollowsByFollowingId(@Param("userId") Long userId, Pageable pageable);
+  Slice<Follow> findFollowsByFollowingId(@Param("userId") Long userId, Pageable pageable);
 
   // ===== 팔로잉 목록 조회 (내가 팔로우하는 사람들) =====
 
@@ -108,16 +110,17 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
   /**
    * 팔로잉 목록 조회 (Follow 엔티티 반환, 팔로우 일시 포함)
+   * Slice 반환: COUNT 쿼리 없이 limit + 1 조회로 다음 페이지 여부만 판단
    *
    * @param userId 대상 사용자 ID
    * @param pageable 페이지 정보
-   * @return 팔로우 관계 페이지
+   * @return 팔로우 관계 슬라이스
    */
   @Query("SELECT f FROM Follow f " +
       "JOIN FETCH f.following " +
       "WHERE f.follower.id = :userId " +
       "ORDER BY f.createdAt DESC")
-  Page<Follow> findFollowsByFollowerId(@Param("userId") Long userId, Pageable pageable);
+  Slice<Follow> findFollowsByFollowerId(@Param("userId") Long userId, Pageable pageable);
 
   // ===== 카운트 =====
 
@@ -102,4 +102,14 @@ public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
   @Modifying
   @Query("UPDATE Hashtag h SET h.postCount = h.postCount - 1 WHERE h.id = :hashtagId AND h.postCount > 0")
   void decrementPostCount(@Param("hashtagId") Long hashtagId);
+
+  /**
+   * 게시글 수 재설정 (FAILED 카운터 이벤트 재계산용)
+   *
+   * @param hashtagId 해시태그 ID
+   * @param postCount 원본 테이블 기준 연결 수
+   */
+  @Modifying
+  @Query("UPDATE Hashtag h SET h.postCount = :postCount WHERE h.id = :hashtagId")
+  void updatePostCount(@Param("hashtagId") Long hashtagId, @Param("postCount") int postCount);
 }
@@ -3,8 +3,8 @@ package com.example.myauth.repository;
 import com.example.myauth.entity.Like;
 import com.example.myauth.entity.TargetType;
 import com.example.myauth.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -113,16 +113,17 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
   /**
    * 특정 대상에 좋아요한 사용자 목록 조회
+   * Slice 반환: 전체 개수는 posts/comments.like_count 카운터로 대체
    *
    * @param targetType 대상 유형
    * @param targetId 대상 ID
    * @param pageable 페이지 정보
-   * @return 좋아요한 사용자 페이지
+   * @return 좋아요한 사용자 슬라이스
    */
   @Query("SELECT l.user FROM Like l " +
       "WHERE l.targetType = :targetType AND l.targetId = :targetId " +
       "ORDER BY l.createdAt DESC")
-  Page<User> findUsersByTargetTypeAndTargetId(
+  Slice<User> findUsersByTargetTypeAndTargetId(
       @Param("targetType") TargetType targetType,
       @Param("targetId") Long targetId,
       Pageable pageable);
@@ -132,9 +133,9 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
    *
    * @param postId 게시글 ID
    * @param pageable 페이지 정보
-   * @return 좋아요한 사용자 페이지
+   * @return 좋아요한 사용자 슬라이스
    */
-  default Page<User> findUsersWhoLikedPost(Long postId, Pageable pageable) {
+  default Slice<User> findUsersWhoLikedPost(Long postId, Pageable pageable) {
     return findUsersByTargetTypeAndTargetId(TargetType.POST, postId, pageable);
   }
 
@@ -143,9 +144,9 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
    *
    * @param commentId 댓글 ID
    * @param pageable 페이지 정보
-   * @return 좋아요한 사용자 페이지
+   * @return 좋아요한 사용자 슬라이스
    */
-  default Page<User> findUsersWhoLikedComment(Long commentId, Pageable pageable) {
+  default Slice<User> findUsersWhoLikedComment(Long commentId, Pageable pageable) {
     return findUsersByTargetTypeAndTargetId(TargetType.COMMENT, commentId, pageable);
   }
 
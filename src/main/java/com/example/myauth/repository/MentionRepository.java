@@ -2,8 +2,8 @@ package com.example.myauth.repository;
 
 import com.example.myauth.entity.Mention;
 import com.example.myauth.entity.TargetType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -28,36 +28,37 @@ public interface MentionRepository extends JpaRepository<Mention, Long> {
 
   /**
    * 특정 사용자가 멘션된 목록 조회 (최신순)
+   * Slice 반환: COUNT 쿼리 없이 limit + 1 조회로 다음 페이지 여부만 판단
    *
    * @param userId 멘션된 사용자 ID
    * @param pageable 페이지 정보
-   * @return 멘션 페이지
+   * @return 멘션 슬라이스
    */
-  Page<Mention> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+  Slice<Mention> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
   /**
    * 특정 사용자가 게시글에서 멘션된 목록 조회
    *
    * @param userId 멘션된 사용자 ID
    * @param pageable 페이지 정보
-   * @return 멘션 페이지
+   * @return 멘션 슬라이스
    */
   @Query("SELECT m FROM Mention m " +
       "WHERE m.user.id = :userId AND m.targetType = 'POST' " +
       "ORDER BY m.createdAt DESC")
-  Page<Mention> findPostMentionsByUserId(@Param("userId") Long userId, Pageable pageable);
+  Slice<Mention> findPostMentionsByUserId(@Param("userId") Long userId, Pageable pageable);
 
   /**
    * 특정 사용자가 댓글에서 멘션된 목록 조회
    *
    * @param userId 멘션된 사용자 ID
    * @param pageable 페이지 정보
-   * @return 멘션 페이지
+   * @return 멘션 슬라이스
    */
   @Query("SELECT m FROM Mention m " +
       "WHERE m.user.id = :userId AND m.targetType = 'COMMENT' " +
       "ORDER BY m.createdAt DESC")
-  Page<Mention> findCommentMentionsByUserId(@Param("userId") Long userId, Pageable pageable);
+  Slice<Mention> findCommentMentionsByUserId(@Param("userId") Long userId, Pageable pageable);
 
   // ===== 대상별 멘션 조회 =====
 
@@ -139,4 +140,13 @@ public interface MentionRepository extends JpaRepository<Mention, Long> {
    * @return 멘션 횟수
    */
   long countByUserId(Long userId);
+
+  /**
+   * 사용자가 특정 유형(게시글/댓글)에서 멘션된 수 조회
+   *
+   * @param userId 사용자 ID
+   * @param targetType 대상 유형
+   * @return 멘션 수
+   */
+  long countByUserIdAndTargetType(Long userId, TargetType targetType);
 }
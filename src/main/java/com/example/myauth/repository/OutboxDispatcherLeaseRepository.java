@@ -0,0 +1,34 @@
+package com.example.myauth.repository;
+
+import com.example.myauth.entity.OutboxDispatcherLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 디스패처 리스 리포지토리
+ */
+@Repository
+public interface OutboxDispatcherLeaseRepository extends JpaRepository<OutboxDispatcherLease, String> {
+
+  /**
+   * 리스 획득 또는 연장 (소유자가 자신이거나 만료된 경우에만)
+   *
+   * @param name 디스패처 이름
+   * @param owner 요청 노드 ID
+   * @param now 현재 시각
+   * @param leaseUntil 새 만료 시각
+   * @return 1이면 획득(연장) 성공, 0이면 다른 노드가 소유 중이거나 행이 없음
+   */
+  @Modifying
+  @Query("UPDATE OutboxDispatcherLease l SET l.owner = :owner, l.leaseUntil = :leaseUntil " +
+      "WHERE l.name = :name AND (l.owner = :owner OR l.leaseUntil < :now)")
+  int tryAcquire(@Param("name") String name,
+                 @Param("owner") String owner,
+                 @Param("now") LocalDateTime now,
+                 @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -0,0 +1,99 @@
+package com.example.myauth.repository;
+
+import com.example.myauth.entity.OutboxEvent;
+import com.example.myauth.event.DomainEventType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 리포지토리
+ * 도메인 이벤트 발행 기록 및 디스패처의 배치 조회/상태 갱신 기능 제공
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * 미처리 이벤트를 발행 순서대로 조회한다
+   *
+   * @param status 조회할 상태 (PENDING)
+   * @param pageable 배치 크기
+   * @return 이벤트 목록 (id 오름차순)
+   */
+  @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status ORDER BY e.id ASC")
+  List<OutboxEvent> findBatchByStatus(@Param("status") OutboxEvent.Status status, Pageable pageable);
+
+  /**
+   * 특정 유형의 이벤트를 id 순으로 조회한다 (FAILED 이벤트 재계산용)
+   *
+   * @param status 조회할 상태
+   * @param eventTypes 이벤트 유형 목록
+   * @param pageable 배치 크기
+   * @return 이벤트 목록 (id 오름차순)
+   */
+  @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status AND e.eventType IN :eventTypes ORDER BY e.id ASC")
+  List<OutboxEvent> findBatchByStatusAndEventTypeIn(@Param("status") OutboxEvent.Status status,
+                                                   @Param("eventTypes") Collection<DomainEventType> eventTypes,
+                                                   Pageable pageable);
+
+  /**
+   * 같은 집계에 특정 상태의 이벤트가 있는지 확인한다
+   *
+   * @return 있으면 true
+   */
+  boolean existsByAggregateTypeAndAggregateIdAndStatus(String aggregateType, Long aggregateId,
+                                                       OutboxEvent.Status status);
+
+  /**
+   * 이벤트 상태를 조건부로 전환한다 (expected 상태일 때만)
+   * 같은 이벤트를 두 번 처리하면 두 번째 전환은 0행 → 호출자가 트랜잭션을 롤백하여 부수효과를 취소
+   *
+   * @param id 이벤트 ID
+   * @param expected 현재 상태여야 하는 값 (PENDING 또는 FAILED)
+   * @param status 변경할 상태 (PROCESSED 또는 RECONCILED)
+   * @param now 처리 시각
+   * @return 업데이트된 행 수 (0이면 이미 다른 곳에서 처리됨)
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.status = :status, e.processedAt = :now, e.attempts = e.attempts + 1 " +
+      "WHERE e.id = :id AND e.status = :expected")
+  int markProcessed(@Param("id") Long id,
+                    @Param("expected") OutboxEvent.Status expected,
+                    @Param("status") OutboxEvent.Status status,
+                    @Param("now") LocalDateTime now);
+
+  /**
+   * 처리 실패를 기록한다 (PENDING 상태일 때만)
+   * 최대 시도 횟수를 넘기면 FAILED로 전환하여 더 이상 재시도하지 않는다
+   *
+   * @param id 이벤트 ID
+   * @param status 변경할 상태 (PENDING 유지 또는 FAILED)
+   * @param error 실패 사유
+   * @return 업데이트된 행 수
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = e.attempts + 1, e.lastError = :error " +
+      "WHERE e.id = :id AND e.status = com.example.myauth.entity.OutboxEvent.Status.PENDING")
+  int markFailedAttempt(@Param("id") Long id,
+                        @Param("status") OutboxEvent.Status status,
+                        @Param("error") String error);
+
+  /**
+   * 보관 기간이 지난 처리 완료 이벤트를 삭제한다
+   *
+   * @param status 삭제할 상태 (PROCESSED)
+   * @param before 기준 시각
+   * @return 삭제된 행 수
+   */
+  @Modifying
+  @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.processedAt < :before")
+  int deleteByStatusAndProcessedAtBefore(@Param("status") OutboxEvent.Status status,
+                                         @Param("before") LocalDateTime before);
+}
@@ -4,6 +4,7 @@ import com.example.myauth.entity.Post;
 import com.example.myauth.entity.PostHashtag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -37,17 +38,18 @@ public interface PostHashtagRepository extends JpaRepository<PostHashtag, PostHa
 
   /**
    * 특정 해시태그를 사용한 게시글 목록 조회 (최신순)
+   * Slice 반환: 전체 개수는 hashtags.post_count 카운터로 대체
    *
    * @param hashtagId 해시태그 ID
    * @param pageable 페이지 정보
-   * @return 게시글 페이지
+   * @return 게시글 슬라이스
    */
   @Query("SELECT ph.post FROM PostHashtag ph " +
       "WHERE ph.hashtag.id = :hashtagId " +
       "AND ph.post.isDeleted = false " +
       "AND ph.post.visibility = 'PUBLIC' " +
       "ORDER BY ph.post.createdAt DESC")
-  Page<Post> findPostsByHashtagId(@Param("hashtagId") Long hashtagId, Pageable pageable);
+  Slice<Post> findPostsByHashtagId(@Param("hashtagId") Long hashtagId, Pageable pageable);
 
   /**
    * 해시태그 이름으로 게시글 목록 조회
@@ -97,6 +99,15 @@ public interface PostHashtagRepository extends JpaRepository<PostHashtag, PostHa
 
   // ===== 통계 =====
 
+  /**
+   * 해시태그의 게시글 연결 수 조회 (hashtags.post_count 카운터와 같은 기준)
+   *
+   * @param hashtagId 해시태그 ID
+   * @return 연결 수
+   */
+  @Query("SELECT COUNT(ph) FROM PostHashtag ph WHERE ph.hashtag.id = :hashtagId")
+  long countByHashtagId(@Param("hashtagId") Long hashtagId);
+
   /**
    * 특정 해시태그를 사용한 게시글 수 조회
    *
@@ -107,6 +118,18 @@ public interface PostHashtagRepository extends JpaRepository<PostHashtag, PostHa
       "WHERE ph.hashtag.id = :hashtagId AND ph.post.isDeleted = false")
   long countActivePostsByHashtagId(@Param("hashtagId") Long hashtagId);
 
+  /**
+   * 특정 해시태그를 사용한 공개 게시글 수 조회 (목록 조회 조건과 동일)
+   *
+   * @param hashtagId 해시태그 ID
+   * @return 공개 게시글 수
+   */
+  @Query("SELECT COUNT(ph) FROM PostHashtag ph " +
+      "WHERE ph.hashtag.id = :hashtagId " +
+      "AND ph.post.isDeleted = false " +
+      "AND ph.post.visibility = 'PUBLIC'")
+  long countPublicPostsByHashtagId(@Param("hashtagId") Long hashtagId);
+
   /**
    * 게시글의 해시태그 ID 목록 조회
    *
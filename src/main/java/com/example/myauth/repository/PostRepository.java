@@ -121,6 +121,24 @@ public interface PostRepository extends JpaRepository<Post, Long> {
   @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
   void decrementCommentCount(@Param("postId") Long postId);
 
+  /**
+   * 좋아요 수 재설정 (FAILED 카운터 이벤트 재계산용)
+   * @param postId 게시글 ID
+   * @param likeCount 원본 테이블 기준 좋아요 수
+   */
+  @Modifying
+  @Query("UPDATE Post p SET p.likeCount = :likeCount WHERE p.id = :postId")
+  void updateLikeCount(@Param("postId") Long postId, @Param("likeCount") int likeCount);
+
+  /**
+   * 댓글 수 재설정 (FAILED 카운터 이벤트 재계산용)
+   * @param postId 게시글 ID
+   * @param commentCount 원본 테이블 기준 댓글 수
+   */
+  @Modifying
+  @Query("UPDATE Post p SET p.commentCount = :commentCount WHERE p.id = :postId")
+  void updateCommentCount(@Param("postId") Long postId, @Param("commentCount") int commentCount);
+
   // ===== 존재 여부 확인 =====
 
   /**
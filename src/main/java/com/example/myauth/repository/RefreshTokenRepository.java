@@ -21,11 +21,11 @@ import java.util.Optional;
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
   /**
-   * 토큰 문자열로 Refresh Token을 조회한다
-   * @param token 토큰 문자열
+   * 토큰 해시로 Refresh Token을 조회한다 (uk_token_hash 인덱스 사용)
+   * @param tokenHash 토큰 원문의 SHA-256 해시 (TokenHashUtil.sha256)
    * @return RefreshToken (Optional)
    */
-  Optional<RefreshToken> findByToken(String token);
+  Optional<RefreshToken> findByTokenHash(String tokenHash);
 
   /**
    * 사용자의 모든 Refresh Token을 조회한다
@@ -68,6 +68,70 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
   @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.user.id = :userId AND rt.isRevoked = false")
   int revokeAllByUserId(@Param("userId") Long userId);
 
+  /**
+   * 토큰을 사용 처리(취소)한다 - Rotation 시 사용
+   * 아직 취소되지 않은 경우에만 갱신하므로 동시에 같은 토큰으로 갱신하면 한 요청만 1을 받는다
+   * @param id 토큰 ID
+   * @param now 현재 시간 (last_used_at)
+   * @return 업데이트된 행 수 (0이면 이미 사용된 토큰)
+   */
+  @Modifying
+  @Query("UPDATE RefreshToken rt SET rt.isRevoked = true, rt.lastUsedAt = :now " +
+      "WHERE rt.id = :id AND rt.isRevoked = false")
+  int markRotated(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  /**
+   * 사용자의 활성 토큰 ID를 오래된 순으로 조회한다 (세션 수 제한용)
+   * idx_user_created_at(user_id, created_at) 범위 스캔, 세션 수 제한으로 결과는 최대 세션 수 수준
+   * @param userId 사용자 ID
+   * @param now 현재 시간
+   * @return 활성 토큰 ID 리스트 (오래된 순)
+   */
+  @Query("SELECT rt.id FROM RefreshToken rt " +
+      "WHERE rt.user.id = :userId AND rt.isRevoked = false AND rt.expiresAt > :now " +
+      "ORDER BY rt.createdAt ASC")
+  List<Long> findActiveTokenIdsOldestFirst(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+  /**
+   * 사용자의 활성 토큰을 최신 순으로 조회한다 (세션 목록용)
+   * @param userId 사용자 ID
+   * @param now 현재 시간
+   * @return 활성 토큰 리스트 (최신 순)
+   */
+  @Query("SELECT rt FROM RefreshToken rt " +
+      "WHERE rt.user.id = :userId AND rt.isRevoked = false AND rt.expiresAt > :now " +
+      "ORDER BY rt.createdAt DESC")
+  List<RefreshToken> findActiveTokensByUserIdNewestFirst(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+  /**
+   * ID 목록으로 토큰을 삭제한다 (세션 수 초과 시 오래된 세션 제거)
+   * @param ids 토큰 ID 목록
+   * @return 삭제된 행 수
+   */
+  @Modifying
+  @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+  int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+  /**
+   * 사용자의 특정 토큰 패밀리를 취소한다 (세션 종료)
+   * @param familyId 토큰 패밀리 ID
+   * @param userId 사용자 ID (다른 사용자의 세션 종료 방지)
+   * @return 업데이트된 행 수 (0이면 해당 사용자의 활성 세션이 아님)
+   */
+  @Modifying
+  @Query("UPDATE RefreshToken rt SET rt.isRevoked = true " +
+      "WHERE rt.familyId = :familyId AND rt.user.id = :userId AND rt.isRevoked = false")
+  int revokeFamilyByUserId(@Param("familyId") String familyId, @Param("userId") Long userId);
+
+  /**
+   * 토큰 패밀리 전체를 취소한다 (재사용 감지 시, idx_family_id 사용)
+   * @param familyId 토큰 패밀리 ID
+   * @return 업데이트된 행 수
+   */
+  @Modifying
+  @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.familyId = :familyId AND rt.isRevoked = false")
+  int revokeFamily(@Param("familyId") String familyId);
+
   /**
    * 사용자 이메일로 모든 Refresh Token을 삭제한다 (로그아웃 시 사용)
    * @param email 사용자 이메일
@@ -94,12 +158,47 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
   @Query("DELETE FROM RefreshToken rt WHERE rt.isRevoked = true")
   int deleteRevokedTokens();
 
+  /**
+   * 만료된 토큰을 최대 limit개 삭제한다 (정리 작업의 청크 삭제용)
+   * idx_expires_at 범위 스캔 + LIMIT으로 한 번에 잠그는 행 수를 제한
+   * @param now 현재 시간
+   * @param limit 최대 삭제 행 수
+   * @return 삭제된 행 수
+   */
+  @Modifying
+  @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+  int deleteExpiredTokensChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  /**
+   * 사용되지 않고 취소된 토큰(로그아웃, 세션 제거 등)을 최대 limit개 삭제한다 (정리 작업의 청크 삭제용)
+   * Rotation으로 취소된 토큰(last_used_at 있음)은 재사용 감지를 위해 만료 시각까지 보관하고
+   * 만료된 토큰 청크 삭제(deleteExpiredTokensChunk)에서 함께 삭제된다
+   * (먼저 삭제하면 탈취된 토큰의 재사용이 단순히 찾을 수 없는 토큰으로 거부되어 패밀리가 취소되지 않음)
+   * @param limit 최대 삭제 행 수
+   * @return 삭제된 행 수
+   */
+  @Modifying
+  @Query(value = "DELETE FROM refresh_tokens " +
+      "WHERE is_revoked = true AND last_used_at IS NULL LIMIT :limit",
+      nativeQuery = true)
+  int deleteRevokedTokensChunk(@Param("limit") int limit);
+
+  /**
+   * refresh_tokens 테이블의 대략적인 행 수 (InnoDB 통계 기반)
+   * COUNT(*) 전체 스캔 없이 테이블 크기 추이를 확인하는 용도
+   * @return 대략적인 행 수 (통계가 없으면 null)
+   */
+  @Query(value = "SELECT table_rows FROM information_schema.tables " +
+      "WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens'",
+      nativeQuery = true)
+  Number estimateTableRows();
+
   /**
    * 토큰 존재 여부 확인
-   * @param token 토큰 문자열
+   * @param tokenHash 토큰 원문의 SHA-256 해시 (TokenHashUtil.sha256)
    * @return 존재하면 true
    */
-  boolean existsByToken(String token);
+  boolean existsByTokenHash(String tokenHash);
 
   /**
    * 사용자의 활성 토큰 개수 조회
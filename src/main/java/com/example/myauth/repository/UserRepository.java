@@ -1,9 +1,14 @@
 package com.example.myauth.repository;
 
+import com.example.myauth.dto.LoginUserView;
 import com.example.myauth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -19,6 +24,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
    */
   Optional<User> findByEmail(String email);
 
+  /**
+   * 로그인 검증에 필요한 컬럼만 이메일로 조회한다 (엔티티를 로드하지 않음)
+   * @param email 정규화된 이메일
+   * @return 로그인 조회 DTO (Optional)
+   */
+  @Query("""
+      SELECT new com.example.myauth.dto.LoginUserView(
+        u.id, u.email, u.password, u.name, u.profileImage,
+        u.role, u.status, u.isActive, u.accountLockedUntil)
+      FROM User u
+      WHERE u.email = :email
+      """)
+  Optional<LoginUserView> findLoginViewByEmail(@Param("email") String email);
+
   /**
    * 이메일이 이미 존재하는지 확인한다
    * @param email 확인할 이메일
@@ -40,4 +59,60 @@ public interface UserRepository extends JpaRepository<User, Long> {
    * @return 사용자 정보 (Optional)
    */
   Optional<User> findByName(String name);
+
+  /**
+   * 비밀번호 해시를 교체한다 (해시 파라미터 변경 시 로그인 성공 후 재해시)
+   * @param id 사용자 ID
+   * @param password 새 비밀번호 해시
+   * @return 업데이트된 행 수
+   */
+  @Modifying
+  @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+  int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+  /**
+   * 로그인 실패 1회 기록 (UPDATE 한 번)
+   * 실패 횟수가 threshold에 도달하면 계정을 lockedUntil까지 잠그고 횟수를 0으로 되돌린다
+   *
+   * 주의: MySQL은 SET 절을 왼쪽부터 평가하며 앞서 바뀐 값을 다음 식에서 사용하므로
+   * 이전 실패 횟수를 읽는 accountLockedUntil을 먼저 할당해야 한다
+   *
+   * @param email 정규화된 이메일
+   * @param threshold 잠금 기준 실패 횟수
+   * @param lockedUntil 잠금 해제 시각
+   * @return 업데이트된 행 수 (존재하지 않는 이메일이면 0)
+   */
+  @Modifying
+  @Query("""
+      UPDATE User u SET
+        u.accountLockedUntil = CASE WHEN u.failedLoginAttempts + 1 >= :threshold
+                                    THEN :lockedUntil ELSE u.accountLockedUntil END,
+        u.failedLoginAttempts = CASE WHEN u.failedLoginAttempts + 1 >= :threshold
+                                     THEN 0 ELSE u.failedLoginAttempts + 1 END
+      WHERE u.email = :email
+      """)
+  int recordLoginFailure(@Param("email") String email,
+                         @Param("threshold") int threshold,
+                         @Param("lockedUntil") LocalDateTime lockedUntil);
+
+  /**
+   * 로그인 성공 기록 (UPDATE 한 번)
+   * 마지막 로그인 시각/IP를 기록하고 로그인 실패 횟수와 잠금을 초기화한다
+   * @param id 사용자 ID
+   * @param loginAt 로그인 시각
+   * @param loginIp 클라이언트 IP
+   * @return 업데이트된 행 수
+   */
+  @Modifying
+  @Query("""
+      UPDATE User u SET
+        u.lastLoginAt = :loginAt,
+        u.lastLoginIp = :loginIp,
+        u.failedLoginAttempts = 0,
+        u.accountLockedUntil = NULL
+      WHERE u.id = :id
+      """)
+  int recordLoginSuccess(@Param("id") Long id,
+                         @Param("loginAt") LocalDateTime loginAt,
+                         @Param("loginIp") String loginIp);
 }
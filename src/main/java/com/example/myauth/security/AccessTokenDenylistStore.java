@@ -0,0 +1,47 @@
+package com.example.myauth.security;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * 취소된 Access Token(jti) 저장소
+ * AccessTokenRevocationService의 블룸 필터가 "있을 수도 있음"으로 판단한 경우에만 조회되는 정확한 저장소
+ *
+ * 【구현】
+ * - LocalAccessTokenDenylistStore: 메모리 (단일 노드, app.token-revocation.backend=local)
+ * - 여러 노드 배포 시 Redis 등 공유 저장소 구현을 추가하고 backend 값으로 선택
+ *   (AppProperties.TokenRevocation.DenylistBackend에 값을 추가해야 설정할 수 있음)
+ *
+ * 항목은 토큰의 exp 이후 의미가 없으므로 만료 시각과 함께 저장하고 purgeExpired()로 제거한다
+ */
+public interface AccessTokenDenylistStore {
+
+  /**
+   * 토큰 취소 등록
+   *
+   * @param jti 토큰 ID
+   * @param expiresAt 토큰 만료 시각 (이후 자동 제거 대상)
+   */
+  void add(String jti, Instant expiresAt);
+
+  /**
+   * 취소된 토큰인지 확인 (만료된 항목은 취소되지 않은 것으로 간주)
+   *
+   * @param jti 토큰 ID
+   * @return 취소되었으면 true
+   */
+  boolean contains(String jti);
+
+  /**
+   * 아직 만료되지 않은 취소 토큰 ID 목록 (블룸 필터 재생성용)
+   */
+  Collection<String> activeJtis();
+
+  /**
+   * 만료된 항목 제거
+   *
+   * @param now 현재 시각
+   * @return 제거된 항목 수
+   */
+  int purgeExpired(Instant now);
+}
@@ -0,0 +1,106 @@
+package com.example.myauth.security;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Access Token 취소(denylist) 서비스
+ * 로그아웃된 Access Token을 만료 전까지 거부한다
+ *
+ * 【조회 경로 (모든 인증 요청)】
+ * 1. 블룸 필터 확인 → "확실히 없음"이면 즉시 통과 (대부분의 요청, 락/IO 없음)
+ * 2. "있을 수도 있음"이면 AccessTokenDenylistStore로 정확히 확인
+ *
+ * 【블룸 필터 재생성】
+ * 블룸 필터는 삭제가 불가능하므로 rebuild-interval-ms마다
+ * 만료 항목을 정리한 저장소 내용으로 새로 만들어 교체한다
+ * (공유 저장소를 쓰는 경우 다른 노드의 취소도 이 주기 안에 반영됨)
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationService {
+
+  private final AccessTokenDenylistStore store;
+  private final AppProperties appProperties;
+
+  /**
+   * 취소 등록과 필터 재생성의 순서를 보장 (조회 경로는 락을 사용하지 않음)
+   */
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  private volatile BloomFilter bloomFilter;
+
+  public AccessTokenRevocationService(AccessTokenDenylistStore store, AppProperties appProperties) {
+    this.store = store;
+    this.appProperties = appProperties;
+    this.bloomFilter = newBloomFilter();
+  }
+
+  /**
+   * Access Token 취소
+   *
+   * @param jti 토큰 ID
+   * @param expiresAt 토큰 만료 시각
+   */
+  public void revoke(String jti, Instant expiresAt) {
+    if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+      return;
+    }
+
+    writeLock.lock();
+    try {
+      store.add(jti, expiresAt);
+      bloomFilter.put(jti);
+    } finally {
+      writeLock.unlock();
+    }
+    log.debug("Access Token 취소 등록 - jti: {}, exp: {}", jti, expiresAt);
+  }
+
+  /**
+   * 취소된 Access Token인지 확인
+   *
+   * @param jti 토큰 ID (jti가 없는 이전 토큰은 확인하지 않음)
+   * @return 취소되었으면 true
+   */
+  public boolean isRevoked(String jti) {
+    if (jti == null || !bloomFilter.mightContain(jti)) {
+      return false;
+    }
+    return store.contains(jti);
+  }
+
+  /**
+   * 만료 항목 정리 + 블룸 필터 재생성
+   */
+  @Scheduled(fixedDelayString = "${app.token-revocation.rebuild-interval-ms:60000}")
+  public void rebuild() {
+    writeLock.lock();
+    try {
+      int purged = store.purgeExpired(Instant.now());
+      Collection<String> active = store.activeJtis();
+
+      BloomFilter rebuilt = newBloomFilter();
+      active.forEach(rebuilt::put);
+      bloomFilter = rebuilt;
+
+      if (purged > 0 || !active.isEmpty()) {
+        log.debug("Access Token 취소 목록 재생성 - 활성: {}, 만료 제거: {}", active.size(), purged);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private BloomFilter newBloomFilter() {
+    AppProperties.TokenRevocation config = appProperties.getTokenRevocation();
+    return new BloomFilter(config.getExpectedInsertions(), config.getFalsePositiveRate());
+  }
+}
@@ -0,0 +1,177 @@
+package com.example.myauth.security;
+
+import com.example.myauth.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전용 스레드 풀에서 해시를 계산하는 PasswordEncoder
+ *
+ * 【목적】
+ * BCrypt 검증은 요청당 수십~수백 ms의 CPU를 사용한다
+ * 요청 스레드에서 바로 계산하면 로그인 폭주 시 CPU와 Tomcat 스레드를 모두 점유하여
+ * 피드 등 다른 API의 지연이 함께 증가한다
+ *
+ * 【동작】
+ * - 해시 계산(encode/matches)은 고정 크기 스레드 풀에서만 실행 → CPU 사용량 상한
+ * - 대기열이 가득 차면 즉시 거부 (ServiceBusyException → 503)
+ * - 대기열에서 maxWaitMs 이상 기다리면 포기하고 거부 (클라이언트가 이미 타임아웃했을 가능성)
+ * - upgradeEncoding은 해시 계산이 없으므로 위임 대상에서 바로 실행
+ *
+ * 요청 스레드는 결과를 기다리는 동안 블로킹되지만 CPU를 사용하지 않으며,
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 플랫폼 스레드도 점유하지 않는다
+ *
+ * 【지표】
+ * - myauth.password.hash{operation=encode|matches}: 해시 계산 시간 (BCrypt 강도 조정 근거)
+ * - myauth.password.hash.queue.wait: 대기열에서 기다린 시간 (스레드 수 부족 신호)
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long maxWaitMs;
+
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder timedOut = new LongAdder();
+
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Timer queueWaitTimer;
+
+  /**
+   * @param delegate 실제 해시를 계산할 인코더
+   * @param threads 해시 계산 스레드 수
+   * @param queueCapacity 대기열 최대 길이
+   * @param maxWaitMs 요청당 최대 대기 시간 (대기열 + 계산)
+   * @param meterRegistry 계산/대기 시간 기록
+   */
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long maxWaitMs,
+                                MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.maxWaitMs = maxWaitMs;
+    this.encodeTimer = hashTimer("encode", meterRegistry);
+    this.matchesTimer = hashTimer("matches", meterRegistry);
+    this.queueWaitTimer = Timer.builder("myauth.password.hash.queue.wait")
+        .description("비밀번호 해시 대기열 대기 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+        threads, threads,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    log.info("비밀번호 해시 전용 스레드 풀 생성 - threads: {}, queueCapacity: {}, maxWaitMs: {}",
+        threads, queueCapacity, maxWaitMs);
+  }
+
+  private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+    return Timer.builder("myauth.password.hash")
+        .description("비밀번호 해시 계산 시간")
+        .tag("operation", operation)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(encodeTimer, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * 해시 작업을 전용 스레드 풀에서 실행하고 결과를 기다린다
+   */
+  private <T> T execute(Timer hashTimer, Callable<T> task) {
+    long enqueuedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        long startedAt = System.nanoTime();
+        queueWaitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+          return task.call();
+        } finally {
+          hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("비밀번호 해시 대기열 가득 참 - 요청 거부 (대기: {})", executor.getQueue().size());
+      throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    try {
+      return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      timedOut.increment();
+      log.warn("비밀번호 해시 대기 시간 초과 - {}ms", maxWaitMs);
+      throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceBusyException("요청 처리가 중단되었습니다.");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("비밀번호 해시 계산 실패", cause);
+    }
+  }
+
+  /**
+   * 해시 스레드 풀 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("active", (long) executor.getActiveCount());
+    metrics.put("queued", (long) executor.getQueue().size());
+    metrics.put("completed", executor.getCompletedTaskCount());
+    metrics.put("rejected", rejected.sum());
+    metrics.put("timedOut", timedOut.sum());
+    return metrics;
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+}
@@ -1,6 +1,9 @@
 package com.example.myauth.security;
 
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
 import com.example.myauth.repository.RefreshTokenRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,7 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Security 로그아웃 핸들러
- * 로그아웃 시 Refresh Token을 DB에서 삭제하여 완전히 revoke 처리
+ * 로그아웃 시 Refresh Token을 DB에서 삭제하고, 현재 Access Token을 만료 시까지 취소 처리
  */
 @Slf4j
 @Component
@@ -22,13 +25,16 @@ public class CustomLogoutHandler implements LogoutHandler {
 
   private final RefreshTokenRepository refreshTokenRepository;
   private final JwtTokenProvider jwtTokenProvider;
+  private final AccessTokenRevocationService accessTokenRevocationService;
+  private final DomainMetrics domainMetrics;
 
   /**
    * 로그아웃 처리
    * 1. Authorization 헤더 또는 쿠키에서 Access Token 추출
    * 2. Access Token에서 사용자 이메일 추출
    * 3. 해당 사용자의 모든 Refresh Token을 DB에서 삭제
-   * 4. 쿠키가 있다면 제거 (웹 클라이언트)
+   * 4. 현재 Access Token 취소 (jti를 만료 시각까지 denylist에 등록)
+   * 5. 쿠키가 있다면 제거 (웹 클라이언트)
    *
    * @param request HTTP 요청 객체
    * @param response HTTP 응답 객체
@@ -56,14 +62,19 @@ public class CustomLogoutHandler implements LogoutHandler {
         return;
       }
 
-      String email = jwtTokenProvider.getEmailFromToken(accessToken);
+      Claims claims = jwtTokenProvider.parseClaims(accessToken);
+      String email = claims.getSubject();
       log.info("로그아웃 요청: {}", email);
 
       // 3️⃣ 해당 사용자의 모든 Refresh Token을 DB에서 삭제
       int deletedCount = refreshTokenRepository.deleteByUserEmail(email);
       log.info("Refresh Token 삭제 완료: {} (삭제된 토큰 수: {})", email, deletedCount);
 
-      // 4️⃣ 쿠키 삭제 (웹 클라이언트)
+      // 4️⃣ 현재 Access Token 취소 (만료 전까지 JwtAuthenticationFilter에서 거부)
+      accessTokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+      domainMetrics.increment(DomainAction.LOGGED_OUT);
+
+      // 5️⃣ 쿠키 삭제 (웹 클라이언트)
       clearRefreshTokenCookie(response);
 
     } catch (Exception e) {
@@ -7,6 +7,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -79,14 +80,16 @@ public class CustomUserDetails implements UserDetails {
 
   /**
    * 계정이 잠기지 않았는지 확인
-   * User 엔티티의 isActive 필드로 판단
+   * User 엔티티의 isActive 필드와 로그인 실패 누적 잠금(accountLockedUntil)으로 판단
+   * 비밀번호 검증 전에 확인되므로 잠긴 계정은 BCrypt 계산 없이 거부된다
    *
    * @return true면 계정이 잠기지 않음
    */
   @Override
   public boolean isAccountNonLocked() {
     // isActive가 false면 계정이 잠긴 것으로 간주
-    return user.getIsActive();
+    LocalDateTime lockedUntil = user.getAccountLockedUntil();
+    return user.getIsActive() && (lockedUntil == null || !lockedUntil.isAfter(LocalDateTime.now()));
   }
 
   /**
@@ -5,9 +5,11 @@ import com.example.myauth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Security의 UserDetailsService 인터페이스 구현체
@@ -19,7 +21,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   private final UserRepository userRepository;
 
@@ -49,6 +51,26 @@ public class CustomUserDetailsService implements UserDetailsService {
     return new CustomUserDetails(user);
   }
 
+  /**
+   * 비밀번호 해시 갱신 (UserDetailsPasswordService)
+   * AuthenticationManager(DaoAuthenticationProvider)가 인증 성공 후
+   * PasswordEncoder.upgradeEncoding()이 true이면 새 해시로 자동 호출한다
+   *
+   * @param userDetails 인증된 사용자
+   * @param newPassword 새 파라미터로 계산된 비밀번호 해시
+   * @return 비밀번호가 갱신된 UserDetails
+   */
+  @Override
+  @Transactional
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    User user = ((CustomUserDetails) userDetails).getUser();
+    userRepository.updatePassword(user.getId(), newPassword);
+    user.setPassword(newPassword);
+
+    log.info("비밀번호 해시 재계산 완료 (해시 파라미터 변경): {}", user.getEmail());
+    return new CustomUserDetails(user);
+  }
+
   /**
    * ID로 사용자를 로드하는 추가 메서드
    * JWT 필터 등에서 userId로 사용자를 조회할 때 사용한다
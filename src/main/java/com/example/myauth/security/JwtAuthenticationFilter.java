@@ -2,15 +2,20 @@ package com.example.myauth.security;
 
 import com.example.myauth.dto.JwtErrorResponse;
 import com.example.myauth.entity.User;
+import com.example.myauth.monitoring.SpanKind;
+import com.example.myauth.monitoring.TraceContext;
+import com.example.myauth.monitoring.TraceSpan;
 import com.example.myauth.repository.UserRepository;
 import tools.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -24,19 +29,54 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 인증 필터
  * 모든 HTTP 요청에 대해 JWT 토큰을 검증하고 인증 정보를 SecurityContext에 설정한다
+ *
+ * 【지표】 myauth.jwt.filter{phase}
+ * - parse: 서명 검증 + Claims 파싱
+ * - revocation: 취소(로그아웃) 여부 확인
+ * - lookup: 사용자 DB 조회
+ * 추적 중인 요청에서는 인증 처리 구간(다음 필터 호출 전까지)을 SECURITY span으로 기록
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+  private static final String FILTER_METRIC = "myauth.jwt.filter";
+
   private final JwtTokenProvider jwtTokenProvider;
   private final UserRepository userRepository;
   private final ObjectMapper objectMapper;
+  private final AccessTokenRevocationService accessTokenRevocationService;
+
+  private final Timer parseTimer;
+  private final Timer revocationTimer;
+  private final Timer lookupTimer;
+
+  public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                 UserRepository userRepository,
+                                 ObjectMapper objectMapper,
+                                 AccessTokenRevocationService accessTokenRevocationService,
+                                 MeterRegistry meterRegistry) {
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.userRepository = userRepository;
+    this.objectMapper = objectMapper;
+    this.accessTokenRevocationService = accessTokenRevocationService;
+    this.parseTimer = phaseTimer("parse", meterRegistry);
+    this.revocationTimer = phaseTimer("revocation", meterRegistry);
+    this.lookupTimer = phaseTimer("lookup", meterRegistry);
+  }
+
+  private static Timer phaseTimer(String phase, MeterRegistry meterRegistry) {
+    return Timer.builder(FILTER_METRIC)
+        .description("JWT 인증 필터 단계별 소요 시간")
+        .tag("phase", phase)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
 
   /**
    * 모든 HTTP 요청마다 실행되는 필터 메서드
@@ -49,13 +89,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       FilterChain filterChain
   ) throws ServletException, IOException {
 
+    TraceSpan span = TraceContext.startSpan(SpanKind.SECURITY, "JwtAuthenticationFilter");
     try {
       // Authorization 헤더에서 JWT 토큰 추출
       String token = extractTokenFromRequest(request);
 
       // 토큰이 존재하면 인증 처리 (예외 발생 시 catch 블록에서 처리)
-      if (token != null) {
-        authenticateWithToken(token, request);
+      if (token != null && !authenticateWithToken(token, request)) {
+        // 🚫 로그아웃으로 취소된 토큰: 재로그인 안내
+        sendErrorResponse(response, JwtErrorResponse.tokenRevoked(request.getRequestURI()), HttpStatus.UNAUTHORIZED);
+        return; // 필터 체인 중단
       }
 
     } catch (ExpiredJwtException e) {
@@ -73,6 +116,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     } catch (Exception e) {
       // 예상치 못한 오류: 로그 기록 후 필터 체인 계속 진행 (인증 실패로 처리)
       log.error("JWT 인증 처리 중 예상치 못한 오류 - 경로: {}, 오류: {}", request.getRequestURI(), e.getMessage(), e);
+    } finally {
+      span.close();
     }
 
     // 다음 필터로 요청 전달
@@ -81,25 +126,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   /**
    * JWT 토큰을 검증하고 인증 정보를 SecurityContext에 설정
-   * validateToken() 내부에서 ExpiredJwtException, JwtException 등이 발생하면 상위로 전파됨
+   * parseClaims() 내부에서 ExpiredJwtException, JwtException 등이 발생하면 상위로 전파됨
    *
    * @param token JWT 토큰 문자열
    * @param request HTTP 요청 객체
-   * @throws ExpiredJwtException 토큰이 만료된 경우 (validateToken 내부에서 발생)
-   * @throws JwtException 토큰이 유효하지 않은 경우 (validateToken 내부에서 발생)
+   * @return 취소된(로그아웃된) 토큰이면 false
+   * @throws ExpiredJwtException 토큰이 만료된 경우 (parseClaims 내부에서 발생)
+   * @throws JwtException 토큰이 유효하지 않은 경우 (parseClaims 내부에서 발생)
    */
-  private void authenticateWithToken(String token, HttpServletRequest request) {
-    // 토큰 검증 (만료 시 ExpiredJwtException, 유효하지 않으면 JwtException 발생)
-    jwtTokenProvider.validateToken(token);
+  private boolean authenticateWithToken(String token, HttpServletRequest request) {
+    // 토큰 검증 + Claims 추출 (한 번만 파싱, 만료 시 ExpiredJwtException, 유효하지 않으면 JwtException 발생)
+    long startedAt = System.nanoTime();
+    Claims claims;
+    try {
+      claims = jwtTokenProvider.parseClaims(token);
+    } finally {
+      startedAt = recordSince(parseTimer, startedAt);
+    }
+
+    // 취소 여부 확인 (대부분 블룸 필터 한 번으로 끝남)
+    boolean revoked = accessTokenRevocationService.isRevoked(claims.getId());
+    startedAt = recordSince(revocationTimer, startedAt);
+    if (revoked) {
+      log.warn("취소된 Access Token 사용 - jti: {}, 경로: {}", claims.getId(), request.getRequestURI());
+      return false;
+    }
 
     // 토큰에서 사용자 정보 추출
-    String email = jwtTokenProvider.getEmailFromToken(token);
-    Long userId = jwtTokenProvider.getUserIdFromToken(token);
+    String email = claims.getSubject();
+    Long userId = claims.get("userId", Long.class);
 
     log.debug("JWT 토큰 검증 성공 - 이메일: {}, userId: {}", email, userId);
 
     // DB에서 사용자 조회
     User user = userRepository.findById(userId).orElse(null);
+    recordSince(lookupTimer, startedAt);
 
     // 사용자가 존재하고 활성화 상태인 경우에만 인증 설정
     if (user != null && user.getIsActive()) {
@@ -119,6 +180,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
       log.debug("SecurityContext에 인증 정보 설정 완료: {}", email);
     }
+    return true;
+  }
+
+  /**
+   * startedAt부터 지금까지의 시간을 기록
+   *
+   * @return 현재 시각 (다음 단계의 시작 시각)
+   */
+  private static long recordSince(Timer timer, long startedAt) {
+    long now = System.nanoTime();
+    timer.record(now - startedAt, TimeUnit.NANOSECONDS);
+    return now;
   }
 
   /**
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 클래스
@@ -54,6 +55,7 @@ public class JwtTokenProvider {
         .subject(userEmail)                    // 토큰 주체 (사용자 이메일)
         .claim("userId", userId)            // 사용자 ID 추가
         .claim("type", "access")         // 토큰 타입
+        .id(UUID.randomUUID().toString())      // 토큰 고유 ID (jti, 로그아웃 시 취소 대상 식별)
         .issuedAt(now)                         // 발행 시간
         .expiration(expiryDate)                // 만료 시간
         .signWith(secretKey)                   // 서명
@@ -74,6 +76,7 @@ public class JwtTokenProvider {
     return Jwts.builder()
         .subject(userEmail)                    // 토큰 주체 (사용자 이메일)
         .claim("type", "refresh")              // 토큰 타입
+        .id(UUID.randomUUID().toString())      // 고유 ID (같은 초에 발급된 토큰도 해시가 겹치지 않도록)
         .issuedAt(now)                         // 발행 시간
         .expiration(expiryDate)                // 만료 시간
         .signWith(secretKey)                   // 서명
@@ -120,6 +123,18 @@ public class JwtTokenProvider {
     return true;
   }
 
+  /**
+   * 토큰 검증 + Claims 추출 (한 번의 파싱으로 필요한 값을 모두 조회할 때 사용)
+   *
+   * @param token JWT 토큰
+   * @return Claims 객체
+   * @throws ExpiredJwtException 토큰이 만료된 경우
+   * @throws JwtException 토큰이 유효하지 않은 경우
+   */
+  public Claims parseClaims(String token) {
+    return parseToken(token);
+  }
+
   /**
    * 토큰 파싱 (내부 메서드)
    * @param token JWT 토큰
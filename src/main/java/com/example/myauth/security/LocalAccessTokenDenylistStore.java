@@ -0,0 +1,51 @@
+package com.example.myauth.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 취소 토큰 저장소 (단일 노드용)
+ * 재시작 시 비워지지만, 항목 수명이 Access Token 만료 시간 이하이므로 영향 범위가 제한적이다
+ */
+@Component
+@ConditionalOnProperty(name = "app.token-revocation.backend", havingValue = "local", matchIfMissing = true)
+public class LocalAccessTokenDenylistStore implements AccessTokenDenylistStore {
+
+  /**
+   * jti → 토큰 만료 시각
+   */
+  private final Map<String, Instant> entries = new ConcurrentHashMap<>();
+
+  @Override
+  public void add(String jti, Instant expiresAt) {
+    entries.put(jti, expiresAt);
+  }
+
+  @Override
+  public boolean contains(String jti) {
+    Instant expiresAt = entries.get(jti);
+    return expiresAt != null && expiresAt.isAfter(Instant.now());
+  }
+
+  @Override
+  public Collection<String> activeJtis() {
+    Instant now = Instant.now();
+    return entries.entrySet().stream()
+        .filter(entry -> entry.getValue().isAfter(now))
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  @Override
+  public int purgeExpired(Instant now) {
+    int before = entries.size();
+    entries.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    return before - entries.size();
+  }
+}
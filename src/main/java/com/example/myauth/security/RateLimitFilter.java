@@ -0,0 +1,129 @@
+package com.example.myauth.security;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.dto.ApiResponse;
+import com.example.myauth.util.TokenBucketRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인증 엔드포인트 IP별 요청 제한 필터
+ * JwtAuthenticationFilter보다 먼저 실행되어, 제한을 넘은 요청은
+ * 컨트롤러/BCrypt/DB에 도달하기 전에 429로 거부한다
+ *
+ * 【대상】
+ * - POST /api/login, /api/old_login → app.rate-limit.login-per-ip
+ * - POST /api/signup → app.rate-limit.signup-per-ip
+ * - POST /api/refresh → app.rate-limit.refresh-per-ip
+ * 계정별 제한은 요청 본문(이메일)이 필요하므로 LoginAttemptService에서 처리
+ *
+ * 【IP】
+ * request.getRemoteAddr() 사용
+ * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 IP가 들어오도록 해야 함
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+
+  /**
+   * 경로 → IP별 제한기
+   */
+  private final Map<String, TokenBucketRateLimiter> limitersByPath = new LinkedHashMap<>();
+  private final Map<String, TokenBucketRateLimiter> limitersByName = new LinkedHashMap<>();
+
+  public RateLimitFilter(AppProperties appProperties, ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+
+    AppProperties.RateLimit config = appProperties.getRateLimit();
+    this.enabled = config.isEnabled();
+
+    TokenBucketRateLimiter login = createLimiter(config.getLoginPerIp(), config);
+    TokenBucketRateLimiter signup = createLimiter(config.getSignupPerIp(), config);
+    TokenBucketRateLimiter refresh = createLimiter(config.getRefreshPerIp(), config);
+
+    limitersByPath.put("/api/login", login);
+    limitersByPath.put("/api/old_login", login);
+    limitersByPath.put("/api/signup", signup);
+    limitersByPath.put("/api/refresh", refresh);
+
+    limitersByName.put("login", login);
+    limitersByName.put("signup", signup);
+    limitersByName.put("refresh", refresh);
+  }
+
+  private static TokenBucketRateLimiter createLimiter(AppProperties.Limit limit, AppProperties.RateLimit config) {
+    return new TokenBucketRateLimiter(
+        limit.getCapacity(), limit.getRefillPerMinute(), config.getMaxKeys(), config.getStripes());
+  }
+
+  /**
+   * 제한 대상이 아닌 요청은 필터를 건너뛴다
+   */
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled
+        || !"POST".equals(request.getMethod())
+        || !limitersByPath.containsKey(request.getServletPath());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain
+  ) throws ServletException, IOException {
+
+    String path = request.getServletPath();
+    String clientIp = request.getRemoteAddr();
+    long retryAfterMs = limitersByPath.get(path).tryAcquire(clientIp);
+
+    if (retryAfterMs > 0) {
+      long retryAfterSeconds = (retryAfterMs + 999) / 1000;
+      log.warn("요청 제한 초과 - IP: {}, 경로: {}, 재시도까지: {}초", clientIp, path, retryAfterSeconds);
+      sendTooManyRequests(response, retryAfterSeconds);
+      return; // 필터 체인 중단
+    }
+
+    filterChain.doFilter(request, response);
+  }
+
+  /**
+   * 429 Too Many Requests 응답 전송
+   */
+  private void sendTooManyRequests(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+
+    ApiResponse<Void> body = ApiResponse.error("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+    response.getWriter().write(objectMapper.writeValueAsString(body));
+  }
+
+  /**
+   * 엔드포인트별 제한기 지표 스냅샷
+   *
+   * @return 제한기 이름 → 지표
+   */
+  public Map<String, Map<String, Long>> getMetrics() {
+    Map<String, Map<String, Long>> metrics = new LinkedHashMap<>();
+    limitersByName.forEach((name, limiter) -> metrics.put(name, limiter.getMetrics()));
+    return metrics;
+  }
+}
@@ -2,6 +2,7 @@ package com.example.myauth.service;
 
 import com.example.myauth.dto.LoginRequest;
 import com.example.myauth.dto.LoginResponse;
+import com.example.myauth.dto.LoginUserView;
 import com.example.myauth.dto.SignupRequest;
 import com.example.myauth.dto.TokenRefreshResponse;
 import com.example.myauth.entity.RefreshToken;
@@ -10,16 +11,21 @@ import com.example.myauth.exception.AccountException;
 import com.example.myauth.exception.DuplicateEmailException;
 import com.example.myauth.exception.InvalidCredentialsException;
 import com.example.myauth.exception.TokenException;
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
 import com.example.myauth.repository.RefreshTokenRepository;
 import com.example.myauth.repository.UserRepository;
 import com.example.myauth.security.CustomUserDetails;
 import com.example.myauth.security.CustomUserDetailsService;
 import com.example.myauth.security.JwtTokenProvider;
+import com.example.myauth.util.TokenHashUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -41,6 +47,9 @@ public class AuthService {
   private final RefreshTokenRepository refreshTokenRepository;
   private final CustomUserDetailsService customUserDetailsService;
   private final AuthenticationManager authenticationManager;
+  private final SessionService sessionService;
+  private final LoginAttemptService loginAttemptService;
+  private final DomainMetrics domainMetrics;
 
 
   /**
@@ -66,6 +75,7 @@ public class AuthService {
       // DB에 저장한다 - unique constraint 위반 시 예외 발생
       userRepository.save(user);
       log.info("회원 가입 성공 : {}", user.getEmail());
+      domainMetrics.increment(DomainAction.USER_SIGNED_UP);
 
     } catch (DataIntegrityViolationException e) {
       // unique constraint 위반 (이미 존재하는 이메일)
@@ -77,47 +87,72 @@ public class AuthService {
   /**
    * 로그인 처리
    * 성공 시 LoginResponse 반환, 실패 시 예외 던지기
+   * 비밀번호 실패 기록(UPDATE)은 InvalidCredentialsException과 함께 커밋되어야 하므로 noRollbackFor 지정
+   *
+   * 【쿼리】
+   * 로그인에 필요한 컬럼만 조회(LoginUserView, uk email) → 세션 수 확인 → Refresh Token INSERT
+   * → 마지막 로그인 정보 + 실패 기록 초기화 UPDATE(PK)
+   * User 엔티티를 로드하지 않으므로 영속성 컨텍스트 스냅샷/더티 체킹 비용도 없다
+   *
+   * @param loginRequest 로그인 요청
+   * @param clientIp 클라이언트 IP (last_login_ip 기록용)
    */
-  @Transactional
-  public LoginResponse login(@Valid LoginRequest loginRequest) {
+  @Transactional(noRollbackFor = InvalidCredentialsException.class)
+  public LoginResponse login(@Valid LoginRequest loginRequest, String clientIp) {
     // 1️⃣ 이메일을 정규화한다 (회원가입과 동일하게 처리)
     String normalizedEmail = loginRequest.getEmail().trim().toLowerCase();
     log.info("로그인 시도: {}", normalizedEmail);
 
-    // 2️⃣ 사용자를 조회한다
-    User user = userRepository.findByEmail(normalizedEmail)
+    // 1-1. 계정별 시도 횟수 제한 (BCrypt 검증 전에 거부)
+    loginAttemptService.checkAccountRate(normalizedEmail);
+
+    // 2️⃣ 로그인에 필요한 컬럼만 조회한다
+    LoginUserView user = userRepository.findLoginViewByEmail(normalizedEmail)
         .orElseThrow(() -> {
           log.warn("존재하지 않는 이메일로 로그인 시도: {}", normalizedEmail);
           // 보안상 이유로 이메일이 틀렸는지 비밀번호가 틀렸는지 알려주지 않음
           return new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
         });
 
+    // 2-1. 로그인 실패 누적으로 잠긴 계정은 비밀번호 검증 없이 거부
+    if (loginAttemptService.isLocked(user.accountLockedUntil())) {
+      log.warn("잠긴 계정으로 로그인 시도: {} (잠금 해제: {})", normalizedEmail, user.accountLockedUntil());
+      throw new AccountException("로그인 실패가 반복되어 계정이 일시적으로 잠겼습니다. 잠시 후 다시 시도해주세요.");
+    }
+
     // 3️⃣ 비밀번호를 검증한다
     boolean isPasswordValid = passwordEncoder.matches(
         loginRequest.getPassword(),  // 입력된 평문 비밀번호
-        user.getPassword()            // DB에 저장된 암호화된 비밀번호
+        user.password()               // DB에 저장된 암호화된 비밀번호
     );
 
     if (!isPasswordValid) {
       log.warn("잘못된 비밀번호로 로그인 시도: {}", normalizedEmail);
+      loginAttemptService.recordFailure(normalizedEmail);
       // 보안상 동일한 에러 메시지 사용
       throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
     }
 
+    // 3-1. 해시 파라미터(강도/알고리즘)가 바뀌었으면 새 파라미터로 재해시
+    if (passwordEncoder.upgradeEncoding(user.password())) {
+      userRepository.updatePassword(user.id(), passwordEncoder.encode(loginRequest.getPassword()));
+      log.info("비밀번호 해시 재계산 완료 (해시 파라미터 변경): {}", normalizedEmail);
+    }
+
     // 4️⃣ 계정 상태를 확인한다
 
     // 4-1. 활성화 여부 확인
-    if (!user.getIsActive()) {
+    if (!user.isActive()) {
       log.warn("비활성화된 계정으로 로그인 시도: {}", normalizedEmail);
       throw new AccountException("비활성화된 계정입니다. 고객센터에 문의해주세요.");
     }
 
     // 4-2. 계정 상태 확인
-    if (user.getStatus() != User.Status.ACTIVE) {
-      log.warn("비정상 상태 계정으로 로그인 시도: {} (상태: {})", normalizedEmail, user.getStatus());
+    if (user.status() != User.Status.ACTIVE) {
+      log.warn("비정상 상태 계정으로 로그인 시도: {} (상태: {})", normalizedEmail, user.status());
 
       // 상태에 따라 다른 메시지 반환
-      String errorMessage = switch (user.getStatus()) {
+      String errorMessage = switch (user.status()) {
         case SUSPENDED -> "정지된 계정입니다. 고객센터에 문의해주세요.";
         case DELETED -> "삭제된 계정입니다.";
         case INACTIVE -> "비활성화된 계정입니다. 고객센터에 문의해주세요.";
@@ -127,32 +162,21 @@ public class AuthService {
       throw new AccountException(errorMessage);
     }
 
-    // 5️⃣ JWT 토큰 생성
-    String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail(), user.getId());
-    String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
-
-    log.info("JWT 토큰 생성 완료: {}", normalizedEmail);
-
-    // 6️⃣ Refresh Token을 DB에 저장
-    RefreshToken refreshTokenEntity = RefreshToken.builder()
-        .token(refreshToken)
-        .user(user)
-        .expiresAt(LocalDateTime.ofInstant(
-            jwtTokenProvider.getRefreshTokenExpiryDate().toInstant(),
-            ZoneId.systemDefault()
-        ))
-        .build();
+    // 5️⃣ JWT 토큰 생성 및 Refresh Token 저장
+    String accessToken = jwtTokenProvider.generateAccessToken(user.email(), user.id());
+    String refreshToken = issueRefreshToken(user.id(), user.email());
+    log.info("JWT 토큰 생성 및 Refresh Token 저장 완료: {}", normalizedEmail);
 
-    refreshTokenRepository.save(refreshTokenEntity);
-    log.info("Refresh Token DB 저장 완료: {}", normalizedEmail);
+    // 6️⃣ 마지막 로그인 정보 기록 + 실패 기록 초기화 (UPDATE 한 번)
+    loginAttemptService.recordSuccess(user.id(), clientIp);
 
     // 7️⃣ 로그인 성공 응답 반환
     LoginResponse.UserInfo userInfo = LoginResponse.UserInfo.builder()
-        .id(user.getId())
-        .email(user.getEmail())
-        .name(user.getName())
-        .role(user.getRole().name())
-        .profileImage(user.getProfileImage())
+        .id(user.id())
+        .email(user.email())
+        .name(user.name())
+        .role(user.role().name())
+        .profileImage(user.profileImage())
         .build();
 
     log.info("로그인 성공: {}", normalizedEmail);
@@ -168,13 +192,24 @@ public class AuthService {
    * Spring Security의 표준 AuthenticationManager를 사용하여 로그인을 처리
    * - 사용자 조회, 비밀번호 검증, 계정 상태 확인을 자동으로 처리
    * 성공 시 LoginResponse 반환, 실패 시 예외 던지기
+   * 비밀번호 실패 기록(UPDATE)은 InvalidCredentialsException과 함께 커밋되어야 하므로 noRollbackFor 지정
+   *
+   * 【쿼리】
+   * 사용자 조회(CustomUserDetailsService, uk email) → 세션 수 확인 → Refresh Token INSERT
+   * → 마지막 로그인 정보 + 실패 기록 초기화 UPDATE(PK)
+   *
+   * @param loginRequest 로그인 요청
+   * @param clientIp 클라이언트 IP (last_login_ip 기록용)
    */
-  @Transactional
-  public LoginResponse loginEx(@Valid LoginRequest loginRequest) {
+  @Transactional(noRollbackFor = InvalidCredentialsException.class)
+  public LoginResponse loginEx(@Valid LoginRequest loginRequest, String clientIp) {
     // 1️⃣ 이메일을 정규화한다
     String normalizedEmail = loginRequest.getEmail().trim().toLowerCase();
     log.info("로그인 시도 (loginEx): {}", normalizedEmail);
 
+    // 1-1. 계정별 시도 횟수 제한 (BCrypt 검증 전에 거부)
+    loginAttemptService.checkAccountRate(normalizedEmail);
+
     // 2️⃣ AuthenticationManager를 통해 인증 처리
     // Spring Security가 자동으로:
     // - CustomUserDetailsService를 통해 사용자 조회
@@ -185,8 +220,17 @@ public class AuthService {
       authentication = authenticationManager.authenticate(
           new UsernamePasswordAuthenticationToken(normalizedEmail, loginRequest.getPassword())
       );
+    } catch (LockedException e) {
+      // 계정 잠금: 로그인 실패 누적 또는 비활성화 (비밀번호 검증 전에 거부됨)
+      log.warn("잠긴 계정으로 로그인 시도 (loginEx): {}", normalizedEmail);
+      throw new AccountException("잠긴 계정입니다. 잠시 후 다시 시도하거나 고객센터에 문의해주세요.");
+    } catch (BadCredentialsException e) {
+      // 사용자 없음 또는 비밀번호 불일치 (존재하는 계정이면 실패 횟수 누적)
+      log.warn("로그인 실패 (loginEx): {} - {}", normalizedEmail, e.getMessage());
+      loginAttemptService.recordFailure(normalizedEmail);
+      throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
     } catch (AuthenticationException e) {
-      // 인증 실패: 사용자 없음, 비밀번호 불일치, 계정 비활성화 등
+      // 인증 실패: 계정 비활성화 등
       log.warn("로그인 실패 (loginEx): {} - {}", normalizedEmail, e.getMessage());
       throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
     }
@@ -195,23 +239,13 @@ public class AuthService {
     CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
     User user = customUserDetails.getUser();
 
-    // 4️⃣ JWT 토큰 생성
+    // 4️⃣ JWT 토큰 생성 및 Refresh Token 저장
     String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail(), user.getId());
-    String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
-    log.info("JWT 토큰 생성 완료 (loginEx): {}", normalizedEmail);
+    String refreshToken = issueRefreshToken(user.getId(), user.getEmail());
+    log.info("JWT 토큰 생성 및 Refresh Token 저장 완료 (loginEx): {}", normalizedEmail);
 
-    // 5️⃣ Refresh Token을 DB에 저장
-    RefreshToken refreshTokenEntity = RefreshToken.builder()
-        .token(refreshToken)
-        .user(user)
-        .expiresAt(LocalDateTime.ofInstant(
-            jwtTokenProvider.getRefreshTokenExpiryDate().toInstant(),
-            ZoneId.systemDefault()
-        ))
-        .build();
-
-    refreshTokenRepository.save(refreshTokenEntity);
-    log.info("Refresh Token DB 저장 완료 (loginEx): {}", normalizedEmail);
+    // 5️⃣ 마지막 로그인 정보 기록 + 실패 기록 초기화 (UPDATE 한 번)
+    loginAttemptService.recordSuccess(user.getId(), clientIp);
 
     // 6️⃣ 로그인 성공 응답 반환
     LoginResponse.UserInfo userInfo = LoginResponse.UserInfo.builder()
@@ -230,11 +264,20 @@ public class AuthService {
   }
 
   /**
-   * Refresh Token으로 Access Token 갱신
-   * Refresh Token의 유효성을 검증하고 새로운 Access Token을 발급
+   * Refresh Token으로 Access Token 갱신 (Refresh Token Rotation)
+   * Refresh Token의 유효성을 검증하고 새로운 Access Token과 Refresh Token을 발급
    * 성공 시 TokenRefreshResponse 반환, 실패 시 예외 던지기
+   *
+   * 【Rotation】
+   * - 사용된 Refresh Token은 즉시 취소하고 같은 패밀리의 새 토큰을 발급 (1회용)
+   * - 이미 취소된 토큰이 다시 사용되면 탈취로 간주하여 패밀리 전체 취소
+   *
+   * 【쿼리】
+   * 토큰 해시 조회(유니크 인덱스) → 조건부 취소 UPDATE(PK) → 새 토큰 INSERT
+   * 재사용 감지 시에만 패밀리 취소 UPDATE(idx_family_id) 추가
+   * 패밀리 취소는 TokenException과 함께 커밋되어야 하므로 noRollbackFor 지정
    */
-  @Transactional(readOnly = true)
+  @Transactional(noRollbackFor = TokenException.class)
   public TokenRefreshResponse refreshAccessToken(String refreshToken) {
     log.info("Access Token 갱신 요청");
 
@@ -249,32 +292,95 @@ public class AuthService {
     log.debug("Refresh Token에서 추출한 이메일: {}", email);
 
     // 3️⃣ DB에 해당 Refresh Token이 존재하는지 확인
-    RefreshToken refreshTokenEntity = refreshTokenRepository.findByToken(refreshToken)
+    RefreshToken refreshTokenEntity = refreshTokenRepository.findByTokenHash(TokenHashUtil.sha256(refreshToken))
         .orElseThrow(() -> {
           log.warn("DB에 존재하지 않는 Refresh Token");
           return new TokenException("유효하지 않은 Refresh Token입니다. 다시 로그인해주세요.");
         });
 
-    // 4️⃣ Refresh Token이 만료되었는지 확인
+    // 4️⃣ 이미 사용(취소)된 토큰이면 재사용 → 패밀리 전체 취소
+    if (refreshTokenEntity.getIsRevoked()) {
+      throw revokeFamilyOnReuse(refreshTokenEntity, email);
+    }
+
+    // 5️⃣ Refresh Token이 만료되었는지 확인
     if (refreshTokenEntity.getExpiresAt().isBefore(LocalDateTime.now())) {
       log.warn("만료된 Refresh Token: {}", email);
       throw new TokenException("Refresh Token이 만료되었습니다. 다시 로그인해주세요.");
     }
 
-    // 5️⃣ 사용자 조회
+    // 6️⃣ 사용자 조회
     User user = refreshTokenEntity.getUser();
     if (user == null || !user.getIsActive() || user.getStatus() != User.Status.ACTIVE) {
       log.warn("비활성화된 사용자: {}", email);
       throw new AccountException("비활성화된 계정입니다. 고객센터에 문의해주세요.");
     }
 
-    // 6️⃣ 새 Access Token 생성
+    // 7️⃣ 기존 토큰 사용 처리 (동시에 같은 토큰으로 갱신한 경우 한 요청만 성공)
+    if (refreshTokenRepository.markRotated(refreshTokenEntity.getId(), LocalDateTime.now()) == 0) {
+      throw revokeFamilyOnReuse(refreshTokenEntity, email);
+    }
+
+    // 8️⃣ 새 Access Token + 같은 패밀리의 새 Refresh Token 발급
     String newAccessToken = jwtTokenProvider.generateAccessToken(user.getEmail(), user.getId());
-    log.info("새 Access Token 발급 성공: {}", email);
+    String newRefreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
+
+    RefreshToken rotatedToken = RefreshToken.builder()
+        .tokenHash(TokenHashUtil.sha256(newRefreshToken))
+        .familyId(refreshTokenEntity.getFamilyId())
+        .parentId(refreshTokenEntity.getId())
+        .user(user)
+        .expiresAt(LocalDateTime.ofInstant(
+            jwtTokenProvider.getRefreshTokenExpiryDate().toInstant(),
+            ZoneId.systemDefault()
+        ))
+        .build();
+
+    refreshTokenRepository.save(rotatedToken);
+    log.info("새 Access Token / Refresh Token 발급 성공: {}", email);
+    domainMetrics.increment(DomainAction.TOKEN_REFRESHED);
 
     return TokenRefreshResponse.builder()
         .accessToken(newAccessToken)
-        .refreshToken(null)  // Refresh Token Rotation 미사용
+        .refreshToken(newRefreshToken)
         .build();
   }
+
+  /**
+   * 새 로그인 세션의 Refresh Token 발급 및 저장
+   * 최대 세션 수를 넘으면 가장 오래된 세션을 먼저 제거한다
+   * User는 프록시 참조(getReferenceById)로 연결하므로 사용자 조회 쿼리가 발생하지 않는다
+   *
+   * @return 발급된 Refresh Token (원문)
+   */
+  private String issueRefreshToken(Long userId, String email) {
+    String refreshToken = jwtTokenProvider.generateRefreshToken(email);
+
+    sessionService.evictOldestSessionsForNewLogin(userId);
+    RefreshToken refreshTokenEntity = RefreshToken.builder()
+        .tokenHash(TokenHashUtil.sha256(refreshToken))
+        .user(userRepository.getReferenceById(userId))
+        .expiresAt(LocalDateTime.ofInstant(
+            jwtTokenProvider.getRefreshTokenExpiryDate().toInstant(),
+            ZoneId.systemDefault()
+        ))
+        .build();
+
+    refreshTokenRepository.save(refreshTokenEntity);
+    return refreshToken;
+  }
+
+  /**
+   * Refresh Token 재사용 감지 처리
+   * 같은 패밀리의 모든 토큰을 취소하여 탈취된 토큰과 정상 사용자의 토큰을 모두 무효화
+   * (정상 사용자는 다시 로그인해야 함)
+   *
+   * @return 호출한 쪽에서 던질 예외
+   */
+  private TokenException revokeFamilyOnReuse(RefreshToken refreshTokenEntity, String email) {
+    int revokedCount = refreshTokenRepository.revokeFamily(refreshTokenEntity.getFamilyId());
+    log.warn("Refresh Token 재사용 감지 - 패밀리 전체 취소: {}, familyId: {}, 취소: {}개",
+        email, refreshTokenEntity.getFamilyId(), revokedCount);
+    return new TokenException("이미 사용된 Refresh Token입니다. 보안을 위해 다시 로그인해주세요.");
+  }
 }
@@ -1,5 +1,6 @@
 package com.example.myauth.service;
 
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.bookmark.BookmarkResponse;
 import com.example.myauth.dto.bookmark.BookmarkedPostResponse;
 import com.example.myauth.entity.Bookmark;
@@ -8,13 +9,15 @@ import com.example.myauth.entity.User;
 import com.example.myauth.exception.BookmarkNotFoundException;
 import com.example.myauth.exception.DuplicateBookmarkException;
 import com.example.myauth.exception.PostNotFoundException;
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
 import com.example.myauth.repository.BookmarkRepository;
 import com.example.myauth.repository.PostRepository;
 import com.example.myauth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +38,7 @@ public class BookmarkService {
   private final BookmarkRepository bookmarkRepository;
   private final PostRepository postRepository;
   private final UserRepository userRepository;
+  private final DomainMetrics domainMetrics;
 
   // ===== 북마크 추가/삭제 =====
 
@@ -47,7 +51,7 @@ public class BookmarkService {
    */
   @Transactional
   public BookmarkResponse bookmark(Long userId, Long postId) {
-    log.info("북마크 추가 요청 - userId: {}, postId: {}", userId, postId);
+    log.debug("북마크 추가 요청 - userId: {}, postId: {}", userId, postId);
 
     // 1. 게시글 존재 확인
     Post post = postRepository.findByIdAndIsDeletedFalse(postId)
@@ -63,7 +67,8 @@ public class BookmarkService {
     Bookmark bookmark = Bookmark.create(user, post);
     bookmarkRepository.save(bookmark);
 
-    log.info("북마크 추가 완료 - userId: {}, postId: {}", userId, postId);
+    log.debug("북마크 추가 완료 - userId: {}, postId: {}", userId, postId);
+    domainMetrics.increment(DomainAction.BOOKMARK_ADDED);
 
     return BookmarkResponse.bookmarked(postId);
   }
@@ -77,7 +82,7 @@ public class BookmarkService {
    */
   @Transactional
   public BookmarkResponse unbookmark(Long userId, Long postId) {
-    log.info("북마크 삭제 요청 - userId: {}, postId: {}", userId, postId);
+    log.debug("북마크 삭제 요청 - userId: {}, postId: {}", userId, postId);
 
     // 1. 북마크 존재 확인
     Bookmark bookmark = bookmarkRepository.findByUserIdAndPostId(userId, postId)
@@ -86,7 +91,8 @@ public class BookmarkService {
     // 2. 북마크 삭제
     bookmarkRepository.delete(bookmark);
 
-    log.info("북마크 삭제 완료 - userId: {}, postId: {}", userId, postId);
+    log.debug("북마크 삭제 완료 - userId: {}, postId: {}", userId, postId);
+    domainMetrics.increment(DomainAction.BOOKMARK_REMOVED);
 
     return BookmarkResponse.unbookmarked(postId);
   }
@@ -98,15 +104,19 @@ public class BookmarkService {
    *
    * @param userId 사용자 ID
    * @param pageable 페이지 정보
+   * @param exactTotal true면 COUNT 쿼리로 전체 북마크 수 포함
    * @return 북마크한 게시글 페이지
    */
   @Transactional(readOnly = true)
-  public Page<BookmarkedPostResponse> getBookmarkedPosts(Long userId, Pageable pageable) {
-    log.info("북마크 목록 조회 - userId: {}, page: {}", userId, pageable.getPageNumber());
+  public PageResponse<BookmarkedPostResponse> getBookmarkedPosts(Long userId, Pageable pageable, boolean exactTotal) {
+    log.debug("북마크 목록 조회 - userId: {}, page: {}", userId, pageable.getPageNumber());
 
-    Page<Bookmark> bookmarks = bookmarkRepository.findByUserIdWithPost(userId, pageable);
+    Slice<BookmarkedPostResponse> bookmarks = bookmarkRepository.findByUserIdWithPost(userId, pageable)
+        .map(BookmarkedPostResponse::from);
 
-    return bookmarks.map(BookmarkedPostResponse::from);
+    return exactTotal
+        ? PageResponse.of(bookmarks, bookmarkRepository.countActiveByUserId(userId), true)
+        : PageResponse.of(bookmarks);
   }
 
   // ===== 북마크 여부 확인 =====
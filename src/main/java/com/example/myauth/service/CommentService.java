@@ -1,14 +1,20 @@
 package com.example.myauth.service;
 
+import com.example.myauth.dto.CursorResponse;
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.comment.CommentCreateRequest;
 import com.example.myauth.dto.comment.CommentResponse;
 import com.example.myauth.dto.comment.CommentUpdateRequest;
 import com.example.myauth.entity.Comment;
 import com.example.myauth.entity.Post;
 import com.example.myauth.entity.User;
+import com.example.myauth.event.DomainEventType;
+import com.example.myauth.event.OutboxEventPublisher;
 import com.example.myauth.exception.CommentNotFoundException;
 import com.example.myauth.exception.PostNotFoundException;
 import com.example.myauth.exception.UnauthorizedAccessException;
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
 import com.example.myauth.repository.CommentRepository;
 import com.example.myauth.repository.LikeRepository;
 import com.example.myauth.repository.PostRepository;
@@ -16,12 +22,18 @@ import com.example.myauth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +54,8 @@ public class CommentService {
   private final PostRepository postRepository;
   private final UserRepository userRepository;
   private final LikeRepository likeRepository;
+  private final OutboxEventPublisher outboxEventPublisher;
+  private final DomainMetrics domainMetrics;
 
   // ===== 댓글 작성 =====
 
@@ -55,7 +69,7 @@ public class CommentService {
    */
   @Transactional
   public CommentResponse createComment(Long userId, Long postId, CommentCreateRequest request) {
-    log.info("댓글 작성 시작 - userId: {}, postId: {}", userId, postId);
+    log.debug("댓글 작성 시작 - userId: {}, postId: {}", userId, postId);
 
     // 1. 사용자 조회
     User user = userRepository.findById(userId)
@@ -75,10 +89,10 @@ public class CommentService {
     // 4. 댓글 저장
     comment = commentRepository.save(comment);
 
-    // 5. 게시글 댓글 수 증가
-    postRepository.incrementCommentCount(postId);
+    // 5. 게시글 댓글 수 증가 (아웃박스 이벤트)
+    outboxEventPublisher.publish(DomainEventType.COMMENT_CREATED, postId, userId, comment.getId());
 
-    log.info("댓글 작성 완료 - commentId: {}", comment.getId());
+    log.debug("댓글 작성 완료 - commentId: {}", comment.getId());
 
     return CommentResponse.from(comment, false, 0);
   }
@@ -93,7 +107,7 @@ public class CommentService {
    */
   @Transactional
   public CommentResponse createReply(Long userId, Long parentCommentId, CommentCreateRequest request) {
-    log.info("대댓글 작성 시작 - userId: {}, parentCommentId: {}", userId, parentCommentId);
+    log.debug("대댓글 작성 시작 - userId: {}, parentCommentId: {}", userId, parentCommentId);
 
     // 1. 사용자 조회
     User user = userRepository.findById(userId)
@@ -119,10 +133,14 @@ public class CommentService {
     // 5. 대댓글 저장
     reply = commentRepository.save(reply);
 
-    // 6. 게시글 댓글 수 증가
-    postRepository.incrementCommentCount(parentComment.getPost().getId());
+    // 6. 부모 댓글의 대댓글 수 증가
+    commentRepository.incrementReplyCount(parentCommentId);
 
-    log.info("대댓글 작성 완료 - replyId: {}, parentId: {}", reply.getId(), parentCommentId);
+    // 7. 게시글 댓글 수 증가 (아웃박스 이벤트)
+    outboxEventPublisher.publish(
+        DomainEventType.COMMENT_CREATED, parentComment.getPost().getId(), userId, reply.getId());
+
+    log.debug("대댓글 작성 완료 - replyId: {}, parentId: {}", reply.getId(), parentCommentId);
 
     return CommentResponse.from(reply, false, 0);
   }
@@ -139,7 +157,7 @@ public class CommentService {
    */
   @Transactional
   public CommentResponse updateComment(Long userId, Long commentId, CommentUpdateRequest request) {
-    log.info("댓글 수정 시작 - userId: {}, commentId: {}", userId, commentId);
+    log.debug("댓글 수정 시작 - userId: {}, commentId: {}", userId, commentId);
 
     // 1. 댓글 조회
     Comment comment = commentRepository.findByIdWithUserAndPost(commentId)
@@ -156,15 +174,13 @@ public class CommentService {
     // 4. 저장
     comment = commentRepository.save(comment);
 
-    // 5. 대댓글 수 조회
-    long replyCount = commentRepository.countRepliesByParentId(commentId);
-
-    // 6. 좋아요 여부 확인
+    // 5. 좋아요 여부 확인
     boolean isLiked = likeRepository.existsCommentLikeByUserId(userId, commentId);
 
-    log.info("댓글 수정 완료 - commentId: {}", commentId);
+    log.debug("댓글 수정 완료 - commentId: {}", commentId);
+    domainMetrics.increment(DomainAction.COMMENT_UPDATED);
 
-    return CommentResponse.from(comment, isLiked, (int) replyCount);
+    return CommentResponse.from(comment, isLiked, comment.getReplyCount());
   }
 
   // ===== 댓글 삭제 =====
@@ -178,7 +194,7 @@ public class CommentService {
    */
   @Transactional
   public void deleteComment(Long userId, Long commentId) {
-    log.info("댓글 삭제 시작 - userId: {}, commentId: {}", userId, commentId);
+    log.debug("댓글 삭제 시작 - userId: {}, commentId: {}", userId, commentId);
 
     // 1. 댓글 조회
     Comment comment = commentRepository.findByIdWithUserAndPost(commentId)
@@ -193,10 +209,16 @@ public class CommentService {
     comment.softDelete();
     commentRepository.save(comment);
 
-    // 4. 게시글 댓글 수 감소
-    postRepository.decrementCommentCount(comment.getPost().getId());
+    // 4. 대댓글이면 부모 댓글의 대댓글 수 감소
+    if (comment.getParent() != null) {
+      commentRepository.decrementReplyCount(comment.getParent().getId());
+    }
+
+    // 5. 게시글 댓글 수 감소 (아웃박스 이벤트)
+    outboxEventPublisher.publish(
+        DomainEventType.COMMENT_DELETED, comment.getPost().getId(), userId, commentId);
 
-    log.info("댓글 삭제 완료 (Soft Delete) - commentId: {}", commentId);
+    log.debug("댓글 삭제 완료 (Soft Delete) - commentId: {}", commentId);
   }
 
   // ===== 댓글 조회 =====
@@ -211,7 +233,7 @@ public class CommentService {
    */
   @Transactional(readOnly = true)
   public Page<CommentResponse> getCommentsByPostId(Long userId, Long postId, Pageable pageable) {
-    log.info("게시글 댓글 목록 조회 - postId: {}, page: {}", postId, pageable.getPageNumber());
+    log.debug("게시글 댓글 목록 조회 - postId: {}, page: {}", postId, pageable.getPageNumber());
 
     // 1. 게시글 존재 확인
     if (!postRepository.existsById(postId)) {
@@ -226,52 +248,131 @@ public class CommentService {
         .map(Comment::getId)
         .collect(Collectors.toList());
 
-    // 4. 사용자가 좋아요한 댓글 ID 목록 조회
-    List<Long> likedCommentIds = userId != null && !commentIds.isEmpty()
-        ? likeRepository.findLikedCommentIdsByUserId(userId, commentIds)
-        : Collections.emptyList();
+    // 4. 사용자가 좋아요한 댓글 ID 집합 조회 (HashSet으로 O(1) 포함 여부 확인)
+    Set<Long> likedCommentIds = userId != null && !commentIds.isEmpty()
+        ? new HashSet<>(likeRepository.findLikedCommentIdsByUserId(userId, commentIds))
+        : Collections.emptySet();
+
+    // 5. 응답 DTO 변환 (대댓글 수는 캐싱된 reply_count 컬럼 사용 → 댓글별 COUNT 쿼리 없음)
+    return comments.map(comment -> CommentResponse.from(
+        comment,
+        likedCommentIds.contains(comment.getId()),
+        comment.getReplyCount()
+    ));
+  }
 
-    // 5. 응답 DTO 변환
-    return comments.map(comment -> {
-      boolean isLiked = likedCommentIds.contains(comment.getId());
-      long replyCount = commentRepository.countRepliesByParentId(comment.getId());
-      return CommentResponse.from(comment, isLiked, (int) replyCount);
-    });
+  /**
+   * 게시글의 댓글 스레드 조회 (최상위 댓글 + 댓글별 첫 N개 대댓글)
+   * 댓글 목록과 펼친 스레드마다의 대댓글 요청을 한 번의 요청으로 합친다
+   *
+   * 【쿼리 구성 (댓글 수와 무관하게 고정)】
+   * 1. 최상위 댓글 Slice (COUNT 없음)
+   * 2. 부모별 ROW_NUMBER 윈도우로 첫 N개 대댓글 ID
+   * 3. 대댓글 + 작성자 조회
+   * 4. 최상위 댓글 + 대댓글 좋아요 여부 일괄 조회
+   *
+   * @param userId 요청 사용자 ID (좋아요 여부 확인용)
+   * @param postId 게시글 ID
+   * @param pageable 최상위 댓글 페이지 정보
+   * @param replyLimit 댓글별 대댓글 미리보기 개수
+   * @return 댓글 스레드 페이지
+   */
+  @Transactional(readOnly = true)
+  public PageResponse<CommentResponse> getCommentThreads(
+      Long userId, Long postId, Pageable pageable, int replyLimit) {
+    if (log.isDebugEnabled()) {
+      log.debug("게시글 댓글 스레드 조회 - postId: {}, page: {}, replyLimit: {}",
+          postId, pageable.getPageNumber(), replyLimit);
+    }
+
+    // 1. 게시글 존재 확인
+    if (!postRepository.existsById(postId)) {
+      throw new PostNotFoundException(postId);
+    }
+
+    // 2. 최상위 댓글 조회
+    Slice<Comment> roots = commentRepository.findRootCommentSliceByPostId(postId, pageable);
+
+    // 3. 대댓글이 있는 댓글만 대상으로 첫 N개 대댓글 조회
+    List<Long> parentIds = roots.getContent().stream()
+        .filter(root -> root.getReplyCount() > 0)
+        .map(Comment::getId)
+        .collect(Collectors.toList());
+
+    List<Comment> replies = Collections.emptyList();
+    if (replyLimit > 0 && !parentIds.isEmpty()) {
+      List<Long> replyIds = commentRepository.findFirstReplyIdsByParentIds(parentIds, replyLimit);
+      if (!replyIds.isEmpty()) {
+        replies = commentRepository.findAllWithUserByIdIn(replyIds);
+      }
+    }
+
+    // 4. 최상위 댓글 + 대댓글 좋아요 여부 일괄 조회
+    List<Long> allIds = new ArrayList<>(roots.getNumberOfElements() + replies.size());
+    roots.getContent().forEach(root -> allIds.add(root.getId()));
+    replies.forEach(reply -> allIds.add(reply.getId()));
+
+    Set<Long> likedIds = userId != null && !allIds.isEmpty()
+        ? new HashSet<>(likeRepository.findLikedCommentIdsByUserId(userId, allIds))
+        : Collections.emptySet();
+
+    // 5. 부모 댓글별 대댓글 그룹핑 (ID 오름차순 유지)
+    Map<Long, List<CommentResponse>> repliesByParentId = replies.stream()
+        .collect(Collectors.groupingBy(
+            reply -> reply.getParent().getId(),
+            Collectors.mapping(
+                reply -> CommentResponse.from(reply, likedIds.contains(reply.getId()), 0),
+                Collectors.toList())));
+
+    // 6. 응답 DTO 변환
+    Slice<CommentResponse> threads = roots.map(root -> CommentResponse.fromThread(
+        root,
+        likedIds.contains(root.getId()),
+        repliesByParentId.getOrDefault(root.getId(), Collections.emptyList())
+    ));
+
+    return PageResponse.of(threads);
   }
 
   /**
-   * 특정 댓글의 대댓글 목록 조회
+   * 특정 댓글의 대댓글 목록 조회 (커서 기반 페이징)
    *
    * @param userId 요청 사용자 ID (좋아요 여부 확인용)
    * @param commentId 부모 댓글 ID
+   * @param cursor 이전 페이지 마지막 대댓글 ID (첫 페이지는 null)
+   * @param size 페이지 크기
    * @return 대댓글 목록
    */
   @Transactional(readOnly = true)
-  public List<CommentResponse> getReplies(Long userId, Long commentId) {
-    log.info("대댓글 목록 조회 - parentCommentId: {}", commentId);
+  public CursorResponse<CommentResponse> getReplies(Long userId, Long commentId, Long cursor, int size) {
+    log.debug("대댓글 목록 조회 - parentCommentId: {}, cursor: {}", commentId, cursor);
 
     // 1. 부모 댓글 존재 확인
     if (!commentRepository.existsById(commentId)) {
       throw new CommentNotFoundException(commentId);
     }
 
-    // 2. 대댓글 목록 조회
-    List<Comment> replies = commentRepository.findRepliesByParentId(commentId);
+    // 2. 대댓글 목록 조회 (다음 페이지 여부 판단을 위해 size + 1개)
+    int pageSize = Math.max(1, size);
+    List<Comment> replies = commentRepository.findRepliesByParentIdAfter(
+        commentId, cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
 
     // 3. 대댓글 ID 목록 추출
     List<Long> replyIds = replies.stream()
         .map(Comment::getId)
         .collect(Collectors.toList());
 
-    // 4. 사용자가 좋아요한 대댓글 ID 목록 조회
-    List<Long> likedReplyIds = userId != null && !replyIds.isEmpty()
-        ? likeRepository.findLikedCommentIdsByUserId(userId, replyIds)
-        : Collections.emptyList();
+    // 4. 사용자가 좋아요한 대댓글 ID 집합 조회
+    Set<Long> likedReplyIds = userId != null && !replyIds.isEmpty()
+        ? new HashSet<>(likeRepository.findLikedCommentIdsByUserId(userId, replyIds))
+        : Collections.emptySet();
 
     // 5. 응답 DTO 변환
-    return replies.stream()
+    List<CommentResponse> responses = replies.stream()
         .map(reply -> CommentResponse.from(reply, likedReplyIds.contains(reply.getId()), 0))
         .collect(Collectors.toList());
+
+    return CursorResponse.of(responses, pageSize, CommentResponse::getId);
   }
 
   /**
@@ -283,7 +384,7 @@ public class CommentService {
    */
   @Transactional(readOnly = true)
   public CommentResponse getComment(Long userId, Long commentId) {
-    log.info("댓글 상세 조회 - commentId: {}", commentId);
+    log.debug("댓글 상세 조회 - commentId: {}", commentId);
 
     // 1. 댓글 조회
     Comment comment = commentRepository.findByIdWithUserAndPost(commentId)
@@ -292,9 +393,6 @@ public class CommentService {
     // 2. 좋아요 여부 확인
     boolean isLiked = userId != null && likeRepository.existsCommentLikeByUserId(userId, commentId);
 
-    // 3. 대댓글 수 조회
-    long replyCount = commentRepository.countRepliesByParentId(commentId);
-
-    return CommentResponse.from(comment, isLiked, (int) replyCount);
+    return CommentResponse.from(comment, isLiked, comment.getReplyCount());
   }
 }
@@ -0,0 +1,248 @@
+package com.example.myauth.service;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.dto.post.PostListResponse;
+import com.example.myauth.exception.ServiceBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 탐색 피드(/api/feed/explore, /popular, /views) 응답 캐시
+ * 모든 사용자에게 같은 페이지를 돌려주므로 앞쪽 maxPages 페이지를 짧은 시간 동안 공유한다
+ *
+ * 【동작】
+ * - 적중: DB 커넥션/트랜잭션 없이 캐시된 페이지 반환
+ * - refreshAheadMs보다 오래된 항목 적중: 그대로 반환하고 백그라운드(가상 스레드)에서 다시 조회
+ * - 미스/만료(ttlMs): 같은 키의 동시 요청은 하나만 조회하고 나머지는 그 결과를 최대 loadTimeoutMs 동안 기다림 (single-flight)
+ * - maxPages 이후 페이지, enabled=false: 캐시 없이 바로 조회
+ * - 백그라운드 조회를 시작할 수 없으면(종료 중) 요청 스레드에서 바로 다시 조회
+ *
+ * 로더는 읽기 전용 트랜잭션 안에서 실행 (replica 라우팅, 지연 로딩 가능)
+ * 키는 (정렬, 페이지, 크기) - 크기는 컨트롤러에서 50으로 제한되므로 항목 수는 3 × maxPages × 50 이하
+ * 응답 DTO는 변경 가능(@Data)하므로 저장할 때 복사본을 만들고, 돌려줄 때마다 다시 복사한다
+ *
+ * 【무효화】
+ * 게시글 수정/삭제 시 PostService가 invalidateAll 호출 (비공개로 바뀌거나 삭제된 글이 남지 않도록)
+ * 새 게시글, 좋아요/조회수 변화는 ttlMs 안에 반영된다
+ */
+@Slf4j
+@Component
+public class ExploreFeedCache {
+
+  /**
+   * 탐색 피드 정렬
+   */
+  public enum Ordering {
+    LATEST, POPULAR, VIEWS
+  }
+
+  private final AppProperties.ExploreCache config;
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final ExecutorService refreshExecutor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("explore-refresh-", 0).factory());
+
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<Key, CompletableFuture<Page<PostListResponse>>> loading = new ConcurrentHashMap<>();
+
+  /** 무효화 세대 번호 (무효화 전에 시작한 조회 결과는 저장하지 않음) */
+  private final AtomicLong generation = new AtomicLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder coalescedWaits = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+  private final LongAdder loadFailures = new LongAdder();
+  private final LongAdder loadTimeouts = new LongAdder();
+  private final LongAdder bypassed = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  public ExploreFeedCache(AppProperties appProperties, PlatformTransactionManager transactionManager) {
+    this.config = appProperties.getExploreCache();
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  @PreDestroy
+  void shutdownRefreshExecutor() {
+    refreshExecutor.shutdown();
+  }
+
+  /**
+   * 탐색 피드 페이지 조회
+   *
+   * @param ordering 정렬
+   * @param pageable 페이지 정보
+   * @param loader   DB 조회 + 응답 변환 (읽기 전용 트랜잭션 안에서 실행)
+   * @return 피드 페이지
+   */
+  public Page<PostListResponse> get(Ordering ordering, Pageable pageable, Supplier<Page<PostListResponse>> loader) {
+    if (!config.isEnabled() || pageable.getPageNumber() >= config.getMaxPages()) {
+      bypassed.increment();
+      return readOnlyTransaction.execute(status -> loader.get());
+    }
+
+    Key key = new Key(ordering, pageable.getPageNumber(), pageable.getPageSize());
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      long age = System.currentTimeMillis() - entry.loadedAt();
+      if (age < config.getTtlMs()) {
+        hits.increment();
+        if (age >= config.getRefreshAheadMs()) {
+          refreshInBackground(key, loader);
+        }
+        return copyOf(entry.page());
+      }
+    }
+
+    misses.increment();
+    CompletableFuture<Page<PostListResponse>> created = new CompletableFuture<>();
+    CompletableFuture<Page<PostListResponse>> inFlight = loading.putIfAbsent(key, created);
+    if (inFlight != null) {
+      coalescedWaits.increment();
+      return await(key, inFlight);
+    }
+    load(key, loader, created);
+    return await(key, created);
+  }
+
+  /**
+   * 같은 키를 조회 중이 아니면 백그라운드에서 다시 조회 (실패해도 기존 항목은 ttlMs까지 유지)
+   * 그 사이 만료로 이 조회를 기다리기 시작한 요청이 있을 수 있으므로, 실행이 거부되면 바로 조회해 결과를 채운다
+   */
+  private void refreshInBackground(Key key, Supplier<Page<PostListResponse>> loader) {
+    CompletableFuture<Page<PostListResponse>> created = new CompletableFuture<>();
+    if (loading.putIfAbsent(key, created) != null) {
+      return;
+    }
+    refreshes.increment();
+    try {
+      refreshExecutor.execute(() -> load(key, loader, created));
+    } catch (RejectedExecutionException e) {
+      load(key, loader, created);
+    }
+  }
+
+  private void load(Key key, Supplier<Page<PostListResponse>> loader,
+                    CompletableFuture<Page<PostListResponse>> result) {
+    long startGeneration = generation.get();
+    try {
+      Page<PostListResponse> page = copyOf(readOnlyTransaction.execute(status -> loader.get()));
+      if (startGeneration == generation.get()) {
+        entries.put(key, new Entry(page, System.currentTimeMillis()));
+      }
+      result.complete(page);
+    } catch (RuntimeException e) {
+      loadFailures.increment();
+      log.warn("탐색 피드 조회 실패 - {}: {}", key, e.getMessage());
+      result.completeExceptionally(e);
+    } finally {
+      loading.remove(key, result);
+    }
+  }
+
+  /**
+   * 조회 결과 대기 (최대 loadTimeoutMs)
+   *
+   * @throws ServiceBusyException 제한 시간 안에 결과를 받지 못한 경우
+   */
+  private Page<PostListResponse> await(Key key, CompletableFuture<Page<PostListResponse>> future) {
+    try {
+      return copyOf(future.get(config.getLoadTimeoutMs(), TimeUnit.MILLISECONDS));
+    } catch (TimeoutException e) {
+      loadTimeouts.increment();
+      log.warn("탐색 피드 조회 대기 시간 초과 - {}: {}ms", key, config.getLoadTimeoutMs());
+      throw new ServiceBusyException("피드를 불러오는 데 시간이 걸리고 있습니다. 잠시 후 다시 시도해주세요.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ServiceBusyException("피드 조회가 중단되었습니다.");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("탐색 피드 조회 실패", e.getCause());
+    }
+  }
+
+  /**
+   * 페이지 복사 (게시글 항목과 작성자 정보까지)
+   */
+  private static Page<PostListResponse> copyOf(Page<PostListResponse> page) {
+    List<PostListResponse> content = page.getContent().stream()
+        .map(post -> post.toBuilder()
+            .author(post.getAuthor() == null ? null : post.getAuthor().toBuilder().build())
+            .build())
+        .toList();
+    return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+  }
+
+  /**
+   * 전체 무효화 (즉시 + 트랜잭션 안이면 커밋 후 한 번 더)
+   * 커밋 전에 다른 요청이 이전 내용을 다시 캐시하는 경우까지 제거
+   */
+  public void invalidateAll() {
+    invalidations.increment();
+    clear();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          clear();
+        }
+      });
+    }
+  }
+
+  private void clear() {
+    generation.incrementAndGet();
+    entries.clear();
+  }
+
+  /**
+   * 캐시 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("size", (long) entries.size());
+    metrics.put("hits", hits.sum());
+    metrics.put("misses", misses.sum());
+    metrics.put("coalescedWaits", coalescedWaits.sum());
+    metrics.put("refreshes", refreshes.sum());
+    metrics.put("loadFailures", loadFailures.sum());
+    metrics.put("loadTimeouts", loadTimeouts.sum());
+    metrics.put("bypassed", bypassed.sum());
+    metrics.put("invalidations", invalidations.sum());
+    return metrics;
+  }
+
+  private record Key(Ordering ordering, int page, int size) {
+  }
+
+  private record Entry(Page<PostListResponse> page, long loadedAt) {
+  }
+}
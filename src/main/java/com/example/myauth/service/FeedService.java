@@ -19,6 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
  * 【주요 기능】
  * - 홈 피드: 팔로잉 사용자의 게시글
  * - 탐색 피드: 공개 게시글 (인기순/최신순)
+ *
+ * 탐색 피드는 모든 사용자에게 같은 내용이므로 ExploreFeedCache를 거친다
+ * (캐시 적중 시 트랜잭션/커넥션 없음 → 메서드에 @Transactional을 붙이지 않음)
  */
 @Slf4j
 @Service
@@ -27,6 +30,8 @@ public class FeedService {
 
   private final PostRepository postRepository;
   private final FollowRepository followRepository;
+  private final PostHydrationCache postHydrationCache;
+  private final ExploreFeedCache exploreFeedCache;
 
   // ===== 홈 피드 =====
 
@@ -40,12 +45,12 @@ public class FeedService {
    */
   @Transactional(readOnly = true)
   public Page<PostListResponse> getHomeFeed(Long userId, Pageable pageable) {
-    log.info("홈 피드 조회 - userId: {}", userId);
+    log.debug("홈 피드 조회 - userId: {}", userId);
 
     // 팔로잉 사용자의 게시글 조회 (공개 또는 팔로워 전용)
     Page<Post> posts = postRepository.findHomeFeed(userId, pageable);
 
-    return posts.map(PostListResponse::from);
+    return posts.map(postHydrationCache::toListResponse);
   }
 
   /**
@@ -57,11 +62,11 @@ public class FeedService {
    */
   @Transactional(readOnly = true)
   public Page<PostListResponse> getHomeFeedWithMyPosts(Long userId, Pageable pageable) {
-    log.info("홈 피드 조회 (본인 포함) - userId: {}", userId);
+    log.debug("홈 피드 조회 (본인 포함) - userId: {}", userId);
 
     Page<Post> posts = postRepository.findHomeFeedWithMyPosts(userId, pageable);
 
-    return posts.map(PostListResponse::from);
+    return posts.map(postHydrationCache::toListResponse);
   }
 
   // ===== 탐색 피드 =====
@@ -73,13 +78,11 @@ public class FeedService {
    * @param pageable 페이지 정보
    * @return 탐색 피드 페이지
    */
-  @Transactional(readOnly = true)
   public Page<PostListResponse> getExploreFeed(Pageable pageable) {
-    log.info("탐색 피드 조회 (최신순)");
+    log.debug("탐색 피드 조회 (최신순)");
 
-    Page<Post> posts = postRepository.findPublicPostsOrderByCreatedAt(pageable);
-
-    return posts.map(PostListResponse::from);
+    return exploreFeedCache.get(ExploreFeedCache.Ordering.LATEST, pageable, () ->
+        postRepository.findPublicPostsOrderByCreatedAt(pageable).map(postHydrationCache::toListResponse));
   }
 
   /**
@@ -89,13 +92,11 @@ public class FeedService {
    * @param pageable 페이지 정보
    * @return 탐색 피드 페이지
    */
-  @Transactional(readOnly = true)
   public Page<PostListResponse> getExploreFeedByPopularity(Pageable pageable) {
-    log.info("탐색 피드 조회 (인기순)");
+    log.debug("탐색 피드 조회 (인기순)");
 
-    Page<Post> posts = postRepository.findPublicPostsOrderByLikeCount(pageable);
-
-    return posts.map(PostListResponse::from);
+    return exploreFeedCache.get(ExploreFeedCache.Ordering.POPULAR, pageable, () ->
+        postRepository.findPublicPostsOrderByLikeCount(pageable).map(postHydrationCache::toListResponse));
   }
 
   /**
@@ -104,13 +105,11 @@ public class FeedService {
    * @param pageable 페이지 정보
    * @return 탐색 피드 페이지
    */
-  @Transactional(readOnly = true)
   public Page<PostListResponse> getExploreFeedByViews(Pageable pageable) {
-    log.info("탐색 피드 조회 (조회수순)");
-
-    Page<Post> posts = postRepository.findPublicPostsOrderByViewCount(pageable);
+    log.debug("탐색 피드 조회 (조회수순)");
 
-    return posts.map(PostListResponse::from);
+    return exploreFeedCache.get(ExploreFeedCache.Ordering.VIEWS, pageable, () ->
+        postRepository.findPublicPostsOrderByViewCount(pageable).map(postHydrationCache::toListResponse));
   }
 
   // ===== 추천 피드 (간단한 버전) =====
@@ -126,11 +125,11 @@ public class FeedService {
    */
   @Transactional(readOnly = true)
   public Page<PostListResponse> getRecommendedFeed(Long userId, Pageable pageable) {
-    log.info("추천 피드 조회 - userId: {}", userId);
+    log.debug("추천 피드 조회 - userId: {}", userId);
 
     // 현재는 팔로우하지 않는 사용자의 인기 게시글 반환
     Page<Post> posts = postRepository.findRecommendedPosts(userId, pageable);
 
-    return posts.map(PostListResponse::from);
+    return posts.map(postHydrationCache::toListResponse);
   }
 }
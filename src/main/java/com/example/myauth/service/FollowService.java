@@ -1,10 +1,13 @@
 package com.example.myauth.service;
 
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.follow.FollowCountResponse;
 import com.example.myauth.dto.follow.FollowResponse;
 import com.example.myauth.dto.follow.FollowUserResponse;
 import com.example.myauth.entity.Follow;
 import com.example.myauth.entity.User;
+import com.example.myauth.event.DomainEventType;
+import com.example.myauth.event.OutboxEventPublisher;
 import com.example.myauth.exception.DuplicateFollowException;
 import com.example.myauth.exception.FollowNotFoundException;
 import com.example.myauth.exception.SelfFollowException;
@@ -13,8 +16,8 @@ import com.example.myauth.repository.FollowRepository;
 import com.example.myauth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +41,7 @@ public class FollowService {
 
   private final FollowRepository followRepository;
   private final UserRepository userRepository;
+  private final OutboxEventPublisher outboxEventPublisher;
 
   // ===== 팔로우/언팔로우 =====
 
@@ -50,7 +54,7 @@ public class FollowService {
    */
   @Transactional
   public FollowResponse follow(Long followerId, Long followingId) {
-    log.info("팔로우 요청 - followerId: {}, followingId: {}", followerId, followingId);
+    log.debug("팔로우 요청 - followerId: {}, followingId: {}", followerId, followingId);
 
     // 1. 자기 자신 팔로우 확인
     if (followerId.equals(followingId)) {
@@ -70,12 +74,13 @@ public class FollowService {
     User follower = userRepository.getReferenceById(followerId);
     Follow follow = Follow.create(follower, following);
     followRepository.save(follow);
+    outboxEventPublisher.publish(DomainEventType.USER_FOLLOWED, followingId, followerId);
 
     // 5. 팔로워/팔로잉 수 조회
     long followerCount = followRepository.countByFollowingId(followingId);
     long followingCount = followRepository.countByFollowerId(followingId);
 
-    log.info("팔로우 완료 - followerId: {}, followingId: {}", followerId, followingId);
+    log.debug("팔로우 완료 - followerId: {}, followingId: {}", followerId, followingId);
 
     return FollowResponse.follow(followingId, followerCount, followingCount);
   }
@@ -89,7 +94,7 @@ public class FollowService {
    */
   @Transactional
   public FollowResponse unfollow(Long followerId, Long followingId) {
-    log.info("언팔로우 요청 - followerId: {}, followingId: {}", followerId, followingId);
+    log.debug("언팔로우 요청 - followerId: {}, followingId: {}", followerId, followingId);
 
     // 1. 팔로우 관계 존재 확인
     Follow follow = followRepository.findByFollowerIdAndFollowingId(followerId, followingId)
@@ -97,12 +102,13 @@ public class FollowService {
 
     // 2. 팔로우 관계 삭제
     followRepository.delete(follow);
+    outboxEventPublisher.publish(DomainEventType.USER_UNFOLLOWED, followingId, followerId);
 
     // 3. 팔로워/팔로잉 수 조회
     long followerCount = followRepository.countByFollowingId(followingId);
     long followingCount = followRepository.countByFollowerId(followingId);
 
-    log.info("언팔로우 완료 - followerId: {}, followingId: {}", followerId, followingId);
+    log.debug("언팔로우 완료 - followerId: {}, followingId: {}", followerId, followingId);
 
     return FollowResponse.unfollow(followingId, followerCount, followingCount);
   }
@@ -115,11 +121,13 @@ public class FollowService {
    * @param currentUserId 로그인 사용자 ID (팔로우 여부 확인용)
    * @param userId 조회할 사용자 ID
    * @param pageable 페이지 정보
+   * @param exactTotal true면 COUNT 쿼리로 전체 팔로워 수 포함
    * @return 팔로워 목록 페이지
    */
   @Transactional(readOnly = true)
-  public Page<FollowUserResponse> getFollowers(Long currentUserId, Long userId, Pageable pageable) {
-    log.info("팔로워 목록 조회 - userId: {}, page: {}", userId, pageable.getPageNumber());
+  public PageResponse<FollowUserResponse> getFollowers(
+      Long currentUserId, Long userId, Pageable pageable, boolean exactTotal) {
+    log.debug("팔로워 목록 조회 - userId: {}, page: {}", userId, pageable.getPageNumber());
 
     // 1. 사용자 존재 확인
     if (!userRepository.existsById(userId)) {
@@ -127,7 +135,7 @@ public class FollowService {
     }
 
     // 2. 팔로워 목록 조회
-    Page<Follow> follows = followRepository.findFollowsByFollowingId(userId, pageable);
+    Slice<Follow> follows = followRepository.findFollowsByFollowingId(userId, pageable);
 
     // 3. 현재 사용자가 팔로우하는 사용자 ID 목록 조회
     List<Long> followerIds = follows.getContent().stream()
@@ -138,12 +146,16 @@ public class FollowService {
         ? followRepository.findFollowingIdsByFollowerId(currentUserId, followerIds)
         : Collections.emptyList();
 
-    // 4. 응답 DTO 변환
-    return follows.map(follow -> FollowUserResponse.from(
+    // 4. 응답 DTO 변환 (전체 수는 요청 시에만 COUNT)
+    Slice<FollowUserResponse> content = follows.map(follow -> FollowUserResponse.from(
         follow.getFollower(),
         followingIds.contains(follow.getFollower().getId()),
         follow.getCreatedAt()
     ));
+
+    return exactTotal
+        ? PageResponse.of(content, followRepository.countByFollowingId(userId), true)
+        : PageResponse.of(content);
   }
 
   // ===== 팔로잉 목록 조회 =====
@@ -154,11 +166,13 @@ public class FollowService {
    * @param currentUserId 로그인 사용자 ID (팔로우 여부 확인용)
    * @param userId 조회할 사용자 ID
    * @param pageable 페이지 정보
+   * @param exactTotal true면 COUNT 쿼리로 전체 팔로잉 수 포함
    * @return 팔로잉 목록 페이지
    */
   @Transactional(readOnly = true)
-  public Page<FollowUserResponse> getFollowings(Long currentUserId, Long userId, Pageable pageable) {
-    log.info("팔로잉 목록 조회 - userId: {}, page: {}", userId, pageable.getPageNumber());
+  public PageResponse<FollowUserResponse> getFollowings(
+      Long currentUserId, Long userId, Pageable pageable, boolean exactTotal) {
+    log.debug("팔로잉 목록 조회 - userId: {}, page: {}", userId, pageable.getPageNumber());
 
     // 1. 사용자 존재 확인
     if (!userRepository.existsById(userId)) {
@@ -166,7 +180,7 @@ public class FollowService {
     }
 
     // 2. 팔로잉 목록 조회
-    Page<Follow> follows = followRepository.findFollowsByFollowerId(userId, pageable);
+    Slice<Follow> follows = followRepository.findFollowsByFollowerId(userId, pageable);
 
     // 3. 현재 사용자가 팔로우하는 사용자 ID 목록 조회
     List<Long> followingIds = follows.getContent().stream()
@@ -177,12 +191,16 @@ public class FollowService {
         ? followRepository.findFollowingIdsByFollowerId(currentUserId, followingIds)
         : Collections.emptyList();
 
-    // 4. 응답 DTO 변환
-    return follows.map(follow -> FollowUserResponse.from(
+    // 4. 응답 DTO 변환 (전체 수는 요청 시에만 COUNT)
+    Slice<FollowUserResponse> content = follows.map(follow -> FollowUserResponse.from(
         follow.getFollowing(),
         currentUserFollowingIds.contains(follow.getFollowing().getId()),
         follow.getCreatedAt()
     ));
+
+    return exactTotal
+        ? PageResponse.of(content, followRepository.countByFollowerId(userId), true)
+        : PageResponse.of(content);
   }
 
   // ===== 팔로우 여부 확인 =====
@@ -209,7 +227,7 @@ public class FollowService {
    */
   @Transactional(readOnly = true)
   public FollowCountResponse getFollowCounts(Long userId) {
-    log.info("팔로우 카운트 조회 - userId: {}", userId);
+    log.debug("팔로우 카운트 조회 - userId: {}", userId);
 
     // 사용자 존재 확인
     if (!userRepository.existsById(userId)) {
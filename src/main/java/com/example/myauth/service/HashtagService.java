@@ -1,11 +1,14 @@
 package com.example.myauth.service;
 
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.hashtag.HashtagResponse;
 import com.example.myauth.dto.hashtag.TrendingHashtagResponse;
 import com.example.myauth.dto.post.PostListResponse;
 import com.example.myauth.entity.Hashtag;
 import com.example.myauth.entity.Post;
 import com.example.myauth.entity.PostHashtag;
+import com.example.myauth.event.DomainEventType;
+import com.example.myauth.event.OutboxEventPublisher;
 import com.example.myauth.exception.HashtagNotFoundException;
 import com.example.myauth.repository.HashtagRepository;
 import com.example.myauth.repository.PostHashtagRepository;
@@ -13,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +45,8 @@ public class HashtagService {
 
   private final HashtagRepository hashtagRepository;
   private final PostHashtagRepository postHashtagRepository;
+  private final OutboxEventPublisher outboxEventPublisher;
+  private final PostHydrationCache postHydrationCache;
 
   /**
    * 해시태그 패턴: #한글영문숫자_
@@ -83,6 +89,7 @@ public class HashtagService {
   /**
    * 해시태그 조회 또는 생성
    * 이미 존재하면 조회, 없으면 새로 생성
+   * 이름 → ID 캐시 적중 시 SELECT 없이 참조(프록시)만 반환 (게시글 연결에는 ID만 필요)
    *
    * @param name 해시태그 이름
    * @return 해시태그 엔티티
@@ -91,7 +98,16 @@ public class HashtagService {
   public Hashtag getOrCreateHashtag(String name) {
     String normalizedName = name.toLowerCase().trim();
 
+    Long cachedId = postHydrationCache.getHashtagId(normalizedName);
+    if (cachedId != null) {
+      return hashtagRepository.getReferenceById(cachedId);
+    }
+
     return hashtagRepository.findByName(normalizedName)
+        .map(found -> {
+          postHydrationCache.putHashtagId(normalizedName, found.getId());
+          return found;
+        })
         .orElseGet(() -> {
           log.info("새 해시태그 생성: #{}", normalizedName);
           Hashtag hashtag = Hashtag.builder()
@@ -138,7 +154,7 @@ public class HashtagService {
       return Collections.emptyList();
     }
 
-    log.info("게시글 {} 에 해시태그 연결: {}", post.getId(), hashtagNames);
+    log.debug("게시글 {} 에 해시태그 연결: {}", post.getId(), hashtagNames);
 
     // 2. 해시태그 조회 또는 생성
     List<Hashtag> hashtags = getOrCreateHashtags(hashtagNames);
@@ -149,6 +165,10 @@ public class HashtagService {
       if (!postHashtagRepository.existsByPostIdAndHashtagId(post.getId(), hashtag.getId())) {
         PostHashtag postHashtag = PostHashtag.create(post, hashtag);
         postHashtagRepository.save(postHashtag);
+
+        // 해시태그 postCount 증가 (아웃박스 이벤트)
+        outboxEventPublisher.publish(
+            DomainEventType.HASHTAG_LINKED, hashtag.getId(), post.getUser().getId(), post.getId());
       }
     }
 
@@ -171,9 +191,10 @@ public class HashtagService {
     // 2. 기존 연결 삭제
     postHashtagRepository.deleteByPostId(post.getId());
 
-    // 3. 기존 해시태그의 postCount 감소
+    // 3. 기존 해시태그의 postCount 감소 (아웃박스 이벤트)
     for (Long hashtagId : oldHashtagIds) {
-      hashtagRepository.decrementPostCount(hashtagId);
+      outboxEventPublisher.publish(
+          DomainEventType.HASHTAG_UNLINKED, hashtagId, post.getUser().getId(), post.getId());
     }
 
     // 4. 새로운 해시태그 연결
@@ -188,7 +209,7 @@ public class HashtagService {
    */
   @Transactional
   public void unlinkHashtagsFromPost(Long postId) {
-    log.info("게시글 {} 의 해시태그 연결 해제", postId);
+    log.debug("게시글 {} 의 해시태그 연결 해제", postId);
 
     // 1. 연결된 해시태그 ID 목록 조회
     List<Long> hashtagIds = postHashtagRepository.findHashtagIdsByPostId(postId);
@@ -196,9 +217,9 @@ public class HashtagService {
     // 2. 연결 삭제
     postHashtagRepository.deleteByPostId(postId);
 
-    // 3. 해시태그 postCount 감소
+    // 3. 해시태그 postCount 감소 (아웃박스 이벤트)
     for (Long hashtagId : hashtagIds) {
-      hashtagRepository.decrementPostCount(hashtagId);
+      outboxEventPublisher.publish(DomainEventType.HASHTAG_UNLINKED, hashtagId, null, postId);
     }
   }
 
@@ -212,7 +233,7 @@ public class HashtagService {
    */
   @Transactional(readOnly = true)
   public Page<TrendingHashtagResponse> getTrendingHashtags(Pageable pageable) {
-    log.info("인기 해시태그 조회");
+    log.debug("인기 해시태그 조회");
 
     Page<Hashtag> hashtags = hashtagRepository.findTrendingHashtags(pageable);
     return hashtags.map(TrendingHashtagResponse::from);
@@ -226,7 +247,7 @@ public class HashtagService {
    */
   @Transactional(readOnly = true)
   public List<TrendingHashtagResponse> getTopTrendingHashtags(int limit) {
-    log.info("상위 {} 개 인기 해시태그 조회", limit);
+    log.debug("상위 {} 개 인기 해시태그 조회", limit);
 
     List<Hashtag> hashtags = hashtagRepository.findTopTrendingHashtags(limit);
     return hashtags.stream()
@@ -238,22 +259,28 @@ public class HashtagService {
 
   /**
    * 해시태그로 게시글 검색
+   * 전체 수는 기본적으로 hashtags.post_count 카운터(근사값)를 사용
    *
    * @param hashtagName 해시태그 이름 (# 제외)
    * @param pageable 페이지 정보
+   * @param exactTotal true면 COUNT 쿼리로 정확한 공개 게시글 수 포함
    * @return 게시글 페이지
    */
   @Transactional(readOnly = true)
-  public Page<PostListResponse> getPostsByHashtag(String hashtagName, Pageable pageable) {
+  public PageResponse<PostListResponse> getPostsByHashtag(String hashtagName, Pageable pageable, boolean exactTotal) {
     String normalizedName = hashtagName.toLowerCase().trim();
-    log.info("해시태그로 게시글 검색: #{}", normalizedName);
+    log.debug("해시태그로 게시글 검색: #{}", normalizedName);
 
     // 해시태그 존재 확인
     Hashtag hashtag = hashtagRepository.findByName(normalizedName)
         .orElseThrow(() -> new HashtagNotFoundException(normalizedName));
 
-    Page<Post> posts = postHashtagRepository.findPostsByHashtagId(hashtag.getId(), pageable);
-    return posts.map(PostListResponse::from);
+    Slice<PostListResponse> posts = postHashtagRepository.findPostsByHashtagId(hashtag.getId(), pageable)
+        .map(postHydrationCache::toListResponse);
+
+    return exactTotal
+        ? PageResponse.of(posts, postHashtagRepository.countPublicPostsByHashtagId(hashtag.getId()), true)
+        : PageResponse.of(posts, hashtag.getPostCount().longValue(), false);
   }
 
   // ===== 해시태그 검색 =====
@@ -267,7 +294,7 @@ public class HashtagService {
    */
   @Transactional(readOnly = true)
   public Page<HashtagResponse> searchHashtags(String keyword, Pageable pageable) {
-    log.info("해시태그 검색: {}", keyword);
+    log.debug("해시태그 검색: {}", keyword);
 
     Page<Hashtag> hashtags = hashtagRepository.searchByName(keyword, pageable);
     return hashtags.map(HashtagResponse::from);
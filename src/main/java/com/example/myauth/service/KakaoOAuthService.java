@@ -5,11 +5,14 @@ import com.example.myauth.dto.kakao.KakaoOAuthDto;
 import com.example.myauth.dto.LoginResponse;
 import com.example.myauth.entity.RefreshToken;
 import com.example.myauth.entity.User;
+import com.example.myauth.exception.ServiceBusyException;
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
 import com.example.myauth.repository.RefreshTokenRepository;
 import com.example.myauth.repository.UserRepository;
 import com.example.myauth.security.JwtTokenProvider;
-//import com.tools.jackson.databind.ObjectMapper;  // Jackson 3 패키지 (Spring Boot 4.0.0)
-import tools.jackson.databind.ObjectMapper;
+import com.example.myauth.util.TokenHashUtil;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -22,7 +25,14 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 카카오 OAuth 로그인 서비스
@@ -36,9 +46,66 @@ public class KakaoOAuthService {
   private final KakaoOAuthProperties kakaoProperties;
   private final UserRepository userRepository;
   private final RefreshTokenRepository refreshTokenRepository;
+  private final SessionService sessionService;
   private final JwtTokenProvider jwtTokenProvider;
-  private final ObjectMapper objectMapper;  // JacksonConfig에서 주입받음
-  private final RestClient restClient = RestClient.create();
+  private final DomainMetrics domainMetrics;
+  private final PostHydrationCache postHydrationCache;
+  private final RestClient kakaoRestClient;  // KakaoHttpClientConfig (타임아웃, 연결 재사용, 벌크헤드, 서킷 브레이커)
+
+  /**
+   * 카카오 로그인 파이프라인 실행용 가상 스레드 Executor
+   * HTTP 응답을 기다리는 동안 플랫폼 스레드를 점유하지 않으며, 동시 호출 수는 벌크헤드가 제한한다
+   */
+  private final ExecutorService kakaoLoginExecutor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kakao-login-", 0).factory());
+
+  @PreDestroy
+  void shutdownLoginExecutor() {
+    kakaoLoginExecutor.shutdown();
+  }
+
+  /**
+   * 인가 코드로 카카오 사용자 정보 조회 (토큰 교환 → 사용자 정보 조회 파이프라인)
+   *
+   * 【비동기 파이프라인】
+   * 두 호출은 가상 스레드 하나에서 이어서 실행되고, 요청 스레드는 전체 결과만 기다린다
+   * 두 번째 호출은 첫 번째 응답의 토큰이 필요하므로 병렬화할 수 없지만,
+   * 호출별 read timeout과 별개로 로그인 1건 전체에 loginTimeoutMs 제한을 건다
+   * (두 호출이 각각 타임아웃 직전에 응답해도 전체 대기 시간은 제한됨)
+   *
+   * 【취소】
+   * 제한 시간을 넘기면 작업 스레드를 인터럽트한다
+   * JdkClientHttpRequestFactory는 인터럽트 시 진행 중인 요청을 취소하고 IOException을 던지므로
+   * 남은 호출은 실행되지 않고 벌크헤드 슬롯도 즉시 반환된다
+   * (CompletableFuture.cancel은 실행 중인 작업을 인터럽트하지 않으므로 Future를 직접 사용)
+   *
+   * @param code 카카오 인가 코드
+   * @return 카카오 사용자 정보 응답 DTO
+   * @throws ServiceBusyException 전체 제한 시간 초과 시
+   */
+  public KakaoOAuthDto.UserInfoResponse fetchUserInfo(String code) {
+    long timeoutMs = kakaoProperties.getHttp().getLoginTimeoutMs();
+
+    Future<KakaoOAuthDto.UserInfoResponse> pipeline = kakaoLoginExecutor.submit(
+        () -> getUserInfo(getAccessToken(code).getAccessToken()));
+
+    try {
+      return pipeline.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      pipeline.cancel(true);
+      log.warn("카카오 로그인 제한 시간 초과 - {}ms", timeoutMs);
+      throw new ServiceBusyException("카카오 로그인이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요.");
+    } catch (InterruptedException e) {
+      pipeline.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceBusyException("카카오 로그인 처리가 중단되었습니다.");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("카카오 로그인 처리 실패", e.getCause());
+    }
+  }
 
   /**
    * 카카오 인가 코드 요청 URL 생성
@@ -66,7 +133,7 @@ public class KakaoOAuthService {
    * @return 카카오 토큰 응답 DTO
    */
   public KakaoOAuthDto.TokenResponse getAccessToken(String code) {
-    log.info("카카오 Access Token 요청 시작 - code: {}", code);
+    log.info("카카오 Access Token 요청 시작");
 
     // 요청 파라미터 구성
     MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
@@ -76,35 +143,17 @@ public class KakaoOAuthService {
     params.add("redirect_uri", kakaoProperties.getRedirectUri());
     params.add("code", code);
 
-    // ====== 📍 URL 및 요청 정보 출력 ======
+    // 카카오 토큰 API 호출 (응답 로깅은 oauth.kakao.http.log-responses로 제어)
     String tokenUrl = kakaoProperties.getTokenUri();
-    log.info("========================================");
-    log.info("카카오 토큰 API 호출 URL: {}", tokenUrl);
-    log.info("요청 파라미터: grant_type={}, client_id={}, redirect_uri={}, code={}",
-        params.getFirst("grant_type"),
-        params.getFirst("client_id"),
-        params.getFirst("redirect_uri"),
-        code);
-    log.info("========================================");
-
-    // 카카오 토큰 API 호출
-    KakaoOAuthDto.TokenResponse tokenResponse = restClient.post()
+    log.debug("카카오 토큰 API 호출: {}, redirect_uri={}", tokenUrl, params.getFirst("redirect_uri"));
+
+    KakaoOAuthDto.TokenResponse tokenResponse = kakaoRestClient.post()
         .uri(tokenUrl)
         .contentType(MediaType.parseMediaType("application/x-www-form-urlencoded;charset=utf-8"))  // 카카오 문서 명시
         .body(params)
         .retrieve()
         .body(KakaoOAuthDto.TokenResponse.class);
 
-    // ====== 📍 응답 JSON 출력 ======
-    try {
-      String responseJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(tokenResponse);
-      log.info("========================================");
-      log.info("카카오 토큰 API 응답 JSON:\n{}", responseJson);
-      log.info("========================================");
-    } catch (Exception e) {
-      log.error("JSON 변환 실패: {}", e.getMessage());
-    }
-
     log.info("카카오 Access Token 발급 성공");
     return tokenResponse;
   }
@@ -118,29 +167,16 @@ public class KakaoOAuthService {
   public KakaoOAuthDto.UserInfoResponse getUserInfo(String accessToken) {
     log.info("카카오 사용자 정보 조회 시작");
 
-    // ====== 📍 URL 및 요청 정보 출력 ======
+    // 카카오 사용자 정보 API 호출 (응답 로깅은 oauth.kakao.http.log-responses로 제어)
     String userInfoUrl = kakaoProperties.getUserInfoUri();
-    log.info("========================================");
-    log.info("카카오 사용자 정보 API 호출 URL: {}", userInfoUrl);
-    log.info("========================================");
+    log.debug("카카오 사용자 정보 API 호출: {}", userInfoUrl);
 
-    // 카카오 사용자 정보 API 호출
-    KakaoOAuthDto.UserInfoResponse userInfo = restClient.get()
+    KakaoOAuthDto.UserInfoResponse userInfo = kakaoRestClient.get()
         .uri(userInfoUrl)
         .header("Authorization", "Bearer " + accessToken)
         .retrieve()
         .body(KakaoOAuthDto.UserInfoResponse.class);
 
-    // ====== 📍 응답 JSON 출력 ======
-    try {
-      String responseJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(userInfo);
-      log.info("========================================");
-      log.info("카카오 사용자 정보 API 응답 JSON:\n{}", responseJson);
-      log.info("========================================");
-    } catch (Exception e) {
-      log.error("JSON 변환 실패: {}", e.getMessage());
-    }
-
     log.info("카카오 사용자 정보 조회 성공 - 카카오 ID: {}, 닉네임: {}",
         userInfo.getId(),
         userInfo.getKakaoAccount().getProfile().getNickname());
@@ -172,7 +208,7 @@ public class KakaoOAuthService {
       throw new IllegalArgumentException("카카오 계정의 이메일 정보가 필요합니다. 카카오 로그인 시 이메일 제공에 동의해주세요.");
     }
 
-    // 1️⃣ 카카오 ID로 기존 회원 조회
+    // 1️⃣ 카카오 ID로 기존 회원 조회 (uk_provider_provider_id 인덱스 조회)
     Optional<User> existingUser = userRepository.findByProviderAndProviderId("KAKAO", providerId);
 
     User user;
@@ -181,10 +217,13 @@ public class KakaoOAuthService {
       user = existingUser.get();
       log.info("기존 카카오 회원 로그인: {}", user.getEmail());
 
-      // 프로필 정보 업데이트 (닉네임, 프로필 이미지가 변경되었을 수 있음)
-      user.setName(nickname);
-      user.setProfileImage(profileImage);
-      userRepository.save(user);
+      // 프로필 정보가 바뀐 경우에만 업데이트 (변경 감지 + @DynamicUpdate로 바뀐 컬럼만 UPDATE)
+      if (!Objects.equals(user.getName(), nickname) || !Objects.equals(user.getProfileImage(), profileImage)) {
+        user.setName(nickname);
+        user.setProfileImage(profileImage);
+        postHydrationCache.evictAuthor(user.getId());
+        log.info("카카오 프로필 변경 반영 - User ID: {}", user.getId());
+      }
 
     } else {
       // 신규 회원 - 자동 회원가입
@@ -206,6 +245,7 @@ public class KakaoOAuthService {
 
       userRepository.save(user);
       log.info("신규 카카오 회원 가입 완료 - ID: {}, 이메일: {}", user.getId(), user.getEmail());
+      domainMetrics.increment(DomainAction.USER_SIGNED_UP);
     }
 
     // 2️⃣ JWT 토큰 생성
@@ -213,9 +253,10 @@ public class KakaoOAuthService {
     String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
     log.info("JWT 토큰 생성 완료 - User ID: {}", user.getId());
 
-    // 3️⃣ Refresh Token DB 저장
+    // 3️⃣ 최대 세션 수 초과 시 오래된 세션 제거 후 Refresh Token DB 저장
+    sessionService.evictOldestSessionsForNewLogin(user.getId());
     RefreshToken refreshTokenEntity = RefreshToken.builder()
-        .token(refreshToken)
+        .tokenHash(TokenHashUtil.sha256(refreshToken))
         .user(user)
         .expiresAt(LocalDateTime.ofInstant(
             jwtTokenProvider.getRefreshTokenExpiryDate().toInstant(),
@@ -225,6 +266,7 @@ public class KakaoOAuthService {
 
     refreshTokenRepository.save(refreshTokenEntity);
     log.info("Refresh Token DB 저장 완료");
+    domainMetrics.increment(DomainAction.KAKAO_LOGIN_SUCCEEDED);
 
     // 4️⃣ 로그인 응답 생성
     LoginResponse.UserInfo userInfo = LoginResponse.UserInfo.builder()
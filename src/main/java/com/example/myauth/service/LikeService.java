@@ -1,10 +1,13 @@
 package com.example.myauth.service;
 
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.like.LikeResponse;
 import com.example.myauth.dto.like.LikeUserResponse;
 import com.example.myauth.entity.Like;
 import com.example.myauth.entity.Post;
 import com.example.myauth.entity.User;
+import com.example.myauth.event.DomainEventType;
+import com.example.myauth.event.OutboxEventPublisher;
 import com.example.myauth.exception.CommentNotFoundException;
 import com.example.myauth.exception.DuplicateLikeException;
 import com.example.myauth.exception.LikeNotFoundException;
@@ -15,8 +18,8 @@ import com.example.myauth.repository.PostRepository;
 import com.example.myauth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +41,7 @@ public class LikeService {
   private final PostRepository postRepository;
   private final CommentRepository commentRepository;
   private final UserRepository userRepository;
+  private final OutboxEventPublisher outboxEventPublisher;
 
   // ===== 게시글 좋아요 =====
 
@@ -50,7 +54,7 @@ public class LikeService {
    */
   @Transactional
   public LikeResponse likePost(Long userId, Long postId) {
-    log.info("게시글 좋아요 - userId: {}, postId: {}", userId, postId);
+    log.debug("게시글 좋아요 - userId: {}, postId: {}", userId, postId);
 
     // 1. 게시글 존재 확인
     Post post = postRepository.findByIdAndIsDeletedFalse(postId)
@@ -68,13 +72,13 @@ public class LikeService {
     Like like = Like.forPost(user, postId);
     likeRepository.save(like);
 
-    // 5. 게시글 좋아요 수 증가
-    postRepository.incrementLikeCount(postId);
+    // 5. 게시글 좋아요 수 증가 (아웃박스 이벤트 → 카운터 구독자가 비동기 반영)
+    outboxEventPublisher.publish(DomainEventType.POST_LIKED, postId, userId);
 
     // 6. 현재 좋아요 수 조회
     int likeCount = post.getLikeCount() + 1;
 
-    log.info("게시글 좋아요 완료 - postId: {}, likeCount: {}", postId, likeCount);
+    log.debug("게시글 좋아요 완료 - postId: {}, likeCount: {}", postId, likeCount);
 
     return LikeResponse.forPost(postId, true, likeCount);
   }
@@ -88,7 +92,7 @@ public class LikeService {
    */
   @Transactional
   public LikeResponse unlikePost(Long userId, Long postId) {
-    log.info("게시글 좋아요 취소 - userId: {}, postId: {}", userId, postId);
+    log.debug("게시글 좋아요 취소 - userId: {}, postId: {}", userId, postId);
 
     // 1. 게시글 존재 확인
     Post post = postRepository.findByIdAndIsDeletedFalse(postId)
@@ -101,13 +105,13 @@ public class LikeService {
     // 3. 좋아요 삭제
     likeRepository.delete(like);
 
-    // 4. 게시글 좋아요 수 감소
-    postRepository.decrementLikeCount(postId);
+    // 4. 게시글 좋아요 수 감소 (아웃박스 이벤트)
+    outboxEventPublisher.publish(DomainEventType.POST_UNLIKED, postId, userId);
 
     // 5. 현재 좋아요 수 계산
     int likeCount = Math.max(0, post.getLikeCount() - 1);
 
-    log.info("게시글 좋아요 취소 완료 - postId: {}, likeCount: {}", postId, likeCount);
+    log.debug("게시글 좋아요 취소 완료 - postId: {}, likeCount: {}", postId, likeCount);
 
     return LikeResponse.forPost(postId, false, likeCount);
   }
@@ -123,7 +127,7 @@ public class LikeService {
    */
   @Transactional
   public LikeResponse likeComment(Long userId, Long commentId) {
-    log.info("댓글 좋아요 - userId: {}, commentId: {}", userId, commentId);
+    log.debug("댓글 좋아요 - userId: {}, commentId: {}", userId, commentId);
 
     // 1. 댓글 존재 확인
     var comment = commentRepository.findByIdAndIsDeletedFalse(commentId)
@@ -141,13 +145,13 @@ public class LikeService {
     Like like = Like.forComment(user, commentId);
     likeRepository.save(like);
 
-    // 5. 댓글 좋아요 수 증가
-    commentRepository.incrementLikeCount(commentId);
+    // 5. 댓글 좋아요 수 증가 (아웃박스 이벤트)
+    outboxEventPublisher.publish(DomainEventType.COMMENT_LIKED, commentId, userId);
 
     // 6. 현재 좋아요 수 계산
     int likeCount = comment.getLikeCount() + 1;
 
-    log.info("댓글 좋아요 완료 - commentId: {}, likeCount: {}", commentId, likeCount);
+    log.debug("댓글 좋아요 완료 - commentId: {}, likeCount: {}", commentId, likeCount);
 
     return LikeResponse.forComment(commentId, true, likeCount);
   }
@@ -161,7 +165,7 @@ public class LikeService {
    */
   @Transactional
   public LikeResponse unlikeComment(Long userId, Long commentId) {
-    log.info("댓글 좋아요 취소 - userId: {}, commentId: {}", userId, commentId);
+    log.debug("댓글 좋아요 취소 - userId: {}, commentId: {}", userId, commentId);
 
     // 1. 댓글 존재 확인
     var comment = commentRepository.findByIdAndIsDeletedFalse(commentId)
@@ -174,13 +178,13 @@ public class LikeService {
     // 3. 좋아요 삭제
     likeRepository.delete(like);
 
-    // 4. 댓글 좋아요 수 감소
-    commentRepository.decrementLikeCount(commentId);
+    // 4. 댓글 좋아요 수 감소 (아웃박스 이벤트)
+    outboxEventPublisher.publish(DomainEventType.COMMENT_UNLIKED, commentId, userId);
 
     // 5. 현재 좋아요 수 계산
     int likeCount = Math.max(0, comment.getLikeCount() - 1);
 
-    log.info("댓글 좋아요 취소 완료 - commentId: {}, likeCount: {}", commentId, likeCount);
+    log.debug("댓글 좋아요 취소 완료 - commentId: {}, likeCount: {}", commentId, likeCount);
 
     return LikeResponse.forComment(commentId, false, likeCount);
   }
@@ -215,41 +219,51 @@ public class LikeService {
 
   /**
    * 게시글에 좋아요 누른 사용자 목록 조회
+   * 전체 수는 기본적으로 posts.like_count 카운터(근사값)를 사용
    *
    * @param postId 게시글 ID
    * @param pageable 페이지 정보
+   * @param exactTotal true면 COUNT 쿼리로 정확한 좋아요 수 포함
    * @return 사용자 목록 페이지
    */
   @Transactional(readOnly = true)
-  public Page<LikeUserResponse> getPostLikeUsers(Long postId, Pageable pageable) {
-    log.info("게시글 좋아요 사용자 목록 조회 - postId: {}", postId);
+  public PageResponse<LikeUserResponse> getPostLikeUsers(Long postId, Pageable pageable, boolean exactTotal) {
+    log.debug("게시글 좋아요 사용자 목록 조회 - postId: {}", postId);
 
-    // 게시글 존재 확인
-    if (!postRepository.existsById(postId)) {
-      throw new PostNotFoundException(postId);
-    }
+    // 게시글 조회 (존재 확인 + 좋아요 카운터)
+    Post post = postRepository.findById(postId)
+        .orElseThrow(() -> new PostNotFoundException(postId));
+
+    Slice<LikeUserResponse> users = likeRepository.findUsersWhoLikedPost(postId, pageable)
+        .map(LikeUserResponse::from);
 
-    Page<User> users = likeRepository.findUsersWhoLikedPost(postId, pageable);
-    return users.map(LikeUserResponse::from);
+    return exactTotal
+        ? PageResponse.of(users, likeRepository.countPostLikes(postId), true)
+        : PageResponse.of(users, post.getLikeCount().longValue(), false);
   }
 
   /**
    * 댓글에 좋아요 누른 사용자 목록 조회
+   * 전체 수는 기본적으로 comments.like_count 카운터(근사값)를 사용
    *
    * @param commentId 댓글 ID
    * @param pageable 페이지 정보
+   * @param exactTotal true면 COUNT 쿼리로 정확한 좋아요 수 포함
    * @return 사용자 목록 페이지
    */
   @Transactional(readOnly = true)
-  public Page<LikeUserResponse> getCommentLikeUsers(Long commentId, Pageable pageable) {
-    log.info("댓글 좋아요 사용자 목록 조회 - commentId: {}", commentId);
+  public PageResponse<LikeUserResponse> getCommentLikeUsers(Long commentId, Pageable pageable, boolean exactTotal) {
+    log.debug("댓글 좋아요 사용자 목록 조회 - commentId: {}", commentId);
 
-    // 댓글 존재 확인
-    if (!commentRepository.existsById(commentId)) {
-      throw new CommentNotFoundException(commentId);
-    }
+    // 댓글 조회 (존재 확인 + 좋아요 카운터)
+    var comment = commentRepository.findById(commentId)
+        .orElseThrow(() -> new CommentNotFoundException(commentId));
+
+    Slice<LikeUserResponse> users = likeRepository.findUsersWhoLikedComment(commentId, pageable)
+        .map(LikeUserResponse::from);
 
-    Page<User> users = likeRepository.findUsersWhoLikedComment(commentId, pageable);
-    return users.map(LikeUserResponse::from);
+    return exactTotal
+        ? PageResponse.of(users, likeRepository.countCommentLikes(commentId), true)
+        : PageResponse.of(users, comment.getLikeCount().longValue(), false);
   }
 }
@@ -4,6 +4,11 @@ import com.example.myauth.dto.ImageUploadResponse;
 import com.example.myauth.exception.FileStorageException;
 import com.example.myauth.exception.InvalidFileException;
 import com.example.myauth.exception.InvalidFileException.ErrorCode;
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
@@ -46,6 +51,14 @@ public class LocalImageStorageService implements ImageStorageService {
   /** 파일에 접근할 수 있는 베이스 URL */
   private final String baseUrl;
 
+  /** 업로드 저장 소요 시간 (myauth.upload.duration) */
+  private final Timer uploadTimer;
+
+  /** 업로드 파일 크기 분포 (myauth.upload.size) */
+  private final DistributionSummary uploadSize;
+
+  private final DomainMetrics domainMetrics;
+
   /**
    * 생성자 - application.yml의 설정값을 주입받아 초기화
    *
@@ -54,10 +67,23 @@ public class LocalImageStorageService implements ImageStorageService {
    */
   public LocalImageStorageService(
       @Value("${file.upload.dir:./uploads}") String uploadDir,
-      @Value("${file.upload.base-url:http://localhost:9080/uploads}") String baseUrl
+      @Value("${file.upload.base-url:http://localhost:9080/uploads}") String baseUrl,
+      MeterRegistry meterRegistry,
+      DomainMetrics domainMetrics
   ) {
     this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
     this.baseUrl = baseUrl;
+    this.uploadTimer = Timer.builder("myauth.upload.duration")
+        .description("이미지 저장 소요 시간")
+        .tag("storage", "local")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.uploadSize = DistributionSummary.builder("myauth.upload.size")
+        .description("업로드 이미지 크기")
+        .baseUnit("bytes")
+        .tag("storage", "local")
+        .register(meterRegistry);
+    this.domainMetrics = domainMetrics;
 
     try {
       // 업로드 디렉토리가 없으면 생성
@@ -93,7 +119,11 @@ public class LocalImageStorageService implements ImageStorageService {
       Path targetPath = this.uploadPath.resolve(fileName);
 
       // 4️⃣ 파일 저장
+      Timer.Sample sample = Timer.start();
       Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+      sample.stop(uploadTimer);
+      uploadSize.record(file.getSize());
+      domainMetrics.increment(DomainAction.IMAGE_UPLOADED);
       log.info("이미지 저장 완료 - 파일명: {}, 경로: {}", fileName, targetPath);
 
       // 5️⃣ 접근 가능한 URL 생성
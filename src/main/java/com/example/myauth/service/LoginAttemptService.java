@@ -0,0 +1,112 @@
+package com.example.myauth.service;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.exception.TooManyRequestsException;
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
+import com.example.myauth.repository.UserRepository;
+import com.example.myauth.util.TokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 계정 단위 로그인 시도 제한
+ *
+ * 【2단계 방어】
+ * 1. 메모리 토큰 버킷 (app.rate-limit.login-per-account)
+ *    같은 계정으로의 연속 시도를 BCrypt 검증 전에 429로 거부 (IP를 바꿔가며 시도하는 경우 대비)
+ * 2. DB 잠금 (users.failed_login_attempts, account_locked_until)
+ *    비밀번호 실패가 lockout-threshold회 누적되면 lockout-minutes 동안 계정 잠금
+ *    잠긴 계정은 비밀번호 검증 없이 거부, 로그인 성공 시 초기화
+ *
+ * 실패 기록은 조건식을 포함한 UPDATE 한 번으로 처리하여 엔티티 조회/동시 실패 경합이 없다
+ */
+@Slf4j
+@Service
+public class LoginAttemptService {
+
+  private final UserRepository userRepository;
+  private final AppProperties.RateLimit config;
+  private final TokenBucketRateLimiter accountLimiter;
+  private final DomainMetrics domainMetrics;
+
+  public LoginAttemptService(UserRepository userRepository, AppProperties appProperties, DomainMetrics domainMetrics) {
+    this.userRepository = userRepository;
+    this.domainMetrics = domainMetrics;
+    this.config = appProperties.getRateLimit();
+
+    AppProperties.Limit limit = config.getLoginPerAccount();
+    this.accountLimiter = new TokenBucketRateLimiter(
+        limit.getCapacity(), limit.getRefillPerMinute(), config.getMaxKeys(), config.getStripes());
+  }
+
+  /**
+   * 계정별 로그인 시도 횟수 확인 (버킷 토큰 1개 소비)
+   *
+   * @param normalizedEmail 정규화된 이메일
+   * @throws TooManyRequestsException 제한 초과 시
+   */
+  public void checkAccountRate(String normalizedEmail) {
+    if (!config.isEnabled()) {
+      return;
+    }
+
+    long retryAfterMs = accountLimiter.tryAcquire(normalizedEmail);
+    if (retryAfterMs > 0) {
+      long retryAfterSeconds = (retryAfterMs + 999) / 1000;
+      log.warn("계정별 로그인 시도 제한 초과: {}, 재시도까지: {}초", normalizedEmail, retryAfterSeconds);
+      throw new TooManyRequestsException(
+          "로그인 시도가 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+  }
+
+  /**
+   * 계정이 실패 누적으로 잠겨 있는지 확인
+   *
+   * @param accountLockedUntil 사용자의 잠금 해제 시각 (없으면 null)
+   * @return 잠금 기간 중이면 true
+   */
+  public boolean isLocked(LocalDateTime accountLockedUntil) {
+    return accountLockedUntil != null && accountLockedUntil.isAfter(LocalDateTime.now());
+  }
+
+  /**
+   * 비밀번호 실패 기록 (호출자의 트랜잭션에서 실행)
+   * 호출자는 이후 InvalidCredentialsException을 던지므로 noRollbackFor로 커밋되어야 한다
+   *
+   * @param normalizedEmail 정규화된 이메일 (존재하지 않는 계정이면 아무 행도 갱신되지 않음)
+   */
+  public void recordFailure(String normalizedEmail) {
+    LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(config.getLockoutMinutes());
+    int updated = userRepository.recordLoginFailure(normalizedEmail, config.getLockoutThreshold(), lockedUntil);
+    domainMetrics.increment(DomainAction.LOGIN_FAILED);
+
+    if (updated > 0) {
+      log.debug("로그인 실패 기록: {}", normalizedEmail);
+    }
+  }
+
+  /**
+   * 로그인 성공 기록 (호출자의 트랜잭션에서 실행)
+   * 마지막 로그인 시각/IP 기록과 실패 기록 초기화를 UPDATE 한 번으로 처리
+   *
+   * @param userId 로그인한 사용자 ID
+   * @param clientIp 클라이언트 IP
+   */
+  public void recordSuccess(Long userId, String clientIp) {
+    userRepository.recordLoginSuccess(userId, LocalDateTime.now(), clientIp);
+    domainMetrics.increment(DomainAction.LOGIN_SUCCEEDED);
+  }
+
+  /**
+   * 계정별 제한기 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    return accountLimiter.getMetrics();
+  }
+}
@@ -1,15 +1,18 @@
 package com.example.myauth.service;
 
+import com.example.myauth.dto.PageResponse;
 import com.example.myauth.dto.mention.MentionResponse;
 import com.example.myauth.entity.Mention;
 import com.example.myauth.entity.TargetType;
 import com.example.myauth.entity.User;
+import com.example.myauth.event.DomainEventType;
+import com.example.myauth.event.OutboxEventPublisher;
 import com.example.myauth.repository.MentionRepository;
 import com.example.myauth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +39,7 @@ public class MentionService {
 
   private final MentionRepository mentionRepository;
   private final UserRepository userRepository;
+  private final OutboxEventPublisher outboxEventPublisher;
 
   /**
    * 멘션 패턴: @사용자이름 (영문, 숫자, 언더스코어, 한글)
@@ -120,7 +124,7 @@ public class MentionService {
       return Collections.emptyList();
     }
 
-    log.info("{} {} 에 멘션 처리: {}", targetType, targetId, usernames);
+    log.debug("{} {} 에 멘션 처리: {}", targetType, targetId, usernames);
 
     List<User> mentionedUsers = new ArrayList<>();
 
@@ -141,7 +145,10 @@ public class MentionService {
             mentionRepository.save(mention);
             mentionedUsers.add(user);
 
-            log.info("멘션 저장: {} (userId: {}) in {} {}", username, user.getId(), targetType, targetId);
+            // 멘션 알림은 아웃박스 이벤트로 요청 경로에서 분리
+            outboxEventPublisher.publish(DomainEventType.USER_MENTIONED, user.getId(), authorId, mention.getId());
+
+            log.debug("멘션 저장: {} (userId: {}) in {} {}", username, user.getId(), targetType, targetId);
           }
         }
       });
@@ -194,7 +201,7 @@ public class MentionService {
    */
   @Transactional
   public void deletePostMentions(Long postId) {
-    log.info("게시글 {} 의 멘션 삭제", postId);
+    log.debug("게시글 {} 의 멘션 삭제", postId);
     mentionRepository.deleteByPostId(postId);
   }
 
@@ -205,7 +212,7 @@ public class MentionService {
    */
   @Transactional
   public void deleteCommentMentions(Long commentId) {
-    log.info("댓글 {} 의 멘션 삭제", commentId);
+    log.debug("댓글 {} 의 멘션 삭제", commentId);
     mentionRepository.deleteByCommentId(commentId);
   }
 
@@ -216,14 +223,19 @@ public class MentionService {
    *
    * @param userId 사용자 ID
    * @param pageable 페이지 정보
+   * @param exactTotal true면 COUNT 쿼리로 전체 멘션 수 포함
    * @return 멘션 페이지
    */
   @Transactional(readOnly = true)
-  public Page<MentionResponse> getMyMentions(Long userId, Pageable pageable) {
-    log.info("멘션 목록 조회 - userId: {}", userId);
+  public PageResponse<MentionResponse> getMyMentions(Long userId, Pageable pageable, boolean exactTotal) {
+    log.debug("멘션 목록 조회 - userId: {}", userId);
+
+    Slice<MentionResponse> mentions = mentionRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+        .map(MentionResponse::from);
 
-    Page<Mention> mentions = mentionRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-    return mentions.map(MentionResponse::from);
+    return exactTotal
+        ? PageResponse.of(mentions, mentionRepository.countByUserId(userId), true)
+        : PageResponse.of(mentions);
   }
 
   /**
@@ -231,14 +243,19 @@ public class MentionService {
    *
    * @param userId 사용자 ID
    * @param pageable 페이지 정보
+   * @param exactTotal true면 COUNT 쿼리로 전체 멘션 수 포함
    * @return 멘션 페이지
    */
   @Transactional(readOnly = true)
-  public Page<MentionResponse> getMyPostMentions(Long userId, Pageable pageable) {
-    log.info("게시글 멘션 목록 조회 - userId: {}", userId);
+  public PageResponse<MentionResponse> getMyPostMentions(Long userId, Pageable pageable, boolean exactTotal) {
+    log.debug("게시글 멘션 목록 조회 - userId: {}", userId);
 
-    Page<Mention> mentions = mentionRepository.findPostMentionsByUserId(userId, pageable);
-    return mentions.map(MentionResponse::from);
+    Slice<MentionResponse> mentions = mentionRepository.findPostMentionsByUserId(userId, pageable)
+        .map(MentionResponse::from);
+
+    return exactTotal
+        ? PageResponse.of(mentions, mentionRepository.countByUserIdAndTargetType(userId, TargetType.POST), true)
+        : PageResponse.of(mentions);
   }
 
   /**
@@ -246,14 +263,19 @@ public class MentionService {
    *
    * @param userId 사용자 ID
    * @param pageable 페이지 정보
+   * @param exactTotal true면 COUNT 쿼리로 전체 멘션 수 포함
    * @return 멘션 페이지
    */
   @Transactional(readOnly = true)
-  public Page<MentionResponse> getMyCommentMentions(Long userId, Pageable pageable) {
-    log.info("댓글 멘션 목록 조회 - userId: {}", userId);
+  public PageResponse<MentionResponse> getMyCommentMentions(Long userId, Pageable pageable, boolean exactTotal) {
+    log.debug("댓글 멘션 목록 조회 - userId: {}", userId);
+
+    Slice<MentionResponse> mentions = mentionRepository.findCommentMentionsByUserId(userId, pageable)
+        .map(MentionResponse::from);
 
-    Page<Mention> mentions = mentionRepository.findCommentMentionsByUserId(userId, pageable);
-    return mentions.map(MentionResponse::from);
+    return exactTotal
+        ? PageResponse.of(mentions, mentionRepository.countByUserIdAndTargetType(userId, TargetType.COMMENT), true)
+        : PageResponse.of(mentions);
   }
 
   /**
@@ -0,0 +1,257 @@
+package com.example.myauth.service;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.dto.post.PostAuthorResponse;
+import com.example.myauth.dto.post.PostImageResponse;
+import com.example.myauth.dto.post.PostListResponse;
+import com.example.myauth.dto.post.PostResponse;
+import com.example.myauth.entity.MediaType;
+import com.example.myauth.entity.Post;
+import com.example.myauth.entity.PostImage;
+import com.example.myauth.entity.User;
+import com.example.myauth.util.LruCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 피드 응답 조립(hydration)용 캐시
+ * 게시글 목록/상세 응답을 만들 때마다 같은 작성자, 같은 이미지 목록을 지연 로딩으로 다시 읽는 문제를 줄인다
+ *
+ * 【캐시 항목】
+ * - authors: 사용자 ID → 작성자 정보(PostAuthorResponse) - 인기 작성자의 users 조회 제거
+ * - postImages: 게시글 ID → 이미지 목록(PostImageResponse) - post_images 조회 제거
+ * - hashtags: 해시태그 이름 → 해시태그 ID - 게시글 작성/수정 시 hashtags 이름 조회 제거
+ *
+ * 【무효화】
+ * - 작성자: UserService(프로필 수정), KakaoOAuthService(카카오 프로필 변경 반영)에서 evictAuthor
+ * - 이미지: PostService(게시글 삭제)에서 evictPostImages (이미지는 작성 후 바뀌지 않음)
+ * - 해시태그: 이름/ID가 바뀌거나 삭제되지 않으므로 무효화 없음 (커밋된 행만 캐시)
+ * 무효화는 즉시 + 커밋 후 한 번 더 수행하고, 로딩 중에 무효화가 일어나면 읽은 값을 캐시하지 않는다
+ * 다른 인스턴스의 수정은 ttlSeconds 후 반영된다
+ *
+ * 응답 DTO는 변경 가능(@Data)하므로 불변 스냅샷(record)을 캐시하고 조회할 때마다 새 DTO를 만든다
+ * (한 응답에서 바꾼 값이 다른 요청의 응답에 섞이지 않도록)
+ *
+ * Hibernate 2차 캐시 대신 응답 조각을 캐시하는 이유:
+ * 로그인 시 users 벌크 UPDATE, refresh_tokens 네이티브 DELETE가 실행될 때마다 엔티티 영역 전체가 비워짐
+ */
+@Component
+public class PostHydrationCache {
+
+  private final boolean enabled;
+  private final long ttlMs;
+
+  private final Region<Long, AuthorSnapshot> authors;
+  private final Region<Long, List<ImageSnapshot>> postImages;
+  private final Region<String, Long> hashtags;
+
+  public PostHydrationCache(AppProperties appProperties) {
+    AppProperties.HydrationCache config = appProperties.getHydrationCache();
+    this.enabled = config.isEnabled();
+    this.ttlMs = config.getTtlSeconds() * 1000L;
+    this.authors = new Region<>(config.getMaxAuthors());
+    this.postImages = new Region<>(config.getMaxPostImages());
+    this.hashtags = new Region<>(config.getMaxHashtags());
+  }
+
+  // ===== 응답 조립 =====
+
+  /**
+   * 게시글 목록 응답 (작성자/이미지는 캐시 사용)
+   */
+  public PostListResponse toListResponse(Post post) {
+    return PostListResponse.from(post, author(post.getUser()), images(post));
+  }
+
+  /**
+   * 게시글 상세 응답 (작성자/이미지는 캐시 사용)
+   */
+  public PostResponse toResponse(Post post, boolean isLiked, boolean isBookmarked) {
+    return PostResponse.from(post, author(post.getUser()), images(post), isLiked, isBookmarked);
+  }
+
+  /**
+   * 작성자 정보
+   * 지연 로딩 프록시의 ID만 사용하므로 캐시 적중 시 users 조회가 일어나지 않음
+   */
+  public PostAuthorResponse author(User user) {
+    if (!enabled) {
+      return PostAuthorResponse.from(user);
+    }
+    return authors.get(user.getId(), () -> AuthorSnapshot.from(user)).toResponse();
+  }
+
+  /**
+   * 게시글 이미지 목록
+   */
+  public List<PostImageResponse> images(Post post) {
+    if (!enabled) {
+      return toImageResponses(post);
+    }
+    return postImages.get(post.getId(), () -> post.getImages().stream().map(ImageSnapshot::from).toList())
+        .stream()
+        .map(ImageSnapshot::toResponse)
+        .toList();
+  }
+
+  private static List<PostImageResponse> toImageResponses(Post post) {
+    return post.getImages().stream()
+        .map(PostImageResponse::from)
+        .toList();
+  }
+
+  // ===== 해시태그 =====
+
+  /**
+   * @return 캐시된 해시태그 ID (없으면 null)
+   */
+  public Long getHashtagId(String name) {
+    return enabled ? hashtags.peek(name) : null;
+  }
+
+  /**
+   * DB에서 조회한(커밋된) 해시태그 ID 기록
+   * 같은 트랜잭션에서 새로 만든 해시태그는 롤백될 수 있으므로 기록하지 않는다
+   */
+  public void putHashtagId(String name, Long hashtagId) {
+    if (enabled) {
+      hashtags.put(name, hashtagId);
+    }
+  }
+
+  // ===== 무효화 =====
+
+  /**
+   * 작성자 정보 무효화 (이름/프로필 이미지 변경 시)
+   */
+  public void evictAuthor(Long userId) {
+    evictNowAndAfterCommit(authors, userId);
+  }
+
+  /**
+   * 게시글 이미지 목록 무효화
+   */
+  public void evictPostImages(Long postId) {
+    evictNowAndAfterCommit(postImages, postId);
+  }
+
+  private static <K> void evictNowAndAfterCommit(Region<K, ?> region, K key) {
+    region.evict(key);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          region.evict(key);
+        }
+      });
+    }
+  }
+
+  /**
+   * 캐시 지표 스냅샷
+   *
+   * @return 캐시 이름 → (지표 이름 → 값)
+   */
+  public Map<String, Map<String, Long>> getMetrics() {
+    Map<String, Map<String, Long>> metrics = new LinkedHashMap<>();
+    metrics.put("authors", authors.getMetrics());
+    metrics.put("postImages", postImages.getMetrics());
+    metrics.put("hashtags", hashtags.getMetrics());
+    return metrics;
+  }
+
+  /**
+   * 만료 시각이 있는 LRU 캐시 영역
+   */
+  private final class Region<K, V> {
+
+    private final LruCache<K, Entry<V>> entries;
+
+    /** 무효화 횟수 (로딩 중 무효화 감지용 세대 번호) */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private Region(int maxSize) {
+      this.entries = new LruCache<>(maxSize);
+    }
+
+    private V get(K key, Supplier<V> loader) {
+      V cached = peek(key);
+      if (cached != null) {
+        return cached;
+      }
+      long generation = invalidations.get();
+      V loaded = loader.get();
+      if (loaded != null && generation == invalidations.get()) {
+        put(key, loaded);
+      }
+      return loaded;
+    }
+
+    private V peek(K key) {
+      Entry<V> entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.expiresAt() <= System.currentTimeMillis()) {
+        entries.remove(key);
+        return null;
+      }
+      return entry.value();
+    }
+
+    private void put(K key, V value) {
+      entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMs));
+    }
+
+    private void evict(K key) {
+      invalidations.incrementAndGet();
+      entries.remove(key);
+    }
+
+    private Map<String, Long> getMetrics() {
+      Map<String, Long> metrics = entries.getMetrics();
+      metrics.put("invalidations", invalidations.get());
+      return metrics;
+    }
+  }
+
+  private record Entry<V>(V value, long expiresAt) {
+  }
+
+  /**
+   * 작성자 정보 불변 스냅샷
+   */
+  private record AuthorSnapshot(Long id, String name, String profileImage) {
+
+    private static AuthorSnapshot from(User user) {
+      return new AuthorSnapshot(user.getId(), user.getName(), user.getProfileImage());
+    }
+
+    private PostAuthorResponse toResponse() {
+      return new PostAuthorResponse(id, name, profileImage);
+    }
+  }
+
+  /**
+   * 게시글 이미지 불변 스냅샷
+   */
+  private record ImageSnapshot(Long id, String imageUrl, String thumbnailUrl, Integer sortOrder,
+                               Integer width, Integer height, MediaType mediaType) {
+
+    private static ImageSnapshot from(PostImage image) {
+      return new ImageSnapshot(image.getId(), image.getImageUrl(), image.getThumbnailUrl(),
+          image.getSortOrder(), image.getWidth(), image.getHeight(), image.getMediaType());
+    }
+
+    private PostImageResponse toResponse() {
+      return new PostImageResponse(id, imageUrl, thumbnailUrl, sortOrder, width, height, mediaType);
+    }
+  }
+}
@@ -5,6 +5,8 @@ import com.example.myauth.dto.post.*;
 import com.example.myauth.entity.*;
 import com.example.myauth.exception.PostNotFoundException;
 import com.example.myauth.exception.UnauthorizedAccessException;
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
 import com.example.myauth.repository.PostImageRepository;
 import com.example.myauth.repository.PostRepository;
 import com.example.myauth.repository.UserRepository;
@@ -34,6 +36,9 @@ public class PostService {
   private final ImageStorageService imageStorageService;
   private final HashtagService hashtagService;
   private final MentionService mentionService;
+  private final DomainMetrics domainMetrics;
+  private final PostHydrationCache postHydrationCache;
+  private final ExploreFeedCache exploreFeedCache;
 
   // ===== 게시글 작성 =====
 
@@ -59,7 +64,7 @@ public class PostService {
    */
   @Transactional
   public PostResponse createPost(Long userId, PostCreateRequest request, List<MultipartFile> images) {
-    log.info("게시글 작성 시작 - userId: {}, 이미지 개수: {}",
+    log.debug("게시글 작성 시작 - userId: {}, 이미지 개수: {}",
         userId, images != null ? images.size() : 0);
 
     // 1. 사용자 조회
@@ -88,7 +93,8 @@ public class PostService {
     // 6. 멘션 처리 (본문에서 멘션 추출 및 저장)
     mentionService.processPostMentions(request.getContent(), postId, userId);
 
-    log.info("게시글 작성 완료 - postId: {}", postId);
+    log.debug("게시글 작성 완료 - postId: {}", postId);
+    domainMetrics.increment(DomainAction.POST_CREATED);
 
     // 5. 응답 반환 (이미지 포함하여 다시 조회)
     savedPost = postRepository.findByIdWithUserAndImages(postId)
@@ -124,7 +130,7 @@ public class PostService {
 
     // 이미지 일괄 저장
     postImageRepository.saveAll(postImages);
-    log.info("게시글 이미지 저장 완료 - postId: {}, 이미지 개수: {}", post.getId(), postImages.size());
+    log.debug("게시글 이미지 저장 완료 - postId: {}, 이미지 개수: {}", post.getId(), postImages.size());
   }
 
   // ===== 게시글 수정 =====
@@ -139,7 +145,7 @@ public class PostService {
    */
   @Transactional
   public PostResponse updatePost(Long userId, Long postId, PostUpdateRequest request) {
-    log.info("게시글 수정 시작 - userId: {}, postId: {}", userId, postId);
+    log.debug("게시글 수정 시작 - userId: {}, postId: {}", userId, postId);
 
     // 1. 게시글 조회
     Post post = postRepository.findByIdWithUserAndImages(postId)
@@ -167,7 +173,11 @@ public class PostService {
     // 4. 저장 (DynamicUpdate로 변경된 필드만 UPDATE)
     post = postRepository.save(post);
 
-    log.info("게시글 수정 완료 - postId: {}", postId);
+    // 탐색 피드 캐시 무효화 (본문 미리보기/공개 범위 변경 반영)
+    exploreFeedCache.invalidateAll();
+
+    log.debug("게시글 수정 완료 - postId: {}", postId);
+    domainMetrics.increment(DomainAction.POST_UPDATED);
 
     return PostResponse.from(post);
   }
@@ -182,7 +192,7 @@ public class PostService {
    */
   @Transactional
   public void deletePost(Long userId, Long postId) {
-    log.info("게시글 삭제 시작 - userId: {}, postId: {}", userId, postId);
+    log.debug("게시글 삭제 시작 - userId: {}, postId: {}", userId, postId);
 
     // 1. 게시글 조회
     Post post = postRepository.findByIdAndIsDeletedFalse(postId)
@@ -196,8 +206,11 @@ public class PostService {
     // 3. Soft Delete 처리
     post.softDelete();
     postRepository.save(post);
+    postHydrationCache.evictPostImages(postId);
+    exploreFeedCache.invalidateAll();
 
-    log.info("게시글 삭제 완료 (Soft Delete) - postId: {}", postId);
+    log.debug("게시글 삭제 완료 (Soft Delete) - postId: {}", postId);
+    domainMetrics.increment(DomainAction.POST_DELETED);
   }
 
   // ===== 게시글 조회 =====
@@ -211,7 +224,7 @@ public class PostService {
    */
   @Transactional
   public PostResponse getPost(Long userId, Long postId) {
-    log.info("게시글 상세 조회 - userId: {}, postId: {}", userId, postId);
+    log.debug("게시글 상세 조회 - userId: {}, postId: {}", userId, postId);
 
     // 1. 게시글 조회 (작성자, 이미지 함께 로드)
     Post post = postRepository.findByIdWithUserAndImages(postId)
@@ -231,7 +244,7 @@ public class PostService {
     boolean isLiked = false;
     boolean isBookmarked = false;
 
-    return PostResponse.from(post, isLiked, isBookmarked);
+    return postHydrationCache.toResponse(post, isLiked, isBookmarked);
   }
 
   /**
@@ -267,13 +280,15 @@ public class PostService {
    */
   @Transactional(readOnly = true)
   public Page<PostListResponse> getPublicPosts(Pageable pageable) {
-    log.info("공개 게시글 목록 조회 - page: {}, size: {}",
-        pageable.getPageNumber(), pageable.getPageSize());
+    if (log.isDebugEnabled()) {
+      log.debug("공개 게시글 목록 조회 - page: {}, size: {}",
+          pageable.getPageNumber(), pageable.getPageSize());
+    }
 
     Page<Post> posts = postRepository.findByVisibilityAndIsDeletedFalse(
         Visibility.PUBLIC, pageable);
 
-    return posts.map(PostListResponse::from);
+    return posts.map(postHydrationCache::toListResponse);
   }
 
   /**
@@ -285,13 +300,15 @@ public class PostService {
    */
   @Transactional(readOnly = true)
   public Page<PostListResponse> getPostsByUser(Long userId, Pageable pageable) {
-    log.info("사용자별 게시글 목록 조회 - userId: {}, page: {}",
-        userId, pageable.getPageNumber());
+    if (log.isDebugEnabled()) {
+      log.debug("사용자별 게시글 목록 조회 - userId: {}, page: {}",
+          userId, pageable.getPageNumber());
+    }
 
     Page<Post> posts = postRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(
         userId, pageable);
 
-    return posts.map(PostListResponse::from);
+    return posts.map(postHydrationCache::toListResponse);
   }
 
   /**
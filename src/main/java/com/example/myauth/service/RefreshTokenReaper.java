@@ -0,0 +1,149 @@
+package com.example.myauth.service;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * 만료/취소 Refresh Token 정리 작업
+ * 로그인마다 refresh_tokens에 행이 추가되므로 주기적으로 삭제하여 테이블 크기를 제한한다
+ *
+ * 【청크 삭제】
+ * 한 번에 전체를 DELETE하면 대량 행 잠금과 undo log 증가로 로그인/갱신 요청이 대기하게 됨
+ * → DELETE ... LIMIT chunkSize를 각각 짧은 트랜잭션으로 실행하고 청크 사이에 pauseMs만큼 대기
+ * → 단계(만료/취소)별로 1회 실행당 maxChunksPerRun까지만 처리하고 남은 행은 다음 실행으로 넘김
+ * 실행 중에는 스케줄러 스레드 하나를 점유하므로 spring.task.scheduling.pool.size를 작업 수만큼 둔다
+ * (1개이면 정리 중에 아웃박스 전달, 커넥션 풀 샘플링 등이 멈춤)
+ *
+ * 【지표】
+ * 누적 삭제 행 수, 마지막 실행 결과, 테이블 대략 행 수를 getMetrics()로 제공
+ */
+@Slf4j
+@Component
+public class RefreshTokenReaper {
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final AppProperties appProperties;
+  private final TransactionTemplate transactionTemplate;
+
+  private final AtomicLong expiredReapedTotal = new AtomicLong();
+  private final AtomicLong revokedReapedTotal = new AtomicLong();
+  private final AtomicLong lastRunReaped = new AtomicLong();
+  private final AtomicLong lastRunDurationMs = new AtomicLong();
+  private final AtomicLong lastTableRows = new AtomicLong(-1);
+
+  public RefreshTokenReaper(RefreshTokenRepository refreshTokenRepository,
+                            AppProperties appProperties,
+                            PlatformTransactionManager transactionManager) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.appProperties = appProperties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 만료/취소 토큰 정리 (이전 실행 종료 후 interval-ms 뒤 다시 실행)
+   */
+  @Scheduled(
+      initialDelayString = "${app.token-reaper.initial-delay-ms:60000}",
+      fixedDelayString = "${app.token-reaper.interval-ms:600000}")
+  public void reap() {
+    AppProperties.TokenReaper config = appProperties.getTokenReaper();
+    if (!config.isEnabled()) {
+      return;
+    }
+
+    long startedAt = System.currentTimeMillis();
+    LocalDateTime now = LocalDateTime.now();
+    int chunkSize = config.getChunkSize();
+
+    // 1. 만료된 토큰 (취소 여부와 무관)
+    long expired = deleteInChunks(
+        () -> refreshTokenRepository.deleteExpiredTokensChunk(now, chunkSize),
+        config);
+
+    // 2. 사용되지 않고 취소된 토큰 (Rotation된 토큰은 재사용 감지를 위해 만료까지 보관 → 1단계에서 삭제)
+    long revoked = deleteInChunks(
+        () -> refreshTokenRepository.deleteRevokedTokensChunk(chunkSize),
+        config);
+
+    expiredReapedTotal.addAndGet(expired);
+    revokedReapedTotal.addAndGet(revoked);
+    lastRunReaped.set(expired + revoked);
+    lastRunDurationMs.set(System.currentTimeMillis() - startedAt);
+
+    Number tableRows = refreshTokenRepository.estimateTableRows();
+    lastTableRows.set(tableRows != null ? tableRows.longValue() : -1);
+
+    log.info("Refresh Token 정리 완료 - 만료: {}, 취소: {}, 소요: {}ms, 테이블 행 수(추정): {}",
+        expired, revoked, lastRunDurationMs.get(), lastTableRows.get());
+  }
+
+  /**
+   * 청크 단위 반복 삭제
+   * 삭제 행 수가 청크 크기보다 작으면 더 이상 대상이 없는 것으로 판단
+   *
+   * @param deleteChunk 한 청크를 삭제하고 삭제 행 수를 반환하는 작업 (청크마다 별도 트랜잭션)
+   * @param config 정리 작업 설정
+   * @return 삭제된 총 행 수
+   */
+  private long deleteInChunks(IntSupplier deleteChunk, AppProperties.TokenReaper config) {
+    long total = 0;
+
+    for (int chunk = 0; chunk < config.getMaxChunksPerRun(); chunk++) {
+      Integer deleted = transactionTemplate.execute(status -> deleteChunk.getAsInt());
+      total += deleted != null ? deleted : 0;
+
+      if (deleted == null || deleted < config.getChunkSize()) {
+        break;
+      }
+
+      if (!pause(config.getPauseMs())) {
+        break;
+      }
+    }
+    return total;
+  }
+
+  /**
+   * 청크 사이 대기
+   *
+   * @return 인터럽트 없이 대기를 마치면 true (종료 중이면 false)
+   */
+  private boolean pause(long pauseMs) {
+    if (pauseMs <= 0) {
+      return true;
+    }
+    try {
+      Thread.sleep(pauseMs);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * 정리 작업 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("expiredReapedTotal", expiredReapedTotal.get());
+    metrics.put("revokedReapedTotal", revokedReapedTotal.get());
+    metrics.put("lastRunReaped", lastRunReaped.get());
+    metrics.put("lastRunDurationMs", lastRunDurationMs.get());
+    metrics.put("tableRowsEstimate", lastTableRows.get());
+    return metrics;
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.myauth.service;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.dto.session.SessionResponse;
+import com.example.myauth.exception.SessionNotFoundException;
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
+import com.example.myauth.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인 세션 서비스
+ * 세션 = 하나의 로그인에서 시작된 Refresh Token 패밀리
+ *
+ * 【주요 기능】
+ * - 사용자당 최대 세션 수 제한 (로그인 시 가장 오래된 세션 제거)
+ * - 내 세션 목록 조회
+ * - 특정 세션 종료 (다른 기기 로그아웃)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final AppProperties appProperties;
+  private final DomainMetrics domainMetrics;
+
+  /**
+   * 새 세션을 위한 자리 확보 (로그인 시 새 Refresh Token 저장 직전에 호출)
+   * 활성 세션이 최대 수 이상이면 오래된 순으로 제거하여 (최대 수 - 1)개만 남긴다
+   *
+   * 세션 수가 항상 제한되므로 조회 결과는 최대 세션 수 수준이고,
+   * idx_user_created_at 인덱스만 사용하여 테이블 크기와 무관하게 일정한 비용
+   *
+   * @param userId 사용자 ID
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void evictOldestSessionsForNewLogin(Long userId) {
+    int maxSessions = appProperties.getSession().getMaxPerUser();
+    if (maxSessions <= 0) {
+      return;
+    }
+
+    List<Long> activeTokenIds = refreshTokenRepository.findActiveTokenIdsOldestFirst(userId, LocalDateTime.now());
+    int overflow = activeTokenIds.size() - (maxSessions - 1);
+    if (overflow <= 0) {
+      return;
+    }
+
+    int deleted = refreshTokenRepository.deleteAllByIdIn(activeTokenIds.subList(0, overflow));
+    log.info("최대 세션 수 초과로 오래된 세션 제거 - userId: {}, 제거: {}개, 최대: {}", userId, deleted, maxSessions);
+  }
+
+  /**
+   * 내 활성 세션 목록 조회
+   *
+   * @param userId 사용자 ID
+   * @return 세션 목록 (최근 갱신 순)
+   */
+  @Transactional(readOnly = true)
+  public List<SessionResponse> getMySessions(Long userId) {
+    log.info("세션 목록 조회 - userId: {}", userId);
+
+    return refreshTokenRepository.findActiveTokensByUserIdNewestFirst(userId, LocalDateTime.now())
+        .stream()
+        .map(SessionResponse::from)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 세션 종료 (해당 토큰 패밀리 전체 취소)
+   * 종료된 세션의 Refresh Token으로는 더 이상 Access Token을 갱신할 수 없다
+   *
+   * @param userId 사용자 ID
+   * @param sessionId 세션 ID (토큰 패밀리 ID)
+   */
+  @Transactional
+  public void revokeSession(Long userId, String sessionId) {
+    log.info("세션 종료 - userId: {}, sessionId: {}", userId, sessionId);
+
+    int revoked = refreshTokenRepository.revokeFamilyByUserId(sessionId, userId);
+    if (revoked == 0) {
+      throw new SessionNotFoundException();
+    }
+    domainMetrics.increment(DomainAction.SESSION_REVOKED);
+  }
+}
@@ -4,6 +4,8 @@ import com.example.myauth.dto.UserProfileUpdateRequest;
 import com.example.myauth.dto.UserProfileUpdateResponse;
 import com.example.myauth.entity.User;
 import com.example.myauth.entity.UserProfile;
+import com.example.myauth.monitoring.DomainAction;
+import com.example.myauth.monitoring.DomainMetrics;
 import com.example.myauth.repository.UserProfileRepository;
 import com.example.myauth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,8 @@ public class UserService {
 
   private final UserRepository userRepository;
   private final UserProfileRepository userProfileRepository;
+  private final DomainMetrics domainMetrics;
+  private final PostHydrationCache postHydrationCache;
 
   /**
    * 사용자 프로필 정보 수정
@@ -33,7 +37,7 @@ public class UserService {
    */
   @Transactional
   public UserProfileUpdateResponse updateUserProfile(Long userId, UserProfileUpdateRequest request) {
-    log.info("사용자 프로필 수정 요청 - userId: {}", userId);
+    log.debug("사용자 프로필 수정 요청 - userId: {}", userId);
 
     // 1️⃣ User 조회
     User user = userRepository.findById(userId)
@@ -56,6 +60,11 @@ public class UserService {
     // User 저장 (변경 감지에 의해 자동으로 UPDATE 쿼리 실행)
     userRepository.save(user);
 
+    // 게시글 작성자 정보 캐시 무효화 (이름/프로필 이미지가 피드에 표시됨)
+    if (request.getName() != null || request.getProfileImage() != null) {
+      postHydrationCache.evictAuthor(userId);
+    }
+
     // 3️⃣ UserProfile 조회 또는 생성
     UserProfile userProfile = userProfileRepository.findByUser(userId)
         .orElseGet(() -> {
@@ -102,7 +111,8 @@ public class UserService {
     // UserProfile 저장 (변경 감지에 의해 자동으로 UPDATE 쿼리 실행)
     userProfile = userProfileRepository.save(userProfile);
 
-    log.info("사용자 프로필 수정 완료 - userId: {}", userId);
+    log.debug("사용자 프로필 수정 완료 - userId: {}", userId);
+    domainMetrics.increment(DomainAction.PROFILE_UPDATED);
 
     // 5️⃣ 응답 DTO 생성 및 반환
     return buildProfileResponse(user, userProfile);
@@ -118,7 +128,7 @@ public class UserService {
    */
   @Transactional(readOnly = true)
   public UserProfileUpdateResponse getUserProfile(Long userId) {
-    log.info("사용자 프로필 조회 요청 - userId: {}", userId);
+    log.debug("사용자 프로필 조회 요청 - userId: {}", userId);
 
     // 1️⃣ User 조회
     User user = userRepository.findById(userId)
@@ -130,14 +140,14 @@ public class UserService {
     // 2️⃣ UserProfile 조회 (없으면 빈 프로필 생성)
     UserProfile userProfile = userProfileRepository.findByUser(userId)
         .orElseGet(() -> {
-          log.info("UserProfile이 존재하지 않아 기본값 반환: userId={}", userId);
+          log.debug("UserProfile이 존재하지 않아 기본값 반환: userId={}", userId);
           return UserProfile.builder()
               .user(userId)
               .country(1L)  // 기본값: 1
               .build();
         });
 
-    log.info("사용자 프로필 조회 완료 - userId: {}", userId);
+    log.debug("사용자 프로필 조회 완료 - userId: {}", userId);
 
     // 3️⃣ 응답 DTO 생성 및 반환
     return buildProfileResponse(user, userProfile);
@@ -0,0 +1,100 @@
+package com.example.myauth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터 (스레드 안전, 락 없음)
+ *
+ * "확실히 없음" 또는 "있을 수도 있음"만 답하는 확률적 집합
+ * - mightContain()이 false면 추가된 적이 없음 (거짓 음성 없음)
+ * - true면 falsePositiveRate 확률로 오탐 → 정확한 저장소로 재확인 필요
+ * - 삭제는 불가능하므로 주기적으로 새로 만들어 교체한다
+ *
+ * 【크기 계산】
+ * 비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = (m / n)·ln 2
+ * 예) n = 100,000, p = 1% → 약 117KB, k = 7
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions 예상 원소 수
+   * @param falsePositiveRate 목표 오탐률 (0 < p < 1)
+   */
+  public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+    int n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitSize = Math.max(64, m);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+  }
+
+  /**
+   * 원소 추가
+   */
+  public void put(String value) {
+    long hash = hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+
+    for (int i = 1; i <= hashCount; i++) {
+      long index = indexOf(h1 + i * h2);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+
+      long current;
+      do {
+        current = bits.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  /**
+   * 원소 포함 가능성 확인
+   *
+   * @return false면 확실히 없음, true면 있을 수도 있음
+   */
+  public boolean mightContain(String value) {
+    long hash = hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+
+    for (int i = 1; i <= hashCount; i++) {
+      long index = indexOf(h1 + i * h2);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 이중 해싱(h1 + i·h2) 결과를 비트 인덱스로 변환
+   */
+  private long indexOf(int combinedHash) {
+    return (combinedHash & 0x7fffffffL) % bitSize;
+  }
+
+  /**
+   * 64비트 FNV-1a 해시 + 비트 혼합 (상위/하위 32비트를 두 개의 해시로 사용)
+   */
+  private static long hash64(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001b3L;
+    }
+    // 하위 비트 분포 개선 (MurmurHash3 finalizer)
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,113 @@
+package com.example.myauth.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 호출용 서킷 브레이커 (스레드 안전)
+ *
+ * 【상태】
+ * - CLOSED: 정상, 모든 호출 허용. 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: 호출 즉시 거부 (외부 API가 느리거나 죽었을 때 요청 스레드를 묶어두지 않음)
+ *         openDurationMs가 지나면 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 1건만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * 사용법: tryAcquirePermission()이 true일 때만 호출하고, 결과를 onSuccess()/onFailure()로 알린다
+ */
+public class CircuitBreaker {
+
+  public enum State { CLOSED, OPEN, HALF_OPEN }
+
+  private final int failureThreshold;
+  private final long openDurationMs;
+
+  private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private final AtomicLong openedAt = new AtomicLong();
+
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder opened = new LongAdder();
+
+  /**
+   * @param failureThreshold OPEN으로 전환할 연속 실패 횟수
+   * @param openDurationMs OPEN 유지 시간 (밀리초)
+   */
+  public CircuitBreaker(int failureThreshold, long openDurationMs) {
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.openDurationMs = openDurationMs;
+  }
+
+  /**
+   * 호출 허용 여부 확인
+   * OPEN 유지 시간이 지났으면 HALF_OPEN으로 전환하고 이 호출을 시험 호출로 허용한다
+   *
+   * @return 호출해도 되면 true
+   */
+  public boolean tryAcquirePermission() {
+    State current = state.get();
+    if (current == State.CLOSED) {
+      return true;
+    }
+
+    if (current == State.OPEN
+        && System.currentTimeMillis() - openedAt.get() >= openDurationMs
+        && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+      return true;
+    }
+
+    // OPEN 유지 중이거나, HALF_OPEN에서 다른 시험 호출이 진행 중
+    rejected.increment();
+    return false;
+  }
+
+  /**
+   * 호출 성공 알림
+   */
+  public void onSuccess() {
+    consecutiveFailures.set(0);
+    state.set(State.CLOSED);
+  }
+
+  /**
+   * 호출 실패 알림
+   */
+  public void onFailure() {
+    if (state.get() == State.HALF_OPEN) {
+      open();
+      return;
+    }
+    if (consecutiveFailures.incrementAndGet() >= failureThreshold
+        && state.compareAndSet(State.CLOSED, State.OPEN)) {
+      openedAt.set(System.currentTimeMillis());
+      opened.increment();
+    }
+  }
+
+  private void open() {
+    openedAt.set(System.currentTimeMillis());
+    state.set(State.OPEN);
+    opened.increment();
+  }
+
+  public State getState() {
+    return state.get();
+  }
+
+  /**
+   * 서킷 브레이커 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("state", (long) state.get().ordinal());
+    metrics.put("consecutiveFailures", (long) consecutiveFailures.get());
+    metrics.put("openedTotal", opened.sum());
+    metrics.put("rejectedTotal", rejected.sum());
+    return metrics;
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.myauth.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한 LRU 캐시 (스레드 안전)
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다
+ * 조회/저장이 짧은 작업만 하므로 단일 락으로 충분한 용도(자주 바뀌지 않는 ID 매핑 등)에 사용
+ */
+public class LruCache<K, V> {
+
+  private final LinkedHashMap<K, V> entries;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * @param maxSize 최대 항목 수
+   */
+  public LruCache(int maxSize) {
+    int limit = Math.max(1, maxSize);
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > limit;
+      }
+    };
+  }
+
+  /**
+   * @return 캐시된 값 (없으면 null)
+   */
+  public V get(K key) {
+    V value;
+    synchronized (entries) {
+      value = entries.get(key);
+    }
+    (value != null ? hits : misses).increment();
+    return value;
+  }
+
+  public void put(K key, V value) {
+    synchronized (entries) {
+      entries.put(key, value);
+    }
+  }
+
+  public void remove(K key) {
+    synchronized (entries) {
+      entries.remove(key);
+    }
+  }
+
+  /**
+   * 캐시 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    synchronized (entries) {
+      metrics.put("size", (long) entries.size());
+    }
+    metrics.put("hits", hits.sum());
+    metrics.put("misses", misses.sum());
+    return metrics;
+  }
+}
@@ -0,0 +1,50 @@
+package com.example.myauth.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 고정 크기 링 버퍼 (스레드 안전)
+ * 가득 차면 가장 오래된 항목을 덮어쓴다
+ * 추가가 드물고 짧은 작업(느린 요청 기록 등)에 쓰는 용도라 단일 락으로 충분
+ */
+public class RingBuffer<T> {
+
+  private final Object[] items;
+  private int next;
+  private int size;
+  private long added;
+
+  /**
+   * @param capacity 최대 항목 수
+   */
+  public RingBuffer(int capacity) {
+    this.items = new Object[Math.max(1, capacity)];
+  }
+
+  public synchronized void add(T item) {
+    items[next] = item;
+    next = (next + 1) % items.length;
+    size = Math.min(size + 1, items.length);
+    added++;
+  }
+
+  /**
+   * @return 보관 중인 항목 (최신 항목부터)
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized List<T> snapshot() {
+    List<T> snapshot = new ArrayList<>(size);
+    for (int i = 1; i <= size; i++) {
+      snapshot.add((T) items[(next - i + items.length) % items.length]);
+    }
+    return snapshot;
+  }
+
+  /**
+   * @return 지금까지 추가된 항목 수 (덮어쓴 항목 포함)
+   */
+  public synchronized long getAddedCount() {
+    return added;
+  }
+}
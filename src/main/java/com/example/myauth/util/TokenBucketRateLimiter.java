@@ -0,0 +1,141 @@
+package com.example.myauth.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키(IP, 계정 등)별 토큰 버킷 요청 제한기 (스레드 안전)
+ *
+ * 【토큰 버킷】
+ * 버킷은 최대 capacity개의 토큰을 가지며 분당 refillPerMinute개씩 채워진다
+ * 요청마다 토큰 1개를 소비하고, 토큰이 없으면 거부한다
+ * → 순간적으로 capacity회까지 허용하고, 이후에는 평균 refillPerMinute회/분으로 제한
+ *
+ * 【지연 충전 + 락 없는 소비】
+ * 타이머로 토큰을 채우지 않고 "이론적 도착 시각(TAT)" 하나만 저장한다 (GCRA)
+ * - 요청 시각 now에서 TAT = max(TAT, now) + 토큰 1개 충전 시간
+ * - TAT - now가 버킷 전체 충전 시간을 넘으면 토큰이 없는 것 → 거부
+ * - 상태가 long 하나이므로 AtomicLong CAS로 소비 (버킷 단위 락 없음)
+ *
+ * 【메모리 상한】
+ * 키 → 버킷 맵을 stripes개로 분할하고, 각 분할은 접근 순서 LinkedHashMap(LRU)
+ * 분할별 최대 크기를 넘으면 가장 오래 사용되지 않은 키를 제거한다
+ * 제거된 키는 다음 요청에서 가득 찬 버킷으로 다시 시작하므로
+ * 오래 쉬고 있던 키(이미 가득 찼을 버킷)가 제거되는 한 동작이 달라지지 않는다
+ * 맵 조회/삽입만 분할 단위로 잠그므로 키가 다르면 경합이 분산된다
+ */
+public class TokenBucketRateLimiter {
+
+  private final long emissionIntervalNanos;
+  private final long burstNanos;
+  private final Stripe[] stripes;
+
+  private final LongAdder allowed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder evicted = new LongAdder();
+
+  /**
+   * @param capacity 버킷 최대 토큰 수 (연속 허용 횟수)
+   * @param refillPerMinute 분당 충전 토큰 수
+   * @param maxKeys 추적할 최대 키 수 (초과 시 LRU 제거)
+   * @param stripeCount 맵 분할 수 (동시성 수준)
+   */
+  public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys, int stripeCount) {
+    this.emissionIntervalNanos = 60_000_000_000L / Math.max(1, refillPerMinute);
+    this.burstNanos = emissionIntervalNanos * Math.max(1, capacity);
+
+    int count = Math.max(1, stripeCount);
+    int perStripe = Math.max(1, maxKeys / count);
+    this.stripes = new Stripe[count];
+    for (int i = 0; i < count; i++) {
+      stripes[i] = new Stripe(perStripe);
+    }
+  }
+
+  /**
+   * 토큰 1개 소비 시도
+   *
+   * @param key 제한 대상 키
+   * @return 허용되면 0, 거부되면 다음 토큰까지 남은 시간 (밀리초, 1 이상)
+   */
+  public long tryAcquire(String key) {
+    AtomicLong tat = bucketOf(key);
+    long now = System.nanoTime();
+
+    while (true) {
+      long current = tat.get();
+      long base = current - now > 0 ? current : now;
+      long next = base + emissionIntervalNanos;
+      long waitNanos = next - now - burstNanos;
+
+      if (waitNanos > 0) {
+        rejected.increment();
+        return Math.max(1, (waitNanos + 999_999) / 1_000_000);
+      }
+      if (tat.compareAndSet(current, next)) {
+        allowed.increment();
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * 키의 버킷(TAT)을 조회하고 없으면 가득 찬 버킷으로 생성
+   */
+  private AtomicLong bucketOf(String key) {
+    Stripe stripe = stripes[(key.hashCode() & 0x7fffffff) % stripes.length];
+    synchronized (stripe) {
+      AtomicLong tat = stripe.get(key);
+      if (tat == null) {
+        tat = new AtomicLong(System.nanoTime() - burstNanos);
+        stripe.put(key, tat);
+      }
+      return tat;
+    }
+  }
+
+  /**
+   * 제한기 지표 스냅샷
+   *
+   * @return 지표 이름 → 값
+   */
+  public Map<String, Long> getMetrics() {
+    long keys = 0;
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        keys += stripe.size();
+      }
+    }
+
+    Map<String, Long> metrics = new LinkedHashMap<>();
+    metrics.put("allowed", allowed.sum());
+    metrics.put("rejected", rejected.sum());
+    metrics.put("trackedKeys", keys);
+    metrics.put("evictedKeys", evicted.sum());
+    return metrics;
+  }
+
+  /**
+   * 맵 분할 하나 (접근 순서 LRU)
+   */
+  private final class Stripe extends LinkedHashMap<String, AtomicLong> {
+
+    private final int maxSize;
+
+    private Stripe(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, AtomicLong> eldest) {
+      if (size() > maxSize) {
+        evicted.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.myauth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 해시 유틸리티 클래스
+ *
+ * Refresh Token 원문 대신 SHA-256 해시(64자 hex)를 DB에 저장/조회하기 위해 사용한다
+ * - DB가 유출되어도 원문 토큰을 복원할 수 없음
+ * - 고정 길이 컬럼 + 유니크 인덱스로 토큰 조회가 테이블 크기와 무관하게 일정
+ *
+ * MySQL의 SHA2(token, 256)과 같은 결과를 반환하므로 기존 데이터 마이그레이션에 그대로 사용 가능
+ */
+public class TokenHashUtil {
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  private TokenHashUtil() {
+  }
+
+  /**
+   * 토큰 문자열의 SHA-256 해시를 계산한다
+   *
+   * @param token 원문 토큰
+   * @return 소문자 hex 문자열 (64자)
+   */
+  public static String sha256(String token) {
+    try {
+      // MessageDigest는 스레드 안전하지 않으므로 호출마다 생성
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256은 모든 JVM에서 필수 지원 알고리즘
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.example.myauth.config;
+
+import com.example.myauth.exception.ServiceBusyException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카카오 HTTP 클라이언트 테스트 (로컬 스텁 서버 사용, 외부 네트워크 불필요)
+ */
+class KakaoHttpClientConfigTest {
+
+  private HttpServer stubServer;
+  private String baseUrl;
+  private final AtomicInteger hits = new AtomicInteger();
+
+  @BeforeEach
+  void startStubServer() throws IOException {
+    stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    stubServer.setExecutor(Executors.newCachedThreadPool());
+    stubServer.createContext("/ok", exchange -> respond(exchange, 200, "{\"access_token\":\"stub-token\"}"));
+    stubServer.createContext("/error", exchange -> respond(exchange, 500, "{}"));
+    stubServer.createContext("/slow", exchange -> {
+      sleep(500);
+      respond(exchange, 200, "{}");
+    });
+    stubServer.start();
+    baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+  }
+
+  @AfterEach
+  void stopStubServer() {
+    stubServer.stop(0);
+  }
+
+  @Test
+  void returnsResponseBodyFromStub() {
+    RestClient client = createClient(defaultConfig());
+
+    String body = client.get().uri(baseUrl + "/ok").retrieve().body(String.class);
+
+    assertThat(body).contains("stub-token");
+  }
+
+  @Test
+  void failsFastWhenReadTimeoutIsExceeded() {
+    KakaoOAuthProperties.Http config = defaultConfig();
+    config.setReadTimeoutMs(100);
+    RestClient client = createClient(config);
+
+    long startedAt = System.nanoTime();
+    assertThatThrownBy(() -> client.get().uri(baseUrl + "/slow").retrieve().body(String.class))
+        .isInstanceOf(ResourceAccessException.class);
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(450);
+  }
+
+  @Test
+  void opensCircuitAfterConsecutiveServerErrors() {
+    KakaoOAuthProperties.Http config = defaultConfig();
+    config.setFailureThreshold(2);
+    RestClient client = createClient(config);
+
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> client.get().uri(baseUrl + "/error").retrieve().body(String.class))
+          .isInstanceOf(HttpServerErrorException.class);
+    }
+
+    int hitsBeforeOpen = hits.get();
+    assertThatThrownBy(() -> client.get().uri(baseUrl + "/ok").retrieve().body(String.class))
+        .isInstanceOf(ServiceBusyException.class);
+    assertThat(hits.get()).isEqualTo(hitsBeforeOpen);
+  }
+
+  @Test
+  void closesCircuitAfterSuccessfulTrialCall() throws InterruptedException {
+    KakaoOAuthProperties.Http config = defaultConfig();
+    config.setFailureThreshold(1);
+    config.setOpenDurationMs(50);
+    RestClient client = createClient(config);
+
+    assertThatThrownBy(() -> client.get().uri(baseUrl + "/error").retrieve().body(String.class))
+        .isInstanceOf(HttpServerErrorException.class);
+    Thread.sleep(100);
+
+    assertThat(client.get().uri(baseUrl + "/ok").retrieve().body(String.class)).contains("stub-token");
+    assertThat(client.get().uri(baseUrl + "/ok").retrieve().body(String.class)).contains("stub-token");
+  }
+
+  @Test
+  void rejectsCallsBeyondBulkheadLimit() throws Exception {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    stubServer.createContext("/blocking", exchange -> {
+      entered.countDown();
+      await(release);
+      respond(exchange, 200, "{}");
+    });
+
+    KakaoOAuthProperties.Http config = defaultConfig();
+    config.setMaxConcurrentCalls(1);
+    config.setBulkheadWaitMs(0);
+    RestClient client = createClient(config);
+
+    CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(
+        () -> client.get().uri(baseUrl + "/blocking").retrieve().body(String.class));
+    assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> client.get().uri(baseUrl + "/ok").retrieve().body(String.class))
+        .isInstanceOf(ServiceBusyException.class);
+
+    release.countDown();
+    assertThat(inFlight.get(2, TimeUnit.SECONDS)).isEqualTo("{}");
+  }
+
+  @Test
+  void holdsBulkheadSlotUntilResponseIsClosed() {
+    KakaoOAuthProperties.Http config = defaultConfig();
+    config.setMaxConcurrentCalls(1);
+    config.setBulkheadWaitMs(0);
+    RestClient client = createClient(config);
+
+    // 첫 응답을 닫기 전(본문을 읽는 중)에는 두 번째 호출이 거부됨
+    String body = client.get().uri(baseUrl + "/ok").exchange((request, response) -> {
+      assertThatThrownBy(() -> client.get().uri(baseUrl + "/ok").retrieve().body(String.class))
+          .isInstanceOf(ServiceBusyException.class);
+      return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+    });
+
+    assertThat(body).contains("stub-token");
+    assertThat(client.get().uri(baseUrl + "/ok").retrieve().body(String.class)).contains("stub-token");
+  }
+
+  private RestClient createClient(KakaoOAuthProperties.Http config) {
+    return KakaoHttpClientConfig.createRestClient(config, new KakaoHttpClientInterceptor(config, new SimpleMeterRegistry()));
+  }
+
+  private KakaoOAuthProperties.Http defaultConfig() {
+    KakaoOAuthProperties.Http config = new KakaoOAuthProperties.Http();
+    config.setConnectTimeoutMs(500);
+    config.setReadTimeoutMs(1000);
+    return config;
+  }
+
+  private void respond(HttpExchange exchange, int status, String body) throws IOException {
+    hits.incrementAndGet();
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(2, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
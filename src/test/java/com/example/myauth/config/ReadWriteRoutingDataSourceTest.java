@@ -0,0 +1,138 @@
+package com.example.myauth.config;
+
+import com.example.myauth.entity.User;
+import com.example.myauth.util.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅 테스트 (로컬 H2 인메모리 DB 두 개를 primary/replica로 사용)
+ * 각 DB의 node 테이블에 자기 이름을 넣어두고, 어느 DB에서 읽었는지로 라우팅을 확인한다
+ */
+class ReadWriteRoutingDataSourceTest {
+
+  private DataSource primary;
+  private DataSource replica;
+  private ReadYourWritesTracker tracker;
+
+  @BeforeEach
+  void createDatabases() {
+    primary = createDatabase("primary");
+    replica = createDatabase("replica");
+    tracker = new ReadYourWritesTracker(60_000, 100);
+  }
+
+  @AfterEach
+  void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void readOnlyTransactionGoesToReplicaAndOthersToPrimary() {
+    Routing routing = routing(replica);
+
+    assertThat(routing.read(true)).isEqualTo("replica");
+    assertThat(routing.read(false)).isEqualTo("primary");
+    assertThat(routing.jdbc.queryForObject("select name from node", String.class)).isEqualTo("primary");
+  }
+
+  @Test
+  void fallsBackToPrimaryWhenReplicaIsDown() {
+    Routing routing = routing(new UnavailableDataSource());
+
+    assertThat(routing.read(true)).isEqualTo("primary");
+    assertThat(routing.routingDataSource.getMetrics()).containsEntry("replicaFallbacks", 1L);
+  }
+
+  @Test
+  void pinsReadsToPrimaryAfterUsersOwnWrite() {
+    Routing routing = routing(replica);
+    authenticate(1L);
+
+    routing.transaction(false).executeWithoutResult(status ->
+        routing.jdbc.update("insert into node (name) values ('written')"));
+
+    assertThat(routing.read(true)).isEqualTo("primary");
+
+    authenticate(2L);
+    assertThat(routing.read(true)).isEqualTo("replica");
+  }
+
+  private Routing routing(DataSource replicaDataSource) {
+    ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+        primary, replicaDataSource, tracker, new CircuitBreaker(3, 10_000));
+    return new Routing(routingDataSource, tracker);
+  }
+
+  private static DataSource createDatabase(String name) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("create table node (name varchar(20))");
+    jdbc.update("insert into node (name) values (?)", name);
+    return dataSource;
+  }
+
+  private static void authenticate(Long userId) {
+    User user = User.builder().id(userId).build();
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(user, null, List.of()));
+  }
+
+  /**
+   * 애플리케이션과 같은 구성: LazyConnectionDataSourceProxy → 라우팅 DataSource
+   */
+  private static final class Routing {
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final DataSourceTransactionManager transactionManager;
+    private final JdbcTemplate jdbc;
+
+    private Routing(ReadWriteRoutingDataSource routingDataSource, ReadYourWritesTracker tracker) {
+      DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+      this.routingDataSource = routingDataSource;
+      this.transactionManager = new DataSourceTransactionManager(dataSource);
+      this.transactionManager.setTransactionExecutionListeners(List.of(tracker));
+      this.jdbc = new JdbcTemplate(dataSource);
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+      TransactionTemplate template = new TransactionTemplate(transactionManager);
+      template.setReadOnly(readOnly);
+      return template;
+    }
+
+    private String read(boolean readOnly) {
+      return transaction(readOnly).execute(status ->
+          jdbc.queryForObject("select name from node order by name limit 1", String.class));
+    }
+  }
+
+  private static final class UnavailableDataSource extends AbstractDataSource {
+    @Override
+    public Connection getConnection() throws SQLException {
+      throw new SQLException("replica down");
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      throw new SQLException("replica down");
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.example.myauth.config;
+
+import com.example.myauth.util.CircuitBreaker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA(Hibernate 세션) 위에서의 읽기/쓰기 라우팅 테스트 (로컬 H2 인메모리 DB 두 개를 primary/replica로 사용)
+ * 요청 동안 세션이 살아 있는 경우(open-in-view처럼 EntityManager를 스레드에 바인딩)에도
+ * 읽기 전용 트랜잭션 뒤의 쓰기 트랜잭션이 primary로 가는지 확인한다
+ */
+class ReadWriteRoutingJpaTest {
+
+  private DataSource primary;
+  private DataSource replica;
+  private LocalContainerEntityManagerFactoryBean factoryBean;
+  private EntityManagerFactory emf;
+  private EntityManager entityManager;
+  private JpaTransactionManager transactionManager;
+
+  @BeforeEach
+  void createEntityManagerFactory() {
+    primary = createDatabase("primary");
+    replica = createDatabase("replica");
+    ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+        primary, replica, new ReadYourWritesTracker(60_000, 100), new CircuitBreaker(3, 10_000));
+
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+    factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factoryBean.setPackagesToScan(ReadWriteRoutingJpaTest.class.getPackageName());
+    factoryBean.setJpaPropertyMap(Map.of(
+        AvailableSettings.DIALECT, H2Dialect.class.getName(),
+        AvailableSettings.CONNECTION_HANDLING, ReplicaDataSourceConfig.CONNECTION_HANDLING_MODE));
+    factoryBean.afterPropertiesSet();
+
+    emf = factoryBean.getObject();
+    entityManager = SharedEntityManagerCreator.createSharedEntityManager(emf);
+    transactionManager = new JpaTransactionManager(emf);
+  }
+
+  @AfterEach
+  void closeEntityManagerFactory() {
+    factoryBean.destroy();
+  }
+
+  @Test
+  void writeAfterReadOnlyTransactionGoesToPrimary() {
+    assertThat(read(true)).isEqualTo("replica");
+
+    write();
+
+    assertThat(read(false)).isEqualTo("primary");
+    assertThat(writtenRows(primary)).isEqualTo(1);
+    assertThat(writtenRows(replica)).isZero();
+  }
+
+  @Test
+  void writeAfterReadOnlyTransactionGoesToPrimaryWithinOpenSession() {
+    EntityManager requestScoped = emf.createEntityManager();
+    TransactionSynchronizationManager.bindResource(emf, new EntityManagerHolder(requestScoped));
+    try {
+      assertThat(read(true)).isEqualTo("replica");
+
+      write();
+
+      assertThat(read(false)).isEqualTo("primary");
+    } finally {
+      TransactionSynchronizationManager.unbindResource(emf);
+      requestScoped.close();
+    }
+
+    assertThat(writtenRows(primary)).isEqualTo(1);
+    assertThat(writtenRows(replica)).isZero();
+  }
+
+  private String read(boolean readOnly) {
+    return transaction(readOnly).execute(status -> (String) entityManager
+        .createNativeQuery("select name from node where name <> 'written' order by name limit 1")
+        .getSingleResult());
+  }
+
+  private void write() {
+    transaction(false).executeWithoutResult(status ->
+        entityManager.createNativeQuery("insert into node (name) values ('written')").executeUpdate());
+  }
+
+  private TransactionTemplate transaction(boolean readOnly) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setReadOnly(readOnly);
+    return template;
+  }
+
+  private static Integer writtenRows(DataSource dataSource) {
+    return new JdbcTemplate(dataSource).queryForObject(
+        "select count(*) from node where name = 'written'", Integer.class);
+  }
+
+  private static DataSource createDatabase(String name) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("create table node (name varchar(20))");
+    jdbc.update("insert into node (name) values (?)", name);
+    return dataSource;
+  }
+}
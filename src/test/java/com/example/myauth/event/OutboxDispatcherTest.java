@@ -0,0 +1,170 @@
+package com.example.myauth.event;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.entity.OutboxEvent;
+import com.example.myauth.repository.OutboxDispatcherLeaseRepository;
+import com.example.myauth.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아웃박스 디스패처 테스트 (리포지토리 mock, DB 불필요)
+ * 전달/재시도/FAILED 전환, 이중 처리 방지, 리스, FAILED 재계산을 확인
+ */
+class OutboxDispatcherTest {
+
+  private final OutboxEventRepository eventRepository = mock(OutboxEventRepository.class);
+  private final OutboxDispatcherLeaseRepository leaseRepository = mock(OutboxDispatcherLeaseRepository.class);
+  private final OutboxEventHandler handler = mock(OutboxEventHandler.class);
+  private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+  private final AppProperties appProperties = new AppProperties();
+
+  @BeforeEach
+  void setUp() {
+    appProperties.getOutbox().setMaxAttempts(3);
+    appProperties.getOutbox().setReconcileIntervalMs(Long.MAX_VALUE);
+
+    when(leaseRepository.tryAcquire(eq(OutboxDispatcher.LEASE_NAME), anyString(), any(), any())).thenReturn(1);
+    when(handler.supports(any())).thenReturn(true);
+    when(eventRepository.markProcessed(anyLong(), any(), any(), any())).thenReturn(1);
+  }
+
+  @Test
+  void dispatchesPendingEventAndMarksItProcessed() {
+    OutboxEvent event = event(1L, 10L, 0);
+    when(eventRepository.findBatchByStatus(eq(OutboxEvent.Status.PENDING), any())).thenReturn(List.of(event));
+
+    dispatcher().dispatchPendingEvents();
+
+    verify(handler).handle(event);
+    verify(eventRepository).markProcessed(eq(1L), eq(OutboxEvent.Status.PENDING), eq(OutboxEvent.Status.PROCESSED), any());
+    verify(eventRepository, never()).markFailedAttempt(anyLong(), any(), any());
+  }
+
+  @Test
+  void failedAttemptStaysPendingAndHoldsBackLaterEventsOfSameAggregate() {
+    OutboxEvent first = event(1L, 10L, 0);
+    OutboxEvent second = event(2L, 10L, 0);
+    OutboxEvent otherAggregate = event(3L, 20L, 0);
+    when(eventRepository.findBatchByStatus(eq(OutboxEvent.Status.PENDING), any()))
+        .thenReturn(List.of(first, second, otherAggregate));
+    doThrow(new IllegalStateException("boom")).when(handler).handle(first);
+
+    dispatcher().dispatchPendingEvents();
+
+    verify(eventRepository).markFailedAttempt(1L, OutboxEvent.Status.PENDING, "boom");
+    verify(handler, never()).handle(second);
+    verify(handler).handle(otherAggregate);
+  }
+
+  @Test
+  void lastAttemptMarksFailedAndUnblocksAggregate() {
+    OutboxEvent exhausted = event(1L, 10L, 2);
+    OutboxEvent next = event(2L, 10L, 0);
+    when(eventRepository.findBatchByStatus(eq(OutboxEvent.Status.PENDING), any())).thenReturn(List.of(exhausted, next));
+    doThrow(new IllegalStateException("boom")).when(handler).handle(exhausted);
+
+    dispatcher().dispatchPendingEvents();
+
+    verify(eventRepository).markFailedAttempt(1L, OutboxEvent.Status.FAILED, "boom");
+    verify(handler).handle(next);
+  }
+
+  @Test
+  void eventAlreadyProcessedElsewhereRollsBackHandlerWork() {
+    OutboxEvent event = event(1L, 10L, 0);
+    when(eventRepository.findBatchByStatus(eq(OutboxEvent.Status.PENDING), any())).thenReturn(List.of(event));
+    when(eventRepository.markProcessed(eq(1L), eq(OutboxEvent.Status.PENDING), any(), any())).thenReturn(0);
+
+    dispatcher().dispatchPendingEvents();
+
+    assertThat(transactionManager.rollbacks).isEqualTo(1);
+    verify(eventRepository, never()).markFailedAttempt(anyLong(), any(), any());
+  }
+
+  @Test
+  void skipsPollingWhileAnotherNodeHoldsTheLease() {
+    when(leaseRepository.tryAcquire(eq(OutboxDispatcher.LEASE_NAME), anyString(), any(), any())).thenReturn(0);
+    when(leaseRepository.existsById(OutboxDispatcher.LEASE_NAME)).thenReturn(true);
+
+    dispatcher().dispatchPendingEvents();
+
+    verify(eventRepository, never()).findBatchByStatus(any(), any());
+  }
+
+  @Test
+  void reconcilesFailedCounterEventOnceNoPendingEventsRemain() {
+    appProperties.getOutbox().setReconcileIntervalMs(0);
+    when(handler.canReconcile(DomainEventType.POST_LIKED)).thenReturn(true);
+    OutboxEvent failed = event(1L, 10L, 3);
+    failed.setStatus(OutboxEvent.Status.FAILED);
+    when(eventRepository.findBatchByStatus(eq(OutboxEvent.Status.PENDING), any())).thenReturn(List.of());
+    when(eventRepository.findBatchByStatusAndEventTypeIn(eq(OutboxEvent.Status.FAILED), any(), any()))
+        .thenReturn(List.of(failed));
+    when(eventRepository.existsByAggregateTypeAndAggregateIdAndStatus("POST", 10L, OutboxEvent.Status.PENDING))
+        .thenReturn(true, false);
+    OutboxDispatcher dispatcher = dispatcher();
+
+    dispatcher.dispatchPendingEvents();
+    verify(handler, never()).reconcile(failed);
+
+    dispatcher.dispatchPendingEvents();
+    verify(handler).reconcile(failed);
+    verify(eventRepository).markProcessed(eq(1L), eq(OutboxEvent.Status.FAILED), eq(OutboxEvent.Status.RECONCILED), any());
+  }
+
+  private OutboxDispatcher dispatcher() {
+    return new OutboxDispatcher(eventRepository, leaseRepository, List.of(handler), appProperties, transactionManager);
+  }
+
+  private static OutboxEvent event(Long id, Long postId, int attempts) {
+    return OutboxEvent.builder()
+        .id(id)
+        .eventType(DomainEventType.POST_LIKED)
+        .aggregateType("POST")
+        .aggregateId(postId)
+        .attempts(attempts)
+        .build();
+  }
+
+  /**
+   * 실제 리소스 없이 커밋/롤백 횟수만 세는 트랜잭션 매니저
+   */
+  private static final class CountingTransactionManager extends AbstractPlatformTransactionManager {
+    private int rollbacks;
+
+    @Override
+    protected Object doGetTransaction() {
+      return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+      rollbacks++;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.example.myauth.monitoring;
+
+import com.example.myauth.config.KakaoHttpClientInterceptor;
+import com.example.myauth.security.RateLimitFilter;
+import com.example.myauth.service.ExploreFeedCache;
+import com.example.myauth.service.LoginAttemptService;
+import com.example.myauth.service.PostHydrationCache;
+import com.example.myauth.service.RefreshTokenReaper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 컴포넌트 지표 게이지 바인딩 테스트 (컴포넌트 mock, DB 불필요)
+ */
+class ComponentMetricsBinderTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void gaugesKeepReportingAfterGarbageCollection() {
+    LoginAttemptService loginAttemptService = mock(LoginAttemptService.class);
+    when(loginAttemptService.getMetrics()).thenReturn(Map.of("blockedKeys", 3L));
+    ComponentMetricsBinder binder = new ComponentMetricsBinder(
+        mock(RateLimitFilter.class), loginAttemptService, mock(PasswordEncoder.class),
+        mock(KakaoHttpClientInterceptor.class), mock(RefreshTokenReaper.class), mock(TracingFilter.class),
+        mock(ConnectionPoolAdvisor.class), mock(PostHydrationCache.class), mock(ExploreFeedCache.class),
+        mock(ObjectProvider.class));
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    binder.bindTo(registry);
+
+    collectGarbage();
+
+    assertThat(registry.get("myauth.login_attempt.blocked_keys").gauge().value()).isEqualTo(3.0);
+  }
+
+  /**
+   * 약한 참조로만 잡힌 객체가 실제로 수거될 때까지 GC 요청
+   */
+  private static void collectGarbage() {
+    WeakReference<Object> sentinel = new WeakReference<>(new Object());
+    for (int i = 0; i < 50 && sentinel.get() != null; i++) {
+      System.gc();
+    }
+    assertThat(sentinel.get()).as("GC did not run").isNull();
+  }
+}
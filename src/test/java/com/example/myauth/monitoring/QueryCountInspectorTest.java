@@ -0,0 +1,63 @@
+package com.example.myauth.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SQL 집계/형태 정규화 테스트 (DB 불필요, 인스펙터를 직접 호출)
+ */
+class QueryCountInspectorTest {
+
+  private final QueryCountInspector inspector = new QueryCountInspector();
+
+  @Test
+  void countsStatementsOnlyInsideOpenScope() {
+    inspector.inspect("select 1");
+
+    try (QueryCounter queries = QueryCounter.start()) {
+      inspector.inspect("select u1_0.id from users u1_0 where u1_0.id=?");
+      inspector.inspect("select p1_0.id from posts p1_0 where p1_0.user_id=?");
+
+      assertThat(queries.count()).isEqualTo(2);
+      queries.assertMaxQueries(2).assertNoDuplicateShapes();
+    }
+  }
+
+  @Test
+  void reportsRepeatedShapesAsNPlusOne() {
+    try (QueryCounter queries = QueryCounter.start()) {
+      for (int i = 0; i < 3; i++) {
+        inspector.inspect("select u1_0.id,u1_0.name from users u1_0 where u1_0.id=?");
+      }
+
+      assertThatThrownBy(() -> queries.assertMaxQueries(2))
+          .isInstanceOf(AssertionError.class)
+          .hasMessageContaining("3회: select u1_0.id,u1_0.name from users u1_0 where u1_0.id=?");
+      assertThatThrownBy(queries::assertNoDuplicateShapes).isInstanceOf(AssertionError.class);
+    }
+  }
+
+  @Test
+  void nestedScopeAlsoCountsTowardOuterScope() {
+    try (QueryCounter outer = QueryCounter.start()) {
+      inspector.inspect("select 1");
+      try (QueryCounter inner = QueryCounter.start()) {
+        inspector.inspect("select 2");
+        assertThat(inner.count()).isEqualTo(1);
+      }
+      assertThat(outer.count()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void shapeIgnoresLiteralsWhitespaceAndInListLength() {
+    String three = QueryCountContext.shapeOf("select *  from posts\n where id in (?, ?, ?) limit 10");
+    String one = QueryCountContext.shapeOf("select * from posts where id in (?) limit 20");
+
+    assertThat(three).isEqualTo(one).isEqualTo("select * from posts where id in (...) limit ?");
+    assertThat(QueryCountContext.shapeOf("select * from users where email = 'a@b.c'"))
+        .isEqualTo("select * from users where email = ?");
+  }
+}
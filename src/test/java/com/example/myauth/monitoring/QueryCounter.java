@@ -0,0 +1,72 @@
+package com.example.myauth.monitoring;
+
+import java.util.Map;
+
+/**
+ * 테스트용 SQL 실행 수 검증
+ * 구간 안에서 Hibernate가 실행한 SQL 수를 세고 상한을 넘으면 반복된 SQL 형태와 함께 실패시킨다
+ *
+ * <pre>
+ * try (QueryCounter queries = QueryCounter.start()) {
+ *   feedService.getHomeFeed(userId, 0, 10, false);
+ *   queries.assertMaxQueries(4).assertNoDuplicateShapes();
+ * }
+ * </pre>
+ *
+ * 호출 스레드에서 실행된 SQL만 센다 (@Async, 별도 스레드 작업은 제외)
+ */
+public final class QueryCounter implements AutoCloseable {
+
+  private final QueryCountContext context;
+
+  private QueryCounter(QueryCountContext context) {
+    this.context = context;
+  }
+
+  public static QueryCounter start() {
+    return new QueryCounter(QueryCountContext.begin());
+  }
+
+  /**
+   * @return 지금까지 실행된 SQL 수
+   */
+  public int count() {
+    return context.getStatementCount();
+  }
+
+  /**
+   * SQL 수가 max 이하인지 검증
+   */
+  public QueryCounter assertMaxQueries(int max) {
+    if (context.getStatementCount() > max) {
+      throw new AssertionError("SQL " + context.getStatementCount() + "건 실행 (최대 " + max + "건)"
+          + describeDuplicates());
+    }
+    return this;
+  }
+
+  /**
+   * 같은 형태의 SQL이 반복 실행되지 않았는지 검증 (N+1 지연 로딩 탐지)
+   */
+  public QueryCounter assertNoDuplicateShapes() {
+    if (context.getDuplicateStatementCount() > 0) {
+      throw new AssertionError("같은 형태의 SQL이 반복 실행됨" + describeDuplicates());
+    }
+    return this;
+  }
+
+  @Override
+  public void close() {
+    context.end();
+  }
+
+  private String describeDuplicates() {
+    Map<String, Integer> duplicates = context.getDuplicateShapes();
+    if (duplicates.isEmpty()) {
+      return "";
+    }
+    StringBuilder message = new StringBuilder("\n반복된 SQL 형태:");
+    duplicates.forEach((shape, count) -> message.append("\n  ").append(count).append("회: ").append(shape));
+    return message.toString();
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.myauth.repository;
+
+import com.example.myauth.dto.bookmark.BookmarkedPostResponse;
+import com.example.myauth.entity.Bookmark;
+import com.example.myauth.entity.Post;
+import com.example.myauth.entity.PostImage;
+import com.example.myauth.entity.User;
+import com.example.myauth.monitoring.QueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 북마크 목록 응답 조립의 SQL 수 테스트 (내장 H2)
+ * spring.jpa.properties로 등록한 QueryCountInspector가 실제 Hibernate SQL을 세는지,
+ * 게시글마다 이미지를 지연 로딩하는 N+1이 다시 생기지 않는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class BookmarkHydrationQueryCountTest {
+
+  private static final int POSTS = 5;
+
+  @Autowired
+  private BookmarkRepository bookmarkRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Long readerId;
+
+  @BeforeEach
+  void createBookmarks() {
+    User reader = persist(User.builder().email("reader@example.com").name("reader").build());
+    readerId = reader.getId();
+
+    for (int i = 0; i < POSTS; i++) {
+      User author = persist(User.builder().email("author" + i + "@example.com").name("author" + i).build());
+      Post post = persist(Post.builder().user(author).content("post " + i).build());
+      persist(PostImage.builder().post(post).imageUrl("https://img/" + i + "-0.jpg").sortOrder(0).build());
+      persist(PostImage.builder().post(post).imageUrl("https://img/" + i + "-1.jpg").sortOrder(1).build());
+      persist(Bookmark.builder().user(reader).post(post).build());
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void bookmarkPageHydratesWithoutPerPostQueries() {
+    try (QueryCounter queries = QueryCounter.start()) {
+      List<BookmarkedPostResponse> bookmarks = bookmarkRepository
+          .findByUserIdWithPost(readerId, PageRequest.of(0, 20))
+          .map(BookmarkedPostResponse::from)
+          .getContent();
+
+      assertThat(bookmarks).hasSize(POSTS)
+          .allSatisfy(bookmark -> assertThat(bookmark.getPost().getImageCount()).isEqualTo(2));
+      queries.assertMaxQueries(2).assertNoDuplicateShapes();
+    }
+  }
+
+  private <T> T persist(T entity) {
+    entityManager.persist(entity);
+    return entity;
+  }
+}
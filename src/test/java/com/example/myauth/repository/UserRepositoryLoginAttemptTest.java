@@ -0,0 +1,94 @@
+package com.example.myauth.repository;
+
+import com.example.myauth.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 실패/성공 기록 UPDATE 테스트 (내장 H2)
+ * CASE 식으로 처리하는 잠금 전환과 초기화가 한 번의 UPDATE로 맞게 반영되는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class UserRepositoryLoginAttemptTest {
+
+  private static final String EMAIL = "lock@example.com";
+  private static final int THRESHOLD = 3;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Long userId;
+
+  @BeforeEach
+  void createUser() {
+    User user = userRepository.saveAndFlush(User.builder()
+        .email(EMAIL)
+        .name("잠금 테스트")
+        .password("{noop}password")
+        .build());
+    userId = user.getId();
+  }
+
+  @Test
+  void countsFailuresBelowThresholdWithoutLocking() {
+    LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(15);
+
+    userRepository.recordLoginFailure(EMAIL, THRESHOLD, lockedUntil);
+    userRepository.recordLoginFailure(EMAIL, THRESHOLD, lockedUntil);
+
+    User user = reload();
+    assertThat(user.getFailedLoginAttempts()).isEqualTo(2);
+    assertThat(user.getAccountLockedUntil()).isNull();
+  }
+
+  @Test
+  void locksAccountAndResetsCounterWhenThresholdReached() {
+    LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(15).withNano(0);
+
+    for (int i = 0; i < THRESHOLD; i++) {
+      userRepository.recordLoginFailure(EMAIL, THRESHOLD, lockedUntil);
+    }
+
+    User user = reload();
+    assertThat(user.getAccountLockedUntil()).isEqualTo(lockedUntil);
+    assertThat(user.getFailedLoginAttempts()).isZero();
+  }
+
+  @Test
+  void successClearsFailuresAndLock() {
+    LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(15);
+    for (int i = 0; i < THRESHOLD + 1; i++) {
+      userRepository.recordLoginFailure(EMAIL, THRESHOLD, lockedUntil);
+    }
+
+    userRepository.recordLoginSuccess(userId, LocalDateTime.now(), "127.0.0.1");
+
+    User user = reload();
+    assertThat(user.getFailedLoginAttempts()).isZero();
+    assertThat(user.getAccountLockedUntil()).isNull();
+    assertThat(user.getLastLoginIp()).isEqualTo("127.0.0.1");
+  }
+
+  @Test
+  void unknownEmailUpdatesNothing() {
+    assertThat(userRepository.recordLoginFailure("none@example.com", THRESHOLD, LocalDateTime.now())).isZero();
+  }
+
+  /**
+   * 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 비우고 다시 조회
+   */
+  private User reload() {
+    entityManager.clear();
+    return userRepository.findById(userId).orElseThrow();
+  }
+}
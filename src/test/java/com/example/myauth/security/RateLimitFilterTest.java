@@ -0,0 +1,80 @@
+package com.example.myauth.security;
+
+import com.example.myauth.config.AppProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 엔드포인트 IP별 요청 제한 필터 테스트 (서블릿 mock, 컨텍스트 불필요)
+ */
+class RateLimitFilterTest {
+
+  private final AppProperties appProperties = new AppProperties();
+
+  @Test
+  void rejectsLoginBeyondCapacityWith429AndRetryAfter() throws Exception {
+    appProperties.getRateLimit().setLoginPerIp(new AppProperties.Limit(2, 1));
+    RateLimitFilter filter = filter();
+
+    assertThat(send(filter, "POST", "/api/login", "10.0.0.1").getStatus()).isEqualTo(200);
+    assertThat(send(filter, "POST", "/api/old_login", "10.0.0.1").getStatus()).isEqualTo(200);
+    MockHttpServletResponse rejected = send(filter, "POST", "/api/login", "10.0.0.1");
+
+    assertThat(rejected.getStatus()).isEqualTo(429);
+    assertThat(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 60L);
+    assertThat(rejected.getContentAsString()).contains("\"success\":false");
+
+    // 다른 IP, 다른 엔드포인트 제한기는 영향 없음
+    assertThat(send(filter, "POST", "/api/login", "10.0.0.2").getStatus()).isEqualTo(200);
+    assertThat(send(filter, "POST", "/api/signup", "10.0.0.1").getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void ignoresNonPostAndUnlistedPaths() throws Exception {
+    appProperties.getRateLimit().setLoginPerIp(new AppProperties.Limit(1, 1));
+    RateLimitFilter filter = filter();
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(send(filter, "GET", "/api/login", "10.0.0.1").getStatus()).isEqualTo(200);
+      assertThat(send(filter, "POST", "/api/posts", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+  }
+
+  @Test
+  void passesEverythingWhenDisabled() throws Exception {
+    appProperties.getRateLimit().setEnabled(false);
+    appProperties.getRateLimit().setLoginPerIp(new AppProperties.Limit(1, 1));
+    RateLimitFilter filter = filter();
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(send(filter, "POST", "/api/login", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+  }
+
+  private RateLimitFilter filter() {
+    return new RateLimitFilter(appProperties, JsonMapper.builder().build());
+  }
+
+  /**
+   * 요청 1회 실행 (필터 체인까지 도달하면 기본 상태 200)
+   */
+  private static MockHttpServletResponse send(RateLimitFilter filter, String method, String path, String ip)
+      throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+    request.setServletPath(path);
+    request.setRemoteAddr(ip);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request, response, chain);
+
+    assertThat(chain.getRequest() != null).isEqualTo(response.getStatus() != 429);
+    return response;
+  }
+}
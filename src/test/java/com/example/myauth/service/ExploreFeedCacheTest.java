@@ -0,0 +1,200 @@
+package com.example.myauth.service;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.dto.post.PostAuthorResponse;
+import com.example.myauth.dto.post.PostListResponse;
+import com.example.myauth.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 탐색 피드 캐시 테스트 (로더 직접 제공, DB 불필요)
+ * 동시 미스 합치기, 오래된 항목의 백그라운드 재조회, 로딩 중 무효화, 대기 시간 제한, 응답 복사를 확인
+ */
+class ExploreFeedCacheTest {
+
+  private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+  private final AppProperties appProperties = new AppProperties();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final CountDownLatch loadStarted = new CountDownLatch(1);
+  private final CountDownLatch releaseLoad = new CountDownLatch(1);
+  private ExploreFeedCache cache;
+
+  @AfterEach
+  void releaseBlockedLoaders() {
+    releaseLoad.countDown();
+    if (cache != null) {
+      cache.shutdownRefreshExecutor();
+    }
+  }
+
+  @Test
+  void concurrentMissesShareOneLoad() throws Exception {
+    ExploreFeedCache cache = cache();
+    CompletableFuture<Page<PostListResponse>> first = getAsync(cache, blockingLoader(1));
+    assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    CompletableFuture<Page<PostListResponse>> second = getAsync(cache, blockingLoader(1));
+    awaitCondition(() -> cache.getMetrics().get("coalescedWaits") == 1L);
+    releaseLoad.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS).getContent()).extracting(PostListResponse::getId).containsExactly(1L);
+    assertThat(second.get(5, TimeUnit.SECONDS).getContent()).extracting(PostListResponse::getId).containsExactly(1L);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void staleHitsTriggerOneBackgroundRefresh() {
+    appProperties.getExploreCache().setRefreshAheadMs(0);
+    ExploreFeedCache cache = cache();
+    cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, blockingLoader(2));
+
+    cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, blockingLoader(2));
+    cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, blockingLoader(2));
+
+    assertThat(cache.getMetrics()).containsEntry("hits", 2L).containsEntry("refreshes", 1L);
+    releaseLoad.countDown();
+    awaitCondition(() -> loads.get() == 2);
+  }
+
+  @Test
+  void doesNotStorePageLoadedWhileBeingInvalidated() {
+    ExploreFeedCache cache = cache();
+    Supplier<Page<PostListResponse>> invalidatingLoader = () -> {
+      cache.invalidateAll();
+      return page(loads.incrementAndGet());
+    };
+
+    cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, invalidatingLoader);
+    cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, () -> page(loads.incrementAndGet()));
+
+    assertThat(loads).hasValue(2);
+    assertThat(cache.getMetrics()).containsEntry("misses", 2L).containsEntry("hits", 0L);
+  }
+
+  @Test
+  void waiterGivesUpAfterLoadTimeout() throws Exception {
+    appProperties.getExploreCache().setLoadTimeoutMs(50);
+    ExploreFeedCache cache = cache();
+    getAsync(cache, blockingLoader(1));
+    assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, blockingLoader(1)))
+        .isInstanceOf(ServiceBusyException.class);
+    assertThat(cache.getMetrics()).containsEntry("loadTimeouts", 1L);
+  }
+
+  @Test
+  void refreshesInlineWhenBackgroundExecutorIsShutDown() {
+    appProperties.getExploreCache().setRefreshAheadMs(0);
+    ExploreFeedCache cache = cache();
+    cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, () -> page(loads.incrementAndGet()));
+    cache.shutdownRefreshExecutor();
+
+    cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, () -> page(loads.incrementAndGet()));
+
+    assertThat(loads).hasValue(2);
+    assertThat(cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, () -> page(0)).getContent())
+        .extracting(PostListResponse::getId)
+        .containsExactly(2L);
+  }
+
+  @Test
+  void returnsCopiesThatDoNotShareCachedState() {
+    ExploreFeedCache cache = cache();
+    Page<PostListResponse> loaded = cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, () -> page(1));
+
+    loaded.getContent().getFirst().setContent("changed");
+    loaded.getContent().getFirst().getAuthor().setName("changed");
+
+    PostListResponse cached = cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, () -> page(2)).getContent().getFirst();
+    assertThat(cached.getContent()).isEqualTo("post 1");
+    assertThat(cached.getAuthor().getName()).isEqualTo("alice");
+  }
+
+  private ExploreFeedCache cache() {
+    cache = new ExploreFeedCache(appProperties, new NoOpTransactionManager());
+    return cache;
+  }
+
+  /**
+   * n번째 이후 호출은 releaseLoad까지 대기하는 로더
+   */
+  private Supplier<Page<PostListResponse>> blockingLoader(int blockFrom) {
+    return () -> {
+      int call = loads.incrementAndGet();
+      if (call >= blockFrom) {
+        loadStarted.countDown();
+        try {
+          releaseLoad.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return page(call);
+    };
+  }
+
+  private static CompletableFuture<Page<PostListResponse>> getAsync(ExploreFeedCache cache,
+                                                                   Supplier<Page<PostListResponse>> loader) {
+    return CompletableFuture.supplyAsync(() -> cache.get(ExploreFeedCache.Ordering.LATEST, FIRST_PAGE, loader));
+  }
+
+  private static Page<PostListResponse> page(long id) {
+    PostListResponse post = PostListResponse.builder()
+        .id(id)
+        .content("post " + id)
+        .author(PostAuthorResponse.builder().id(1L).name("alice").build())
+        .build();
+    return new PageImpl<>(List.of(post), FIRST_PAGE, 1);
+  }
+
+  private static void awaitCondition(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+      Thread.onSpinWait();
+    }
+  }
+
+  /**
+   * 실제 리소스 없이 트랜잭션 동기화만 제공하는 트랜잭션 매니저
+   */
+  private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+    @Override
+    protected Object doGetTransaction() {
+      return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.example.myauth.service;
+
+import com.example.myauth.config.AppProperties;
+import com.example.myauth.config.KakaoOAuthProperties;
+import com.example.myauth.dto.UserProfileUpdateRequest;
+import com.example.myauth.dto.kakao.KakaoOAuthDto;
+import com.example.myauth.dto.post.PostAuthorResponse;
+import com.example.myauth.dto.post.PostImageResponse;
+import com.example.myauth.entity.Post;
+import com.example.myauth.entity.PostImage;
+import com.example.myauth.entity.User;
+import com.example.myauth.monitoring.DomainMetrics;
+import com.example.myauth.repository.PostImageRepository;
+import com.example.myauth.repository.PostRepository;
+import com.example.myauth.repository.RefreshTokenRepository;
+import com.example.myauth.repository.UserProfileRepository;
+import com.example.myauth.repository.UserRepository;
+import com.example.myauth.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 피드 응답 조립 캐시 테스트 (리포지토리 mock, DB 불필요)
+ * 캐시된 값의 격리, 로딩 중 무효화, 서비스별 무효화 경로(프로필 수정/카카오 프로필 변경/게시글 삭제)를 확인
+ */
+class PostHydrationCacheTest {
+
+  private final PostHydrationCache cache = new PostHydrationCache(new AppProperties());
+
+  @Test
+  void returnsFreshResponsesThatDoNotShareCachedState() {
+    User author = user(1L, "alice");
+    Post post = post(10L, author, "a.jpg");
+
+    cache.author(author).setName("changed");
+    cache.images(post).getFirst().setImageUrl("changed.jpg");
+
+    assertThat(cache.author(author).getName()).isEqualTo("alice");
+    assertThat(cache.images(post)).extracting(PostImageResponse::getImageUrl).containsExactly("a.jpg");
+  }
+
+  @Test
+  void servesCachedAuthorWithoutReadingTheEntityAgain() {
+    cache.author(user(1L, "alice"));
+
+    PostAuthorResponse cached = cache.author(user(1L, "renamed"));
+
+    assertThat(cached.getName()).isEqualTo("alice");
+  }
+
+  @Test
+  void doesNotCacheValueLoadedWhileBeingEvicted() {
+    User loading = mock(User.class);
+    when(loading.getId()).thenReturn(1L);
+    when(loading.getName()).thenAnswer(invocation -> {
+      cache.evictAuthor(1L);
+      return "stale";
+    });
+
+    assertThat(cache.author(loading).getName()).isEqualTo("stale");
+    assertThat(cache.author(user(1L, "fresh")).getName()).isEqualTo("fresh");
+  }
+
+  @Test
+  void profileUpdateEvictsAuthor() {
+    User user = user(1L, "alice");
+    UserRepository userRepository = mock(UserRepository.class);
+    UserProfileRepository userProfileRepository = mock(UserProfileRepository.class);
+    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(userProfileRepository.findByUser(1L)).thenReturn(Optional.empty());
+    when(userProfileRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    UserService userService = new UserService(userRepository, userProfileRepository, mock(DomainMetrics.class), cache);
+    cache.author(user);
+
+    userService.updateUserProfile(1L, UserProfileUpdateRequest.builder().name("bob").build());
+
+    assertThat(cache.author(user).getName()).isEqualTo("bob");
+  }
+
+  @Test
+  void kakaoProfileChangeEvictsAuthor() {
+    User user = user(1L, "alice");
+    user.setEmail("alice@example.com");
+    user.setRole(User.Role.ROLE_USER);
+    UserRepository userRepository = mock(UserRepository.class);
+    JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    when(userRepository.findByProviderAndProviderId("KAKAO", "99")).thenReturn(Optional.of(user));
+    when(jwtTokenProvider.getRefreshTokenExpiryDate()).thenReturn(new Date());
+    KakaoOAuthService kakaoOAuthService = new KakaoOAuthService(new KakaoOAuthProperties(), userRepository,
+        mock(RefreshTokenRepository.class), mock(SessionService.class), jwtTokenProvider,
+        mock(DomainMetrics.class), cache, null);
+    cache.author(user);
+
+    kakaoOAuthService.processKakaoLogin(kakaoUser(99L, "alice@example.com", "bob"));
+
+    assertThat(cache.author(user).getName()).isEqualTo("bob");
+  }
+
+  @Test
+  void postDeletionEvictsImages() {
+    User author = user(1L, "alice");
+    Post post = post(10L, author, "a.jpg");
+    PostRepository postRepository = mock(PostRepository.class);
+    when(postRepository.findByIdAndIsDeletedFalse(10L)).thenReturn(Optional.of(post));
+    PostService postService = new PostService(postRepository, mock(PostImageRepository.class),
+        mock(UserRepository.class), mock(ImageStorageService.class), mock(HashtagService.class),
+        mock(MentionService.class), mock(DomainMetrics.class), cache, mock(ExploreFeedCache.class));
+    cache.images(post);
+    post.getImages().clear();
+
+    postService.deletePost(1L, 10L);
+
+    assertThat(cache.images(post)).isEmpty();
+  }
+
+  private static User user(Long id, String name) {
+    return User.builder().id(id).name(name).build();
+  }
+
+  private static Post post(Long id, User author, String imageUrl) {
+    Post post = Post.builder().id(id).user(author).build();
+    post.getImages().add(PostImage.builder().id(100L).post(post).imageUrl(imageUrl).build());
+    return post;
+  }
+
+  private static KakaoOAuthDto.UserInfoResponse kakaoUser(Long id, String email, String nickname) {
+    KakaoOAuthDto.Profile profile = new KakaoOAuthDto.Profile();
+    profile.setNickname(nickname);
+    KakaoOAuthDto.KakaoAccount account = new KakaoOAuthDto.KakaoAccount();
+    account.setEmail(email);
+    account.setProfile(profile);
+    KakaoOAuthDto.UserInfoResponse userInfo = new KakaoOAuthDto.UserInfoResponse();
+    userInfo.setId(id);
+    userInfo.setKakaoAccount(account);
+    return userInfo;
+  }
+}
@@ -0,0 +1,115 @@
+package com.example.myauth.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버킷 요청 제한기 테스트 (연속 허용량, 충전, 동시 소비, LRU 제거)
+ */
+class TokenBucketRateLimiterTest {
+
+  @Test
+  void allowsBurstUpToCapacityThenRejectsWithRetryAfter() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 1, 100, 1);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+    }
+    long retryAfterMs = limiter.tryAcquire("1.2.3.4");
+
+    // 분당 1개 충전 → 다음 토큰까지 최대 1분
+    assertThat(retryAfterMs).isBetween(1L, 60_000L);
+    assertThat(limiter.getMetrics())
+        .containsEntry("allowed", 5L)
+        .containsEntry("rejected", 1L);
+  }
+
+  @Test
+  void refillsOneTokenPerEmissionInterval() throws InterruptedException {
+    // 분당 600개 → 100ms마다 1개
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 600, 100, 1);
+
+    assertThat(limiter.tryAcquire("key")).isZero();
+    long retryAfterMs = limiter.tryAcquire("key");
+    assertThat(retryAfterMs).isBetween(1L, 100L);
+
+    Thread.sleep(retryAfterMs + 20);
+
+    assertThat(limiter.tryAcquire("key")).isZero();
+    assertThat(limiter.tryAcquire("key")).isPositive();
+  }
+
+  @Test
+  void keysHaveIndependentBuckets() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 100, 4);
+
+    assertThat(limiter.tryAcquire("a")).isZero();
+    assertThat(limiter.tryAcquire("a")).isPositive();
+    assertThat(limiter.tryAcquire("b")).isZero();
+  }
+
+  @Test
+  void concurrentAcquireNeverExceedsCapacity() throws Exception {
+    int capacity = 100;
+    int threads = 16;
+    int attemptsPerThread = 50;
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(capacity, 1, 100, 1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> results = new ArrayList<>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          int allowed = 0;
+          for (int i = 0; i < attemptsPerThread; i++) {
+            if (limiter.tryAcquire("shared") == 0) {
+              allowed++;
+            }
+          }
+          return allowed;
+        }));
+      }
+      start.countDown();
+
+      int allowed = 0;
+      for (Future<Integer> result : results) {
+        allowed += result.get(10, TimeUnit.SECONDS);
+      }
+
+      // 테스트 시간 안에 충전되는 토큰(분당 1개)은 최대 1개
+      assertThat(allowed).isBetween(capacity, capacity + 1);
+      assertThat(limiter.getMetrics().get("allowed") + limiter.getMetrics().get("rejected"))
+          .isEqualTo((long) threads * attemptsPerThread);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedKeyAndRestartsItWithFullBucket() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 2, 1);
+
+    limiter.tryAcquire("a");
+    limiter.tryAcquire("b");
+    assertThat(limiter.tryAcquire("a")).isPositive();
+
+    // "a"를 방금 사용했으므로 "b"가 제거됨
+    limiter.tryAcquire("c");
+
+    assertThat(limiter.getMetrics())
+        .containsEntry("trackedKeys", 2L)
+        .containsEntry("evictedKeys", 1L);
+    assertThat(limiter.tryAcquire("b")).isZero();
+  }
+}
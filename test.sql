@@ -165,3 +165,83 @@ CREATE TABLE mentions (
 
 
 
+
+
+
+-- 댓글 대댓글 수 캐싱 컬럼 추가
+ALTER TABLE comments
+ADD COLUMN reply_count INT UNSIGNED DEFAULT 0 COMMENT '삭제되지 않은 대댓글 수';
+
+-- 기존 데이터 보정 (부모 댓글별 대댓글 수를 한 번의 GROUP BY로 집계)
+UPDATE comments c
+JOIN (
+    SELECT parent_id, COUNT(*) AS cnt
+    FROM comments
+    WHERE parent_id IS NOT NULL AND is_deleted = 0
+    GROUP BY parent_id
+) r ON r.parent_id = c.id
+SET c.reply_count = r.cnt;
+
+
+
+-- Refresh Token 해시 저장 전환 - 1단계 (expand)
+-- ※ 새 버전 배포 전에 실행. 이전 버전(token 컬럼으로 저장/조회)과 새 버전(token_hash)이 동시에 동작할 수 있는 상태로 만든다
+--    token 컬럼 삭제는 모든 인스턴스가 새 버전으로 바뀐 뒤 2단계(파일 끝)에서 실행 (롤백 가능 구간 유지)
+-- 1. 해시 컬럼 추가 (이전 버전의 INSERT에는 값이 없으므로 NULL 허용)
+ALTER TABLE refresh_tokens
+ADD COLUMN token_hash CHAR(64) NULL COMMENT 'Refresh Token SHA-256 해시 (hex)';
+
+-- 2. 이전 버전이 배포 중에 발급하는 토큰도 해시를 채움 (새 버전은 token 없이 token_hash만 INSERT)
+CREATE TRIGGER trg_refresh_tokens_token_hash BEFORE INSERT ON refresh_tokens
+FOR EACH ROW SET NEW.token_hash = COALESCE(NEW.token_hash, SHA2(NEW.token, 256));
+
+-- 3. 기존 토큰 해시 계산 (TokenHashUtil.sha256과 동일한 결과 → 발급된 토큰은 그대로 유효)
+UPDATE refresh_tokens SET token_hash = SHA2(token, 256) WHERE token_hash IS NULL;
+
+-- 4. 같은 초에 발급되어 원문이 같았던 중복 행 정리 (최신 행만 유지)
+DELETE t1 FROM refresh_tokens t1
+JOIN refresh_tokens t2 ON t1.token_hash = t2.token_hash AND t1.id < t2.id;
+
+-- 5. 유니크 인덱스 적용, 원문 컬럼은 새 버전의 INSERT를 위해 NULL 허용으로 변경
+ALTER TABLE refresh_tokens
+ADD UNIQUE KEY uk_token_hash (token_hash),
+MODIFY COLUMN token VARCHAR(500) NULL;
+
+
+
+-- Refresh Token 정리 작업용 인덱스 (청크 삭제 시 범위 스캔)
+ALTER TABLE refresh_tokens
+ADD INDEX idx_expires_at (expires_at),
+ADD INDEX idx_is_revoked (is_revoked);
+
+
+
+-- Refresh Token Rotation (토큰 패밀리)
+-- 기존 토큰은 각각 새 패밀리로 배정
+ALTER TABLE refresh_tokens
+ADD COLUMN family_id CHAR(36) NULL COMMENT '토큰 패밀리 ID (로그인 단위)',
+ADD COLUMN parent_id BIGINT NULL COMMENT 'Rotation 이전 토큰 ID';
+
+UPDATE refresh_tokens SET family_id = UUID() WHERE family_id IS NULL;
+
+ALTER TABLE refresh_tokens
+MODIFY COLUMN family_id CHAR(36) NOT NULL,
+ADD INDEX idx_family_id (family_id);
+
+
+
+-- 사용자별 세션 수 제한/목록 조회용 인덱스
+ALTER TABLE refresh_tokens
+ADD INDEX idx_user_created_at (user_id, created_at);
+
+
+
+-- [나중에 실행] Refresh Token 해시 저장 전환 - 2단계 (contract)
+-- ※ 모든 인스턴스가 새 버전으로 바뀐 뒤 실행 (이후에는 이전 버전으로 롤백 불가)
+DROP TRIGGER IF EXISTS trg_refresh_tokens_token_hash;
+
+UPDATE refresh_tokens SET token_hash = SHA2(token, 256) WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_tokens
+MODIFY COLUMN token_hash CHAR(64) NOT NULL,
+DROP COLUMN token;